@@ -0,0 +1,122 @@
+package saffy.backend;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import saffy.backend.dto.AnswerDto;
+import saffy.backend.dto.LectureDto;
+import saffy.backend.dto.QuestionDto;
+import saffy.backend.dto.UploadQuestionDto;
+import saffy.backend.entity.Answer;
+import saffy.backend.entity.Lecture;
+import saffy.backend.entity.Question;
+import saffy.backend.entity.QuestionType;
+import saffy.backend.entity.Subject;
+
+/**
+ * 벤치마크용 고정 데이터 생성 (seed 고정이라 매번 같은 데이터)
+ * 실제 문제은행과 비슷하게 한글 문장, 보기 4개, 보기마다 긴 해설을 만듦
+ */
+public final class BenchmarkFixtures {
+
+    private static final char FIRST_SYLLABLE = '가';
+    private static final char LAST_SYLLABLE = '힣';
+
+    private BenchmarkFixtures() {
+    }
+
+    /** 한글 음절 단어를 공백으로 이은 문장 (length 는 대략의 글자 수) */
+    public static String koreanText(SplittableRandom random, int length) {
+        StringBuilder sb = new StringBuilder(length + 8);
+        while (sb.length() < length) {
+            int word = 2 + random.nextInt(4);
+            for (int i = 0; i < word; i++) {
+                sb.append((char) (FIRST_SYLLABLE + random.nextInt(LAST_SYLLABLE - FIRST_SYLLABLE + 1)));
+            }
+            sb.append(random.nextInt(10) == 0 ? ". " : " ");
+        }
+        return sb.toString();
+    }
+
+    /** "단원-번호 강의명" 형식의 강의 (unit/idx 포함), 순서는 섞여 있음 */
+    public static List<Lecture> lectures(int count, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        Subject subject = new Subject();
+        subject.setId(1L);
+        List<Lecture> lectures = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Lecture lecture = new Lecture();
+            lecture.setId((long) i + 1);
+            lecture.setUnit(1 + random.nextInt(20));
+            lecture.setIdx(1 + random.nextInt(30));
+            lecture.setName(lecture.getUnit() + "-" + lecture.getIdx() + " " + koreanText(random, 8).trim());
+            lecture.setSubject(subject);
+            lectures.add(lecture);
+        }
+        return lectures;
+    }
+
+    public static List<LectureDto> lectureDtos(List<Lecture> lectures) {
+        return lectures.stream()
+                .map(l -> new LectureDto(l.getId(), l.getName(), l.getSubject().getId()))
+                .toList();
+    }
+
+    /** 보기가 채워진 문제 엔티티 (DB 없이 메모리에서만 사용) */
+    public static List<Question> questions(int count, int explanationLength, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        Lecture lecture = lectures(1, seed).get(0);
+        List<Question> questions = new ArrayList<>(count);
+        long answerId = 1;
+        for (int i = 0; i < count; i++) {
+            Question q = new Question();
+            q.setId((long) i + 1);
+            q.setLecture(lecture);
+            q.setQuestionType(QuestionType.MULTIPLE_CHOICE);
+            q.setContent(koreanText(random, 80));
+            int correct = random.nextInt(4);
+            for (int c = 0; c < 4; c++) {
+                Answer a = new Answer();
+                a.setId(answerId++);
+                a.setQuestion(q);
+                a.setContent(koreanText(random, 30));
+                a.setCorrect(c == correct);
+                a.setExplanation(koreanText(random, explanationLength));
+                q.getAnswers().add(a);
+            }
+            questions.add(q);
+        }
+        return questions;
+    }
+
+    public static List<QuestionDto> questionDtos(int count, int explanationLength, long seed) {
+        return questions(count, explanationLength, seed).stream()
+                .map(q -> QuestionDto.builder()
+                        .id(q.getId())
+                        .content(q.getContent())
+                        .questionType(q.getQuestionType())
+                        .lecture(new LectureDto(q.getLecture().getId(), q.getLecture().getName(), 1L))
+                        .answers(q.getAnswers().stream()
+                                .map(a -> new AnswerDto(a.getId(), a.getContent(), a.isCorrect(), a.getExplanation()))
+                                .toList())
+                        .explanation(q.getAnswers().stream()
+                                .filter(Answer::isCorrect)
+                                .findFirst()
+                                .map(Answer::getExplanation)
+                                .orElse(null))
+                        .build())
+                .toList();
+    }
+
+    public static UploadQuestionDto upload(int count, int explanationLength, long seed) {
+        List<UploadQuestionDto.QuestionItem> items = questions(count, explanationLength, seed).stream()
+                .map(q -> new UploadQuestionDto.QuestionItem(
+                        q.getContent(),
+                        q.getQuestionType().name(),
+                        q.getAnswers().stream()
+                                .map(a -> new UploadQuestionDto.ChoiceItem(a.getContent(), a.isCorrect(), a.getExplanation()))
+                                .toList()))
+                .toList();
+        return new UploadQuestionDto(1L, items);
+    }
+}
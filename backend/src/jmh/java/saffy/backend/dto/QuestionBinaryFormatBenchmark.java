@@ -0,0 +1,65 @@
+package saffy.backend.dto;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import saffy.backend.BenchmarkFixtures;
+
+/**
+ * 강의 하나의 문제 목록을 JSON / CBOR / Smile 로 인코딩/디코딩
+ * - ObjectMapper 는 Spring MVC 메시지 컨버터와 같은 Jackson2ObjectMapperBuilder 로 만듦
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class QuestionBinaryFormatBenchmark {
+
+    private static final TypeReference<List<QuestionDto>> QUESTION_LIST = new TypeReference<>() {
+    };
+
+    @Param({"json", "cbor", "smile"})
+    String format;
+
+    /** 강의 하나 분량 (문제 50개, 보기 4개, 해설 300자 안팎) */
+    @Param({"50"})
+    int questions;
+
+    @Param({"300"})
+    int explanationLength;
+
+    private ObjectMapper objectMapper;
+    private List<QuestionDto> fixtures;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = switch (format) {
+            case "cbor" -> Jackson2ObjectMapperBuilder.cbor().build();
+            case "smile" -> Jackson2ObjectMapperBuilder.smile().build();
+            default -> Jackson2ObjectMapperBuilder.json().build();
+        };
+        fixtures = BenchmarkFixtures.questionDtos(questions, explanationLength, 42);
+        encoded = objectMapper.writeValueAsBytes(fixtures);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return objectMapper.writeValueAsBytes(fixtures);
+    }
+
+    @Benchmark
+    public List<QuestionDto> decode() throws IOException {
+        return objectMapper.readValue(encoded, QUESTION_LIST);
+    }
+}
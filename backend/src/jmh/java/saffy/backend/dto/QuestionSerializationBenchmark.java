@@ -0,0 +1,46 @@
+package saffy.backend.dto;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import saffy.backend.BenchmarkFixtures;
+
+/**
+ * 강의별 문제 목록 JSON 직렬화 (긴 한글 해설 포함)
+ * ObjectMapper 는 Spring Boot 기본 설정과 같은 Jackson2ObjectMapperBuilder 로 만듦
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class QuestionSerializationBenchmark {
+
+    @Param({"20", "200"})
+    int questions;
+
+    @Param({"200", "1000"})
+    int explanationLength;
+
+    private ObjectMapper objectMapper;
+    private List<QuestionDto> fixtures;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        fixtures = BenchmarkFixtures.questionDtos(questions, explanationLength, 42);
+    }
+
+    @Benchmark
+    public byte[] writeValueAsBytes() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(fixtures);
+    }
+}
@@ -0,0 +1,43 @@
+package saffy.backend.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import saffy.backend.BenchmarkFixtures;
+
+/**
+ * 업로드 요청 본문(UploadQuestionDto) JSON 역직렬화
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UploadDeserializationBenchmark {
+
+    @Param({"20", "500"})
+    int questions;
+
+    private ObjectReader reader;
+    private byte[] body;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        reader = objectMapper.readerFor(UploadQuestionDto.class);
+        body = objectMapper.writeValueAsBytes(BenchmarkFixtures.upload(questions, 300, 42));
+    }
+
+    @Benchmark
+    public UploadQuestionDto readValue() throws IOException {
+        return reader.readValue(body);
+    }
+}
@@ -0,0 +1,66 @@
+package saffy.backend.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import saffy.backend.BenchmarkFixtures;
+import saffy.backend.dto.LectureDto;
+import saffy.backend.entity.Lecture;
+
+/**
+ * 강의 목록 정렬: 비교할 때마다 이름을 파싱하던 예전 comparator vs 저장된 unit/idx 비교
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LectureOrderBenchmark {
+
+    /** 예전 QuizService.getAllLectures 의 comparator (비교마다 split + parseInt) */
+    static final Comparator<LectureDto> LEGACY_ORDER = (a, b) -> {
+        String[] aParts = a.getName().split(" ")[0].split("-");
+        String[] bParts = b.getName().split(" ")[0].split("-");
+
+        int a1 = Integer.parseInt(aParts[0]);
+        int a2 = Integer.parseInt(aParts[1]);
+        int b1 = Integer.parseInt(bParts[0]);
+        int b2 = Integer.parseInt(bParts[1]);
+
+        if (a1 != b1) return a1 - b1;
+        return a2 - b2;
+    };
+
+    @Param({"30", "300"})
+    int lectures;
+
+    private List<Lecture> entities;
+    private List<LectureDto> dtos;
+
+    @Setup
+    public void setUp() {
+        entities = BenchmarkFixtures.lectures(lectures, 7);
+        dtos = BenchmarkFixtures.lectureDtos(entities);
+    }
+
+    @Benchmark
+    public List<LectureDto> legacyParseNames() {
+        List<LectureDto> copy = new ArrayList<>(dtos);
+        copy.sort(LEGACY_ORDER);
+        return copy;
+    }
+
+    @Benchmark
+    public List<Lecture> storedKeys() {
+        List<Lecture> copy = new ArrayList<>(entities);
+        copy.sort(CatalogSnapshotHolder.LECTURE_ORDER);
+        return copy;
+    }
+}
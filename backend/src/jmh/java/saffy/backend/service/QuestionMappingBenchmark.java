@@ -0,0 +1,50 @@
+package saffy.backend.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import saffy.backend.BenchmarkFixtures;
+import saffy.backend.dto.QuestionDto;
+import saffy.backend.entity.Question;
+
+/**
+ * 문제 엔티티 → DTO 매핑 (QuestionAssembler.toQuestionDto, 예전 QuizService.toQuestionDtoWithChildren)
+ * 보기는 이미 읽어 온 상태로 두고 순수 매핑 비용만 잼
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class QuestionMappingBenchmark {
+
+    @Param({"50", "500"})
+    int questions;
+
+    @Param({"200", "1000"})
+    int explanationLength;
+
+    private QuestionAssembler assembler;
+    private List<Question> fixtures;
+
+    @Setup
+    public void setUp() {
+        assembler = new QuestionAssembler(null); // toQuestionDto 는 저장소를 사용하지 않음
+        fixtures = BenchmarkFixtures.questions(questions, explanationLength, 42);
+    }
+
+    @Benchmark
+    public List<QuestionDto> toQuestionDto() {
+        List<QuestionDto> out = new ArrayList<>(fixtures.size());
+        for (Question q : fixtures) {
+            out.add(assembler.toQuestionDto(q, q.getAnswers()));
+        }
+        return out;
+    }
+}
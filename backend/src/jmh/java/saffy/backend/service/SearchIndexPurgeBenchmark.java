@@ -0,0 +1,94 @@
+package saffy.backend.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import saffy.backend.BenchmarkFixtures;
+import saffy.backend.dto.AnswerDto;
+import saffy.backend.dto.QuestionDto;
+
+/**
+ * 강의 하나의 문제를 검색 색인에서 모두 뺄 때: 문제마다 단어별 문서 목록을 다시 인코딩하던 방식 vs 한 번에 제거(removeAll)
+ * 5개 강의에 고르게 나눈 색인에서 강의 하나(purged 개)를 뺌
+ * vocabulary: 문제/보기를 만들 단어 수 (작을수록 실제 문제은행처럼 같은 단어가 여러 문제에 나와 문서 목록이 길어짐)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SearchIndexPurgeBenchmark {
+
+    private static final int LECTURES = 5;
+
+    @Param({"1000"})
+    int purged;
+
+    @Param({"300", "30000"})
+    int vocabulary;
+
+    private List<QuestionDto> questions;
+    private List<Long> purgedIds;
+    private QuestionSearchIndex.Index index;
+
+    @Setup(Level.Trial)
+    public void load() {
+        SplittableRandom random = new SplittableRandom(7);
+        String[] words = new String[vocabulary];
+        for (int i = 0; i < vocabulary; i++) {
+            words[i] = BenchmarkFixtures.koreanText(random, 2).trim();
+        }
+        questions = new ArrayList<>(purged * LECTURES);
+        long answerId = 1;
+        for (int q = 1; q <= purged * LECTURES; q++) {
+            List<AnswerDto> answers = new ArrayList<>(4);
+            for (int c = 0; c < 4; c++) {
+                answers.add(new AnswerDto(answerId++, sentence(random, words, 5), c == 0, null));
+            }
+            questions.add(QuestionDto.builder().id((long) q).content(sentence(random, words, 15)).answers(answers).build());
+        }
+        purgedIds = new ArrayList<>(purged);
+        for (int i = 0; i < questions.size(); i += LECTURES) {
+            purgedIds.add(questions.get(i).getId());
+        }
+    }
+
+    private static String sentence(SplittableRandom random, String[] words, int length) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            sb.append(words[random.nextInt(words.length)]).append(' ');
+        }
+        return sb.toString();
+    }
+
+    /** 제거하면 색인이 바뀌므로 매 호출 전에 새로 만듦 (측정 시간에는 들어가지 않음) */
+    @Setup(Level.Invocation)
+    public void build() {
+        index = new QuestionSearchIndex.Index();
+        for (int i = 0; i < questions.size(); i++) {
+            index.add(i % LECTURES, questions.get(i));
+        }
+    }
+
+    @Benchmark
+    public QuestionSearchIndex.Index removeOneByOne() {
+        for (Long id : purgedIds) {
+            index.removeAll(List.of(id));
+        }
+        return index;
+    }
+
+    @Benchmark
+    public QuestionSearchIndex.Index removeAllAtOnce() {
+        index.removeAll(purgedIds);
+        return index;
+    }
+}
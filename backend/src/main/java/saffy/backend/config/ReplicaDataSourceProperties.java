@@ -0,0 +1,35 @@
+package saffy.backend.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 읽기 전용 복제본(replica) 설정 (quiz.datasource.*)
+ * replicas 가 비어 있으면 라우팅 없이 spring.datasource 하나만 사용
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "quiz.datasource")
+public class ReplicaDataSourceProperties {
+
+    /** 복제본 선택 방식: round-robin(차례대로) 또는 least-connections(사용 중 커넥션이 가장 적은 곳) */
+    private String strategy = "round-robin";
+
+    /** 복제본 상태 확인 주기 */
+    private long healthCheckIntervalMs = 5000;
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Replica {
+        private String url;
+        private String username;          // 비우면 spring.datasource.username
+        private String password;          // 비우면 spring.datasource.password
+        private int maximumPoolSize = 10;
+        private long connectionTimeoutMs = 2000; // 복제본이 죽었을 때 오래 기다리지 않고 primary 로 넘어가도록 짧게
+    }
+}
@@ -0,0 +1,167 @@
+package saffy.backend.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.Supplier;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * readOnly 트랜잭션은 복제본으로, 나머지(쓰기, 트랜잭션 밖)는 primary 로 보내는 데이터소스
+ * - 복제본은 round-robin 또는 least-connections 로 고르고, 상태 확인에 실패한 복제본은 건너뜀
+ * - 살아 있는 복제본이 없거나 커넥션을 못 얻으면 primary 로 대신 처리
+ * - 트랜잭션 시작 시점에는 readOnly 여부가 아직 정해지지 않으므로
+ *   LazyConnectionDataSourceProxy 로 감싸서 첫 SQL 실행 때 커넥션을 고르게 해야 함
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+
+    /** 복제 지연 없이 최신 데이터를 읽어야 하는 작업 (readOnly 여도 primary 사용) */
+    private static final ThreadLocal<Boolean> FORCE_PRIMARY = new ThreadLocal<>();
+
+    private final DataSource primary;
+    private final List<HikariDataSource> replicas;
+    private final boolean leastConnections;
+    private final AtomicIntegerArray healthy;  // 1 = 사용 가능 (상태 확인 스레드와 요청 스레드가 함께 갱신, 원소마다 volatile 읽기/쓰기)
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary, List<HikariDataSource> replicas, String strategy) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.leastConnections = "least-connections".equalsIgnoreCase(strategy);
+        this.healthy = new AtomicIntegerArray(replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            healthy.set(i, 1);
+        }
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < this.replicas.size(); i++) {
+            targets.put(i, this.replicas.get(i));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    /** work 를 실행하는 동안 이 스레드의 모든 커넥션을 primary 에서 얻음 */
+    public static <T> T usePrimary(Supplier<T> work) {
+        Boolean previous = FORCE_PRIMARY.get();
+        FORCE_PRIMARY.set(Boolean.TRUE);
+        try {
+            return work.get();
+        } finally {
+            if (previous == null) {
+                FORCE_PRIMARY.remove();
+            }
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (FORCE_PRIMARY.get() != null
+                || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY;
+        }
+        int replica = chooseReplica();
+        return replica < 0 ? PRIMARY : replica;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Object key = determineCurrentLookupKey();
+        if (key == PRIMARY) {
+            return primary.getConnection();
+        }
+        int index = (Integer) key;
+        try {
+            return replicas.get(index).getConnection();
+        } catch (SQLException e) {
+            markDown(index, e);
+            return primary.getConnection();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+
+    /** 살아 있는 복제본 하나의 번호 (없으면 -1) */
+    private int chooseReplica() {
+        int size = replicas.size();
+        if (leastConnections) {
+            int best = -1;
+            int bestActive = Integer.MAX_VALUE;
+            for (int i = 0; i < size; i++) {
+                if (healthy.get(i) == 0) {
+                    continue;
+                }
+                int active = replicas.get(i).getHikariPoolMXBean() == null
+                        ? 0 : replicas.get(i).getHikariPoolMXBean().getActiveConnections();
+                if (active < bestActive) {
+                    best = i;
+                    bestActive = active;
+                }
+            }
+            return best;
+        }
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for (int n = 0; n < size; n++) {
+            int i = (start + n) % size;
+            if (healthy.get(i) == 1) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /** 복제본마다 커넥션을 얻어 확인하고 상태 갱신 */
+    @Scheduled(fixedDelayString = "${quiz.datasource.health-check-interval-ms:5000}")
+    public void checkReplicas() {
+        for (int i = 0; i < replicas.size(); i++) {
+            HikariDataSource replica = replicas.get(i);
+            try (Connection connection = replica.getConnection()) {
+                boolean valid = connection.isValid(2);
+                int previous = healthy.getAndSet(i, valid ? 1 : 0);
+                if (valid && previous == 0) {
+                    log.info("복제본 복구: {}", replica.getJdbcUrl());
+                }
+            } catch (SQLException e) {
+                markDown(i, e);
+            }
+        }
+    }
+
+    private void markDown(int index, SQLException cause) {
+        // 여러 요청 스레드가 동시에 실패해도 사용 중지 로그는 한 번만
+        if (healthy.getAndSet(index, 0) == 1) {
+            log.warn("복제본 사용 중지, primary 로 대신 읽습니다: {} ({})",
+                    replicas.get(index).getJdbcUrl(), cause.getMessage());
+        }
+    }
+
+    /** 애플리케이션 종료 시 복제본 풀 정리 (primary 는 별도 빈으로 정리됨) */
+    public void close() {
+        replicas.forEach(HikariDataSource::close);
+    }
+
+    /** 현재 상태 확인을 통과한 복제본 수 */
+    public int healthyReplicaCount() {
+        int count = 0;
+        for (int i = 0; i < healthy.length(); i++) {
+            count += healthy.get(i);
+        }
+        return count;
+    }
+}
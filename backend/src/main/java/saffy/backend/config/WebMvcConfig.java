@@ -0,0 +1,18 @@
+package saffy.backend.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import saffy.backend.metrics.AsyncSqlStatsInterceptor;
+
+/**
+ * Spring MVC 설정 - 비동기 요청의 작업 스레드에서도 요청별 SQL 통계를 모음
+ */
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.registerCallableInterceptors(new AsyncSqlStatsInterceptor());
+    }
+}
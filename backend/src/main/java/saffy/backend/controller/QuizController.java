@@ -1,15 +1,55 @@
 package saffy.backend.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import saffy.backend.dto.BulkQuestionDto;
+import saffy.backend.dto.BundleInfoDto;
+import saffy.backend.dto.CatalogSyncDto;
+import saffy.backend.dto.ImportJobDto;
 import saffy.backend.dto.LectureDto;
+import saffy.backend.dto.LectureSyncDto;
 import saffy.backend.dto.QuestionDto;
+import saffy.backend.dto.QuestionPageDto;
+import saffy.backend.dto.QuestionStatsDto;
+import saffy.backend.dto.QuizRequestDto;
 import saffy.backend.dto.SubjectDto;
+import saffy.backend.dto.SubmissionDto;
+import saffy.backend.dto.TextCompressionJobDto;
 import saffy.backend.dto.UploadQuestionDto;
+import saffy.backend.entity.QuestionType;
+import saffy.backend.service.CatalogSyncService;
+import saffy.backend.service.GradingService;
+import saffy.backend.service.HttpConditionals;
+import saffy.backend.service.ItemStatsService;
+import saffy.backend.service.LeaderboardService;
+import saffy.backend.service.LectureResponseCache;
+import saffy.backend.service.QuestionExportService;
+import saffy.backend.service.QuestionImportService;
+import saffy.backend.service.QuestionSearchIndex;
+import saffy.backend.service.QuizAssemblyService;
 import saffy.backend.service.QuizService;
+import saffy.backend.service.ResponseFormat;
+import saffy.backend.service.ReviewScheduler;
+import saffy.backend.service.SubjectBundlePublisher;
+import saffy.backend.service.TextCompressionMigrationService;
 
 @RestController
 @CrossOrigin(
@@ -26,6 +66,18 @@ import saffy.backend.service.QuizService;
 public class QuizController {
 
     private final QuizService quizService;
+    private final LectureResponseCache lectureResponseCache;
+    private final QuizAssemblyService quizAssemblyService;
+    private final GradingService gradingService;
+    private final QuestionImportService questionImportService;
+    private final QuestionExportService questionExportService;
+    private final ItemStatsService itemStatsService;
+    private final QuestionSearchIndex questionSearchIndex;
+    private final CatalogSyncService catalogSyncService;
+    private final SubjectBundlePublisher subjectBundlePublisher;
+    private final TextCompressionMigrationService textCompressionMigrationService;
+    private final ReviewScheduler reviewScheduler;
+    private final LeaderboardService leaderboardService;
 
     @GetMapping("/api/ping")
     public String ping() {
@@ -38,28 +90,213 @@ public class QuizController {
         return ResponseEntity.ok(quizService.getAllSubjects());
     }
 
+    // 과목별 강의 목록 (단원-번호 순)
+    @GetMapping("/api/subjects/{subjectId}/lectures")
+    public ResponseEntity<List<LectureDto>> getLecturesBySubject(@PathVariable Long subjectId) {
+        try {
+            return ResponseEntity.ok(quizService.getLecturesBySubject(subjectId));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
     // 강의 목록
     @GetMapping("/api/lectures")
     public ResponseEntity<List<LectureDto>> getAllLectures() {
         return ResponseEntity.ok(quizService.getAllLectures());
     }
 
-    // 강의별 문제(보기/해설 포함)
-    @GetMapping("/api/lectures/{lectureId}/questions")
-    public ResponseEntity<List<QuestionDto>> getQuestionsByLecture(@PathVariable Long lectureId) {
+    // 카탈로그 변경분 동기화 (since: 마지막으로 받은 revision, 처음이면 0)
+    @GetMapping("/api/catalog/sync")
+    public ResponseEntity<CatalogSyncDto> syncCatalog(@RequestParam(defaultValue = "0") long since) {
+        return ResponseEntity.ok(catalogSyncService.syncCatalog(since));
+    }
+
+    // 강의 문제 변경분 동기화 (since 이후 추가/이동/삭제된 문제만, 바뀐 게 없으면 changed=false)
+    @GetMapping("/api/lectures/{lectureId}/sync")
+    public ResponseEntity<LectureSyncDto> syncLecture(@PathVariable Long lectureId,
+                                                      @RequestParam(defaultValue = "0") long since) {
         try {
-            return ResponseEntity.ok(quizService.getByLectureId(lectureId));
+            return ResponseEntity.ok(catalogSyncService.syncLecture(lectureId, since));
         } catch (IllegalArgumentException e) {
             return ResponseEntity.notFound().build();
         }
     }
 
+    // 과목 번들 목록 (과목별 현재 번들 주소, 매번 확인하도록 no-cache)
+    @GetMapping("/api/bundles")
+    public ResponseEntity<List<BundleInfoDto>> getBundles() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(subjectBundlePublisher.manifest());
+    }
+
+    // 과목 번들 파일 (주소에 내용 해시가 있어 바뀌지 않으므로 immutable 캐시)
+    // 디스크의 gzip 파일을 Tomcat sendfile 로 그대로 보내고, 지원하지 않으면 FileChannel.transferTo 로 보냄
+    @GetMapping("/api/bundles/subjects/{subjectId}/{hash}")
+    public void getSubjectBundle(
+            @PathVariable Long subjectId,
+            @PathVariable String hash,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        boolean gzip = HttpConditionals.acceptsGzip(acceptEncoding);
+        Path file = subjectBundlePublisher.file(subjectId, hash, gzip);
+        if (file == null) {
+            response.setStatus(HttpStatus.NOT_FOUND.value());
+            return;
+        }
+
+        String etag = "\"" + hash + "\"";
+        String gzipEtag = "\"" + hash + "-gz\"";
+        response.setHeader(HttpHeaders.ETAG, gzip ? gzipEtag : etag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL,
+                CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable().getHeaderValue());
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (HttpConditionals.etagMatches(ifNoneMatch, etag, gzipEtag)) {
+            response.setStatus(HttpStatus.NOT_MODIFIED.value());
+            return;
+        }
+
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        sendFile(file, request, response);
+    }
+
+    private static void sendFile(Path file, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        long size = Files.size(file);
+        response.setContentLengthLong(size);
+        if (Boolean.TRUE.equals(request.getAttribute("org.apache.tomcat.sendfile.support"))) {
+            // 응답 본문을 쓰지 않고 파일 정보만 넘기면 Tomcat 이 커널 sendfile 로 보냄
+            request.setAttribute("org.apache.tomcat.sendfile.filename", file.toAbsolutePath().toString());
+            request.setAttribute("org.apache.tomcat.sendfile.start", 0L);
+            request.setAttribute("org.apache.tomcat.sendfile.end", size);
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = 0;
+            while (position < size) {
+                position += channel.transferTo(position, size - position, out);
+            }
+        }
+    }
+
+    // 강의별 문제(보기/해설 포함) - 미리 직렬화/압축된 응답, ETag 일치 시 304
+    // Accept: application/cbor 또는 application/x-jackson-smile 이면 같은 내용을 바이너리 형식으로 응답
+    // 지원하는 형식을 하나도 받지 않으면 406
+    @GetMapping("/api/lectures/{lectureId}/questions")
+    public ResponseEntity<byte[]> getQuestionsByLecture(
+            @PathVariable Long lectureId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        ResponseFormat format = ResponseFormat.negotiate(accept);
+        if (format == null) {
+            return ResponseEntity.status(HttpStatus.NOT_ACCEPTABLE).build();
+        }
+        LectureResponseCache.CachedResponse cached = lectureResponseCache.get(lectureId, format);
+        if (cached == null) {
+            return ResponseEntity.notFound().build();
+        }
+
+        boolean gzip = HttpConditionals.acceptsGzip(acceptEncoding);
+        if (cached.matches(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(cached.etag(gzip))
+                    .cacheControl(CacheControl.noCache())
+                    .varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(cached.etag(gzip))
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING)
+                .contentType(format.mediaType());
+        if (gzip) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(cached.gzip());
+        }
+        return response.body(cached.identity());
+    }
+
+    // 문제 뽑기 (과목 또는 강의 목록에서 count개 / 유형별 개수, 보기 섞음, 해설 제외)
+    @PostMapping("/api/quiz/assemble")
+    public ResponseEntity<?> assembleQuiz(@RequestBody QuizRequestDto request) {
+        try {
+            return ResponseEntity.ok(quizAssemblyService.assemble(request));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        }
+    }
+
+    // 답안 제출 및 채점 (정답/해설 공개, 기록은 비동기 저장)
+    @PostMapping("/api/quiz/submit")
+    public ResponseEntity<?> submitAnswers(@RequestBody SubmissionDto submission) {
+        try {
+            return ResponseEntity.ok(gradingService.grade(submission));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        }
+    }
+
+    // 복습할 문제 (채점 결과로 잡힌 간격 반복 일정에서 지금 복습할 차례인 문제, 이른 순서)
+    @GetMapping("/api/review/next")
+    public ResponseEntity<?> nextReview(
+            @RequestParam String learnerId,
+            @RequestParam(required = false) Integer limit) {
+        try {
+            return ResponseEntity.ok(reviewScheduler.next(learnerId, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        }
+    }
+
+    // 과목 순위표 (맞힌 문제 수 순, learnerId 를 보내면 내 순위 포함)
+    @GetMapping("/api/leaderboards/subjects/{subjectId}")
+    public ResponseEntity<?> getSubjectLeaderboard(
+            @PathVariable Long subjectId,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String learnerId) {
+        try {
+            return ResponseEntity.ok(leaderboardService.getSubjectBoard(subjectId, limit, learnerId));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        }
+    }
+
+    // 강의 순위표
+    @GetMapping("/api/leaderboards/lectures/{lectureId}")
+    public ResponseEntity<?> getLectureLeaderboard(
+            @PathVariable Long lectureId,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String learnerId) {
+        try {
+            return ResponseEntity.ok(leaderboardService.getLectureBoard(lectureId, limit, learnerId));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        }
+    }
+
     // JSON 업로드로 문제 추가
+    // - 기존 문제(또는 같은 업로드의 앞선 문제)와 거의 같은 문제는 건너뛰고 목록으로 알려줌
+    // - allowDuplicates=true 는 관리자만 가능 (중복 의심 문제도 저장)
     @PostMapping("/api/questions/upload")
-    public ResponseEntity<String> uploadQuestions(@RequestBody UploadQuestionDto dto) {
+    public ResponseEntity<?> uploadQuestions(
+            @RequestBody UploadQuestionDto dto,
+            @RequestParam(defaultValue = "false") boolean allowDuplicates,
+            @RequestHeader(value = "X-Admin-Secret", required = false) String secret) {
+        if (allowDuplicates) {
+            String adminSecret = System.getenv().getOrDefault("ADMIN_SECRET", "admin1234");
+            if (!adminSecret.equals(secret)) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("인증되지 않았습니다.");
+            }
+        }
         try {
-            quizService.uploadQuestions(dto);
-            return ResponseEntity.ok("문제가 성공적으로 추가되었습니다.");
+            return ResponseEntity.ok(quizService.uploadQuestions(dto, allowDuplicates));
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
         } catch (Exception e) {
@@ -67,6 +304,67 @@ public class QuizController {
         }
     }
 
+    // NDJSON(gzip 가능) 스트리밍 가져오기 (관리자용) - 작업 ID를 바로 돌려주고 백그라운드에서 처리
+    @PostMapping("/api/admin/questions/import")
+    public ResponseEntity<?> importQuestions(
+            @RequestParam Long lectureId,
+            @RequestParam(defaultValue = "false") boolean allowDuplicates,
+            @RequestHeader(value = "X-Admin-Secret", required = false) String secret,
+            HttpServletRequest request) {
+        String adminSecret = System.getenv().getOrDefault("ADMIN_SECRET", "admin1234");
+        if (!adminSecret.equals(secret)) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("인증되지 않았습니다.");
+        }
+
+        try {
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .body(questionImportService.start(lectureId, allowDuplicates, request.getInputStream()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError().body("가져오기 시작 중 오류가 발생했습니다: " + e.getMessage());
+        }
+    }
+
+    // 가져오기 진행 상황 (관리자용)
+    @GetMapping("/api/admin/questions/import/{jobId}")
+    public ResponseEntity<ImportJobDto> getImportJob(
+            @PathVariable String jobId,
+            @RequestHeader(value = "X-Admin-Secret", required = false) String secret) {
+        String adminSecret = System.getenv().getOrDefault("ADMIN_SECRET", "admin1234");
+        if (!adminSecret.equals(secret)) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        ImportJobDto job = questionImportService.getJob(jobId);
+        return job != null ? ResponseEntity.ok(job) : ResponseEntity.notFound().build();
+    }
+
+    // 기존 문제/보기 텍스트를 지금 압축 설정(quiz.text-compression.enabled)에 맞게 변환 (관리자용)
+    @PostMapping("/api/admin/text-compression/migrate")
+    public ResponseEntity<TextCompressionJobDto> migrateTextCompression(
+            @RequestHeader(value = "X-Admin-Secret", required = false) String secret) {
+        String adminSecret = System.getenv().getOrDefault("ADMIN_SECRET", "admin1234");
+        if (!adminSecret.equals(secret)) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(textCompressionMigrationService.start());
+    }
+
+    // 텍스트 압축 변환 진행 상황 (관리자용)
+    @GetMapping("/api/admin/text-compression/migrate")
+    public ResponseEntity<TextCompressionJobDto> getTextCompressionJob(
+            @RequestHeader(value = "X-Admin-Secret", required = false) String secret) {
+        String adminSecret = System.getenv().getOrDefault("ADMIN_SECRET", "admin1234");
+        if (!adminSecret.equals(secret)) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        TextCompressionJobDto job = textCompressionMigrationService.getLastJob();
+        return job != null ? ResponseEntity.ok(job) : ResponseEntity.notFound().build();
+    }
+
     // 관리자 인증 (간단 비밀번호)
     @PostMapping("/api/admin/auth")
     public ResponseEntity<String> adminAuth(@RequestBody java.util.Map<String, String> body) {
@@ -91,6 +389,96 @@ public class QuizController {
         return ResponseEntity.ok(quizService.getAllQuestions());
     }
 
+    // 문제 목록 페이지 조회 (관리자용) - afterId 이후 문제를 size 개씩, 과목/강의/유형 필터
+    @GetMapping("/api/admin/questions/page")
+    public ResponseEntity<QuestionPageDto> getQuestionPage(
+            @RequestParam(required = false) Long afterId,
+            @RequestParam(required = false) Long subjectId,
+            @RequestParam(required = false) Long lectureId,
+            @RequestParam(required = false) QuestionType questionType,
+            @RequestParam(defaultValue = "50") int size,
+            @RequestParam(defaultValue = "false") boolean withStats,
+            @RequestHeader(value = "X-Admin-Secret", required = false) String secret) {
+        String adminSecret = System.getenv().getOrDefault("ADMIN_SECRET", "admin1234");
+        if (!adminSecret.equals(secret)) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        QuestionPageDto page = quizService.getQuestionPage(afterId, subjectId, lectureId, questionType, size);
+        if (withStats) {
+            // 페이지 DTO는 요청마다 새로 만든 것이라 스냅샷 DTO를 건드리지 않음
+            page.getItems().forEach(q -> q.setStats(itemStatsService.getStats(q)));
+        }
+        return ResponseEntity.ok(page);
+    }
+
+    // 문제/보기 내용 검색 (관리자용, 메모리 색인만 사용)
+    @GetMapping("/api/admin/questions/search")
+    public ResponseEntity<?> searchQuestions(
+            @RequestParam String q,
+            @RequestParam(required = false) Long lectureId,
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestHeader(value = "X-Admin-Secret", required = false) String secret) {
+        String adminSecret = System.getenv().getOrDefault("ADMIN_SECRET", "admin1234");
+        if (!adminSecret.equals(secret)) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        try {
+            return ResponseEntity.ok(questionSearchIndex.search(q, lectureId, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        }
+    }
+
+    // 강의의 문제별 통계 (관리자용)
+    @GetMapping("/api/admin/stats/questions")
+    public ResponseEntity<List<QuestionStatsDto>> getLectureStats(
+            @RequestParam Long lectureId,
+            @RequestHeader(value = "X-Admin-Secret", required = false) String secret) {
+        String adminSecret = System.getenv().getOrDefault("ADMIN_SECRET", "admin1234");
+        if (!adminSecret.equals(secret)) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        try {
+            return ResponseEntity.ok(itemStatsService.getLectureStats(lectureId));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    // 문제 하나의 통계 (관리자용)
+    @GetMapping("/api/admin/stats/questions/{id}")
+    public ResponseEntity<QuestionStatsDto> getQuestionStats(
+            @PathVariable Long id,
+            @RequestHeader(value = "X-Admin-Secret", required = false) String secret) {
+        String adminSecret = System.getenv().getOrDefault("ADMIN_SECRET", "admin1234");
+        if (!adminSecret.equals(secret)) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        try {
+            return ResponseEntity.ok(itemStatsService.getQuestionStats(id));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    // 전체 문제 내보내기 (관리자용) - format=ndjson 이면 한 줄에 문제 하나, 기본은 JSON 배열
+    @GetMapping("/api/admin/questions/export")
+    public ResponseEntity<StreamingResponseBody> exportQuestions(
+            @RequestParam(defaultValue = "json") String format,
+            @RequestHeader(value = "X-Admin-Secret", required = false) String secret) {
+        String adminSecret = System.getenv().getOrDefault("ADMIN_SECRET", "admin1234");
+        if (!adminSecret.equals(secret)) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        boolean ndjson = "ndjson".equalsIgnoreCase(format);
+        String fileName = "questions-" + LocalDate.now() + (ndjson ? ".ndjson" : ".json");
+        return ResponseEntity.ok()
+                .contentType(ndjson ? MediaType.APPLICATION_NDJSON : MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+                .body(out -> questionExportService.export(out, ndjson));
+    }
+
     // 문제 삭제 (관리자용)
     @DeleteMapping("/api/admin/questions/{questionId}")
     public ResponseEntity<String> deleteQuestion(
@@ -111,6 +499,63 @@ public class QuizController {
         }
     }
 
+    // 문제 대량 삭제 (관리자용)
+    @PostMapping("/api/admin/questions/bulk-delete")
+    public ResponseEntity<?> deleteQuestions(
+            @RequestBody BulkQuestionDto dto,
+            @RequestHeader(value = "X-Admin-Secret", required = false) String secret) {
+        String adminSecret = System.getenv().getOrDefault("ADMIN_SECRET", "admin1234");
+        if (!adminSecret.equals(secret)) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("인증되지 않았습니다.");
+        }
+
+        try {
+            return ResponseEntity.ok(quizService.deleteQuestions(dto.getQuestionIds()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError().body("삭제 중 오류가 발생했습니다: " + e.getMessage());
+        }
+    }
+
+    // 문제 이동 (관리자용) - 문제 ID 목록 또는 강의 전체를 다른 강의로
+    @PostMapping("/api/admin/questions/move")
+    public ResponseEntity<?> moveQuestions(
+            @RequestBody BulkQuestionDto dto,
+            @RequestHeader(value = "X-Admin-Secret", required = false) String secret) {
+        String adminSecret = System.getenv().getOrDefault("ADMIN_SECRET", "admin1234");
+        if (!adminSecret.equals(secret)) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("인증되지 않았습니다.");
+        }
+
+        try {
+            return ResponseEntity.ok(quizService.moveQuestions(dto));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError().body("이동 중 오류가 발생했습니다: " + e.getMessage());
+        }
+    }
+
+    // 강의의 문제 전체 삭제 (관리자용, 강의는 남김)
+    @DeleteMapping("/api/admin/lectures/{lectureId}/questions")
+    public ResponseEntity<?> purgeLecture(
+            @PathVariable Long lectureId,
+            @RequestHeader(value = "X-Admin-Secret", required = false) String secret) {
+        String adminSecret = System.getenv().getOrDefault("ADMIN_SECRET", "admin1234");
+        if (!adminSecret.equals(secret)) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("인증되지 않았습니다.");
+        }
+
+        try {
+            return ResponseEntity.ok(quizService.purgeLecture(lectureId));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError().body("삭제 중 오류가 발생했습니다: " + e.getMessage());
+        }
+    }
+
     // 강의 추가 (관리자용)
     @PostMapping("/api/admin/lectures")
     public ResponseEntity<?> createLecture(
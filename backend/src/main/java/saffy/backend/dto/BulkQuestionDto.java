@@ -0,0 +1,24 @@
+package saffy.backend.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 문제 대량 삭제/이동 요청 DTO
+ * 예시 JSON:
+ * { "questionIds": [1, 2, 3] }                       - 삭제
+ * { "questionIds": [1, 2, 3], "toLectureId": 5 }     - 이동
+ * { "fromLectureId": 4, "toLectureId": 5 }           - 강의의 문제 전체 이동
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkQuestionDto {
+    private List<Long> questionIds;
+    private Long fromLectureId;
+    private Long toLectureId;
+}
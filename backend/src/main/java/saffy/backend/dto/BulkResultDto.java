@@ -0,0 +1,19 @@
+package saffy.backend.dto;
+
+import java.util.Set;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkResultDto {
+    private String message;
+    private int affected;           // 삭제/이동된 문제 수
+    private Set<Long> lectureIds;   // 문제 구성이 바뀐 강의
+}
@@ -0,0 +1,24 @@
+package saffy.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 번들 목록(manifest) 항목 - url 은 내용 해시가 들어간 고정 주소라 영구 캐시 가능
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BundleInfoDto {
+    private Long subjectId;
+    private long revision;
+    private String hash;
+    private String url;
+    private long size;        // 원본 JSON 크기
+    private long gzipSize;    // gzip 파일 크기
+}
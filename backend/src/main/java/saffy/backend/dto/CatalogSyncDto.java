@@ -0,0 +1,31 @@
+package saffy.backend.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.List;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 카탈로그(과목/강의 목록) 동기화 응답
+ * - changed=false: since 이후 관리자 변경이 없음 (목록 없음)
+ * - changed=true: 과목/강의 전체 목록(작음)과 강의별 리비전
+ *   클라이언트는 저장해 둔 강의 리비전보다 큰 강의만 /api/lectures/{id}/sync 로 다시 받고,
+ *   목록에 없는 강의는 지움
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CatalogSyncDto {
+    private long revision;
+    private boolean changed;
+    private List<SubjectDto> subjects;
+    private List<LectureDto> lectures;
+    private Map<Long, Long> lectureRevisions;   // 강의 ID → 강의 리비전
+}
@@ -0,0 +1,32 @@
+package saffy.backend.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GradingResultDto {
+
+    private int total;
+    private int correct;
+    private List<GradedQuestion> results;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class GradedQuestion {
+        private Long questionId;
+        private boolean correct;
+        private List<AnswerDto> answers;  // 채점 후 공개: 보기별 정답 여부 + 해설
+        private String explanation;       // 문제 전체 해설
+    }
+}
@@ -0,0 +1,28 @@
+package saffy.backend.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ImportJobDto {
+    private String jobId;
+    private Long lectureId;
+    private String status;          // QUEUED, RUNNING, COMPLETED, FAILED
+    private long bytesReceived;     // 업로드된 파일 크기 (압축 상태 그대로)
+    private long linesRead;         // 지금까지 읽은 줄 수
+    private long imported;          // 커밋된 문제 수
+    private long failed;            // 실패한 줄 수
+    private long skipped;           // 중복 의심으로 건너뛴 줄 수
+    private List<String> errors;    // 줄별 오류 (앞쪽 일부만)
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+}
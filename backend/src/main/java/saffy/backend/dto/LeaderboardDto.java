@@ -0,0 +1,34 @@
+package saffy.backend.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 과목/강의 순위표 (learnerId 는 내려주지 않음)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LeaderboardDto {
+    private String board;           // subject:{id} / lecture:{id}
+    private int participants;       // 점수가 있는 학습자 수
+    private List<Entry> top;        // 상위 limit 명
+    private Entry me;               // learnerId 를 보낸 경우 내 순위 (기록이 없으면 null)
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Entry {
+        private long rank;
+        private String nickname;    // 없으면 "익명"
+        private long score;         // 맞힌 문제 수
+    }
+}
@@ -0,0 +1,31 @@
+package saffy.backend.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 강의 변경분 동기화 응답
+ * - changed=false: since 이후 바뀐 것이 없음 (목록 없음)
+ * - full=true: since 가 0 이거나 서버 리비전보다 커서(DB 복원 등) 강의의 문제 전체를 보냄 (클라이언트는 가진 목록을 버리고 교체)
+ * - 그 외: questions 를 ID 기준으로 추가/교체하고 deletedQuestionIds 를 지움
+ * 다음 요청에는 revision 을 since 로 보냄
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class LectureSyncDto {
+    private Long lectureId;
+    private long revision;
+    private boolean changed;
+    private boolean full;
+    private List<QuestionDto> questions;        // 추가되거나 이 강의로 옮겨온 문제
+    private List<Long> deletedQuestionIds;      // 삭제되거나 다른 강의로 옮겨간 문제
+}
@@ -1,5 +1,6 @@
 package saffy.backend.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -20,4 +21,7 @@ public class QuestionDto {
     private LectureDto lecture; // 강의 정보
     private List<AnswerDto> answers;  // 각 Answer에 해설 포함됨
     private String explanation; // 문제 전체에 대한 해설
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private QuestionStatsDto stats; // 문항 통계 (관리자 목록에서 요청한 경우만)
 }
@@ -0,0 +1,19 @@
+package saffy.backend.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class QuestionPageDto {
+    private List<QuestionDto> items;
+    private Long nextCursor;    // 다음 페이지 요청 시 afterId로 넘길 값 (마지막 문제 ID)
+    private boolean hasNext;
+}
@@ -0,0 +1,35 @@
+package saffy.backend.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class QuestionStatsDto {
+
+    private Long questionId;
+    private long attempts;
+    private long correct;
+    private double correctRate;          // 0 ~ 1 (응시가 없으면 0)
+    private boolean distractorWins;      // 오답 보기 중 정답 보기보다 많이 선택된 것이 있음
+    private List<ChoiceStats> choices;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class ChoiceStats {
+        private Long answerId;
+        private boolean correct;
+        private long selections;
+        private double selectionRate;    // 0 ~ 1
+    }
+}
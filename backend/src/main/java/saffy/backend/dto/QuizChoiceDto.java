@@ -0,0 +1,17 @@
+package saffy.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class QuizChoiceDto {
+    private Long id;        // 채점 시 선택한 보기 ID로 보냄
+    private String content;
+}
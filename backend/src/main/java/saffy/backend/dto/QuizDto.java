@@ -0,0 +1,18 @@
+package saffy.backend.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class QuizDto {
+    private long seed;                        // 같은 요청 + seed로 같은 퀴즈를 다시 만들 수 있음
+    private List<QuizQuestionDto> questions;
+}
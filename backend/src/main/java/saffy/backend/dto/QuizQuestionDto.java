@@ -0,0 +1,25 @@
+package saffy.backend.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import saffy.backend.entity.QuestionType;
+
+/**
+ * 풀이용 문제 (정답 여부/해설 제외 - 채점 후에 공개)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class QuizQuestionDto {
+    private Long id;
+    private String content;
+    private QuestionType questionType;
+    private LectureDto lecture;
+    private List<QuizChoiceDto> choices;  // 주관식은 빈 목록
+}
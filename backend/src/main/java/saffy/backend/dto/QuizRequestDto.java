@@ -0,0 +1,31 @@
+package saffy.backend.dto;
+
+import java.util.List;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import saffy.backend.entity.QuestionType;
+
+/**
+ * 문제 뽑기 요청
+ * 예시 JSON:
+ * {
+ *   "subjectId": 1,                 // 또는 "lectureIds": [1, 2, 3]
+ *   "count": 10,
+ *   "typeMix": {"MULTIPLE_CHOICE": 7, "TRUE_FALSE": 3},  // 선택 (있으면 count 대신 사용)
+ *   "seed": 12345                   // 선택 (같은 seed면 같은 결과)
+ * }
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class QuizRequestDto {
+    private Long subjectId;
+    private List<Long> lectureIds;
+    private Integer count;
+    private Map<QuestionType, Integer> typeMix;
+    private Long seed;
+}
@@ -0,0 +1,22 @@
+package saffy.backend.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 복습할 문제 목록 (다음 복습 시각이 이른 순서, 보기 섞음, 해설 제외)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReviewDto {
+    private List<QuizQuestionDto> questions;
+    private int scheduled;      // 복습 일정이 잡힌 전체 문제 수
+    private Long nextDueAt;     // 지금 복습할 문제가 없을 때 다음 복습 시각 (epoch millis)
+}
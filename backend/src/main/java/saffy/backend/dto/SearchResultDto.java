@@ -0,0 +1,30 @@
+package saffy.backend.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SearchResultDto {
+
+    private String query;
+    private int total;          // 검색어와 겹치는 문제 수 (hits 는 그중 점수 상위 limit 개)
+    private List<Hit> hits;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Hit {
+        private double score;
+        private QuestionDto question;
+    }
+}
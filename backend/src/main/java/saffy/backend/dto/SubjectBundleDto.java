@@ -0,0 +1,32 @@
+package saffy.backend.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 과목 번들 파일 내용: 과목 → 강의(단원-번호 순) → 문제/보기 전체
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SubjectBundleDto {
+    private SubjectDto subject;
+    private long revision;                  // 과목 강의들의 리비전 중 가장 큰 값
+    private List<LectureBundle> lectures;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class LectureBundle {
+        private LectureDto lecture;
+        private List<QuestionDto> questions;
+    }
+}
@@ -0,0 +1,40 @@
+package saffy.backend.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 답안 제출 DTO
+ * 예시 JSON:
+ * {
+ *   "learnerId": "3f0c...",       // 브라우저에서 만든 익명 ID (선택)
+ *   "nickname": "알고리즘왕",      // 순위표에 보일 이름 (선택, 20자 이내)
+ *   "answers": [
+ *     {"questionId": 10, "answerId": 41},        // 객관식/OX: 선택한 보기 ID
+ *     {"questionId": 11, "text": "트랜잭션"}      // 주관식: 입력한 답
+ *   ]
+ * }
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SubmissionDto {
+
+    private String learnerId;
+    private String nickname;
+    private List<SubmittedAnswer> answers;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SubmittedAnswer {
+        private Long questionId;
+        private Long answerId;  // 선택한 보기 ID
+        private String text;    // 주관식 답
+    }
+}
@@ -0,0 +1,27 @@
+package saffy.backend.dto;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TextCompressionJobDto {
+    private String status;          // RUNNING, COMPLETED, FAILED
+    private String mode;            // COMPRESS (압축 사용 중) / DECOMPRESS (압축 끈 상태 - 평문으로 되돌림)
+    private String current;         // 처리 중인 컬럼 (예: answers.explanation)
+    private long scanned;           // 읽은 값 수
+    private long converted;         // 바꿔 저장한 값 수
+    private long conflicts;         // 변환 중 다른 요청이 먼저 수정해서 건너뛴 값 수
+    private long bytesBefore;       // 읽은 값들의 저장 크기 합 (UTF-8)
+    private long bytesAfter;        // 변환 후 저장 크기 합
+    private String error;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+}
@@ -0,0 +1,34 @@
+package saffy.backend.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UploadResultDto {
+
+    private String message;
+    private int inserted;
+    private int skipped;                 // 중복으로 판단되어 저장하지 않은 문제 수
+    private List<Duplicate> duplicates;  // 중복 의심 문제 (allowDuplicates=true 면 저장은 되고 목록만 보고)
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Duplicate {
+        private int index;               // 업로드한 questions 배열에서의 위치 (0부터)
+        private String content;
+        private Long matchedQuestionId;  // 비슷한 기존 문제 ID
+        private Integer matchedIndex;    // 또는 같은 업로드 안의 앞선 문제 위치
+        private double similarity;       // 0 ~ 1 (추정 Jaccard 유사도)
+    }
+}
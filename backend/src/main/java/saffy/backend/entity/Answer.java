@@ -18,12 +18,14 @@ public class Answer {
     private Long id;
 
     @Column(columnDefinition = "TEXT", nullable = false)
+    @Convert(converter = CompressedTextConverter.class)
     private String content;
 
         @Column(nullable = false)
     private boolean correct;
 
     @Column(columnDefinition = "TEXT")
+    @Convert(converter = CompressedTextConverter.class)
     private String explanation;  // 해설 (각 보기마다 개별 해설)
 
     @ManyToOne(fetch = FetchType.LAZY)
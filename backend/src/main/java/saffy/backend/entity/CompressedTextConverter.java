@@ -0,0 +1,113 @@
+package saffy.backend.entity;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 긴 TEXT 컬럼(문제/보기 내용, 해설) 압축 저장
+ * - 저장 형식: MARKER + base64(deflate(UTF-8)) - TEXT 컬럼을 그대로 쓰므로 스키마 변경 없음
+ * - 읽을 때는 MARKER 가 있을 때만 풀고, 없으면(기존 행) 그대로 돌려줌
+ * - quiz.text-compression.enabled 가 true 일 때만 압축해서 저장 (min-length 보다 짧거나 줄지 않으면 평문 그대로)
+ * - Hibernate 가 Spring 빈으로 만들고, JDBC batch 저장/변환 작업도 같은 빈을 씀
+ */
+@Slf4j
+@Component
+@Converter
+public class CompressedTextConverter implements AttributeConverter<String, String> {
+
+    /** 일반 문장에 나오지 않는 제어 문자 + 형식 버전 */
+    static final String MARKER = "\u0001z1";
+
+    /** 읽기는 조회 요청마다 여러 번 일어나므로 Inflater(네이티브 자원)를 스레드별로 재사용 */
+    private static final ThreadLocal<Inflater> INFLATER = ThreadLocal.withInitial(() -> new Inflater(true));
+
+    private final boolean enabled;
+    private final int minLength;
+
+    public CompressedTextConverter(@Value("${quiz.text-compression.enabled:false}") boolean enabled,
+                                   @Value("${quiz.text-compression.min-length:200}") int minLength) {
+        this.enabled = enabled;
+        this.minLength = minLength;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public String convertToDatabaseColumn(String value) {
+        if (!enabled || value == null || value.length() < minLength) {
+            return value;
+        }
+        byte[] raw = value.getBytes(StandardCharsets.UTF_8);
+        String compressed = MARKER + Base64.getEncoder().encodeToString(deflate(raw));
+        return compressed.length() < raw.length ? compressed : value;
+    }
+
+    @Override
+    public String convertToEntityAttribute(String stored) {
+        if (!isCompressed(stored)) {
+            return stored;
+        }
+        try {
+            return new String(inflate(Base64.getDecoder().decode(stored.substring(MARKER.length()))), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException | DataFormatException e) {
+            // 우연히 MARKER 로 시작하는 평문이면 그대로 보여줌
+            log.warn("압축된 텍스트를 풀 수 없어 원문 그대로 사용합니다: {}", e.getMessage());
+            return stored;
+        }
+    }
+
+    /** 지금 설정으로 저장했을 때의 형태 (변환 작업에서 사용) */
+    public String reencode(String stored) {
+        return convertToDatabaseColumn(convertToEntityAttribute(stored));
+    }
+
+    public static boolean isCompressed(String stored) {
+        return stored != null && stored.startsWith(MARKER);
+    }
+
+    private static byte[] deflate(byte[] raw) {
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION, true);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 2 + 16);
+            byte[] buffer = new byte[4096];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] compressed) throws DataFormatException {
+        Inflater inflater = INFLATER.get();
+        try {
+            inflater.setInput(compressed);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(compressed.length * 3);
+            byte[] buffer = new byte[4096];
+            while (!inflater.finished()) {
+                int n = inflater.inflate(buffer);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new DataFormatException("압축 데이터가 잘렸습니다.");
+                }
+                out.write(buffer, 0, n);
+            }
+            return out.toByteArray();
+        } finally {
+            inflater.reset();
+        }
+    }
+}
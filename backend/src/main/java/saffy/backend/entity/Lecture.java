@@ -22,6 +22,17 @@ public class Lecture {
     @Column(length = 30, nullable = false)
     private String name;
 
+    // 이름 앞의 "단원-번호" (예: "2-10 트리" → unit 2, idx 10), 생성 시 한 번만 파싱해서 저장
+    @Column(nullable = false)
+    private int unit;
+
+    @Column(nullable = false)
+    private int idx;
+
+    // 강의 또는 강의의 문제가 마지막으로 바뀐 카탈로그 리비전 (변경분 동기화용)
+    @Column(nullable = false)
+    private long revision;
+
     // ✅ Subject와 다대일 관계 (subject_id 외래키)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "subject_id", nullable = false)
@@ -20,12 +20,17 @@ public class Question {
     private Long id;
 
     @Column(columnDefinition = "TEXT", nullable = false)
+    @Convert(converter = CompressedTextConverter.class)
     private String content;
 
     @Enumerated(EnumType.STRING)
     @Column(name = "question_type", nullable = false)
     private QuestionType questionType = QuestionType.MULTIPLE_CHOICE;
 
+    // 문제가 지금 강의에 추가된 카탈로그 리비전 (변경분 동기화용)
+    @Column(nullable = false)
+    private long revision;
+
     // ✅ Lecture와 다대일 관계 (lecture_id 외래키)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "lecture_id", nullable = false)
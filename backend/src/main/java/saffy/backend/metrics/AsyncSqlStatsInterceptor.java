@@ -0,0 +1,26 @@
+package saffy.backend.metrics;
+
+import java.util.concurrent.Callable;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+
+/**
+ * 비동기 작업 스레드(StreamingResponseBody, Callable)에서 실행한 SQL 도 그 요청의 기록에 더함
+ * (RequestMetricsFilter 가 요청 속성에 둔 기록을 작업 스레드의 thread-local 에 붙였다가 끝나면 치움)
+ */
+public class AsyncSqlStatsInterceptor implements CallableProcessingInterceptor {
+
+    @Override
+    public <T> void preProcess(NativeWebRequest request, Callable<T> task) {
+        Object stats = request.getAttribute(RequestMetricsFilter.STATS_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (stats instanceof RequestSqlStats started) {
+            RequestSqlStats.attach(started);
+        }
+    }
+
+    @Override
+    public <T> void postProcess(NativeWebRequest request, Callable<T> task, Object concurrentResult) {
+        RequestSqlStats.end();
+    }
+}
@@ -0,0 +1,99 @@
+package saffy.backend.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * 요청별 SQL 통계 기록 필터
+ * - 엔드포인트(URI 패턴)별 SQL 문장 수 분포(quiz.request.sql.statements)와 SQL 시간(quiz.request.sql.time)
+ * - 느린 요청이나 SQL을 너무 많이 실행한 요청은 경고 로그로 남김 (show-sql 대신)
+ * - 비동기 요청은 처음 dispatch 에서 시작해 마지막 async dispatch 에서 한 번만 기록 (작업 스레드의 SQL 포함)
+ * (엔드포인트별 응답 시간 분포는 actuator 의 http.server.requests 로 수집)
+ */
+@Slf4j
+@Component
+public class RequestMetricsFilter extends OncePerRequestFilter {
+
+    static final String STATS_ATTRIBUTE = RequestMetricsFilter.class.getName() + ".stats";
+    private static final String START_ATTRIBUTE = RequestMetricsFilter.class.getName() + ".start";
+
+    private final MeterRegistry meterRegistry;
+    private final int statementThreshold;
+    private final long slowRequestNanos;
+
+    public RequestMetricsFilter(MeterRegistry meterRegistry,
+                                @Value("${quiz.metrics.statement-threshold:20}") int statementThreshold,
+                                @Value("${quiz.metrics.slow-request-ms:1000}") long slowRequestMs) {
+        this.meterRegistry = meterRegistry;
+        this.statementThreshold = statementThreshold;
+        this.slowRequestNanos = TimeUnit.MILLISECONDS.toNanos(slowRequestMs);
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false; // 비동기 요청이 끝나는 dispatch 에서 기록
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long start;
+        RequestSqlStats stats;
+        if (isAsyncDispatch(request) && request.getAttribute(STATS_ATTRIBUTE) instanceof RequestSqlStats started) {
+            stats = started;
+            start = (Long) request.getAttribute(START_ATTRIBUTE);
+            RequestSqlStats.attach(stats);
+        } else {
+            start = System.nanoTime();
+            stats = RequestSqlStats.begin();
+            request.setAttribute(STATS_ATTRIBUTE, stats);
+            request.setAttribute(START_ATTRIBUTE, start);
+        }
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            RequestSqlStats.end();
+            if (!isAsyncStarted(request)) {
+                record(request, response, stats, System.nanoTime() - start);
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, HttpServletResponse response, RequestSqlStats stats, long elapsed) {
+        // 매칭된 패턴이 없으면(404 등) 태그 종류가 늘어나지 않도록 하나로 묶음
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        String method = request.getMethod();
+
+        DistributionSummary.builder("quiz.request.sql.statements")
+                .description("요청 하나에서 실행한 SQL 문장 수")
+                .tags("uri", uri, "method", method)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry)
+                .record(stats.statements());
+        Timer.builder("quiz.request.sql.time")
+                .description("요청 하나에서 SQL 실행에 쓴 시간")
+                .tags("uri", uri, "method", method)
+                .register(meterRegistry)
+                .record(stats.nanos(), TimeUnit.NANOSECONDS);
+
+        if (stats.statements() >= statementThreshold || elapsed >= slowRequestNanos) {
+            log.warn("느린 요청 또는 SQL 과다: {} {} -> {} ({} ms, SQL {}건 / {} ms)",
+                    method, request.getRequestURI(), response.getStatus(),
+                    TimeUnit.NANOSECONDS.toMillis(elapsed), stats.statements(),
+                    TimeUnit.NANOSECONDS.toMillis(stats.nanos()));
+        }
+    }
+}
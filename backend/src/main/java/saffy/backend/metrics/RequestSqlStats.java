@@ -0,0 +1,51 @@
+package saffy.backend.metrics;
+
+/**
+ * 요청 하나 동안 실행된 SQL 문장 수와 실행 시간 (요청 스레드의 thread-local)
+ * - RequestMetricsFilter 가 요청 시작 때 만들고 끝날 때 치움
+ * - 비동기 요청(StreamingResponseBody 등)은 작업 스레드에도 같은 기록을 붙임 (AsyncSqlStatsInterceptor)
+ * - 요청 밖(스케줄러 등)에서 실행된 SQL은 기록하지 않음
+ */
+public final class RequestSqlStats {
+
+    private static final ThreadLocal<RequestSqlStats> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private long nanos;
+
+    private RequestSqlStats() {
+    }
+
+    static RequestSqlStats begin() {
+        RequestSqlStats stats = new RequestSqlStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    /** 이미 시작한 요청의 기록을 현재 스레드에 붙임 (비동기 dispatch/작업 스레드) */
+    static void attach(RequestSqlStats stats) {
+        CURRENT.set(stats);
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    /** 현재 요청의 기록 (요청 밖이면 null) */
+    static RequestSqlStats current() {
+        return CURRENT.get();
+    }
+
+    void add(long elapsedNanos) {
+        statements++;
+        nanos += elapsedNanos;
+    }
+
+    public int statements() {
+        return statements;
+    }
+
+    public long nanos() {
+        return nanos;
+    }
+}
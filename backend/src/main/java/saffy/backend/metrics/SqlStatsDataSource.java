@@ -0,0 +1,104 @@
+package saffy.backend.metrics;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * JDBC 실행(단건/배치) 횟수와 시간을 현재 요청 기록에 더하는 DataSource
+ * - 커넥션이 만든 Statement 의 execute* 호출을 잼 (JPA, JdbcTemplate 구분 없이 모든 SQL)
+ * - unwrap/isWrapperFor 는 대상 DataSource 로 넘김 (Hikari 풀 조회 등)
+ */
+public class SqlStatsDataSource extends DelegatingDataSource {
+
+    private static final Set<String> EXECUTE_METHODS = Set.of(
+            "execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+
+    public SqlStatsDataSource(DataSource target) {
+        super(target);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return connectionProxy(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return connectionProxy(super.getConnection(username, password));
+    }
+
+    private static Connection connectionProxy(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(SqlStatsDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, new ConnectionHandler(connection));
+    }
+
+    private static final class ConnectionHandler implements InvocationHandler {
+
+        private final Connection target;
+
+        ConnectionHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = invokeTarget(target, method, args);
+            if (result instanceof Statement statement) {
+                Class<?> type = statement instanceof CallableStatement ? CallableStatement.class
+                        : statement instanceof PreparedStatement ? PreparedStatement.class
+                        : Statement.class;
+                return Proxy.newProxyInstance(SqlStatsDataSource.class.getClassLoader(),
+                        new Class<?>[]{type}, new StatementHandler(statement, (Connection) proxy));
+            }
+            return result;
+        }
+    }
+
+    private static final class StatementHandler implements InvocationHandler {
+
+        private final Statement target;
+        private final Connection connection;
+
+        StatementHandler(Statement target, Connection connection) {
+            this.target = target;
+            this.connection = connection;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getName().equals("getConnection") && method.getParameterCount() == 0) {
+                return connection; // 감싼 커넥션을 돌려줌
+            }
+            if (!EXECUTE_METHODS.contains(method.getName())) {
+                return invokeTarget(target, method, args);
+            }
+            long startedAt = System.nanoTime();
+            try {
+                return invokeTarget(target, method, args);
+            } finally {
+                RequestSqlStats stats = RequestSqlStats.current();
+                if (stats != null) {
+                    stats.add(System.nanoTime() - startedAt);
+                }
+            }
+        }
+    }
+
+    private static Object invokeTarget(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package saffy.backend.metrics;
+
+import javax.sql.DataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 애플리케이션이 쓰는 "dataSource" 빈을 SqlStatsDataSource 로 감쌈
+ * (replica 라우팅을 쓰면 LazyConnectionDataSourceProxy, 아니면 Boot 가 만든 Hikari 풀)
+ */
+@Component
+public class SqlStatsDataSourcePostProcessor implements BeanPostProcessor {
+
+    private static final String DATA_SOURCE_BEAN = "dataSource";
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (DATA_SOURCE_BEAN.equals(beanName) && bean instanceof DataSource dataSource
+                && !(bean instanceof SqlStatsDataSource)) {
+            return new SqlStatsDataSource(dataSource);
+        }
+        return bean;
+    }
+}
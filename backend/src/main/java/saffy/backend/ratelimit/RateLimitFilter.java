@@ -0,0 +1,212 @@
+package saffy.backend.ratelimit;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * /api 요청 속도 제한 및 과부하 시 요청 거절 필터
+ * - 클라이언트 키: 접속 주소. 단 접속 주소가 신뢰할 프록시(trusted-proxies)이면 nginx 가 넣는 X-Real-IP,
+ *   없으면 X-Forwarded-For 의 마지막 값(nginx 가 붙인 값)
+ * - 예산은 세 가지
+ *   read:   학생 조회/문제 풀이 (GET, /api/quiz/**) - 같은 강의실 NAT 뒤 여러 명을 고려해 넉넉하게
+ *   upload: 문제 업로드/가져오기
+ *   admin:  관리자 인증 실패(401) - 요청 전에 하나 예약하고 401 이 아니면 돌려줌, 다 쓰면 관리자 요청 자체를 막음
+ *           (비밀번호 대입 방지. 미리 예약하므로 동시에 여러 번 시도해도 예산을 넘지 못함)
+ * - DB 커넥션을 기다리는 스레드가 기준을 넘으면 DB 를 쓰는 요청(업로드/관리자)은 바로 429 로 거절
+ *   (학생 조회는 메모리 스냅샷에서 처리되므로 거절하지 않음)
+ */
+@Slf4j
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final boolean enabled;
+    private final RateLimiter readLimiter;
+    private final RateLimiter uploadLimiter;
+    private final RateLimiter adminFailureLimiter;
+    private final int shedWaitingThreshold;
+    private final TrustedProxies trustedProxies;
+    private final DataSource dataSource;
+    private final MeterRegistry meterRegistry;
+
+    private volatile HikariPoolMXBean pool;
+
+    public RateLimitFilter(DataSource dataSource,
+                           MeterRegistry meterRegistry,
+                           @Value("${quiz.rate-limit.enabled:true}") boolean enabled,
+                           @Value("${quiz.rate-limit.max-keys:100000}") int maxKeys,
+                           @Value("${quiz.rate-limit.read.per-second:30}") double readPerSecond,
+                           @Value("${quiz.rate-limit.read.burst:100}") int readBurst,
+                           @Value("${quiz.rate-limit.upload.per-second:0.2}") double uploadPerSecond,
+                           @Value("${quiz.rate-limit.upload.burst:5}") int uploadBurst,
+                           @Value("${quiz.rate-limit.admin-failure.per-second:0.05}") double adminFailurePerSecond,
+                           @Value("${quiz.rate-limit.admin-failure.burst:10}") int adminFailureBurst,
+                           @Value("${quiz.rate-limit.shed.db-waiting-threshold:20}") int shedWaitingThreshold,
+                           @Value("${quiz.rate-limit.trusted-proxies:}") String trustedProxies) {
+        this.dataSource = dataSource;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.readLimiter = new RateLimiter(readPerSecond, readBurst, maxKeys);
+        this.uploadLimiter = new RateLimiter(uploadPerSecond, uploadBurst, maxKeys);
+        this.adminFailureLimiter = new RateLimiter(adminFailurePerSecond, adminFailureBurst, maxKeys);
+        this.shedWaitingThreshold = shedWaitingThreshold;
+        this.trustedProxies = new TrustedProxies(trustedProxies);
+    }
+
+    /** 요청 종류별 예산 */
+    enum Budget {
+        READ, UPLOAD, ADMIN
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if ("OPTIONS".equals(request.getMethod())) {
+            chain.doFilter(request, response); // CORS preflight
+            return;
+        }
+        Budget budget = budgetOf(request);
+        String key = clientKey(request, trustedProxies);
+        long now = System.nanoTime();
+
+        if (budget != Budget.READ && dbOverloaded()) {
+            reject(response, "shed", TimeUnit.SECONDS.toNanos(1));
+            return;
+        }
+
+        if (budget == Budget.READ) {
+            RateLimiter.Permit read = readLimiter.tryAcquire(key, now);
+            if (!read.granted()) {
+                reject(response, "read", read.waitNanos());
+                return;
+            }
+            chain.doFilter(request, response);
+            return;
+        }
+
+        // 인증 실패 예산을 먼저 예약 (결과를 보고 차감하면 동시에 보낸 요청들이 모두 통과함)
+        RateLimiter.Permit adminFailure = adminFailureLimiter.tryAcquire(key, now);
+        if (!adminFailure.granted()) {
+            reject(response, "admin", adminFailure.waitNanos());
+            return;
+        }
+        if (budget == Budget.UPLOAD) {
+            RateLimiter.Permit upload = uploadLimiter.tryAcquire(key, now);
+            if (!upload.granted()) {
+                adminFailure.refund();
+                reject(response, "upload", upload.waitNanos());
+                return;
+            }
+        }
+
+        boolean unauthorized = false;
+        try {
+            chain.doFilter(request, response);
+            unauthorized = response.getStatus() == HttpStatus.UNAUTHORIZED.value();
+        } finally {
+            // 관리자 인증 실패만 차감 (정상 관리자 작업은 돌려줌)
+            if (!unauthorized) {
+                adminFailure.refund();
+            }
+        }
+    }
+
+    static Budget budgetOf(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        if (uri.equals("/api/questions/upload") || uri.equals("/api/admin/questions/import")) {
+            return Budget.UPLOAD;
+        }
+        if (uri.startsWith("/api/admin/") || request.getHeader("X-Admin-Secret") != null) {
+            return Budget.ADMIN;
+        }
+        return Budget.READ;
+    }
+
+    static String clientKey(HttpServletRequest request, TrustedProxies trustedProxies) {
+        String remoteAddr = request.getRemoteAddr();
+        if (!trustedProxies.contains(remoteAddr)) {
+            return remoteAddr; // 프록시를 거치지 않은 요청의 헤더는 클라이언트가 마음대로 넣을 수 있음
+        }
+        String realIp = request.getHeader("X-Real-IP");
+        if (realIp != null && !realIp.isBlank()) {
+            return realIp.trim();
+        }
+        String forwarded = request.getHeader("X-Forwarded-For");
+        if (forwarded != null && !forwarded.isBlank()) {
+            // 앞쪽 값은 클라이언트가 마음대로 넣을 수 있으므로 프록시가 붙인 마지막 값을 씀
+            return forwarded.substring(forwarded.lastIndexOf(',') + 1).trim();
+        }
+        return remoteAddr;
+    }
+
+    /** 커넥션을 기다리는 스레드 수가 기준 이상인지 (Hikari 풀이 아니거나 아직 시작 전이면 false) */
+    private boolean dbOverloaded() {
+        HikariPoolMXBean mxBean = pool;
+        if (mxBean == null) {
+            mxBean = resolvePool();
+            if (mxBean == null) {
+                return false;
+            }
+        }
+        return mxBean.getThreadsAwaitingConnection() >= shedWaitingThreshold;
+    }
+
+    private HikariPoolMXBean resolvePool() {
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                HikariPoolMXBean mxBean = dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean();
+                pool = mxBean; // 풀이 처음 커넥션을 만들기 전에는 null
+                return mxBean;
+            }
+        } catch (SQLException e) {
+            log.debug("Hikari 풀을 찾을 수 없어 과부하 거절을 사용하지 않습니다: {}", e.getMessage());
+        }
+        return null;
+    }
+
+    private void reject(HttpServletResponse response, String reason, long waitNanos) throws IOException {
+        long retryAfter = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        Counter.builder("quiz.rate-limit.rejected")
+                .description("속도 제한/과부하로 거절한 요청 수")
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter));
+        response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write("요청이 너무 많습니다. " + retryAfter + "초 후에 다시 시도해주세요.");
+    }
+
+    /** 오래 쓰지 않은 키 정리 */
+    @Scheduled(fixedDelay = 60_000)
+    public void sweep() {
+        long now = System.nanoTime();
+        readLimiter.sweep(now);
+        uploadLimiter.sweep(now);
+        adminFailureLimiter.sweep(now);
+    }
+}
@@ -0,0 +1,113 @@
+package saffy.backend.ratelimit;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 키(클라이언트 IP)별 토큰 버킷 - GCRA(Generic Cell Rate Algorithm) 방식
+ * - 버킷 상태는 "다음 토큰이 생기는 이론상 시각(TAT)" 하나뿐이라 AtomicLong 하나로 CAS 처리 (락 없음)
+ * - 초당 perSecond 개씩 채워지고 최대 burst 개까지 몰아서 쓸 수 있음
+ * - TAT 가 지난 키는 새 키와 같으므로 그런 키만 지움 (아직 TAT 가 남은 키는 지우지 않음, 지우면 한도가 초기화됨)
+ * - 키 수가 maxKeys 에 닿으면 새 키는 정리될 때까지 공용 overflow 버킷 하나를 나눠 씀
+ *   (정리는 주기적으로 하고, 가득 찼을 때도 SWEEP_INTERVAL 에 한 번만 해서 새 키마다 전체를 훑지 않음)
+ */
+public class RateLimiter {
+
+    private static final long SWEEP_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final long intervalNanos;   // 토큰 하나가 채워지는 시간
+    private final long toleranceNanos;  // burst 만큼 미리 당겨 쓸 수 있는 시간
+    private final int maxKeys;
+    private final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final AtomicLong overflow = new AtomicLong(Long.MIN_VALUE);
+    private final AtomicLong lastSweep = new AtomicLong(Long.MIN_VALUE); // MIN_VALUE: 아직 정리한 적 없음
+
+    public RateLimiter(double perSecond, int burst, int maxKeys) {
+        if (perSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("perSecond 는 0보다 크고 burst 는 1 이상이어야 합니다.");
+        }
+        this.intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / perSecond);
+        this.toleranceNanos = intervalNanos * (burst - 1L);
+        this.maxKeys = maxKeys;
+    }
+
+    /**
+     * 토큰 하나 사용
+     * @return 허용 여부와 기다릴 시간, 허용이면 가져간 버킷에 토큰을 돌려줄 수 있음
+     */
+    public Permit tryAcquire(String key, long now) {
+        AtomicLong tat = bucket(key, now);
+        while (true) {
+            long current = tat.get();
+            long start = Math.max(current, now);
+            long wait = start - now - toleranceNanos;
+            if (wait > 0) {
+                return new Permit(null, wait);
+            }
+            if (tat.compareAndSet(current, start + intervalNanos)) {
+                return new Permit(tat, 0);
+            }
+        }
+    }
+
+    /** 다 채워진(쓴 적 없는 것과 같은) 버킷 정리 */
+    public void sweep(long now) {
+        lastSweep.set(now);
+        buckets.values().removeIf(tat -> tat.get() <= now);
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+
+    private AtomicLong bucket(String key, long now) {
+        AtomicLong tat = buckets.get(key);
+        if (tat != null) {
+            return tat;
+        }
+        if (buckets.size() >= maxKeys) {
+            long last = lastSweep.get();
+            boolean due = last == Long.MIN_VALUE || now - last >= SWEEP_INTERVAL_NANOS;
+            if (due && lastSweep.compareAndSet(last, now)) {
+                buckets.values().removeIf(t -> t.get() <= now);
+            }
+            if (buckets.size() >= maxKeys) {
+                return overflow;
+            }
+        }
+        return buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+    }
+
+    /**
+     * tryAcquire 결과
+     * - refund 는 토큰을 가져간 그 버킷에만 돌려줌 (그 사이 키가 정리되고 새 버킷이 생겨도 새 버킷은 burst 를 넘지 않음)
+     */
+    public final class Permit {
+
+        private final AtomicLong tat;
+        private final long waitNanos;
+
+        private Permit(AtomicLong tat, long waitNanos) {
+            this.tat = tat;
+            this.waitNanos = waitNanos;
+        }
+
+        public boolean granted() {
+            return tat != null;
+        }
+
+        /** 거절이면 다음 토큰까지 기다려야 하는 시간(ns), 허용이면 0 */
+        public long waitNanos() {
+            return waitNanos;
+        }
+
+        /** 가져간 토큰 하나를 돌려줌 (거절된 결과면 아무것도 안 함) */
+        public void refund() {
+            if (tat != null) {
+                tat.addAndGet(-intervalNanos);
+            }
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package saffy.backend.ratelimit;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * X-Real-IP / X-Forwarded-For 를 믿어도 되는 프록시 주소 목록 (IP 또는 CIDR, 쉼표로 구분)
+ * - 목록이 비어 있으면 어떤 헤더도 믿지 않고 접속 주소만 씀
+ * - IP 리터럴만 받음 (호스트 이름은 DNS 조회를 피하려고 거부)
+ */
+public class TrustedProxies {
+
+    private final List<byte[]> networks = new ArrayList<>();
+    private final List<Integer> prefixes = new ArrayList<>();
+
+    public TrustedProxies(String spec) {
+        if (spec == null) {
+            return;
+        }
+        for (String entry : spec.split(",")) {
+            String value = entry.trim();
+            if (value.isEmpty()) {
+                continue;
+            }
+            int slash = value.indexOf('/');
+            byte[] address = parse(slash < 0 ? value : value.substring(0, slash));
+            if (address == null) {
+                throw new IllegalArgumentException("신뢰할 프록시 주소가 올바르지 않습니다: " + value);
+            }
+            int prefix = slash < 0 ? address.length * 8 : Integer.parseInt(value.substring(slash + 1));
+            if (prefix < 0 || prefix > address.length * 8) {
+                throw new IllegalArgumentException("신뢰할 프록시 대역이 올바르지 않습니다: " + value);
+            }
+            networks.add(address);
+            prefixes.add(prefix);
+        }
+    }
+
+    public boolean isEmpty() {
+        return networks.isEmpty();
+    }
+
+    public boolean contains(String remoteAddr) {
+        if (networks.isEmpty() || remoteAddr == null) {
+            return false;
+        }
+        byte[] address = parse(remoteAddr);
+        if (address == null) {
+            return false;
+        }
+        for (int i = 0; i < networks.size(); i++) {
+            if (matches(networks.get(i), prefixes.get(i), address)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean matches(byte[] network, int prefix, byte[] address) {
+        if (network.length != address.length) {
+            return false;
+        }
+        int fullBytes = prefix / 8;
+        for (int i = 0; i < fullBytes; i++) {
+            if (network[i] != address[i]) {
+                return false;
+            }
+        }
+        int remainingBits = prefix % 8;
+        if (remainingBits == 0) {
+            return true;
+        }
+        int mask = 0xFF << (8 - remainingBits);
+        return (network[fullBytes] & mask) == (address[fullBytes] & mask);
+    }
+
+    /** IP 리터럴만 변환 (IPv4 는 숫자와 점, IPv6 는 콜론 포함 - 그 밖에는 호스트 이름으로 보고 null) */
+    private static byte[] parse(String value) {
+        String literal = value.trim();
+        boolean ipv4 = !literal.isEmpty() && literal.chars().allMatch(c -> (c >= '0' && c <= '9') || c == '.');
+        boolean ipv6 = literal.indexOf(':') >= 0
+                && literal.chars().allMatch(c -> Character.digit(c, 16) >= 0 || c == '.' || c == ':');
+        if (!ipv4 && !ipv6) {
+            return null;
+        }
+        try {
+            return InetAddress.getByName(literal).getAddress();
+        } catch (UnknownHostException e) {
+            return null;
+        }
+    }
+}
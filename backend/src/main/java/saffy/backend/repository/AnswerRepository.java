@@ -2,11 +2,25 @@ package saffy.backend.repository;
 
 import saffy.backend.entity.Answer;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface AnswerRepository extends JpaRepository<Answer, Long> {
-    List<Answer> findByQuestionId(Long questionId);
+    // 여러 문제의 보기를 IN 절 한 번으로 조회 (N+1 방지)
+    List<Answer> findByQuestion_IdInOrderByIdAsc(Collection<Long> questionIds);
+
+    // 대량 삭제: 엔티티를 읽지 않고 DELETE 한 번으로 처리
+    @Modifying
+    @Query("delete from Answer a where a.question.id in :questionIds")
+    int deleteByQuestionIds(@Param("questionIds") Collection<Long> questionIds);
+
+    @Modifying
+    @Query("delete from Answer a where a.question.id in (select q.id from Question q where q.lecture.id = :lectureId)")
+    int deleteByLectureId(@Param("lectureId") Long lectureId);
 }
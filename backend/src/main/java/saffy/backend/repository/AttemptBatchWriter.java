@@ -0,0 +1,57 @@
+package saffy.backend.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 채점 기록(attempts) JDBC batch INSERT
+ */
+@Repository
+@RequiredArgsConstructor
+public class AttemptBatchWriter {
+
+    private static final String INSERT_ATTEMPT =
+            "INSERT INTO attempts (learner_id, question_id, answer_id, response_text, correct, submitted_at) "
+                    + "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertAll(List<AttemptRecord> attempts) {
+        jdbcTemplate.batchUpdate(INSERT_ATTEMPT, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                AttemptRecord a = attempts.get(i);
+                ps.setString(1, a.learnerId());
+                ps.setLong(2, a.questionId());
+                if (a.answerId() != null) {
+                    ps.setLong(3, a.answerId());
+                } else {
+                    ps.setNull(3, Types.BIGINT);
+                }
+                ps.setString(4, a.responseText());
+                ps.setBoolean(5, a.correct());
+                ps.setTimestamp(6, new Timestamp(a.submittedAt()));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return attempts.size();
+            }
+        });
+    }
+
+    /**
+     * 채점 기록 한 줄
+     * submittedAt: epoch millis
+     */
+    public record AttemptRecord(String learnerId, long questionId, Long answerId, String responseText,
+                                boolean correct, long submittedAt) {
+    }
+}
@@ -0,0 +1,79 @@
+package saffy.backend.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 카탈로그 리비전(catalog_revision)과 강의/문제 리비전, 삭제 기록(question_tombstones) JDBC 접근
+ * - next() 는 행 잠금을 잡으므로 관리자 쓰기끼리는 커밋 순서대로 리비전이 매겨짐
+ * - 모두 호출하는 쪽의 트랜잭션에 참여함
+ */
+@Repository
+@RequiredArgsConstructor
+public class CatalogRevisionRepository {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /** 카탈로그 리비전을 1 올리고 새 값을 돌려줌 */
+    public long next() {
+        jdbcTemplate.getJdbcTemplate().update("UPDATE catalog_revision SET revision = revision + 1 WHERE id = 1");
+        return current();
+    }
+
+    public long current() {
+        Long revision = jdbcTemplate.getJdbcTemplate()
+                .queryForObject("SELECT revision FROM catalog_revision WHERE id = 1", Long.class);
+        return revision != null ? revision : 0L;
+    }
+
+    /** 강의 리비전 갱신 (강의의 문제가 추가/삭제/이동된 경우) */
+    public void touchLectures(Collection<Long> lectureIds, long revision) {
+        if (lectureIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update("UPDATE lectures SET revision = :revision WHERE id IN (:ids)",
+                Map.of("revision", revision, "ids", lectureIds));
+    }
+
+    /** 삭제/이동 전에 호출: 문제들이 지금 속한 강의에서 빠졌다고 기록 */
+    public void addTombstonesByQuestionIds(Collection<Long> questionIds, long revision) {
+        jdbcTemplate.update("""
+                INSERT INTO question_tombstones (lecture_id, question_id, revision)
+                SELECT lecture_id, id, :revision FROM questions WHERE id IN (:ids)""",
+                Map.of("revision", revision, "ids", questionIds));
+    }
+
+    /** 삭제/이동 전에 호출: 강의의 문제 전체가 빠졌다고 기록 */
+    public void addTombstonesByLectureId(long lectureId, long revision) {
+        jdbcTemplate.update("""
+                INSERT INTO question_tombstones (lecture_id, question_id, revision)
+                SELECT lecture_id, id, :revision FROM questions WHERE lecture_id = :lectureId""",
+                Map.of("revision", revision, "lectureId", lectureId));
+    }
+
+    /** 강의 삭제 시 그 강의의 삭제 기록 정리 */
+    public void deleteTombstonesByLectureId(long lectureId) {
+        jdbcTemplate.update("DELETE FROM question_tombstones WHERE lecture_id = :lectureId",
+                Map.of("lectureId", lectureId));
+    }
+
+    /** 강의에 (since, upTo] 리비전에 추가된 문제 ID */
+    public List<Long> findAddedQuestionIds(long lectureId, long since, long upTo) {
+        return jdbcTemplate.queryForList("""
+                SELECT id FROM questions
+                WHERE lecture_id = :lectureId AND revision > :since AND revision <= :upTo""",
+                Map.of("lectureId", lectureId, "since", since, "upTo", upTo), Long.class);
+    }
+
+    /** 강의에서 (since, upTo] 리비전에 빠진 문제 ID (중복 제거) */
+    public List<Long> findRemovedQuestionIds(long lectureId, long since, long upTo) {
+        return jdbcTemplate.queryForList("""
+                SELECT DISTINCT question_id FROM question_tombstones
+                WHERE lecture_id = :lectureId AND revision > :since AND revision <= :upTo""",
+                Map.of("lectureId", lectureId, "since", since, "upTo", upTo), Long.class);
+    }
+}
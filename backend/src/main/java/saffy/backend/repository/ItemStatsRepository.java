@@ -0,0 +1,109 @@
+package saffy.backend.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 문항 통계 누적 테이블(question_stats, choice_stats) JDBC 접근
+ * 저장은 증가분을 더하는 upsert 라서 여러 번 나눠 반영해도 합계가 맞음
+ * (batch 하나는 한 트랜잭션 - 중간에 실패하면 전부 되돌려서 호출한 쪽이 증가분 전체를 다시 더해도 중복되지 않음)
+ */
+@Repository
+@RequiredArgsConstructor
+public class ItemStatsRepository {
+
+    private static final String UPSERT_QUESTION =
+            "INSERT INTO question_stats (question_id, attempts, correct) VALUES (?, ?, ?) "
+                    + "ON DUPLICATE KEY UPDATE attempts = attempts + ?, correct = correct + ?";
+    private static final String UPSERT_CHOICE =
+            "INSERT INTO choice_stats (answer_id, question_id, selections) VALUES (?, ?, ?) "
+                    + "ON DUPLICATE KEY UPDATE selections = selections + ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void forEachQuestionStats(QuestionStatsConsumer consumer) {
+        jdbcTemplate.query("SELECT question_id, attempts, correct FROM question_stats",
+                (RowCallbackHandler) rs -> consumer.accept(rs.getLong(1), rs.getLong(2), rs.getLong(3)));
+    }
+
+    public void forEachChoiceStats(ChoiceStatsConsumer consumer) {
+        jdbcTemplate.query("SELECT answer_id, question_id, selections FROM choice_stats",
+                (RowCallbackHandler) rs -> consumer.accept(rs.getLong(1), rs.getLong(2), rs.getLong(3)));
+    }
+
+    @Transactional
+    public void addQuestionDeltas(List<QuestionDelta> deltas) {
+        jdbcTemplate.batchUpdate(UPSERT_QUESTION, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                QuestionDelta d = deltas.get(i);
+                ps.setLong(1, d.questionId());
+                ps.setLong(2, d.attempts());
+                ps.setLong(3, d.correct());
+                ps.setLong(4, d.attempts());
+                ps.setLong(5, d.correct());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return deltas.size();
+            }
+        });
+    }
+
+    @Transactional
+    public void addChoiceDeltas(List<ChoiceDelta> deltas) {
+        jdbcTemplate.batchUpdate(UPSERT_CHOICE, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ChoiceDelta d = deltas.get(i);
+                ps.setLong(1, d.answerId());
+                ps.setLong(2, d.questionId());
+                ps.setLong(3, d.selections());
+                ps.setLong(4, d.selections());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return deltas.size();
+            }
+        });
+    }
+
+    /** 삭제된 문제의 통계 (문제/보기 통계 모두) */
+    @Transactional
+    public void deleteByQuestionIds(Collection<Long> questionIds) {
+        if (questionIds.isEmpty()) {
+            return;
+        }
+        String placeholders = String.join(", ", Collections.nCopies(questionIds.size(), "?"));
+        Object[] args = questionIds.toArray();
+        jdbcTemplate.update("DELETE FROM choice_stats WHERE question_id IN (" + placeholders + ")", args);
+        jdbcTemplate.update("DELETE FROM question_stats WHERE question_id IN (" + placeholders + ")", args);
+    }
+
+    public record QuestionDelta(long questionId, long attempts, long correct) {
+    }
+
+    public record ChoiceDelta(long answerId, long questionId, long selections) {
+    }
+
+    @FunctionalInterface
+    public interface QuestionStatsConsumer {
+        void accept(long questionId, long attempts, long correct);
+    }
+
+    @FunctionalInterface
+    public interface ChoiceStatsConsumer {
+        void accept(long answerId, long questionId, long selections);
+    }
+}
@@ -0,0 +1,100 @@
+package saffy.backend.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 순위표 점수(leaderboard_scores)와 점수에 반영한 문제(leaderboard_solved) JDBC 접근
+ * 저장은 (board, learner_id) upsert 로 메모리의 합계를 그대로 덮어씀 (정렬은 메모리에서만 함)
+ */
+@Repository
+@RequiredArgsConstructor
+public class LeaderboardRepository {
+
+    private static final String UPSERT =
+            "INSERT INTO leaderboard_scores (board, learner_id, nickname, score, reached_at) VALUES (?, ?, ?, ?, ?) "
+                    + "ON DUPLICATE KEY UPDATE nickname = ?, score = ?, reached_at = ?";
+    private static final String INSERT_SOLVED =
+            "INSERT IGNORE INTO leaderboard_solved (learner_id, question_id) VALUES (?, ?)";
+
+    private static final int SOLVED_CHUNK = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void forEach(Consumer<ScoreRow> consumer) {
+        jdbcTemplate.query("SELECT board, learner_id, nickname, score, reached_at FROM leaderboard_scores",
+                (RowCallbackHandler) rs -> consumer.accept(new ScoreRow(rs.getString(1), rs.getString(2),
+                        rs.getString(3), rs.getLong(4), rs.getTimestamp(5).getTime())));
+    }
+
+    /** 주어진 학습자들이 점수에 반영한 문제 (IN 목록은 SOLVED_CHUNK 명씩 나눠 조회) */
+    public void forEachSolved(Collection<String> learnerIds, Consumer<SolvedRow> consumer) {
+        List<String> ids = List.copyOf(learnerIds);
+        for (int from = 0; from < ids.size(); from += SOLVED_CHUNK) {
+            List<String> chunk = ids.subList(from, Math.min(from + SOLVED_CHUNK, ids.size()));
+            String placeholders = String.join(", ", Collections.nCopies(chunk.size(), "?"));
+            jdbcTemplate.query("SELECT learner_id, question_id FROM leaderboard_solved WHERE learner_id IN (" + placeholders + ")",
+                    (RowCallbackHandler) rs -> consumer.accept(new SolvedRow(rs.getString(1), rs.getLong(2))),
+                    chunk.toArray());
+        }
+    }
+
+    /** 점수와 반영한 문제를 한 트랜잭션으로 저장 (재시작 후 같은 문제로 다시 점수를 받지 않게) */
+    @Transactional
+    public void saveAll(List<ScoreRow> rows, List<SolvedRow> solved) {
+        if (!solved.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SOLVED, solved, solved.size(), (ps, r) -> {
+                ps.setString(1, r.learnerId());
+                ps.setLong(2, r.questionId());
+            });
+        }
+        if (!rows.isEmpty()) {
+            upsertAll(rows);
+        }
+    }
+
+    public void upsertAll(List<ScoreRow> rows) {
+        jdbcTemplate.batchUpdate(UPSERT, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ScoreRow r = rows.get(i);
+                Timestamp reachedAt = new Timestamp(r.reachedAt());
+                ps.setString(1, r.board());
+                ps.setString(2, r.learnerId());
+                ps.setString(3, r.nickname());
+                ps.setLong(4, r.score());
+                ps.setTimestamp(5, reachedAt);
+                ps.setString(6, r.nickname());
+                ps.setLong(7, r.score());
+                ps.setTimestamp(8, reachedAt);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return rows.size();
+            }
+        });
+    }
+
+    /**
+     * 보드 하나의 학습자 점수
+     * board: "subject:{id}" 또는 "lecture:{id}", reachedAt: 이 점수에 도달한 시각 (epoch millis)
+     */
+    public record ScoreRow(String board, String learnerId, String nickname, long score, long reachedAt) {
+    }
+
+    /** 학습자가 맞혀서 점수에 반영한 문제 (같은 문제는 한 번만 점수가 됨) */
+    public record SolvedRow(String learnerId, long questionId) {
+    }
+}
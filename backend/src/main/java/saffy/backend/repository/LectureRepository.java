@@ -1,9 +1,15 @@
 package saffy.backend.repository;
 
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 import saffy.backend.entity.Lecture;
 
 @Repository
 public interface LectureRepository extends JpaRepository<Lecture, Long> {
+
+    // (subject_id, unit, idx) 인덱스 순서 그대로 읽음 - 과목별로 연속된 구간이 됨
+    List<Lecture> findAllByOrderBySubject_IdAscUnitAscIdxAscIdAsc();
+
+    boolean existsBySubject_Id(Long subjectId);
 }
@@ -0,0 +1,106 @@
+package saffy.backend.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.stereotype.Repository;
+import saffy.backend.entity.Answer;
+import saffy.backend.entity.CompressedTextConverter;
+import saffy.backend.entity.Question;
+
+/**
+ * 문제/보기 대량 저장용 JDBC batch writer
+ * IDENTITY 키 때문에 Hibernate가 INSERT를 batch로 묶지 못하므로 JdbcTemplate으로 직접 묶어서 보냄
+ * (MySQL에서는 rewriteBatchedStatements=true 로 multi-row INSERT 한 번으로 전송됨)
+ * 내용/해설은 엔티티 매핑과 같은 CompressedTextConverter 를 거쳐 저장함
+ */
+@Repository
+@RequiredArgsConstructor
+public class QuestionBatchWriter {
+
+    /** 한 번에 보내는 문제 수 (보기는 이 문제들의 보기를 한 번에 보냄) */
+    static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_QUESTION =
+            "INSERT INTO questions (lecture_id, content, question_type, revision) VALUES (?, ?, ?, ?)";
+    private static final String INSERT_ANSWER =
+            "INSERT INTO answers (question_id, content, explanation, correct) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CompressedTextConverter textConverter;
+
+    /**
+     * 문제와 각 문제의 answers를 저장하고 생성된 ID를 엔티티에 채워 넣음
+     * 호출하는 쪽의 트랜잭션에 참여함
+     */
+    public void insertAll(long lectureId, List<Question> questions) {
+        for (int from = 0; from < questions.size(); from += BATCH_SIZE) {
+            List<Question> chunk = questions.subList(from, Math.min(from + BATCH_SIZE, questions.size()));
+            insertQuestions(lectureId, chunk);
+            insertAnswers(chunk);
+        }
+    }
+
+    private void insertQuestions(long lectureId, List<Question> chunk) {
+        GeneratedKeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                con -> con.prepareStatement(INSERT_QUESTION, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Question q = chunk.get(i);
+                        ps.setLong(1, lectureId);
+                        ps.setString(2, textConverter.convertToDatabaseColumn(q.getContent()));
+                        ps.setString(3, q.getQuestionType().name());
+                        ps.setLong(4, q.getRevision());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return chunk.size();
+                    }
+                },
+                keyHolder);
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        if (keys.size() != chunk.size()) {
+            throw new IllegalStateException("생성된 문제 ID 수가 맞지 않습니다: " + keys.size() + " / " + chunk.size());
+        }
+        for (int i = 0; i < chunk.size(); i++) {
+            chunk.get(i).setId(((Number) keys.get(i).values().iterator().next()).longValue());
+        }
+    }
+
+    private void insertAnswers(List<Question> chunk) {
+        List<Answer> answers = new ArrayList<>();
+        for (Question q : chunk) {
+            answers.addAll(q.getAnswers());
+        }
+        if (answers.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_ANSWER, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                Answer a = answers.get(i);
+                ps.setLong(1, a.getQuestion().getId());
+                ps.setString(2, textConverter.convertToDatabaseColumn(a.getContent()));
+                ps.setString(3, textConverter.convertToDatabaseColumn(a.getExplanation()));
+                ps.setBoolean(4, a.isCorrect());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return answers.size();
+            }
+        });
+    }
+}
@@ -1,13 +1,73 @@
 
 package saffy.backend.repository;
 
+import java.util.Collection;
 import java.util.List;
 import saffy.backend.entity.Question;
+import saffy.backend.entity.QuestionType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface QuestionRepository extends JpaRepository<Question, Long> {
-    List<Question> findByLecture_Id(Long lectureId);
+    // 강의(lecture)를 함께 fetch join 해서 문제마다 강의 SELECT가 나가지 않도록 함
+    @EntityGraph(attributePaths = "lecture")
+    List<Question> findByLecture_IdOrderByIdAsc(Long lectureId);
+
+    @EntityGraph(attributePaths = "lecture")
+    List<Question> findByLecture_IdInOrderByIdAsc(Collection<Long> lectureIds);
+
+    @EntityGraph(attributePaths = "lecture")
+    @Query("select q from Question q order by q.id")
+    List<Question> findAllWithLecture();
+
+    // id 기준 keyset 스크롤 (id > afterId 인 문제를 limit 개씩)
+    @EntityGraph(attributePaths = "lecture")
+    List<Question> findByIdGreaterThanOrderByIdAsc(Long afterId, Limit limit);
+
+    // 관리자 목록 keyset 페이지 (필터는 null 이면 적용 안 함)
+    @EntityGraph(attributePaths = "lecture")
+    @Query("""
+            select q from Question q
+            where q.id > :afterId
+              and (:lectureId is null or q.lecture.id = :lectureId)
+              and (:subjectId is null or q.lecture.subject.id = :subjectId)
+              and (:questionType is null or q.questionType = :questionType)
+            order by q.id""")
+    List<Question> findPage(@Param("afterId") Long afterId,
+                            @Param("subjectId") Long subjectId,
+                            @Param("lectureId") Long lectureId,
+                            @Param("questionType") QuestionType questionType,
+                            Limit limit);
+
     boolean existsByLectureId(Long lectureId);
+
+    // 대량 작업 대상 문제가 속한 강의 ID (변경 이벤트용)
+    @Query("select distinct q.lecture.id from Question q where q.id in :ids")
+    List<Long> findLectureIdsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 대량 삭제/이동: 엔티티를 읽지 않고 DELETE/UPDATE 한 번으로 처리 (보기는 AnswerRepository 에서 먼저 삭제)
+    @Modifying
+    @Query("delete from Question q where q.id in :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("delete from Question q where q.lecture.id = :lectureId")
+    int deleteByLectureId(@Param("lectureId") Long lectureId);
+
+    // 옮긴 문제는 옮겨간 강의에 새로 추가된 것으로 보고 리비전도 함께 갱신
+    @Modifying
+    @Query("update Question q set q.lecture.id = :toLectureId, q.revision = :revision where q.id in :ids")
+    int moveByIds(@Param("ids") Collection<Long> ids, @Param("toLectureId") Long toLectureId,
+                  @Param("revision") long revision);
+
+    @Modifying
+    @Query("update Question q set q.lecture.id = :toLectureId, q.revision = :revision where q.lecture.id = :fromLectureId")
+    int moveByLectureId(@Param("fromLectureId") Long fromLectureId, @Param("toLectureId") Long toLectureId,
+                        @Param("revision") long revision);
 }
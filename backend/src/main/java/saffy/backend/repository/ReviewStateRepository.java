@@ -0,0 +1,67 @@
+package saffy.backend.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 복습 일정(review_states) JDBC 접근
+ * 저장은 (learner_id, question_id) upsert 라서 같은 항목을 여러 번 저장해도 마지막 상태만 남음
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReviewStateRepository {
+
+    private static final String UPSERT =
+            "INSERT INTO review_states (learner_id, question_id, repetitions, interval_days, ease, due_at) "
+                    + "VALUES (?, ?, ?, ?, ?, ?) "
+                    + "ON DUPLICATE KEY UPDATE repetitions = ?, interval_days = ?, ease = ?, due_at = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<ReviewState> findByLearnerId(String learnerId) {
+        return jdbcTemplate.query(
+                "SELECT question_id, repetitions, interval_days, ease, due_at FROM review_states WHERE learner_id = ?",
+                (rs, i) -> new ReviewState(learnerId, rs.getLong(1), rs.getInt(2), rs.getInt(3), rs.getInt(4),
+                        rs.getTimestamp(5).getTime()),
+                learnerId);
+    }
+
+    public void upsertAll(List<ReviewState> states) {
+        jdbcTemplate.batchUpdate(UPSERT, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ReviewState s = states.get(i);
+                Timestamp due = new Timestamp(s.dueAt());
+                ps.setString(1, s.learnerId());
+                ps.setLong(2, s.questionId());
+                ps.setInt(3, s.repetitions());
+                ps.setInt(4, s.intervalDays());
+                ps.setInt(5, s.ease());
+                ps.setTimestamp(6, due);
+                ps.setInt(7, s.repetitions());
+                ps.setInt(8, s.intervalDays());
+                ps.setInt(9, s.ease());
+                ps.setTimestamp(10, due);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return states.size();
+            }
+        });
+    }
+
+    /**
+     * 학습자 한 명의 문제 하나에 대한 SM-2 상태
+     * ease: easiness factor x1000, dueAt: epoch millis
+     */
+    public record ReviewState(String learnerId, long questionId, int repetitions, int intervalDays, int ease,
+                              long dueAt) {
+    }
+}
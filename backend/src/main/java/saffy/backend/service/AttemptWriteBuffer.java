@@ -0,0 +1,132 @@
+package saffy.backend.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import saffy.backend.repository.AttemptBatchWriter;
+import saffy.backend.repository.AttemptBatchWriter.AttemptRecord;
+
+/**
+ * 채점 기록 write-behind 버퍼
+ * - 요청 스레드는 lock-free 큐에 넣기만 하고 바로 반환 (INSERT를 기다리지 않음)
+ * - 전용 스레드가 batchSize 개가 쌓이거나 flushInterval 이 지나면 JDBC batch 한 번으로 저장
+ * - 용량(capacity)을 넘으면 새 기록은 버리고 dropped 로 집계 (퀴즈 조회 DB를 보호하는 쪽을 우선)
+ */
+@Slf4j
+@Component
+public class AttemptWriteBuffer {
+
+    private final AttemptBatchWriter attemptBatchWriter;
+    private final int capacity;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+
+    private final ConcurrentLinkedQueue<AttemptRecord> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+
+    private volatile boolean running = true;
+    private Thread flusher;
+
+    public AttemptWriteBuffer(AttemptBatchWriter attemptBatchWriter,
+                              @Value("${quiz.attempts.buffer-capacity:10000}") int capacity,
+                              @Value("${quiz.attempts.batch-size:500}") int batchSize,
+                              @Value("${quiz.attempts.flush-interval-ms:1000}") long flushIntervalMs) {
+        this.attemptBatchWriter = attemptBatchWriter;
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+    }
+
+    @PostConstruct
+    void start() {
+        flusher = new Thread(this::runFlusher, "attempt-writer");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    /**
+     * 기록 추가 (버퍼가 가득 차면 false)
+     */
+    public boolean offer(AttemptRecord attempt) {
+        if (size.incrementAndGet() > capacity) {
+            size.decrementAndGet();
+            dropped.incrementAndGet();
+            return false;
+        }
+        queue.add(attempt);
+        if (size.get() >= batchSize) {
+            LockSupport.unpark(flusher);
+        }
+        return true;
+    }
+
+    public int pending() {
+        return size.get();
+    }
+
+    public long written() {
+        return written.get();
+    }
+
+    public long dropped() {
+        return dropped.get();
+    }
+
+    private void runFlusher() {
+        while (running) {
+            LockSupport.parkNanos(this, flushIntervalNanos);
+            try {
+                drain();
+            } catch (RuntimeException e) {
+                // DB 장애 시 남은 기록은 큐에 그대로 두고 다음 주기에 다시 시도
+                log.warn("채점 기록 저장 실패 (대기 {}건): {}", size.get(), e.getMessage());
+            }
+        }
+    }
+
+    /** 큐가 빌 때까지 batchSize 개씩 저장 */
+    void drain() {
+        List<AttemptRecord> batch = new ArrayList<>(batchSize);
+        while (true) {
+            AttemptRecord next;
+            while (batch.size() < batchSize && (next = queue.poll()) != null) {
+                batch.add(next);
+            }
+            if (batch.isEmpty()) {
+                return;
+            }
+            try {
+                attemptBatchWriter.insertAll(batch);
+            } catch (RuntimeException e) {
+                batch.forEach(queue::add); // 크기(size)는 아직 줄이지 않았으므로 그대로 되돌림
+                throw e;
+            }
+            size.addAndGet(-batch.size());
+            written.addAndGet(batch.size());
+            batch.clear();
+        }
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(flusher);
+        flusher.join(TimeUnit.SECONDS.toMillis(5));
+        try {
+            drain(); // 종료 전에 남은 기록 저장
+        } catch (RuntimeException e) {
+            log.warn("종료 중 채점 기록 {}건 저장 실패: {}", size.get(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package saffy.backend.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 메모리 캐시 적중/미스 카운터 (quiz.cache.requests{cache, result})
+ */
+final class CacheMetrics {
+
+    private static final String NAME = "quiz.cache.requests";
+
+    private CacheMetrics() {
+    }
+
+    static Counter hits(MeterRegistry registry, String cache) {
+        return counter(registry, cache, "hit");
+    }
+
+    static Counter misses(MeterRegistry registry, String cache) {
+        return counter(registry, cache, "miss");
+    }
+
+    private static Counter counter(MeterRegistry registry, String cache, String result) {
+        return Counter.builder(NAME)
+                .description("캐시 조회 결과")
+                .tags("cache", cache, "result", result)
+                .register(registry);
+    }
+}
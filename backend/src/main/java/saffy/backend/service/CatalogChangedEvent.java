@@ -0,0 +1,18 @@
+package saffy.backend.service;
+
+import java.util.Set;
+
+/**
+ * 관리자 쓰기(업로드/삭제/추가) 후 발행되는 카탈로그 변경 이벤트
+ * lectureIds: 문제 구성이 바뀐 강의 ID 목록 (비어 있으면 과목/강의 목록만 바뀐 경우)
+ */
+public record CatalogChangedEvent(Set<Long> lectureIds) {
+
+    public static CatalogChangedEvent ofLecture(Long lectureId) {
+        return new CatalogChangedEvent(Set.of(lectureId));
+    }
+
+    public static CatalogChangedEvent ofStructure() {
+        return new CatalogChangedEvent(Set.of());
+    }
+}
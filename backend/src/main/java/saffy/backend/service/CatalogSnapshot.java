@@ -0,0 +1,134 @@
+package saffy.backend.service;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import saffy.backend.dto.LectureDto;
+import saffy.backend.dto.QuestionDto;
+import saffy.backend.dto.SubjectDto;
+import saffy.backend.entity.QuestionType;
+
+/**
+ * 과목 → 강의 → 문제 → 보기 전체를 담는 불변 스냅샷
+ * 강의 ID 정렬 배열(lectureIds)과 같은 인덱스의 문제 목록 배열로 구성되어 이진 탐색으로 조회함
+ * 생성 후에는 절대 수정하지 않으며, 변경 시에는 새 스냅샷을 만들어 통째로 교체함
+ */
+public final class CatalogSnapshot {
+
+    private static final QuestionType[] TYPES = QuestionType.values();
+
+    private final long version;
+    private final long revision;                            // 스냅샷을 만들 때의 카탈로그 리비전
+    private final List<SubjectDto> subjects;
+    private final List<LectureDto> lectures;
+    private final long[] subjectIds;                        // 정렬된 과목 ID
+    private final Map<Long, List<LectureDto>> lecturesBySubject;
+    private final long[] lectureIds;
+    private final long[] lectureRevisions;                  // lectureIds 와 같은 인덱스
+    private final List<QuestionDto>[] questionsByLecture;
+
+    // 문제 뽑기용: [강의 인덱스][문제 유형 ordinal] → 문제 ID 배열
+    private final long[][][] questionIdsByLectureAndType;
+
+    // 문제 ID 정렬 배열과 같은 인덱스의 문제
+    private final long[] questionIds;
+    private final QuestionDto[] questionsById;
+
+    CatalogSnapshot(long version, long revision, List<SubjectDto> subjects, List<LectureDto> lectures,
+                    Map<Long, List<LectureDto>> lecturesBySubject,
+                    long[] lectureIds, long[] lectureRevisions, List<QuestionDto>[] questionsByLecture) {
+        this.version = version;
+        this.revision = revision;
+        this.subjects = List.copyOf(subjects);
+        this.lectures = List.copyOf(lectures);
+        this.subjectIds = subjects.stream().mapToLong(SubjectDto::getId).sorted().toArray();
+        Map<Long, List<LectureDto>> bySubject = new HashMap<>();
+        lecturesBySubject.forEach((subjectId, list) -> bySubject.put(subjectId, List.copyOf(list)));
+        this.lecturesBySubject = bySubject;
+        this.lectureIds = lectureIds;
+        this.lectureRevisions = lectureRevisions;
+        this.questionsByLecture = questionsByLecture;
+
+        int total = 0;
+        this.questionIdsByLectureAndType = new long[lectureIds.length][][];
+        for (int i = 0; i < lectureIds.length; i++) {
+            List<QuestionDto> questions = questionsByLecture[i];
+            total += questions.size();
+
+            long[][] byType = new long[TYPES.length][];
+            for (QuestionType type : TYPES) {
+                byType[type.ordinal()] = questions.stream()
+                        .filter(q -> q.getQuestionType() == type)
+                        .mapToLong(QuestionDto::getId)
+                        .toArray();
+            }
+            questionIdsByLectureAndType[i] = byType;
+        }
+
+        QuestionDto[] all = new QuestionDto[total];
+        int n = 0;
+        for (List<QuestionDto> questions : questionsByLecture) {
+            for (QuestionDto q : questions) {
+                all[n++] = q;
+            }
+        }
+        Arrays.sort(all, (a, b) -> Long.compare(a.getId(), b.getId()));
+        this.questionsById = all;
+        this.questionIds = Arrays.stream(all).mapToLong(QuestionDto::getId).toArray();
+    }
+
+    public long version() {
+        return version;
+    }
+
+    /** 카탈로그 리비전 (관리자 쓰기마다 증가) */
+    public long revision() {
+        return revision;
+    }
+
+    public List<SubjectDto> subjects() {
+        return subjects;
+    }
+
+    /** 정렬된 강의 목록 */
+    public List<LectureDto> lectures() {
+        return lectures;
+    }
+
+    /** 과목의 강의 목록, 단원-번호 순 (과목이 없으면 null) */
+    public List<LectureDto> lecturesOf(long subjectId) {
+        if (Arrays.binarySearch(subjectIds, subjectId) < 0) {
+            return null;
+        }
+        return lecturesBySubject.getOrDefault(subjectId, List.of());
+    }
+
+    public boolean hasLecture(long lectureId) {
+        return Arrays.binarySearch(lectureIds, lectureId) >= 0;
+    }
+
+    /** 강의 또는 강의의 문제가 마지막으로 바뀐 리비전 (강의가 없으면 -1) */
+    public long lectureRevision(long lectureId) {
+        int idx = Arrays.binarySearch(lectureIds, lectureId);
+        return idx >= 0 ? lectureRevisions[idx] : -1;
+    }
+
+    /** 강의별 문제 목록 (강의가 없으면 null) */
+    public List<QuestionDto> questionsOf(long lectureId) {
+        int idx = Arrays.binarySearch(lectureIds, lectureId);
+        return idx >= 0 ? questionsByLecture[idx] : null;
+    }
+
+    /** 강의의 해당 유형 문제 ID 배열 (강의가 없으면 빈 배열, 수정 금지) */
+    long[] questionIdsOf(long lectureId, QuestionType type) {
+        int idx = Arrays.binarySearch(lectureIds, lectureId);
+        return idx >= 0 ? questionIdsByLectureAndType[idx][type.ordinal()] : new long[0];
+    }
+
+    /** 문제 ID로 조회 (없으면 null) */
+    public QuestionDto question(long questionId) {
+        int idx = Arrays.binarySearch(questionIds, questionId);
+        return idx >= 0 ? questionsById[idx] : null;
+    }
+}
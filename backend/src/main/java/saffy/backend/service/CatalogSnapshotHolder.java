@@ -0,0 +1,178 @@
+package saffy.backend.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import saffy.backend.config.ReplicaRoutingDataSource;
+import saffy.backend.dto.LectureDto;
+import saffy.backend.dto.QuestionDto;
+import saffy.backend.dto.SubjectDto;
+import saffy.backend.entity.Lecture;
+import saffy.backend.entity.Question;
+import saffy.backend.repository.CatalogRevisionRepository;
+import saffy.backend.repository.LectureRepository;
+import saffy.backend.repository.QuestionRepository;
+import saffy.backend.repository.SubjectRepository;
+
+/**
+ * 학생용 조회 API가 사용하는 카탈로그 스냅샷 보관소
+ * - 최초 조회 시 DB 전체를 한 번 읽어서 스냅샷 생성
+ * - 관리자 쓰기가 커밋되면 바뀐 강의만 다시 읽고 나머지는 이전 스냅샷의 목록을 재사용(copy-on-write)
+ * - 읽기는 volatile 참조 하나만 읽으므로 DB/트랜잭션 없이 처리됨
+ * - 적중/미스(DB에서 새로 읽음) 횟수는 quiz.cache.requests{cache=catalog-snapshot} 로 기록
+ */
+@Slf4j
+@Component
+public class CatalogSnapshotHolder {
+
+    /** 강의 "단원-번호" 기준 정렬 (생성 시 저장해 둔 unit/idx 사용, 같으면 ID 순) */
+    static final Comparator<Lecture> LECTURE_ORDER = Comparator.comparingInt(Lecture::getUnit)
+            .thenComparingInt(Lecture::getIdx)
+            .thenComparing(Lecture::getId);
+
+    private final SubjectRepository subjectRepository;
+    private final LectureRepository lectureRepository;
+    private final QuestionRepository questionRepository;
+    private final QuestionAssembler questionAssembler;
+    private final CatalogRevisionRepository catalogRevisionRepository;
+    private final TransactionTemplate loadTransaction;
+    private final Counter hits;
+    private final Counter misses;
+
+    private final Object refreshLock = new Object();
+    private volatile CatalogSnapshot current;
+    private long version; // refreshLock 안에서만 증가
+
+    public CatalogSnapshotHolder(SubjectRepository subjectRepository,
+                                 LectureRepository lectureRepository,
+                                 QuestionRepository questionRepository,
+                                 QuestionAssembler questionAssembler,
+                                 CatalogRevisionRepository catalogRevisionRepository,
+                                 PlatformTransactionManager transactionManager,
+                                 MeterRegistry meterRegistry) {
+        this.subjectRepository = subjectRepository;
+        this.lectureRepository = lectureRepository;
+        this.questionRepository = questionRepository;
+        this.questionAssembler = questionAssembler;
+        this.catalogRevisionRepository = catalogRevisionRepository;
+
+        // 커밋 후(afterCommit) 콜백에서도 호출되므로 항상 별도 트랜잭션으로 읽음
+        this.loadTransaction = new TransactionTemplate(transactionManager);
+        this.loadTransaction.setReadOnly(true);
+        this.loadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        this.hits = CacheMetrics.hits(meterRegistry, "catalog-snapshot");
+        this.misses = CacheMetrics.misses(meterRegistry, "catalog-snapshot");
+    }
+
+    /** 현재 스냅샷 (없으면 DB에서 읽어서 생성) */
+    public CatalogSnapshot get() {
+        CatalogSnapshot snapshot = current;
+        if (snapshot != null) {
+            hits.increment();
+            return snapshot;
+        }
+        synchronized (refreshLock) {
+            if (current == null) {
+                misses.increment();
+                current = build(null, Set.of());
+            }
+            return current;
+        }
+    }
+
+    /**
+     * 관리자 쓰기가 커밋된 뒤 스냅샷 교체
+     */
+    @Order(0)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        synchronized (refreshLock) {
+            CatalogSnapshot previous = current;
+            if (previous == null) {
+                return; // 아직 만들어진 적이 없으면 다음 조회 때 새로 읽음
+            }
+            try {
+                current = build(previous, event.lectureIds());
+            } catch (RuntimeException e) {
+                // 오래된 스냅샷을 계속 내보내지 않도록 비워두고 다음 조회 때 전체를 다시 읽음
+                log.warn("카탈로그 스냅샷 갱신 실패, 다음 조회 시 다시 읽습니다: {}", e.getMessage());
+                current = null;
+            }
+        }
+    }
+
+    private CatalogSnapshot build(CatalogSnapshot previous, Set<Long> changedLectureIds) {
+        // 복제 지연으로 방금 커밋된 변경이 빠진 스냅샷이 만들어지지 않도록 항상 primary 에서 읽음
+        return ReplicaRoutingDataSource.usePrimary(() -> loadTransaction.execute(status -> {
+            // 리비전을 먼저 읽음: 이후 커밋된 변경은 다음 갱신 때 더 큰 리비전으로 반영됨
+            long revision = catalogRevisionRepository.current();
+            List<SubjectDto> subjects = subjectRepository.findAll().stream()
+                    .map(questionAssembler::toSubjectDto)
+                    .toList();
+            // 과목별 목록은 DB 인덱스 순서 그대로, 전체 목록은 단원-번호 순으로 다시 정렬
+            List<Lecture> lectureEntities = lectureRepository.findAllByOrderBySubject_IdAscUnitAscIdxAscIdAsc();
+            Map<Long, List<LectureDto>> lecturesBySubject = lectureEntities.stream()
+                    .map(questionAssembler::toLectureDto)
+                    .collect(Collectors.groupingBy(LectureDto::getSubjectId, LinkedHashMap::new, Collectors.toList()));
+            List<LectureDto> lectures = lectureEntities.stream()
+                    .sorted(LECTURE_ORDER)
+                    .map(questionAssembler::toLectureDto)
+                    .toList();
+
+            Lecture[] byId = lectureEntities.stream()
+                    .sorted(Comparator.comparing(Lecture::getId))
+                    .toArray(Lecture[]::new);
+            long[] lectureIds = Arrays.stream(byId).mapToLong(Lecture::getId).toArray();
+            long[] lectureRevisions = Arrays.stream(byId).mapToLong(Lecture::getRevision).toArray();
+
+            // 새로 읽어야 하는 강의: 최초 생성, 변경된 강의, 새로 생긴 강의, 리비전이 이전 스냅샷과 다른 강의
+            // (이벤트 없이 커밋된 변경 - 가져오기 중간 청크, 다른 트랜잭션의 커밋 - 도 같은 트랜잭션에서 문제 목록과 함께 읽음)
+            Set<Long> toLoad = new HashSet<>();
+            for (int i = 0; i < lectureIds.length; i++) {
+                long id = lectureIds[i];
+                if (previous == null || changedLectureIds.contains(id) || !previous.hasLecture(id)
+                        || previous.lectureRevision(id) != lectureRevisions[i]) {
+                    toLoad.add(id);
+                }
+            }
+
+            List<Question> questions;
+            if (previous == null) {
+                questions = questionRepository.findAllWithLecture();
+            } else if (!toLoad.isEmpty()) {
+                questions = questionRepository.findByLecture_IdInOrderByIdAsc(toLoad);
+            } else {
+                questions = List.of();
+            }
+            Map<Long, List<QuestionDto>> loaded = questionAssembler.toQuestionDtos(questions).stream()
+                    .collect(Collectors.groupingBy(q -> q.getLecture().getId()));
+
+            @SuppressWarnings("unchecked")
+            List<QuestionDto>[] questionsByLecture = new List[lectureIds.length];
+            for (int i = 0; i < lectureIds.length; i++) {
+                long lectureId = lectureIds[i];
+                questionsByLecture[i] = toLoad.contains(lectureId)
+                        ? List.copyOf(loaded.getOrDefault(lectureId, List.of()))
+                        : previous.questionsOf(lectureId);
+            }
+
+            return new CatalogSnapshot(++version, revision, subjects, lectures, lecturesBySubject,
+                    lectureIds, lectureRevisions, questionsByLecture);
+        }));
+    }
+}
@@ -0,0 +1,99 @@
+package saffy.backend.service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import saffy.backend.dto.CatalogSyncDto;
+import saffy.backend.dto.LectureDto;
+import saffy.backend.dto.LectureSyncDto;
+import saffy.backend.dto.QuestionDto;
+import saffy.backend.repository.CatalogRevisionRepository;
+
+/**
+ * 리비전 기반 변경분 동기화
+ * - 바뀐 것이 없으면 스냅샷의 리비전만 비교하고 끝남 (DB 조회 없음)
+ * - 바뀐 강의는 (since, 스냅샷 리비전] 사이의 추가/삭제 문제 ID를 DB에서 읽고 내용은 스냅샷에서 꺼냄
+ *   스냅샷보다 나중에 커밋된 변경은 다음 동기화 때 받음
+ * - 트랜잭션 없이 읽으므로 복제본이 아닌 primary 에서 읽음 (스냅샷과 같은 시점 기준)
+ * - since 가 서버 리비전보다 크면(DB 복원 등으로 리비전이 되돌아간 경우) 전체를 다시 보냄
+ */
+@Service
+@RequiredArgsConstructor
+public class CatalogSyncService {
+
+    private final CatalogSnapshotHolder catalogSnapshotHolder;
+    private final CatalogRevisionRepository catalogRevisionRepository;
+
+    public CatalogSyncDto syncCatalog(long since) {
+        CatalogSnapshot snapshot = catalogSnapshotHolder.get();
+        if (since == snapshot.revision()) {
+            return CatalogSyncDto.builder().revision(snapshot.revision()).changed(false).build();
+        }
+
+        Map<Long, Long> lectureRevisions = new LinkedHashMap<>();
+        for (LectureDto lecture : snapshot.lectures()) {
+            lectureRevisions.put(lecture.getId(), snapshot.lectureRevision(lecture.getId()));
+        }
+        return CatalogSyncDto.builder()
+                .revision(snapshot.revision())
+                .changed(true)
+                .subjects(snapshot.subjects())
+                .lectures(snapshot.lectures())
+                .lectureRevisions(lectureRevisions)
+                .build();
+    }
+
+    /**
+     * 강의 변경분 (강의가 없으면 IllegalArgumentException)
+     */
+    public LectureSyncDto syncLecture(long lectureId, long since) {
+        CatalogSnapshot snapshot = catalogSnapshotHolder.get();
+        List<QuestionDto> questions = snapshot.questionsOf(lectureId);
+        if (questions == null) {
+            throw new IllegalArgumentException("해당 ID의 강의를 찾을 수 없습니다: " + lectureId);
+        }
+
+        long revision = snapshot.lectureRevision(lectureId);
+        if (since > 0 && since == revision) {
+            return LectureSyncDto.builder().lectureId(lectureId).revision(revision).changed(false).build();
+        }
+        if (since <= 0 || since > revision) {
+            return LectureSyncDto.builder()
+                    .lectureId(lectureId)
+                    .revision(revision)
+                    .changed(true)
+                    .full(true)
+                    .questions(questions)
+                    .deletedQuestionIds(List.of())
+                    .build();
+        }
+
+        Set<Long> added = new HashSet<>(catalogRevisionRepository.findAddedQuestionIds(lectureId, since, revision));
+        Set<Long> current = new HashSet<>();
+        List<QuestionDto> upserted = new ArrayList<>();
+        for (QuestionDto q : questions) {
+            current.add(q.getId());
+            if (added.contains(q.getId())) {
+                upserted.add(q);
+            }
+        }
+        // 빠졌다가 다시 들어온 문제(다른 강의로 옮겼다가 되돌린 경우)는 삭제로 보내지 않음
+        List<Long> deleted = catalogRevisionRepository.findRemovedQuestionIds(lectureId, since, revision).stream()
+                .filter(id -> !current.contains(id))
+                .toList();
+
+        return LectureSyncDto.builder()
+                .lectureId(lectureId)
+                .revision(revision)
+                .changed(true)
+                .full(false)
+                .questions(upserted)
+                .deletedQuestionIds(deleted)
+                .build();
+    }
+}
@@ -0,0 +1,140 @@
+package saffy.backend.service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import saffy.backend.dto.AnswerDto;
+import saffy.backend.dto.GradingResultDto;
+import saffy.backend.dto.QuestionDto;
+import saffy.backend.dto.SubmissionDto;
+import saffy.backend.entity.QuestionType;
+import saffy.backend.repository.AttemptBatchWriter.AttemptRecord;
+
+/**
+ * 답안 채점
+ * 스냅샷의 보기 정답 여부(Answer.correct)로 채점하고, 기록/복습 일정은 버퍼에 넣기만 함
+ * (요청 스레드에서 DB를 사용하지 않음)
+ * 제출 전체를 확인하고 채점한 뒤에 기록하므로, 거절된 제출은 아무것도 남기지 않음
+ */
+@Service
+@RequiredArgsConstructor
+public class GradingService {
+
+    static final int MAX_ANSWERS = 200;
+    static final int MAX_LEARNER_ID_LENGTH = 64;
+    static final int MAX_TEXT_LENGTH = 255;
+
+    private final CatalogSnapshotHolder catalogSnapshotHolder;
+    private final AttemptWriteBuffer attemptWriteBuffer;
+    private final ItemStatsService itemStatsService;
+    private final ReviewScheduler reviewScheduler;
+    private final LeaderboardService leaderboardService;
+
+    public GradingResultDto grade(SubmissionDto submission) {
+        List<SubmissionDto.SubmittedAnswer> answers = submission.getAnswers();
+        if (answers == null || answers.isEmpty()) {
+            throw new IllegalArgumentException("제출한 답안이 없습니다.");
+        }
+        if (answers.size() > MAX_ANSWERS) {
+            throw new IllegalArgumentException("한 번에 최대 " + MAX_ANSWERS + "문제까지 제출할 수 있습니다.");
+        }
+        String learnerId = submission.getLearnerId();
+        if (learnerId != null && learnerId.length() > MAX_LEARNER_ID_LENGTH) {
+            throw new IllegalArgumentException("learnerId가 너무 깁니다.");
+        }
+        String nickname = LeaderboardService.normalizeNickname(submission.getNickname());
+
+        // 1. 문제 확인: 없는 문제나 같은 문제가 두 번 있으면 아무것도 기록하지 않고 거절
+        CatalogSnapshot snapshot = catalogSnapshotHolder.get();
+        List<QuestionDto> questions = new ArrayList<>(answers.size());
+        Set<Long> seen = new HashSet<>(answers.size() * 2);
+        for (SubmissionDto.SubmittedAnswer answer : answers) {
+            QuestionDto question = (answer.getQuestionId() != null) ? snapshot.question(answer.getQuestionId()) : null;
+            if (question == null) {
+                throw new IllegalArgumentException("해당 ID의 문제를 찾을 수 없습니다: " + answer.getQuestionId());
+            }
+            if (!seen.add(question.getId())) {
+                throw new IllegalArgumentException("같은 문제를 두 번 제출했습니다: " + question.getId());
+            }
+            questions.add(question);
+        }
+
+        // 2. 채점
+        boolean[] correct = new boolean[answers.size()];
+        List<GradingResultDto.GradedQuestion> results = new ArrayList<>(answers.size());
+        List<QuestionDto> correctQuestions = new ArrayList<>();
+        for (int i = 0; i < answers.size(); i++) {
+            QuestionDto question = questions.get(i);
+            correct[i] = isCorrect(question, answers.get(i));
+            if (correct[i]) {
+                correctQuestions.add(question);
+            }
+            results.add(GradingResultDto.GradedQuestion.builder()
+                    .questionId(question.getId())
+                    .correct(correct[i])
+                    .answers(question.getAnswers())
+                    .explanation(question.getExplanation())
+                    .build());
+        }
+
+        // 3. 기록 (채점이 모두 끝난 뒤 한 번에)
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < answers.size(); i++) {
+            QuestionDto question = questions.get(i);
+            SubmissionDto.SubmittedAnswer answer = answers.get(i);
+            attemptWriteBuffer.offer(new AttemptRecord(learnerId, question.getId(), answer.getAnswerId(),
+                    truncate(answer.getText()), correct[i], now));
+            itemStatsService.record(question.getId(), selectedChoice(question, answer), correct[i]);
+            reviewScheduler.record(learnerId, question.getId(), correct[i], now);
+        }
+        leaderboardService.record(learnerId, nickname, correctQuestions, now);
+
+        return GradingResultDto.builder()
+                .total(results.size())
+                .correct(correctQuestions.size())
+                .results(results)
+                .build();
+    }
+
+    static boolean isCorrect(QuestionDto question, SubmissionDto.SubmittedAnswer answer) {
+        if (question.getQuestionType() == QuestionType.SHORT_ANSWER) {
+            if (answer.getText() == null) {
+                return false;
+            }
+            String submitted = normalize(answer.getText());
+            return question.getAnswers().stream()
+                    .filter(AnswerDto::isCorrect)
+                    .anyMatch(a -> normalize(a.getContent()).equals(submitted));
+        }
+        if (answer.getAnswerId() == null) {
+            return false;
+        }
+        return question.getAnswers().stream()
+                .anyMatch(a -> a.isCorrect() && a.getId().equals(answer.getAnswerId()));
+    }
+
+    /** 선택한 보기 ID (주관식이거나 이 문제의 보기가 아니면 null - 보기 분포에 넣지 않음) */
+    private static Long selectedChoice(QuestionDto question, SubmissionDto.SubmittedAnswer answer) {
+        if (question.getQuestionType() == QuestionType.SHORT_ANSWER || answer.getAnswerId() == null) {
+            return null;
+        }
+        return question.getAnswers().stream()
+                .anyMatch(a -> a.getId().equals(answer.getAnswerId())) ? answer.getAnswerId() : null;
+    }
+
+    /** 주관식 비교용: 앞뒤 공백 제거, 연속 공백 하나로, 대소문자 무시 */
+    private static String normalize(String text) {
+        return text.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    private static String truncate(String text) {
+        if (text == null || text.length() <= MAX_TEXT_LENGTH) {
+            return text;
+        }
+        return text.substring(0, MAX_TEXT_LENGTH);
+    }
+}
@@ -0,0 +1,73 @@
+package saffy.backend.service;
+
+import java.util.Locale;
+
+/**
+ * 캐시용 요청 헤더 해석 (문자열 포함 여부가 아니라 항목 단위로 비교)
+ * - Accept-Encoding: "gzip;q=0" 처럼 명시적으로 거절한 경우는 gzip 불가, "*" 는 gzip 을 따로 거절하지 않았을 때만 허용
+ * - If-None-Match: 쉼표로 나눈 ETag 가 정확히 같은지 (약한 비교, "*" 는 항상 일치)
+ */
+public final class HttpConditionals {
+
+    private HttpConditionals() {
+    }
+
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return false;
+        }
+        Double gzip = null;
+        Double wildcard = null;
+        for (String token : acceptEncoding.split(",")) {
+            String[] parts = token.split(";");
+            String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            double q = quality(parts);
+            if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                gzip = (gzip == null) ? q : Math.max(gzip, q);
+            } else if (coding.equals("*")) {
+                wildcard = q;
+            }
+        }
+        if (gzip != null) {
+            return gzip > 0;
+        }
+        return wildcard != null && wildcard > 0;
+    }
+
+    public static boolean etagMatches(String ifNoneMatch, String... etags) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String tag : ifNoneMatch.split(",")) {
+            String trimmed = tag.trim();
+            if (trimmed.startsWith("W/")) {
+                trimmed = trimmed.substring(2);
+            }
+            if (trimmed.equals("*")) {
+                return true;
+            }
+            for (String etag : etags) {
+                if (trimmed.equals(etag)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /** q 파라미터 (없으면 1, 잘못된 값이면 0 으로 보고 거절) */
+    private static double quality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String param = parts[i].trim();
+            if (param.length() > 2 && (param.charAt(0) == 'q' || param.charAt(0) == 'Q') && param.charAt(1) == '=') {
+                try {
+                    double q = Double.parseDouble(param.substring(2).trim());
+                    return (q >= 0 && q <= 1) ? q : 0;
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,271 @@
+package saffy.backend.service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import saffy.backend.dto.AnswerDto;
+import saffy.backend.dto.QuestionDto;
+import saffy.backend.dto.QuestionStatsDto;
+import saffy.backend.repository.ItemStatsRepository;
+import saffy.backend.repository.ItemStatsRepository.ChoiceDelta;
+import saffy.backend.repository.ItemStatsRepository.QuestionDelta;
+
+/**
+ * 문항 분석 통계 (문제별 정답률, 보기별 선택 분포)
+ * - 채점할 때마다 문제/보기별 LongAdder 카운터를 올림 (lock 없음)
+ * - 카운터마다 누적값(total)과 아직 저장하지 않은 증가분(pending)을 따로 두고,
+ *   주기적으로 pending 만 꺼내서(sumThenReset) 통계 테이블에 더함
+ * - 재시작 시 통계 테이블을 읽어 누적값을 복원 (attempts 를 GROUP BY 하지 않음)
+ * - 카탈로그가 바뀌면 삭제된 문제의 카운터와 통계 행을 지움
+ */
+@Slf4j
+@Service
+public class ItemStatsService {
+
+    private final ItemStatsRepository itemStatsRepository;
+    private final CatalogSnapshotHolder catalogSnapshotHolder;
+
+    private final Map<Long, QuestionCounters> counters = new ConcurrentHashMap<>();
+    private volatile boolean loaded;
+
+    public ItemStatsService(ItemStatsRepository itemStatsRepository, CatalogSnapshotHolder catalogSnapshotHolder) {
+        this.itemStatsRepository = itemStatsRepository;
+        this.catalogSnapshotHolder = catalogSnapshotHolder;
+    }
+
+    /**
+     * 채점 결과 반영
+     * answerId: 선택한 보기 ID (해당 문제의 보기가 아니거나 주관식이면 null)
+     */
+    public void record(long questionId, Long answerId, boolean correct) {
+        QuestionCounters c = counters.computeIfAbsent(questionId, id -> new QuestionCounters());
+        c.attempts.add(1);
+        if (correct) {
+            c.correct.add(1);
+        }
+        if (answerId != null) {
+            c.choice(answerId).add(1);
+        }
+    }
+
+    public QuestionStatsDto getStats(QuestionDto question) {
+        QuestionCounters c = counters.get(question.getId());
+        long attempts = (c != null) ? c.attempts.total() : 0;
+        long correct = (c != null) ? c.correct.total() : 0;
+
+        List<QuestionStatsDto.ChoiceStats> choices = new ArrayList<>(question.getAnswers().size());
+        long bestCorrect = 0;
+        long bestWrong = 0;
+        for (AnswerDto a : question.getAnswers()) {
+            Counter choice = (c != null) ? c.choices.get(a.getId()) : null;
+            long selections = (choice != null) ? choice.total() : 0;
+            if (a.isCorrect()) {
+                bestCorrect = Math.max(bestCorrect, selections);
+            } else {
+                bestWrong = Math.max(bestWrong, selections);
+            }
+            choices.add(QuestionStatsDto.ChoiceStats.builder()
+                    .answerId(a.getId())
+                    .correct(a.isCorrect())
+                    .selections(selections)
+                    .selectionRate(rate(selections, attempts))
+                    .build());
+        }
+
+        return QuestionStatsDto.builder()
+                .questionId(question.getId())
+                .attempts(attempts)
+                .correct(correct)
+                .correctRate(rate(correct, attempts))
+                .distractorWins(bestWrong > bestCorrect)
+                .choices(choices)
+                .build();
+    }
+
+    /** 문제 하나의 통계 (문제가 없으면 IllegalArgumentException) */
+    public QuestionStatsDto getQuestionStats(long questionId) {
+        QuestionDto question = catalogSnapshotHolder.get().question(questionId);
+        if (question == null) {
+            throw new IllegalArgumentException("해당 ID의 문제를 찾을 수 없습니다: " + questionId);
+        }
+        return getStats(question);
+    }
+
+    /** 강의의 문제별 통계 (강의가 없으면 IllegalArgumentException) */
+    public List<QuestionStatsDto> getLectureStats(long lectureId) {
+        List<QuestionDto> questions = catalogSnapshotHolder.get().questionsOf(lectureId);
+        if (questions == null) {
+            throw new IllegalArgumentException("해당 ID의 강의를 찾을 수 없습니다: " + lectureId);
+        }
+        return questions.stream().map(this::getStats).toList();
+    }
+
+    private static double rate(long part, long whole) {
+        return (whole == 0) ? 0 : (double) part / whole;
+    }
+
+    /**
+     * 관리자 쓰기가 커밋되고 스냅샷이 교체된 뒤, 스냅샷에 없는(삭제된) 문제의 카운터와 통계 행을 지움
+     * (지우지 않으면 저장하지 않은 증가분과 재시작 때 복원한 값이 계속 남음)
+     */
+    @Order(5)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        try {
+            CatalogSnapshot snapshot = catalogSnapshotHolder.get();
+            Set<Long> deleted = new HashSet<>();
+            counters.keySet().removeIf(questionId -> snapshot.question(questionId) == null && deleted.add(questionId));
+            if (!deleted.isEmpty()) {
+                itemStatsRepository.deleteByQuestionIds(deleted);
+                log.info("삭제된 문제 {}개의 문항 통계를 지웠습니다", deleted.size());
+            }
+        } catch (RuntimeException e) {
+            log.warn("삭제된 문제의 문항 통계 정리 실패, 다음 변경 때 다시 정리합니다: {}", e.getMessage());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        load();
+    }
+
+    /** 통계 테이블의 누적값을 메모리 카운터에 더함 (성공할 때까지 flush 주기마다 재시도) */
+    synchronized void load() {
+        if (loaded) {
+            return;
+        }
+        try {
+            Map<Long, QuestionCounters> base = new ConcurrentHashMap<>();
+            itemStatsRepository.forEachQuestionStats((questionId, attempts, correct) -> {
+                QuestionCounters c = base.computeIfAbsent(questionId, id -> new QuestionCounters());
+                c.attempts.base(attempts);
+                c.correct.base(correct);
+            });
+            itemStatsRepository.forEachChoiceStats((answerId, questionId, selections) ->
+                    base.computeIfAbsent(questionId, id -> new QuestionCounters()).choice(answerId).base(selections));
+
+            base.forEach((questionId, b) -> {
+                QuestionCounters c = counters.computeIfAbsent(questionId, id -> new QuestionCounters());
+                c.attempts.base(b.attempts.total());
+                c.correct.base(b.correct.total());
+                b.choices.forEach((answerId, choice) -> c.choice(answerId).base(choice.total()));
+            });
+            loaded = true;
+            log.info("문항 통계 복원 완료: {}문제", base.size());
+        } catch (RuntimeException e) {
+            log.warn("문항 통계 복원 실패, 다음 주기에 다시 시도합니다: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 아직 저장하지 않은 증가분을 통계 테이블에 더함
+     */
+    @Scheduled(fixedDelayString = "${quiz.stats.flush-interval-ms:10000}")
+    public void flush() {
+        if (!loaded) {
+            load();
+        }
+
+        List<QuestionDelta> questionDeltas = new ArrayList<>();
+        List<ChoiceDelta> choiceDeltas = new ArrayList<>();
+        counters.forEach((questionId, c) -> {
+            long attempts = c.attempts.takePending();
+            long correct = c.correct.takePending();
+            if (attempts != 0 || correct != 0) {
+                questionDeltas.add(new QuestionDelta(questionId, attempts, correct));
+            }
+            c.choices.forEach((answerId, choice) -> {
+                long selections = choice.takePending();
+                if (selections != 0) {
+                    choiceDeltas.add(new ChoiceDelta(answerId, questionId, selections));
+                }
+            });
+        });
+        if (questionDeltas.isEmpty() && choiceDeltas.isEmpty()) {
+            return;
+        }
+
+        // 저장하지 못한 증가분은 pending 에 되돌려 다음 주기에 다시 반영
+        // (문제 batch와 보기 batch를 따로 되돌려서 이미 저장된 쪽이 중복 반영되지 않도록 함)
+        try {
+            if (!questionDeltas.isEmpty()) {
+                itemStatsRepository.addQuestionDeltas(questionDeltas);
+            }
+        } catch (RuntimeException e) {
+            log.warn("문항 통계 저장 실패, 다음 주기에 다시 시도합니다: {}", e.getMessage());
+            for (QuestionDelta d : questionDeltas) {
+                QuestionCounters c = counters.get(d.questionId());
+                if (c != null) { // 그 사이 삭제된 문제는 버림
+                    c.attempts.restorePending(d.attempts());
+                    c.correct.restorePending(d.correct());
+                }
+            }
+        }
+        try {
+            if (!choiceDeltas.isEmpty()) {
+                itemStatsRepository.addChoiceDeltas(choiceDeltas);
+            }
+        } catch (RuntimeException e) {
+            log.warn("보기 통계 저장 실패, 다음 주기에 다시 시도합니다: {}", e.getMessage());
+            for (ChoiceDelta d : choiceDeltas) {
+                QuestionCounters c = counters.get(d.questionId());
+                if (c != null) {
+                    c.choice(d.answerId()).restorePending(d.selections());
+                }
+            }
+        }
+    }
+
+    /** 문제 하나의 카운터 묶음 */
+    private static final class QuestionCounters {
+        private final Counter attempts = new Counter();
+        private final Counter correct = new Counter();
+        private final Map<Long, Counter> choices = new ConcurrentHashMap<>();
+
+        private Counter choice(long answerId) {
+            return choices.computeIfAbsent(answerId, id -> new Counter());
+        }
+    }
+
+    /**
+     * 누적값 = base(저장소에서 읽은 값) + 서버 시작 후 증가분
+     * pending = 아직 저장소에 반영하지 않은 증가분
+     */
+    private static final class Counter {
+        private final LongAdder base = new LongAdder();
+        private final LongAdder increments = new LongAdder();
+        private final LongAdder pending = new LongAdder();
+
+        private void add(long n) {
+            increments.add(n);
+            pending.add(n);
+        }
+
+        private void base(long n) {
+            base.add(n);
+        }
+
+        private long total() {
+            return base.sum() + increments.sum();
+        }
+
+        private long takePending() {
+            return pending.sumThenReset();
+        }
+
+        private void restorePending(long n) {
+            pending.add(n);
+        }
+    }
+}
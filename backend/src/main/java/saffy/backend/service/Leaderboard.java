@@ -0,0 +1,308 @@
+package saffy.backend.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import saffy.backend.repository.LeaderboardRepository.ScoreRow;
+
+/**
+ * 보드 하나(과목 또는 강의)의 순위표 - 크기(subtree size)를 들고 있는 treap
+ * - 순서: 점수 높은 순 → 그 점수에 먼저 도달한 순 → learnerId
+ * - 점수 갱신(빼고 다시 넣기), 내 순위, 상위 K 모두 O(log n) (상위 K 는 + K)
+ * - 조회는 읽기 잠금이라 동시에 여러 요청이 읽을 수 있고, 갱신만 쓰기 잠금
+ */
+final class Leaderboard {
+
+    private final String board;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Node> entries = new HashMap<>();
+    private final SplittableRandom random = new SplittableRandom();
+    private Node root;
+
+    Leaderboard(String board) {
+        this.board = board;
+    }
+
+    /**
+     * 점수 더하기 (nickname 이 null 이면 기존 닉네임 유지)
+     * @return 더하기 전 점수와 도달 시각 (revoke 로 되돌릴 때 씀)
+     */
+    Before add(String learnerId, String nickname, long points, long at) {
+        lock.writeLock().lock();
+        try {
+            Node node = entries.get(learnerId);
+            Before before;
+            if (node == null) {
+                node = new Node(learnerId, random.nextInt());
+                entries.put(learnerId, node);
+                before = Before.NONE;
+            } else {
+                root = remove(root, node);
+                before = new Before(node.score, node.reachedAt);
+            }
+            node.score += points;
+            node.reachedAt = at;
+            if (nickname != null) {
+                node.nickname = nickname;
+            }
+            node.dirty = true;
+            root = insert(root, node);
+            return before;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * at 에 더한 점수를 뺌 (이미 반영된 문제였던 경우)
+     * - 그 뒤로 점수가 바뀌지 않았으면 도달 시각을 더하기 전으로 되돌림 (빼고 나서도 at 에 도달한 것으로 남지 않게)
+     * - 그 점수로 처음 보드에 들어왔으면 보드에서 뺌
+     */
+    void revoke(String learnerId, long points, long at, Before before) {
+        lock.writeLock().lock();
+        try {
+            Node node = entries.get(learnerId);
+            if (node == null) {
+                return;
+            }
+            root = remove(root, node);
+            node.score -= points;
+            if (node.reachedAt == at && node.score == before.score()) {
+                if (before == Before.NONE) {
+                    entries.remove(learnerId);
+                    return;
+                }
+                node.reachedAt = before.reachedAt();
+            }
+            node.dirty = true;
+            root = insert(root, node);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 저장된 점수 복원 - 복원 전에 쌓인 점수가 있으면 더함
+     * (더한 경우는 합계를 다시 저장해야 하므로 dirty 유지)
+     */
+    void restore(ScoreRow row) {
+        lock.writeLock().lock();
+        try {
+            Node node = entries.get(row.learnerId());
+            if (node == null) {
+                node = new Node(row.learnerId(), random.nextInt());
+                node.nickname = row.nickname();
+                node.reachedAt = row.reachedAt();
+                entries.put(row.learnerId(), node);
+            } else {
+                root = remove(root, node);
+                if (node.nickname == null) {
+                    node.nickname = row.nickname();
+                }
+            }
+            node.score += row.score();
+            root = insert(root, node);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** 내 순위 (1부터, 기록이 없으면 null) */
+    Standing standing(String learnerId) {
+        lock.readLock().lock();
+        try {
+            Node node = entries.get(learnerId);
+            if (node == null) {
+                return null;
+            }
+            long rank = 1;
+            Node t = root;
+            while (t != node) {
+                if (compare(node, t) < 0) {
+                    t = t.left;
+                } else {
+                    rank += size(t.left) + 1;
+                    t = t.right;
+                }
+            }
+            return new Standing(rank + size(node.left), node.nickname, node.score);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** 상위 k 명 (중위 순회를 k 개에서 멈춤) */
+    List<Standing> top(int k) {
+        lock.readLock().lock();
+        try {
+            List<Standing> result = new ArrayList<>(Math.min(k, entries.size()));
+            ArrayDeque<Node> stack = new ArrayDeque<>();
+            Node t = root;
+            while (result.size() < k && (t != null || !stack.isEmpty())) {
+                while (t != null) {
+                    stack.push(t);
+                    t = t.left;
+                }
+                t = stack.pop();
+                result.add(new Standing(result.size() + 1, t.nickname, t.score));
+                t = t.right;
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** 저장할 항목을 꺼내고 dirty 표시를 지움 */
+    List<ScoreRow> takeDirty() {
+        lock.writeLock().lock();
+        try {
+            List<ScoreRow> rows = new ArrayList<>();
+            for (Node node : entries.values()) {
+                if (node.dirty) {
+                    node.dirty = false;
+                    rows.add(new ScoreRow(board, node.learnerId, node.nickname, node.score, node.reachedAt));
+                }
+            }
+            return rows;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** 저장 실패 시 다시 dirty 로 표시 */
+    void markDirty(String learnerId) {
+        lock.writeLock().lock();
+        try {
+            Node node = entries.get(learnerId);
+            if (node != null) {
+                node.dirty = true;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** 순위 한 줄 */
+    record Standing(long rank, String nickname, long score) {
+    }
+
+    /** add 하기 전 점수와 도달 시각 (NONE: 보드에 없었음) */
+    record Before(long score, long reachedAt) {
+        static final Before NONE = new Before(0, Long.MIN_VALUE);
+    }
+
+    // --- treap ---
+
+    private static int compare(Node a, Node b) {
+        int c = Long.compare(b.score, a.score);
+        if (c != 0) {
+            return c;
+        }
+        c = Long.compare(a.reachedAt, b.reachedAt);
+        return (c != 0) ? c : a.learnerId.compareTo(b.learnerId);
+    }
+
+    private static int size(Node t) {
+        return (t == null) ? 0 : t.size;
+    }
+
+    private static Node update(Node t) {
+        t.size = 1 + size(t.left) + size(t.right);
+        return t;
+    }
+
+    private static Node insert(Node t, Node node) {
+        if (t == null) {
+            node.left = null;
+            node.right = null;
+            return update(node);
+        }
+        if (node.priority > t.priority) {
+            Node[] parts = split(t, node);
+            node.left = parts[0];
+            node.right = parts[1];
+            return update(node);
+        }
+        if (compare(node, t) < 0) {
+            t.left = insert(t.left, node);
+        } else {
+            t.right = insert(t.right, node);
+        }
+        return update(t);
+    }
+
+    private static Node remove(Node t, Node node) {
+        if (t == node) {
+            return merge(t.left, t.right);
+        }
+        if (compare(node, t) < 0) {
+            t.left = remove(t.left, node);
+        } else {
+            t.right = remove(t.right, node);
+        }
+        return update(t);
+    }
+
+    /** key 보다 앞인 노드들 / 뒤인 노드들로 나눔 */
+    private static Node[] split(Node t, Node key) {
+        if (t == null) {
+            return new Node[2];
+        }
+        if (compare(t, key) < 0) {
+            Node[] parts = split(t.right, key);
+            t.right = parts[0];
+            parts[0] = update(t);
+            return parts;
+        }
+        Node[] parts = split(t.left, key);
+        t.left = parts[1];
+        parts[1] = update(t);
+        return parts;
+    }
+
+    private static Node merge(Node a, Node b) {
+        if (a == null) {
+            return b;
+        }
+        if (b == null) {
+            return a;
+        }
+        if (a.priority > b.priority) {
+            a.right = merge(a.right, b);
+            return update(a);
+        }
+        b.left = merge(a, b.left);
+        return update(b);
+    }
+
+    private static final class Node {
+        private final String learnerId;
+        private final int priority;
+        private String nickname;
+        private long score;
+        private long reachedAt;
+        private boolean dirty;
+        private int size = 1;
+        private Node left;
+        private Node right;
+
+        private Node(String learnerId, int priority) {
+            this.learnerId = learnerId;
+            this.priority = priority;
+        }
+    }
+}
@@ -0,0 +1,295 @@
+package saffy.backend.service;
+
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import saffy.backend.dto.LeaderboardDto;
+import saffy.backend.dto.QuestionDto;
+import saffy.backend.repository.LeaderboardRepository;
+import saffy.backend.repository.LeaderboardRepository.ScoreRow;
+import saffy.backend.repository.LeaderboardRepository.SolvedRow;
+
+/**
+ * 과목별/강의별 실시간 순위표
+ * - 점수 = 맞힌 서로 다른 문제 수, 처음 맞힌 문제만 그 문제의 과목 보드와 강의 보드에 더함 (요청 스레드, DB 사용 없음)
+ * - 이미 점수에 반영한 문제는 최근 활동한 학습자 것만 메모리에 둠 (solved-idle-minutes 동안 활동이 없으면 내림)
+ *   메모리에 없어 한 번 더 더해진 점수는 flush 때 leaderboard_solved 와 맞춰 보고 도달 시각까지 되돌림
+ * - 순위/상위 K 는 메모리 treap(Leaderboard)에서 바로 계산 (테이블 ORDER BY 없음)
+ * - 바뀐 점수만 flush 주기마다 leaderboard_scores 에 upsert, 시작할 때 점수만 읽어 보드를 다시 만듦
+ *   (복원 전에 들어온 정답은 모아 뒀다가 복원한 뒤에 반영)
+ */
+@Slf4j
+@Service
+public class LeaderboardService {
+
+    static final int DEFAULT_LIMIT = 10;
+    static final int MAX_LIMIT = 100;
+    static final int MAX_NICKNAME_LENGTH = 20;
+    private static final String ANONYMOUS = "익명";
+
+    private final LeaderboardRepository leaderboardRepository;
+    private final CatalogSnapshotHolder catalogSnapshotHolder;
+    private final long solvedIdleMillis;
+
+    private final Map<String, Leaderboard> boards = new ConcurrentHashMap<>();
+    private final Map<String, Solved> solved = new ConcurrentHashMap<>();
+    private final Queue<Credit> unsavedCredits = new ConcurrentLinkedQueue<>();
+    private final Queue<Submission> beforeLoad = new ConcurrentLinkedQueue<>();
+    private volatile boolean loaded;
+
+    public LeaderboardService(LeaderboardRepository leaderboardRepository, CatalogSnapshotHolder catalogSnapshotHolder,
+                              @Value("${quiz.leaderboard.solved-idle-minutes:30}") long solvedIdleMinutes) {
+        this.leaderboardRepository = leaderboardRepository;
+        this.catalogSnapshotHolder = catalogSnapshotHolder;
+        this.solvedIdleMillis = TimeUnit.MINUTES.toMillis(solvedIdleMinutes);
+    }
+
+    static String subjectBoard(long subjectId) {
+        return "subject:" + subjectId;
+    }
+
+    static String lectureBoard(long lectureId) {
+        return "lecture:" + lectureId;
+    }
+
+    /** 제출 한 번의 정답을 과목/강의 보드에 반영 (learnerId 가 없으면 무시) */
+    public void record(String learnerId, String nickname, List<QuestionDto> correctQuestions, long now) {
+        if (learnerId == null || learnerId.isBlank() || correctQuestions.isEmpty()) {
+            return;
+        }
+        String name = normalizeNickname(nickname);
+        if (!loaded) {
+            synchronized (this) {
+                if (!loaded) {
+                    beforeLoad.add(new Submission(learnerId, name, correctQuestions, now));
+                    return;
+                }
+            }
+        }
+        apply(learnerId, name, correctQuestions, now);
+    }
+
+    private void apply(String learnerId, String name, List<QuestionDto> correctQuestions, long now) {
+        Solved mine = solved.computeIfAbsent(learnerId, k -> new Solved());
+        mine.lastSeen = System.currentTimeMillis();
+        boolean verified = mine.verified; // 아래에서 거르기 전에 읽어야 함 (그 뒤에 채워진 목록으로는 거르지 않았음)
+        Map<String, Long> points = new HashMap<>();
+        List<QuestionDto> credited = new ArrayList<>();
+        for (QuestionDto q : correctQuestions) {
+            if (q.getLecture() == null || !mine.questionIds.add(q.getId())) {
+                continue; // 이미 점수에 반영한 문제
+            }
+            credited.add(q);
+            points.merge(lectureBoard(q.getLecture().getId()), 1L, Long::sum);
+            if (q.getLecture().getSubjectId() != null) {
+                points.merge(subjectBoard(q.getLecture().getSubjectId()), 1L, Long::sum);
+            }
+        }
+        Map<String, Leaderboard.Before> before = new HashMap<>();
+        points.forEach((board, p) -> before.put(board, board(board).add(learnerId, name, p, now)));
+        for (QuestionDto q : credited) {
+            Map<String, Leaderboard.Before> boardsOfQuestion = new HashMap<>();
+            String lecture = lectureBoard(q.getLecture().getId());
+            boardsOfQuestion.put(lecture, before.get(lecture));
+            if (q.getLecture().getSubjectId() != null) {
+                String subject = subjectBoard(q.getLecture().getSubjectId());
+                boardsOfQuestion.put(subject, before.get(subject));
+            }
+            unsavedCredits.add(new Credit(learnerId, q.getId(), now, boardsOfQuestion, verified));
+        }
+    }
+
+    /** 닉네임 확인 (없으면 null, 너무 길면 IllegalArgumentException) */
+    public static String normalizeNickname(String nickname) {
+        if (nickname == null || nickname.isBlank()) {
+            return null;
+        }
+        String trimmed = nickname.trim();
+        if (trimmed.length() > MAX_NICKNAME_LENGTH) {
+            throw new IllegalArgumentException("닉네임은 " + MAX_NICKNAME_LENGTH + "자까지 가능합니다.");
+        }
+        return trimmed;
+    }
+
+    /** 과목 순위표 (과목이 없으면 IllegalArgumentException) */
+    public LeaderboardDto getSubjectBoard(long subjectId, Integer limit, String learnerId) {
+        boolean exists = catalogSnapshotHolder.get().subjects().stream().anyMatch(s -> s.getId() == subjectId);
+        if (!exists) {
+            throw new IllegalArgumentException("해당 ID의 과목을 찾을 수 없습니다: " + subjectId);
+        }
+        return view(subjectBoard(subjectId), limit, learnerId);
+    }
+
+    /** 강의 순위표 (강의가 없으면 IllegalArgumentException) */
+    public LeaderboardDto getLectureBoard(long lectureId, Integer limit, String learnerId) {
+        if (!catalogSnapshotHolder.get().hasLecture(lectureId)) {
+            throw new IllegalArgumentException("해당 ID의 강의를 찾을 수 없습니다: " + lectureId);
+        }
+        return view(lectureBoard(lectureId), limit, learnerId);
+    }
+
+    private LeaderboardDto view(String board, Integer limit, String learnerId) {
+        int count = Math.max(1, Math.min(limit != null ? limit : DEFAULT_LIMIT, MAX_LIMIT));
+        Leaderboard leaderboard = boards.get(board);
+        if (leaderboard == null) {
+            return LeaderboardDto.builder().board(board).participants(0).top(List.of()).build();
+        }
+        Leaderboard.Standing me = (learnerId != null) ? leaderboard.standing(learnerId) : null;
+        return LeaderboardDto.builder()
+                .board(board)
+                .participants(leaderboard.size())
+                .top(leaderboard.top(count).stream().map(LeaderboardService::toEntry).toList())
+                .me(me != null ? toEntry(me) : null)
+                .build();
+    }
+
+    private static LeaderboardDto.Entry toEntry(Leaderboard.Standing s) {
+        return LeaderboardDto.Entry.builder()
+                .rank(s.rank())
+                .nickname(s.nickname() != null ? s.nickname() : ANONYMOUS)
+                .score(s.score())
+                .build();
+    }
+
+    private Leaderboard board(String board) {
+        return boards.computeIfAbsent(board, Leaderboard::new);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        load();
+    }
+
+    /** 저장된 점수로 보드를 다시 만들고 복원 전에 들어온 정답을 반영 (성공할 때까지 flush 주기마다 재시도) */
+    synchronized void load() {
+        if (loaded) {
+            return;
+        }
+        try {
+            List<ScoreRow> rows = new ArrayList<>();
+            leaderboardRepository.forEach(rows::add);
+            rows.forEach(row -> board(row.board()).restore(row));
+            Submission pending;
+            while ((pending = beforeLoad.poll()) != null) {
+                apply(pending.learnerId(), pending.nickname(), pending.questions(), pending.at());
+            }
+            loaded = true;
+            log.info("순위표 복원 완료: {}개 보드, {}건", boards.size(), rows.size());
+        } catch (RuntimeException e) {
+            log.warn("순위표 복원 실패, 다음 주기에 다시 시도합니다: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 바뀐 점수 저장 (실패한 항목은 다음 주기에 다시 저장)
+     * - 저장 전에 새로 반영한 문제를 leaderboard_solved 와 맞춰 보고 이미 있던 문제는 점수를 되돌림
+     * - 오래 활동이 없는 학습자의 반영한 문제 목록은 메모리에서 내림
+     */
+    @Scheduled(fixedDelayString = "${quiz.leaderboard.flush-interval-ms:10000}")
+    public void flush() {
+        if (!loaded) {
+            load();
+            if (!loaded) {
+                return;
+            }
+        }
+        List<Credit> credits = new ArrayList<>();
+        Credit next;
+        while ((next = unsavedCredits.poll()) != null) {
+            credits.add(next);
+        }
+        List<Credit> newCredits;
+        try {
+            newCredits = revokeDuplicates(credits);
+        } catch (RuntimeException e) {
+            log.warn("반영한 문제 조회 실패 ({}건), 다음 주기에 다시 시도합니다: {}", credits.size(), e.getMessage());
+            unsavedCredits.addAll(credits);
+            return;
+        }
+        List<SolvedRow> solvedRows = newCredits.stream().map(c -> new SolvedRow(c.learnerId(), c.questionId())).toList();
+        List<ScoreRow> rows = new ArrayList<>();
+        boards.values().forEach(board -> rows.addAll(board.takeDirty()));
+        if (!rows.isEmpty() || !solvedRows.isEmpty()) {
+            try {
+                leaderboardRepository.saveAll(rows, solvedRows);
+            } catch (RuntimeException e) {
+                log.warn("순위표 저장 실패 ({}건), 다음 주기에 다시 시도합니다: {}", rows.size(), e.getMessage());
+                rows.forEach(row -> boards.get(row.board()).markDirty(row.learnerId()));
+                unsavedCredits.addAll(newCredits);
+            }
+        }
+        long idleBefore = System.currentTimeMillis() - solvedIdleMillis;
+        solved.values().removeIf(s -> s.lastSeen <= idleBefore);
+    }
+
+    /**
+     * 이미 leaderboard_solved 에 있는(메모리에서 내린 뒤 다시 맞힌) 문제의 점수를 되돌리고 새로 반영한 것만 돌려줌
+     * - DB 와 맞춰 본 적 없는 목록으로 거른 정답만 조회 (맞춰 본 목록은 DB 의 반영한 문제를 모두 갖고 있음)
+     * - 조회한 학습자의 목록은 메모리에도 채워 다음 정답부터는 요청 스레드에서 걸러짐
+     */
+    private List<Credit> revokeDuplicates(List<Credit> credits) {
+        Set<String> learnerIds = new HashSet<>();
+        credits.stream().filter(c -> !c.verified()).forEach(c -> learnerIds.add(c.learnerId()));
+        if (learnerIds.isEmpty()) {
+            return credits;
+        }
+        Map<String, Set<Long>> saved = new HashMap<>();
+        leaderboardRepository.forEachSolved(learnerIds,
+                row -> saved.computeIfAbsent(row.learnerId(), k -> new HashSet<>()).add(row.questionId()));
+        for (String learnerId : learnerIds) {
+            Solved mine = solved.get(learnerId);
+            if (mine != null) {
+                mine.questionIds.addAll(saved.getOrDefault(learnerId, Set.of()));
+                mine.verified = true;
+            }
+        }
+        List<Credit> newCredits = new ArrayList<>();
+        for (Credit credit : credits) {
+            if (credit.verified()
+                    || saved.computeIfAbsent(credit.learnerId(), k -> new HashSet<>()).add(credit.questionId())) {
+                newCredits.add(credit);
+                continue;
+            }
+            credit.before().forEach((board, before) ->
+                    board(board).revoke(credit.learnerId(), 1, credit.at(), before));
+        }
+        return newCredits;
+    }
+
+    @PreDestroy
+    void stop() {
+        if (loaded) {
+            flush(); // 종료 전에 남은 점수 저장
+        }
+    }
+
+    /** 학습자가 점수에 반영한 문제 (최근 활동한 학습자만) */
+    private static final class Solved {
+        private final Set<Long> questionIds = ConcurrentHashMap.newKeySet();
+        private volatile long lastSeen;
+        private volatile boolean verified; // DB 의 반영한 문제를 모두 채웠는지
+    }
+
+    /** 문제 하나로 더한 점수 - 보드별 더하기 전 상태를 들고 있어 되돌릴 수 있음 */
+    private record Credit(String learnerId, long questionId, long at, Map<String, Leaderboard.Before> before,
+                          boolean verified) {
+    }
+
+    /** 복원 전에 들어온 정답 */
+    private record Submission(String learnerId, String nickname, List<QuestionDto> questions, long at) {
+    }
+}
@@ -0,0 +1,144 @@
+package saffy.backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.EnumMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPOutputStream;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import saffy.backend.dto.QuestionDto;
+
+/**
+ * 강의별 문제 응답을 미리 직렬화/압축해 두는 캐시
+ * - 응답 형식(JSON/CBOR/Smile)마다 원본(identity)과 gzip 바이트 배열, 내용 해시(ETag)를 따로 보관
+ * - JSON 이 아닌 형식은 실제로 요청된 강의만 만들어 둠
+ * - 스냅샷의 문제 목록이 교체되면(참조가 달라지면) 다음 조회 때 다시 만듦
+ * - 문제 업로드/삭제, 강의 삭제 커밋 후에는 해당 강의 항목을 바로 제거
+ * - 적중/미스 횟수는 quiz.cache.requests{cache=lecture-response} 로 기록
+ */
+@Component
+public class LectureResponseCache {
+
+    private final CatalogSnapshotHolder catalogSnapshotHolder;
+    private final Map<ResponseFormat, ObjectMapper> mappers = new EnumMap<>(ResponseFormat.class);
+    private final Counter hits;
+    private final Counter misses;
+
+    private final Map<Key, CachedResponse> entries = new ConcurrentHashMap<>();
+
+    public LectureResponseCache(CatalogSnapshotHolder catalogSnapshotHolder,
+                                ObjectMapper objectMapper,
+                                MeterRegistry meterRegistry) {
+        this.catalogSnapshotHolder = catalogSnapshotHolder;
+        // 바이너리 형식은 Spring MVC 기본 메시지 컨버터와 같은 설정으로 만듦
+        this.mappers.put(ResponseFormat.JSON, objectMapper);
+        this.mappers.put(ResponseFormat.CBOR, Jackson2ObjectMapperBuilder.cbor().build());
+        this.mappers.put(ResponseFormat.SMILE, Jackson2ObjectMapperBuilder.smile().build());
+        this.hits = CacheMetrics.hits(meterRegistry, "lecture-response");
+        this.misses = CacheMetrics.misses(meterRegistry, "lecture-response");
+    }
+
+    /**
+     * 강의별 캐시된 JSON 응답 (강의가 없으면 null)
+     */
+    public CachedResponse get(long lectureId) {
+        return get(lectureId, ResponseFormat.JSON);
+    }
+
+    /**
+     * 강의별 캐시된 응답 (강의가 없으면 null)
+     */
+    public CachedResponse get(long lectureId, ResponseFormat format) {
+        Key key = new Key(lectureId, format);
+        List<QuestionDto> questions = catalogSnapshotHolder.get().questionsOf(lectureId);
+        if (questions == null) {
+            evict(lectureId);
+            return null;
+        }
+
+        CachedResponse cached = entries.get(key);
+        if (cached != null && cached.source() == questions) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+        CachedResponse fresh = encode(questions, format);
+        entries.put(key, fresh);
+        return fresh;
+    }
+
+    @Order(1) // 스냅샷 교체 이후에 실행
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        event.lectureIds().forEach(this::evict);
+    }
+
+    private void evict(long lectureId) {
+        for (ResponseFormat format : ResponseFormat.values()) {
+            entries.remove(new Key(lectureId, format));
+        }
+    }
+
+    private CachedResponse encode(List<QuestionDto> questions, ResponseFormat format) {
+        try {
+            byte[] identity = mappers.get(format).writeValueAsBytes(questions);
+            return new CachedResponse(questions, format, identity, gzip(identity), contentHash(identity));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("문제 목록 직렬화 실패", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] data) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 4 + 64);
+        try (GZIPOutputStream gz = new GZIPOutputStream(out)) {
+            gz.write(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static String contentHash(byte[] data) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(data);
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record Key(long lectureId, ResponseFormat format) {
+    }
+
+    /**
+     * 직렬화가 끝난 응답
+     * source: 이 응답을 만든 스냅샷의 문제 목록 (교체 여부 확인용)
+     * hash: 원본 바이트의 SHA-256 앞 16바이트 (hex), 형식마다 내용이 다르므로 ETag 도 다름
+     */
+    public record CachedResponse(List<QuestionDto> source, ResponseFormat format,
+                                 byte[] identity, byte[] gzip, String hash) {
+
+        /** 표현(원본/gzip)마다 다른 strong ETag */
+        public String etag(boolean gzipped) {
+            return gzipped ? "\"" + hash + "-gz\"" : "\"" + hash + "\"";
+        }
+
+        /** If-None-Match 헤더에 현재 내용의 ETag가 있는지 확인 (같은 형식의 원본/gzip 어느 쪽이든 같은 내용) */
+        public boolean matches(String ifNoneMatch) {
+            return HttpConditionals.etagMatches(ifNoneMatch, etag(false), etag(true));
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package saffy.backend.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import saffy.backend.dto.AnswerDto;
+import saffy.backend.dto.LectureDto;
+import saffy.backend.dto.QuestionDto;
+import saffy.backend.dto.SubjectDto;
+import saffy.backend.entity.Answer;
+import saffy.backend.entity.Lecture;
+import saffy.backend.entity.Question;
+import saffy.backend.entity.Subject;
+import saffy.backend.repository.AnswerRepository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 엔티티 → DTO 매핑
+ * 문제 목록의 보기(answers)는 IN 절로 한꺼번에 읽어서 문제 수와 관계없이 쿼리 수가 고정되도록 함
+ */
+@Component
+@RequiredArgsConstructor
+public class QuestionAssembler {
+
+    /** IN 절 하나에 넣는 최대 문제 ID 수 */
+    static final int IN_CLAUSE_CHUNK_SIZE = 1000;
+
+    private final AnswerRepository answerRepository;
+
+    /**
+     * 문제 목록(강의가 fetch join 된 상태)을 보기/해설 포함 DTO로 변환
+     */
+    public List<QuestionDto> toQuestionDtos(List<Question> questions) {
+        if (questions.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, List<Answer>> answersByQuestionId = new HashMap<>();
+        List<Long> questionIds = questions.stream().map(Question::getId).toList();
+        for (int from = 0; from < questionIds.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            List<Long> chunk = questionIds.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, questionIds.size()));
+            for (Answer a : answerRepository.findByQuestion_IdInOrderByIdAsc(chunk)) {
+                answersByQuestionId.computeIfAbsent(a.getQuestion().getId(), id -> new ArrayList<>()).add(a);
+            }
+        }
+
+        return questions.stream()
+                .map(q -> toQuestionDto(q, answersByQuestionId.getOrDefault(q.getId(), List.of())))
+                .toList();
+    }
+
+    public QuestionDto toQuestionDto(Question q, List<Answer> answerEntities) {
+        // Question -> Lecture -> LectureDto
+        LectureDto lectureDto = toLectureDto(q.getLecture());
+
+        List<AnswerDto> answers = answerEntities.stream()
+                .map(this::toAnswerDto)
+                .toList();
+
+        // 정답 보기에서 전체 해설 추출
+        String explanation = answers.stream()
+                .filter(AnswerDto::isCorrect)
+                .findFirst()
+                .map(AnswerDto::getExplanation)
+                .orElse(null); // 정답이 없거나 해설이 없는 경우 null
+
+        return QuestionDto.builder()
+                .id(q.getId())
+                .content(q.getContent())
+                .questionType(q.getQuestionType())
+                .lecture(lectureDto)
+                .answers(answers)
+                .explanation(explanation)
+                .build();
+    }
+
+    public SubjectDto toSubjectDto(Subject sub) {
+        return new SubjectDto(sub.getId(), sub.getName());
+    }
+
+    public LectureDto toLectureDto(Lecture lec) {
+        // subject는 LAZY 프록시지만 getId()는 초기화 없이 FK 값만 읽음
+        Long subjectId = (lec.getSubject() != null) ? lec.getSubject().getId() : null;
+        return new LectureDto(lec.getId(), lec.getName(), subjectId);
+    }
+
+    public AnswerDto toAnswerDto(Answer a) {
+        return new AnswerDto(a.getId(), a.getContent(), a.isCorrect(), a.getExplanation());
+    }
+}
@@ -0,0 +1,364 @@
+package saffy.backend.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import saffy.backend.dto.AnswerDto;
+import saffy.backend.dto.LectureDto;
+import saffy.backend.dto.QuestionDto;
+import saffy.backend.dto.UploadQuestionDto;
+import saffy.backend.entity.Answer;
+import saffy.backend.entity.Question;
+
+/**
+ * 업로드 시 거의 같은 문제를 찾기 위한 MinHash/LSH 색인
+ * - 문제 내용 + 보기 내용을 글자 bigram 집합으로 보고 MinHash 서명(NUM_HASHES개 최솟값)을 만듦
+ * - 서명을 BANDS개 구간으로 나눠 구간별 해시 버킷에 넣고, 버킷이 하나라도 겹치는 문제만 후보로 봄
+ *   (전체 문제와 하나씩 비교하지 않음)
+ * - 후보는 서명 일치 비율(= Jaccard 유사도 추정치)이 threshold 이상일 때만 중복으로 판단
+ * - 검색 색인과 같은 방식으로 스냅샷에서 만들고 바뀐 강의만 갱신
+ */
+@Slf4j
+@Component
+public class QuestionDuplicateIndex {
+
+    static final int NUM_HASHES = 64;
+    static final int BANDS = 16;
+    static final int ROWS = NUM_HASHES / BANDS;
+
+    // 서명용 해시 함수 계수 (재시작해도 같은 서명이 나오도록 고정 seed)
+    private static final long[] HASH_A = new long[NUM_HASHES];
+    private static final long[] HASH_B = new long[NUM_HASHES];
+
+    static {
+        SplittableRandom random = new SplittableRandom(0x5AFFE_D0D0L);
+        for (int i = 0; i < NUM_HASHES; i++) {
+            HASH_A[i] = random.nextLong() | 1;
+            HASH_B[i] = random.nextLong();
+        }
+    }
+
+    private final CatalogSnapshotHolder catalogSnapshotHolder;
+    private final double threshold;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Buckets bank; // lock 으로 보호 (null 이면 아직 안 만들어짐)
+
+    public QuestionDuplicateIndex(CatalogSnapshotHolder catalogSnapshotHolder,
+                                  @Value("${quiz.duplicates.threshold:0.8}") double threshold) {
+        this.catalogSnapshotHolder = catalogSnapshotHolder;
+        this.threshold = threshold;
+    }
+
+    /** 중복 판정 결과: 기존 문제(questionId) 또는 같은 업로드의 앞선 문제(itemIndex) */
+    public record Match(Long questionId, Integer itemIndex, double similarity) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.warn("중복 검사 색인 생성 실패, 첫 업로드 때 다시 시도합니다: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 업로드 한 번 동안 사용하는 검사기
+     * 기존 문제뿐 아니라 같은 업로드 안에서 먼저 받아들인 문제와도 비교함
+     */
+    public Batch newBatch() {
+        if (!isBuilt()) {
+            rebuild();
+        }
+        return new Batch();
+    }
+
+    /** 별도 트랜잭션으로 이미 커밋된 문제를 바로 반영 (가져오기 청크용, 이후 이벤트 동기화 때는 건너뜀) */
+    public void addCommitted(long lectureId, List<Question> questions) {
+        lock.writeLock().lock();
+        try {
+            if (bank == null) {
+                return;
+            }
+            for (Question q : questions) {
+                String text = textOf(q.getContent(), q.getAnswers().stream().map(Answer::getContent).toList());
+                bank.add(q.getId(), lectureId, text.hashCode(), signature(text));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 관리자 쓰기가 커밋되고 스냅샷이 교체된 뒤, 바뀐 강의의 문제만 색인에 반영
+     */
+    @Order(3)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        if (!isBuilt()) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            CatalogSnapshot snapshot = catalogSnapshotHolder.get();
+            Set<Long> lectureIds = new HashSet<>(event.lectureIds());
+            bank.docsByLecture.keySet().stream()
+                    .filter(id -> !snapshot.hasLecture(id))
+                    .forEach(lectureIds::add);
+            for (Long lectureId : lectureIds) {
+                List<QuestionDto> questions = snapshot.questionsOf(lectureId);
+                bank.sync(lectureId, questions != null ? questions : List.of());
+            }
+        } catch (RuntimeException e) {
+            log.warn("중복 검사 색인 갱신 실패, 다음 업로드 때 새로 만듭니다: {}", e.getMessage());
+            bank = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private boolean isBuilt() {
+        lock.readLock().lock();
+        try {
+            return bank != null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void rebuild() {
+        CatalogSnapshot snapshot = catalogSnapshotHolder.get();
+        Buckets fresh = new Buckets();
+        for (LectureDto lecture : snapshot.lectures()) {
+            for (QuestionDto q : snapshot.questionsOf(lecture.getId())) {
+                String text = textOf(q);
+                fresh.add(q.getId(), lecture.getId(), text.hashCode(), signature(text));
+            }
+        }
+        lock.writeLock().lock();
+        try {
+            bank = fresh;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("중복 검사 색인 생성 완료: {}문제", fresh.signatures.size());
+    }
+
+    public final class Batch {
+
+        private final Buckets local = new Buckets();
+
+        /** 업로드 항목의 서명 (내용이 비어 있으면 null - 검사하지 않음) */
+        public int[] signatureOf(UploadQuestionDto.QuestionItem item) {
+            List<String> choices = (item.getChoices() != null)
+                    ? item.getChoices().stream().filter(c -> c != null).map(UploadQuestionDto.ChoiceItem::getContent).toList()
+                    : List.of();
+            return signature(textOf(item.getContent(), choices));
+        }
+
+        /** 가장 비슷한 기존 문제 또는 앞선 업로드 항목 (threshold 미만이면 null) */
+        public Match find(int[] signature) {
+            if (signature == null) {
+                return null;
+            }
+            Match best;
+            lock.readLock().lock();
+            try {
+                best = (bank != null) ? bank.best(signature, threshold) : null;
+            } finally {
+                lock.readLock().unlock();
+            }
+            Match inBatch = local.best(signature, threshold);
+            if (inBatch != null && (best == null || inBatch.similarity() > best.similarity())) {
+                // local 에는 업로드 항목 번호를 ID 자리에 넣어둠
+                return new Match(null, inBatch.questionId().intValue(), inBatch.similarity());
+            }
+            return best;
+        }
+
+        /** 받아들인 항목을 이후 항목 비교 대상에 추가 */
+        public void add(int itemIndex, int[] signature) {
+            if (signature != null) {
+                local.add(itemIndex, -1, 0, signature);
+            }
+        }
+    }
+
+    /** 문제 내용과 보기 내용을 줄바꿈으로 이어 붙임 (bigram 이 서로 다른 보기에 걸치지 않도록) */
+    static String textOf(String content, List<String> choices) {
+        StringBuilder sb = new StringBuilder(content != null ? content : "");
+        for (String choice : choices) {
+            if (choice != null) {
+                sb.append('\n').append(choice);
+            }
+        }
+        return sb.toString();
+    }
+
+    private static String textOf(QuestionDto question) {
+        List<String> choices = (question.getAnswers() != null)
+                ? question.getAnswers().stream().map(AnswerDto::getContent).toList()
+                : List.of();
+        return textOf(question.getContent(), choices);
+    }
+
+    /** MinHash 서명 (bigram 이 하나도 없으면 null) */
+    static int[] signature(String text) {
+        int[] shingles = Arrays.stream(QuestionSearchIndex.tokenize(text)).distinct().toArray();
+        if (shingles.length == 0) {
+            return null;
+        }
+        int[] signature = new int[NUM_HASHES];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        for (int shingle : shingles) {
+            for (int i = 0; i < NUM_HASHES; i++) {
+                int h = (int) (mix(shingle * HASH_A[i] + HASH_B[i]) >>> 33);
+                if (h < signature[i]) {
+                    signature[i] = h;
+                }
+            }
+        }
+        return signature;
+    }
+
+    static double similarity(int[] a, int[] b) {
+        int same = 0;
+        for (int i = 0; i < NUM_HASHES; i++) {
+            if (a[i] == b[i]) {
+                same++;
+            }
+        }
+        return (double) same / NUM_HASHES;
+    }
+
+    /** 구간(band) 번호와 구간 안 ROWS개 값을 섞은 버킷 키 */
+    private static long bandKey(int[] signature, int band) {
+        long h = band;
+        for (int i = band * ROWS; i < (band + 1) * ROWS; i++) {
+            h = h * 0x9E3779B97F4A7C15L + signature[i];
+        }
+        return mix(h);
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+        z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return z ^ (z >>> 33);
+    }
+
+    /** 서명 + 구간별 버킷 (QuestionDuplicateIndex 의 lock 안에서, 또는 Batch 한 곳에서만 사용) */
+    private static final class Buckets {
+
+        private final Map<Long, int[]> signatures = new HashMap<>();
+        private final Map<Long, Long> lectureOf = new HashMap<>();
+        private final Map<Long, Integer> textHashOf = new HashMap<>();
+        private final Map<Long, Set<Long>> docsByLecture = new HashMap<>();
+        @SuppressWarnings("unchecked")
+        private final Map<Long, List<Long>>[] bands = new Map[BANDS];
+
+        private Buckets() {
+            for (int b = 0; b < BANDS; b++) {
+                bands[b] = new HashMap<>();
+            }
+        }
+
+        void add(long id, long lectureId, int textHash, int[] signature) {
+            remove(id);
+            lectureOf.put(id, lectureId);
+            textHashOf.put(id, textHash);
+            docsByLecture.computeIfAbsent(lectureId, l -> new HashSet<>()).add(id);
+            if (signature == null) {
+                return;
+            }
+            signatures.put(id, signature);
+            for (int b = 0; b < BANDS; b++) {
+                bands[b].computeIfAbsent(bandKey(signature, b), k -> new ArrayList<>(1)).add(id);
+            }
+        }
+
+        void remove(long id) {
+            Long lectureId = lectureOf.remove(id);
+            if (lectureId == null) {
+                return;
+            }
+            textHashOf.remove(id);
+            Set<Long> docs = docsByLecture.get(lectureId);
+            if (docs != null) {
+                docs.remove(id);
+                if (docs.isEmpty()) {
+                    docsByLecture.remove(lectureId);
+                }
+            }
+            int[] signature = signatures.remove(id);
+            if (signature == null) {
+                return;
+            }
+            for (int b = 0; b < BANDS; b++) {
+                long key = bandKey(signature, b);
+                List<Long> bucket = bands[b].get(key);
+                if (bucket != null) {
+                    bucket.remove(Long.valueOf(id));
+                    if (bucket.isEmpty()) {
+                        bands[b].remove(key);
+                    }
+                }
+            }
+        }
+
+        /** 강의의 문제 목록을 현재 상태로 맞춤 */
+        void sync(long lectureId, List<QuestionDto> questions) {
+            Set<Long> current = new HashSet<>();
+            for (QuestionDto q : questions) {
+                current.add(q.getId());
+            }
+            for (Long id : List.copyOf(docsByLecture.getOrDefault(lectureId, Set.of()))) {
+                if (!current.contains(id)) {
+                    remove(id);
+                }
+            }
+            for (QuestionDto q : questions) {
+                String text = textOf(q);
+                Long indexedLecture = lectureOf.get(q.getId());
+                if (indexedLecture != null && indexedLecture == lectureId
+                        && textHashOf.get(q.getId()) == text.hashCode()) {
+                    continue;
+                }
+                add(q.getId(), lectureId, text.hashCode(), signature(text));
+            }
+        }
+
+        /** 후보(버킷이 겹치는 문제) 중 유사도가 가장 높은 것 */
+        Match best(int[] signature, double threshold) {
+            Set<Long> candidates = new HashSet<>();
+            for (int b = 0; b < BANDS; b++) {
+                List<Long> bucket = bands[b].get(bandKey(signature, b));
+                if (bucket != null) {
+                    candidates.addAll(bucket);
+                }
+            }
+            Match best = null;
+            for (Long id : candidates) {
+                double similarity = similarity(signature, signatures.get(id));
+                if (similarity >= threshold && (best == null || similarity > best.similarity())) {
+                    best = new Match(id, null, similarity);
+                }
+            }
+            return best;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package saffy.backend.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import saffy.backend.dto.QuestionDto;
+import saffy.backend.repository.QuestionRepository;
+
+/**
+ * 전체 문제 내보내기 (관리자 백업/비교용)
+ * id 기준 keyset으로 CHUNK_SIZE 개씩 읽어서 바로 응답 스트림에 쓰고,
+ * 청크마다 트랜잭션(영속성 컨텍스트)을 닫아 엔티티를 분리하므로 문제 수와 관계없이 메모리 사용량이 일정함
+ */
+@Service
+public class QuestionExportService {
+
+    static final int CHUNK_SIZE = 500;
+
+    private final QuestionRepository questionRepository;
+    private final QuestionAssembler questionAssembler;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate chunkTransaction;
+
+    public QuestionExportService(QuestionRepository questionRepository,
+                                 QuestionAssembler questionAssembler,
+                                 ObjectMapper objectMapper,
+                                 PlatformTransactionManager transactionManager) {
+        this.questionRepository = questionRepository;
+        this.questionAssembler = questionAssembler;
+        this.objectMapper = objectMapper;
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.chunkTransaction.setReadOnly(true);
+    }
+
+    /**
+     * 문제 전체를 out에 씀
+     * ndjson=true 이면 한 줄에 문제 하나, false 이면 JSON 배열
+     */
+    public void export(OutputStream out, boolean ndjson) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            if (!ndjson) {
+                generator.writeStartArray();
+            }
+
+            long afterId = 0;
+            while (true) {
+                long cursor = afterId;
+                List<QuestionDto> chunk = chunkTransaction.execute(status -> questionAssembler.toQuestionDtos(
+                        questionRepository.findByIdGreaterThanOrderByIdAsc(cursor, Limit.of(CHUNK_SIZE))));
+                if (chunk == null || chunk.isEmpty()) {
+                    break;
+                }
+
+                for (QuestionDto question : chunk) {
+                    objectMapper.writeValue(generator, question);
+                    if (ndjson) {
+                        generator.writeRaw('\n');
+                    }
+                }
+                generator.flush();
+
+                afterId = chunk.get(chunk.size() - 1).getId();
+                if (chunk.size() < CHUNK_SIZE) {
+                    break;
+                }
+            }
+
+            if (!ndjson) {
+                generator.writeEndArray();
+            }
+        }
+    }
+}
@@ -0,0 +1,303 @@
+package saffy.backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import jakarta.annotation.PreDestroy;
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPInputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import saffy.backend.dto.ImportJobDto;
+import saffy.backend.dto.UploadQuestionDto;
+import saffy.backend.entity.Lecture;
+import saffy.backend.entity.Question;
+import saffy.backend.repository.CatalogRevisionRepository;
+import saffy.backend.repository.LectureRepository;
+import saffy.backend.repository.QuestionBatchWriter;
+
+/**
+ * NDJSON(한 줄에 QuestionItem 하나, gzip 가능) 스트리밍 가져오기
+ * - 요청 본문은 임시 파일로 흘려 저장한 뒤 즉시 jobId를 돌려주고, 백그라운드에서 한 줄씩 처리
+ * - CHUNK_SIZE 문제마다 별도 트랜잭션으로 커밋하므로 잘못된 줄이 있어도 이미 커밋된 문제는 유지됨
+ * - 메모리에는 현재 청크와 앞쪽 오류 일부만 올라가므로 파일 크기와 관계없이 힙 사용량이 일정함
+ * - 중복 의심 문제는 건너뜀 (커밋된 청크는 바로 중복 검사 색인에 넣어 다음 청크와도 비교됨)
+ */
+@Slf4j
+@Service
+public class QuestionImportService {
+
+    static final int CHUNK_SIZE = 500;
+    private static final int MAX_ERRORS = 100;
+    private static final int MAX_FINISHED_JOBS = 50;
+
+    private final LectureRepository lectureRepository;
+    private final QuestionBatchWriter questionBatchWriter;
+    private final QuestionDuplicateIndex questionDuplicateIndex;
+    private final CatalogRevisionRepository catalogRevisionRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate chunkTransaction;
+    private final ObjectReader itemReader;
+
+    private final Map<String, ImportJob> jobs = new ConcurrentHashMap<>();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "question-import");
+        t.setDaemon(true);
+        return t;
+    });
+
+    public QuestionImportService(LectureRepository lectureRepository,
+                                 QuestionBatchWriter questionBatchWriter,
+                                 QuestionDuplicateIndex questionDuplicateIndex,
+                                 CatalogRevisionRepository catalogRevisionRepository,
+                                 ApplicationEventPublisher eventPublisher,
+                                 PlatformTransactionManager transactionManager,
+                                 ObjectMapper objectMapper) {
+        this.lectureRepository = lectureRepository;
+        this.questionBatchWriter = questionBatchWriter;
+        this.questionDuplicateIndex = questionDuplicateIndex;
+        this.catalogRevisionRepository = catalogRevisionRepository;
+        this.eventPublisher = eventPublisher;
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.itemReader = objectMapper.readerFor(UploadQuestionDto.QuestionItem.class);
+    }
+
+    /**
+     * 가져오기 시작: 본문을 임시 파일로 저장하고 작업을 큐에 넣음
+     * allowDuplicates: true 면 중복 의심 문제도 저장
+     */
+    public ImportJobDto start(Long lectureId, boolean allowDuplicates, InputStream body) throws IOException {
+        Lecture lecture = lectureRepository.findById(lectureId)
+                .orElseThrow(() -> new IllegalArgumentException("강의 ID " + lectureId + "를 찾을 수 없습니다."));
+
+        Path spool = Files.createTempFile("question-import-", ".ndjson");
+        try {
+            long bytes = Files.copy(body, spool, StandardCopyOption.REPLACE_EXISTING);
+            ImportJob job = new ImportJob(UUID.randomUUID().toString(), lecture.getId(), allowDuplicates, bytes);
+            evictFinishedJobs();
+            jobs.put(job.id, job);
+            executor.execute(() -> run(job, lecture, spool));
+            return job.toDto();
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(spool);
+            throw e;
+        }
+    }
+
+    /** 작업 진행 상황 (없으면 null) */
+    public ImportJobDto getJob(String jobId) {
+        ImportJob job = jobs.get(jobId);
+        return job != null ? job.toDto() : null;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void run(ImportJob job, Lecture lecture, Path spool) {
+        job.status = "RUNNING";
+        List<Question> chunk = new ArrayList<>(CHUNK_SIZE);
+        long chunkFirstLine = 1;
+        QuestionDuplicateIndex.Batch duplicateCheck = null;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(open(spool), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                long lineNo = job.linesRead.incrementAndGet();
+                if (line.isBlank()) {
+                    continue;
+                }
+
+                UploadQuestionDto.QuestionItem item = parse(job, lineNo, line);
+                if (item == null) {
+                    continue;
+                }
+                if (chunk.isEmpty()) {
+                    chunkFirstLine = lineNo;
+                    duplicateCheck = questionDuplicateIndex.newBatch();
+                }
+                int[] signature = duplicateCheck.signatureOf(item);
+                QuestionDuplicateIndex.Match match = duplicateCheck.find(signature);
+                if (match != null && !job.allowDuplicates) {
+                    job.lineSkipped(lineNo, match);
+                    continue;
+                }
+                duplicateCheck.add((int) lineNo, signature); // 같은 청크 안의 중복은 줄 번호로 알려줌
+                Question question = QuizService.toQuestion(item, lecture);
+                chunk.add(question);
+                if (chunk.size() == CHUNK_SIZE) {
+                    commit(job, lecture, chunk, chunkFirstLine, lineNo);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                commit(job, lecture, chunk, chunkFirstLine, job.linesRead.get());
+            }
+            job.status = "COMPLETED";
+        } catch (IOException | RuntimeException e) {
+            log.warn("문제 가져오기 실패 job={}: {}", job.id, e.getMessage());
+            job.addError("파일 처리 중단: " + e.getMessage());
+            job.status = "FAILED";
+        } finally {
+            job.finishedAt = LocalDateTime.now();
+            if (job.imported.get() > 0) {
+                eventPublisher.publishEvent(CatalogChangedEvent.ofLecture(lecture.getId()));
+            }
+            try {
+                Files.deleteIfExists(spool);
+            } catch (IOException e) {
+                log.warn("임시 파일 삭제 실패: {}", spool);
+            }
+        }
+    }
+
+    /** gzip 매직 넘버(1f 8b)가 있으면 압축 해제하면서 읽음 */
+    private static InputStream open(Path spool) throws IOException {
+        InputStream in = new BufferedInputStream(Files.newInputStream(spool));
+        in.mark(2);
+        int b1 = in.read();
+        int b2 = in.read();
+        in.reset();
+        return (b1 == 0x1f && b2 == 0x8b) ? new GZIPInputStream(in, 64 * 1024) : in;
+    }
+
+    private UploadQuestionDto.QuestionItem parse(ImportJob job, long lineNo, String line) {
+        UploadQuestionDto.QuestionItem item;
+        try {
+            item = itemReader.readValue(line);
+        } catch (JsonProcessingException e) {
+            job.lineFailed(lineNo, "JSON 형식 오류 - " + e.getOriginalMessage());
+            return null;
+        }
+        String error = validate(item);
+        if (error != null) {
+            job.lineFailed(lineNo, error);
+            return null;
+        }
+        return item;
+    }
+
+    static String validate(UploadQuestionDto.QuestionItem item) {
+        if (item.getContent() == null || item.getContent().isBlank()) {
+            return "문제 내용(content)이 비어 있습니다.";
+        }
+        if (item.getChoices() == null || item.getChoices().isEmpty()) {
+            return "보기(choices)가 없습니다.";
+        }
+        boolean hasCorrect = false;
+        for (UploadQuestionDto.ChoiceItem choice : item.getChoices()) {
+            if (choice == null || choice.getContent() == null || choice.getContent().isBlank()) {
+                return "내용이 비어 있는 보기가 있습니다.";
+            }
+            hasCorrect |= choice.isCorrect();
+        }
+        return hasCorrect ? null : "정답 보기가 없습니다.";
+    }
+
+    private void commit(ImportJob job, Lecture lecture, List<Question> chunk, long firstLine, long lastLine) {
+        try {
+            chunkTransaction.executeWithoutResult(status -> {
+                // 청크마다 새 리비전 (커밋된 청크만 변경분 동기화에 나타남)
+                long revision = catalogRevisionRepository.next();
+                chunk.forEach(q -> q.setRevision(revision));
+                questionBatchWriter.insertAll(lecture.getId(), chunk);
+                catalogRevisionRepository.touchLectures(List.of(lecture.getId()), revision);
+            });
+            job.imported.addAndGet(chunk.size());
+            questionDuplicateIndex.addCommitted(lecture.getId(), chunk);
+        } catch (RuntimeException e) {
+            // 이 청크만 롤백되고 이전 청크는 그대로 유지됨
+            job.failed.addAndGet(chunk.size());
+            job.addError(firstLine + "~" + lastLine + "번째 줄 저장 실패: " + e.getMessage());
+        }
+    }
+
+    private void evictFinishedJobs() {
+        List<ImportJob> finished = jobs.values().stream()
+                .filter(j -> j.finishedAt != null)
+                .sorted((a, b) -> a.finishedAt.compareTo(b.finishedAt))
+                .toList();
+        for (int i = 0; i < finished.size() - MAX_FINISHED_JOBS; i++) {
+            jobs.remove(finished.get(i).id);
+        }
+    }
+
+    /** 진행 중 상태 (가져오기 스레드가 쓰고 조회 요청이 읽음) */
+    private static final class ImportJob {
+        private final String id;
+        private final Long lectureId;
+        private final boolean allowDuplicates;
+        private final long bytesReceived;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final AtomicLong linesRead = new AtomicLong();
+        private final AtomicLong imported = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+        private final AtomicLong skipped = new AtomicLong();
+        private final List<String> errors = new ArrayList<>();
+        private volatile String status = "QUEUED";
+        private volatile LocalDateTime finishedAt;
+
+        private ImportJob(String id, Long lectureId, boolean allowDuplicates, long bytesReceived) {
+            this.id = id;
+            this.lectureId = lectureId;
+            this.allowDuplicates = allowDuplicates;
+            this.bytesReceived = bytesReceived;
+        }
+
+        private void lineFailed(long lineNo, String message) {
+            failed.incrementAndGet();
+            addError(lineNo + "번째 줄: " + message);
+        }
+
+        private void lineSkipped(long lineNo, QuestionDuplicateIndex.Match match) {
+            skipped.incrementAndGet();
+            String target = (match.questionId() != null)
+                    ? "기존 문제 " + match.questionId()
+                    : match.itemIndex() + "번째 줄";
+            addError(lineNo + "번째 줄: " + target + "와(과) 중복 의심 (유사도 "
+                    + String.format("%.2f", match.similarity()) + ") - 건너뜀");
+        }
+
+        private synchronized void addError(String message) {
+            if (errors.size() < MAX_ERRORS) {
+                errors.add(message);
+            }
+        }
+
+        private synchronized ImportJobDto toDto() {
+            return ImportJobDto.builder()
+                    .jobId(id)
+                    .lectureId(lectureId)
+                    .status(status)
+                    .bytesReceived(bytesReceived)
+                    .linesRead(linesRead.get())
+                    .imported(imported.get())
+                    .failed(failed.get())
+                    .skipped(skipped.get())
+                    .errors(List.copyOf(errors))
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .build();
+        }
+    }
+}
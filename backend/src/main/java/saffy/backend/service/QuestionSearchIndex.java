@@ -0,0 +1,506 @@
+package saffy.backend.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import saffy.backend.dto.AnswerDto;
+import saffy.backend.dto.LectureDto;
+import saffy.backend.dto.QuestionDto;
+import saffy.backend.dto.SearchResultDto;
+
+/**
+ * 문제/보기 내용 전문 검색용 메모리 역색인
+ * - 한글은 띄어쓰기가 불규칙하고 조사가 붙으므로 형태소 분석 대신 글자 bigram 으로 색인
+ *   ("자료구조를" → 자료, 료구, 구조, 조를 / 한 글자짜리 단어는 그 글자 하나)
+ * - 문서에는 글자 하나(unigram)도 함께 색인해서 한 글자 검색어("큐")가 "큐에서" 같은 단어 안의 글자도 찾음
+ *   (검색어는 두 글자 이상이면 bigram 만 쓰므로 긴 검색어의 점수는 unigram 의 영향을 받지 않음)
+ * - 단어(bigram)별 문서 목록은 문서 번호 차이 + 출현 횟수를 varint 로 압축한 byte[]
+ * - 점수는 BM25, 검색어 단어의 문서 목록에 나온 문서만 점수를 모으고(HashMap) 상위 limit 개만 힙으로 뽑음
+ * - 서버 시작 시 스냅샷으로 만들고, 이후에는 바뀐 강의의 문제만 넣고 빼서 갱신 (검색 시 DB 사용 안 함)
+ */
+@Slf4j
+@Component
+public class QuestionSearchIndex {
+
+    static final int MAX_QUERY_LENGTH = 100;
+    static final int MAX_LIMIT = 100;
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final CatalogSnapshotHolder catalogSnapshotHolder;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Index index; // lock 으로 보호 (null 이면 아직 안 만들어짐)
+
+    public QuestionSearchIndex(CatalogSnapshotHolder catalogSnapshotHolder) {
+        this.catalogSnapshotHolder = catalogSnapshotHolder;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.warn("검색 색인 생성 실패, 첫 검색 때 다시 시도합니다: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 검색 (lectureId 가 있으면 해당 강의 문제만)
+     */
+    public SearchResultDto search(String query, Long lectureId, int limit) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("검색어를 입력해주세요.");
+        }
+        if (query.length() > MAX_QUERY_LENGTH) {
+            throw new IllegalArgumentException("검색어는 " + MAX_QUERY_LENGTH + "자 이하로 입력해주세요.");
+        }
+        int size = Math.max(1, Math.min(limit, MAX_LIMIT));
+        int[] terms = distinct(tokenize(query));
+
+        if (!isBuilt()) {
+            rebuild();
+        }
+        CatalogSnapshot snapshot = catalogSnapshotHolder.get();
+        List<SearchResultDto.Hit> hits = new ArrayList<>(size);
+        int total;
+
+        lock.readLock().lock();
+        try {
+            Index idx = index;
+            if (idx == null) {
+                // 방금 갱신에 실패해서 비워진 경우 (다음 검색 때 다시 만듦)
+                return SearchResultDto.builder().query(query).total(0).hits(List.of()).build();
+            }
+            Map<Integer, Double> scores = idx.score(terms, lectureId);
+
+            PriorityQueue<Map.Entry<Integer, Double>> top = new PriorityQueue<>(size + 1, Map.Entry.comparingByValue());
+            total = scores.size();
+            for (Map.Entry<Integer, Double> scored : scores.entrySet()) {
+                top.add(scored);
+                if (top.size() > size) {
+                    top.poll();
+                }
+            }
+            while (!top.isEmpty()) {
+                Map.Entry<Integer, Double> scored = top.poll();
+                QuestionDto question = snapshot.question(idx.questionIds[scored.getKey()]);
+                if (question != null) {
+                    hits.add(SearchResultDto.Hit.builder().score(scored.getValue()).question(question).build());
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        // 힙에서 낮은 점수부터 나왔으므로 뒤집음
+        Collections.reverse(hits);
+        return SearchResultDto.builder().query(query).total(total).hits(hits).build();
+    }
+
+    /**
+     * 관리자 쓰기가 커밋되고 스냅샷이 교체된 뒤, 바뀐 강의의 문제만 색인에 반영
+     */
+    @Order(2)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        if (!isBuilt()) {
+            return; // 아직 만들어진 적이 없으면 첫 검색 때 새로 만듦
+        }
+        lock.writeLock().lock();
+        try {
+            CatalogSnapshot snapshot = catalogSnapshotHolder.get();
+            Set<Long> lectureIds = new HashSet<>(event.lectureIds());
+            // 삭제된 강의 (과목/강의 삭제는 강의 ID 없이 오기도 함)
+            index.docsByLecture.keySet().stream()
+                    .filter(id -> !snapshot.hasLecture(id))
+                    .forEach(lectureIds::add);
+
+            for (Long lectureId : lectureIds) {
+                List<QuestionDto> questions = snapshot.questionsOf(lectureId);
+                index.sync(lectureId, questions != null ? questions : List.of());
+            }
+            if (index.deletedDocs > index.liveDocs) {
+                // 빠진 문서 번호가 너무 많아지면 새로 만들어서 배열 크기를 줄임
+                index = Index.build(snapshot);
+            }
+        } catch (RuntimeException e) {
+            log.warn("검색 색인 갱신 실패, 다음 검색 때 새로 만듭니다: {}", e.getMessage());
+            index = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private boolean isBuilt() {
+        lock.readLock().lock();
+        try {
+            return index != null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void rebuild() {
+        CatalogSnapshot snapshot = catalogSnapshotHolder.get();
+        Index fresh = Index.build(snapshot);
+        lock.writeLock().lock();
+        try {
+            index = fresh;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("검색 색인 생성 완료: {}문제, {}개 단어", fresh.liveDocs, fresh.postings.size());
+    }
+
+    /**
+     * 글자 bigram 분해 (글자/숫자가 아닌 문자에서 끊고, 영문은 소문자로)
+     * bigram 은 두 글자를 int 하나로 합친 값, 한 글자짜리 단어는 (글자 << 16)
+     */
+    static int[] tokenize(String text) {
+        int[] out = new int[Math.max(text.length(), 1)];
+        int n = 0;
+        char prev = 0;
+        int runLength = 0;
+        for (int i = 0; i <= text.length(); i++) {
+            char c = (i < text.length()) ? text.charAt(i) : ' ';
+            if (Character.isLetterOrDigit(c)) {
+                c = Character.toLowerCase(c);
+                if (runLength > 0) {
+                    out[n++] = (prev << 16) | c;
+                }
+                prev = c;
+                runLength++;
+            } else {
+                if (runLength == 1) {
+                    out[n++] = prev << 16;
+                }
+                runLength = 0;
+            }
+        }
+        return Arrays.copyOf(out, n);
+    }
+
+    /**
+     * 문서 색인용 단어: tokenize 의 bigram(한 글자 단어는 그 글자) + 모든 글자의 unigram
+     * (한 글자 단어의 글자는 두 번 넣지 않음)
+     */
+    static int[] indexTokens(String text) {
+        int[] bigrams = tokenize(text);
+        int[] out = Arrays.copyOf(bigrams, bigrams.length + text.length());
+        int n = bigrams.length;
+        int runLength = 0;
+        char prev = 0;
+        for (int i = 0; i <= text.length(); i++) {
+            char c = (i < text.length()) ? text.charAt(i) : ' ';
+            if (Character.isLetterOrDigit(c)) {
+                if (runLength > 0) {
+                    out[n++] = prev << 16;
+                }
+                prev = Character.toLowerCase(c);
+                runLength++;
+            } else {
+                if (runLength > 1) {
+                    out[n++] = prev << 16; // 두 글자 이상 단어의 마지막 글자
+                }
+                runLength = 0;
+            }
+        }
+        return Arrays.copyOf(out, n);
+    }
+
+    private static int[] distinct(int[] terms) {
+        return Arrays.stream(terms).distinct().toArray();
+    }
+
+    /** 문제 하나에서 색인할 글: 문제 내용 + 보기 내용 */
+    private static String textOf(QuestionDto question) {
+        StringBuilder sb = new StringBuilder(question.getContent() != null ? question.getContent() : "");
+        if (question.getAnswers() != null) {
+            for (AnswerDto answer : question.getAnswers()) {
+                if (answer.getContent() != null) {
+                    sb.append('\n').append(answer.getContent());
+                }
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 색인 본체 (QuestionSearchIndex 의 lock 안에서만 사용, 패키지 공개는 JMH 벤치마크용)
+     * 문서 번호는 추가될 때마다 1씩 증가하므로 문서 목록 끝에 붙이기만 하면 정렬이 유지됨
+     */
+    static final class Index {
+
+        private final Map<Integer, Postings> postings = new HashMap<>();
+        private final Map<Long, Integer> docByQuestionId = new HashMap<>();
+        private final Map<Long, Set<Long>> docsByLecture = new HashMap<>();
+
+        // 문서 번호 → 문제 정보 (삭제된 번호는 questionIds 가 0)
+        private long[] questionIds = new long[1024];
+        private long[] lectureIds = new long[1024];
+        private int[] lengths = new int[1024];
+        private int[] textHashes = new int[1024];
+        private int[][] termsOf = new int[1024][];
+        private int docCount;
+
+        private int liveDocs;
+        private int deletedDocs;
+        private long totalLength;
+
+        static Index build(CatalogSnapshot snapshot) {
+            Index index = new Index();
+            for (LectureDto lecture : snapshot.lectures()) {
+                for (QuestionDto question : snapshot.questionsOf(lecture.getId())) {
+                    index.add(lecture.getId(), question);
+                }
+            }
+            return index;
+        }
+
+        /** 강의의 문제 목록을 현재 상태로 맞춤 (빠진 문제 제거, 새 문제/내용이 바뀐 문제 추가) */
+        void sync(long lectureId, List<QuestionDto> questions) {
+            Map<Long, QuestionDto> current = new HashMap<>();
+            for (QuestionDto q : questions) {
+                current.put(q.getId(), q);
+            }
+            List<Long> stale = new ArrayList<>();
+            for (Long questionId : docsByLecture.getOrDefault(lectureId, Set.of())) {
+                if (!current.containsKey(questionId)) {
+                    stale.add(questionId);
+                }
+            }
+            List<QuestionDto> toAdd = new ArrayList<>();
+            for (QuestionDto q : questions) {
+                Integer doc = docByQuestionId.get(q.getId());
+                if (doc != null) {
+                    if (lectureIds[doc] == lectureId && textHashes[doc] == textOf(q).hashCode()) {
+                        continue;
+                    }
+                    stale.add(q.getId()); // 다른 강의로 옮겨졌거나 내용이 바뀜
+                }
+                toAdd.add(q);
+            }
+            removeAll(stale);
+            for (QuestionDto q : toAdd) {
+                add(lectureId, q);
+            }
+        }
+
+        void add(long lectureId, QuestionDto question) {
+            String text = textOf(question);
+            int[] tokens = indexTokens(text);
+            int length = tokenize(text).length; // 문서 길이는 bigram 기준 (unigram 을 더해도 기존 점수가 바뀌지 않게)
+            int doc = docCount++;
+            ensureCapacity(docCount);
+
+            // 정렬 후 같은 값 묶어서 단어별 출현 횟수 계산
+            int[] sorted = tokens.clone();
+            Arrays.sort(sorted);
+            int[] terms = new int[sorted.length];
+            int termCount = 0;
+            for (int i = 0; i < sorted.length; ) {
+                int j = i;
+                while (j < sorted.length && sorted[j] == sorted[i]) {
+                    j++;
+                }
+                postings.computeIfAbsent(sorted[i], t -> new Postings()).append(doc, j - i);
+                terms[termCount++] = sorted[i];
+                i = j;
+            }
+
+            questionIds[doc] = question.getId();
+            lectureIds[doc] = lectureId;
+            lengths[doc] = length;
+            textHashes[doc] = text.hashCode();
+            termsOf[doc] = Arrays.copyOf(terms, termCount);
+            docByQuestionId.put(question.getId(), doc);
+            docsByLecture.computeIfAbsent(lectureId, id -> new HashSet<>()).add(question.getId());
+            liveDocs++;
+            totalLength += length;
+        }
+
+        /**
+         * 여러 문제를 한 번에 제거 (단어별 문서 목록은 단어마다 한 번만 다시 인코딩)
+         */
+        void removeAll(List<Long> questionIdsToRemove) {
+            BitSet removed = new BitSet(docCount);
+            Set<Integer> touchedTerms = new HashSet<>();
+            for (Long questionId : questionIdsToRemove) {
+                Integer doc = docByQuestionId.get(questionId);
+                if (doc == null || removed.get(doc)) {
+                    continue;
+                }
+                removed.set(doc);
+                for (int term : termsOf[doc]) {
+                    touchedTerms.add(term);
+                }
+                unregister(questionId, doc);
+            }
+            for (int term : touchedTerms) {
+                Postings list = postings.get(term);
+                if (list != null && list.removeAll(removed) == 0) {
+                    postings.remove(term);
+                }
+            }
+        }
+
+        private void unregister(long questionId, int doc) {
+            docByQuestionId.remove(questionId);
+            Set<Long> lectureDocs = docsByLecture.get(lectureIds[doc]);
+            if (lectureDocs != null) {
+                lectureDocs.remove(questionId);
+                if (lectureDocs.isEmpty()) {
+                    docsByLecture.remove(lectureIds[doc]);
+                }
+            }
+            totalLength -= lengths[doc];
+            questionIds[doc] = 0;
+            termsOf[doc] = null;
+            liveDocs--;
+            deletedDocs++;
+        }
+
+        /**
+         * 검색어 단어가 하나라도 나온 문서만 문서 번호 → BM25 점수
+         * (전체 문서 수만큼 배열을 만들거나 훑지 않음 - 비용은 검색어 단어들의 문서 목록 길이에 비례)
+         */
+        Map<Integer, Double> score(int[] terms, Long lectureId) {
+            Map<Integer, Double> scores = new HashMap<>();
+            if (liveDocs == 0) {
+                return scores;
+            }
+            double avgLength = Math.max(1.0, (double) totalLength / liveDocs);
+            for (int term : terms) {
+                Postings list = postings.get(term);
+                if (list == null) {
+                    continue;
+                }
+                double idf = Math.log(1 + (liveDocs - list.docFreq + 0.5) / (list.docFreq + 0.5));
+                list.forEach((doc, tf) -> {
+                    if (lectureId != null && lectureIds[doc] != lectureId) {
+                        return;
+                    }
+                    double norm = K1 * (1 - B + B * lengths[doc] / avgLength);
+                    scores.merge(doc, idf * tf * (K1 + 1) / (tf + norm), Double::sum);
+                });
+            }
+            return scores;
+        }
+
+        private void ensureCapacity(int size) {
+            if (size <= questionIds.length) {
+                return;
+            }
+            int capacity = Math.max(size, questionIds.length * 2);
+            questionIds = Arrays.copyOf(questionIds, capacity);
+            lectureIds = Arrays.copyOf(lectureIds, capacity);
+            lengths = Arrays.copyOf(lengths, capacity);
+            textHashes = Arrays.copyOf(textHashes, capacity);
+            termsOf = Arrays.copyOf(termsOf, capacity);
+        }
+    }
+
+    /**
+     * 단어 하나의 문서 목록: (이전 문서 번호와의 차이, 출현 횟수) 쌍을 varint 로 이어 붙인 byte[]
+     */
+    private static final class Postings {
+
+        private byte[] data = new byte[8];
+        private int length;
+        private int lastDoc = -1;
+        private int docFreq;
+
+        void append(int doc, int tf) {
+            ensureCapacity(length + 10);
+            length = writeVarint(data, length, doc - lastDoc);
+            length = writeVarint(data, length, tf);
+            lastDoc = doc;
+            docFreq++;
+        }
+
+        /** 지운 문서들을 빼고 다시 인코딩, 남은 문서 수 반환 */
+        int removeAll(BitSet removed) {
+            byte[] old = data;
+            int oldLength = length;
+            data = new byte[Math.max(8, oldLength)];
+            length = 0;
+            lastDoc = -1;
+            docFreq = 0;
+
+            int pos = 0;
+            int doc = -1;
+            int[] buf = new int[1];
+            while (pos < oldLength) {
+                pos = readVarint(old, pos, buf);
+                doc += buf[0];
+                pos = readVarint(old, pos, buf);
+                if (!removed.get(doc)) {
+                    append(doc, buf[0]);
+                }
+            }
+            return docFreq;
+        }
+
+        void forEach(PostingConsumer consumer) {
+            int pos = 0;
+            int doc = -1;
+            int[] buf = new int[1];
+            while (pos < length) {
+                pos = readVarint(data, pos, buf);
+                doc += buf[0];
+                pos = readVarint(data, pos, buf);
+                consumer.accept(doc, buf[0]);
+            }
+        }
+
+        private void ensureCapacity(int size) {
+            if (size > data.length) {
+                data = Arrays.copyOf(data, Math.max(size, data.length * 2));
+            }
+        }
+
+        private static int writeVarint(byte[] buf, int pos, int value) {
+            while ((value & ~0x7F) != 0) {
+                buf[pos++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buf[pos++] = (byte) value;
+            return pos;
+        }
+
+        private static int readVarint(byte[] buf, int pos, int[] out) {
+            int value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = buf[pos++];
+                value |= (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            out[0] = value;
+            return pos;
+        }
+    }
+
+    @FunctionalInterface
+    private interface PostingConsumer {
+        void accept(int doc, int tf);
+    }
+}
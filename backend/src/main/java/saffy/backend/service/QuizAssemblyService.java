@@ -0,0 +1,189 @@
+package saffy.backend.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import saffy.backend.dto.AnswerDto;
+import saffy.backend.dto.LectureDto;
+import saffy.backend.dto.QuestionDto;
+import saffy.backend.dto.QuizChoiceDto;
+import saffy.backend.dto.QuizDto;
+import saffy.backend.dto.QuizQuestionDto;
+import saffy.backend.dto.QuizRequestDto;
+import saffy.backend.entity.QuestionType;
+
+/**
+ * 서버에서 문제 뽑기
+ * - 스냅샷의 강의/유형별 문제 ID 배열(long[])을 이어 붙인 범위에서 Floyd 알고리즘으로 중복 없이 균등 추출
+ * - seed 기반 난수라서 같은 요청 + seed면 같은 퀴즈가 나옴
+ * - 보기 순서도 서버에서 섞고, 정답 여부와 해설은 내려주지 않음 (채점 때 공개)
+ * 응답 크기와 작업량이 문제 은행 크기가 아니라 뽑는 문제 수에 비례함
+ */
+@Service
+@RequiredArgsConstructor
+public class QuizAssemblyService {
+
+    static final int DEFAULT_COUNT = 10;
+    static final int MAX_COUNT = 100;
+
+    private final CatalogSnapshotHolder catalogSnapshotHolder;
+
+    public QuizDto assemble(QuizRequestDto request) {
+        CatalogSnapshot snapshot = catalogSnapshotHolder.get();
+        long[] lectureIds = resolveLectures(snapshot, request);
+        Map<QuestionType, Integer> mix = resolveMix(request);
+
+        long seed = (request.getSeed() != null) ? request.getSeed() : ThreadLocalRandom.current().nextLong();
+        SplittableRandom random = new SplittableRandom(seed);
+
+        List<QuestionDto> picked = new ArrayList<>();
+        if (mix.isEmpty()) {
+            int count = (request.getCount() != null) ? request.getCount() : DEFAULT_COUNT;
+            picked.addAll(sample(snapshot, pools(snapshot, lectureIds, QuestionType.values()), clamp(count), random));
+        } else {
+            for (Map.Entry<QuestionType, Integer> entry : mix.entrySet()) {
+                picked.addAll(sample(snapshot, pools(snapshot, lectureIds, entry.getKey()), entry.getValue(), random));
+            }
+        }
+        shuffle(picked, random);
+
+        return QuizDto.builder()
+                .seed(seed)
+                .questions(picked.stream().map(q -> toQuizQuestion(q, random)).toList())
+                .build();
+    }
+
+    private long[] resolveLectures(CatalogSnapshot snapshot, QuizRequestDto request) {
+        if (request.getLectureIds() != null && !request.getLectureIds().isEmpty()) {
+            for (Long lectureId : request.getLectureIds()) {
+                if (lectureId == null || !snapshot.hasLecture(lectureId)) {
+                    throw new IllegalArgumentException("해당 ID의 강의를 찾을 수 없습니다: " + lectureId);
+                }
+            }
+            return request.getLectureIds().stream().mapToLong(Long::longValue).distinct().toArray();
+        }
+        if (request.getSubjectId() != null) {
+            boolean exists = snapshot.subjects().stream().anyMatch(s -> s.getId().equals(request.getSubjectId()));
+            if (!exists) {
+                throw new IllegalArgumentException("해당 ID의 과목을 찾을 수 없습니다: " + request.getSubjectId());
+            }
+            return snapshot.lectures().stream()
+                    .filter(l -> request.getSubjectId().equals(l.getSubjectId()))
+                    .mapToLong(LectureDto::getId)
+                    .toArray();
+        }
+        throw new IllegalArgumentException("subjectId 또는 lectureIds 중 하나는 필요합니다.");
+    }
+
+    private Map<QuestionType, Integer> resolveMix(QuizRequestDto request) {
+        Map<QuestionType, Integer> mix = new EnumMap<>(QuestionType.class); // 유형 순서 고정 (seed 재현성)
+        if (request.getTypeMix() == null) {
+            return mix;
+        }
+        int total = 0;
+        for (Map.Entry<QuestionType, Integer> entry : request.getTypeMix().entrySet()) {
+            Integer count = entry.getValue();
+            if (entry.getKey() == null || count == null || count < 0) {
+                throw new IllegalArgumentException("typeMix 값이 올바르지 않습니다.");
+            }
+            if (count > 0) {
+                mix.put(entry.getKey(), count);
+                total += count;
+            }
+        }
+        if (total > MAX_COUNT) {
+            throw new IllegalArgumentException("한 번에 최대 " + MAX_COUNT + "문제까지 뽑을 수 있습니다.");
+        }
+        return mix;
+    }
+
+    private static int clamp(int count) {
+        return Math.max(1, Math.min(count, MAX_COUNT));
+    }
+
+    private static List<long[]> pools(CatalogSnapshot snapshot, long[] lectureIds, QuestionType... types) {
+        List<long[]> pools = new ArrayList<>(lectureIds.length * types.length);
+        for (long lectureId : lectureIds) {
+            for (QuestionType type : types) {
+                long[] ids = snapshot.questionIdsOf(lectureId, type);
+                if (ids.length > 0) {
+                    pools.add(ids);
+                }
+            }
+        }
+        return pools;
+    }
+
+    /**
+     * 여러 ID 배열을 이어 붙인 [0, total) 범위에서 k개를 중복 없이 균등하게 뽑음 (Floyd 알고리즘, O(k))
+     * 문제 수가 k보다 적으면 전부 반환
+     */
+    static List<QuestionDto> sample(CatalogSnapshot snapshot, List<long[]> pools, int k, SplittableRandom random) {
+        int[] offsets = new int[pools.size() + 1];
+        for (int i = 0; i < pools.size(); i++) {
+            offsets[i + 1] = offsets[i] + pools.get(i).length;
+        }
+        int total = offsets[pools.size()];
+        int n = Math.min(k, total);
+
+        Set<Integer> chosen = new HashSet<>(n * 2);
+        List<Integer> order = new ArrayList<>(n);
+        for (int j = total - n; j < total; j++) {
+            int t = random.nextInt(j + 1);
+            int pick = chosen.add(t) ? t : j;
+            if (pick == j) {
+                chosen.add(j);
+            }
+            order.add(pick);
+        }
+
+        List<QuestionDto> result = new ArrayList<>(n);
+        for (int index : order) {
+            // index가 속한 배열 찾기 (offsets[p] <= index < offsets[p + 1], 빈 배열은 pools에 없음)
+            int p = Arrays.binarySearch(offsets, index);
+            p = (p >= 0) ? p : -p - 2;
+            result.add(snapshot.question(pools.get(p)[index - offsets[p]]));
+        }
+        return result;
+    }
+
+    static QuizQuestionDto toQuizQuestion(QuestionDto q, SplittableRandom random) {
+        List<QuizChoiceDto> choices;
+        if (q.getQuestionType() == QuestionType.SHORT_ANSWER) {
+            choices = List.of(); // 보기 = 정답이므로 내려주지 않음
+        } else {
+            List<QuizChoiceDto> list = new ArrayList<>(q.getAnswers().size());
+            for (AnswerDto a : q.getAnswers()) {
+                list.add(new QuizChoiceDto(a.getId(), a.getContent()));
+            }
+            if (q.getQuestionType() == QuestionType.MULTIPLE_CHOICE) {
+                shuffle(list, random); // OX는 O, X 순서 유지
+            }
+            choices = Collections.unmodifiableList(list);
+        }
+
+        return QuizQuestionDto.builder()
+                .id(q.getId())
+                .content(q.getContent())
+                .questionType(q.getQuestionType())
+                .lecture(q.getLecture())
+                .choices(choices)
+                .build();
+    }
+
+    /** Fisher–Yates 셔플 */
+    private static <T> void shuffle(List<T> list, SplittableRandom random) {
+        for (int i = list.size() - 1; i > 0; i--) {
+            Collections.swap(list, i, random.nextInt(i + 1));
+        }
+    }
+}
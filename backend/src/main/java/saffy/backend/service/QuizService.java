@@ -1,159 +1,207 @@
 package saffy.backend.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import saffy.backend.dto.AnswerDto;
+import saffy.backend.dto.BulkQuestionDto;
+import saffy.backend.dto.BulkResultDto;
 import saffy.backend.dto.LectureDto;
 import saffy.backend.dto.QuestionDto;
+import saffy.backend.dto.QuestionPageDto;
 import saffy.backend.dto.SubjectDto;
 import saffy.backend.dto.UploadQuestionDto;
+import saffy.backend.dto.UploadResultDto;
 import saffy.backend.entity.Answer;
 import saffy.backend.entity.Lecture;
 import saffy.backend.entity.Question;
+import saffy.backend.entity.QuestionType;
 import saffy.backend.entity.Subject;
 import saffy.backend.repository.AnswerRepository;
+import saffy.backend.repository.CatalogRevisionRepository;
 import saffy.backend.repository.LectureRepository;
+import saffy.backend.repository.QuestionBatchWriter;
 import saffy.backend.repository.QuestionRepository;
 import saffy.backend.repository.SubjectRepository;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class QuizService {
 
+    private static final int MAX_PAGE_SIZE = 200;
+    static final int MAX_BULK_SIZE = 1000;
+
+    /** 강의 이름 형식: "단원-번호 강의명" */
+    private static final Pattern LECTURE_NAME = Pattern.compile("^(\\d+)-(\\d+)\\s+.+");
+
     private final QuestionRepository questionRepository;
     private final AnswerRepository answerRepository;
+    private final QuestionBatchWriter questionBatchWriter;
     private final LectureRepository lectureRepository;
     private final SubjectRepository subjectRepository;
+    private final QuestionAssembler questionAssembler;
+    private final CatalogSnapshotHolder catalogSnapshotHolder;
+    private final ApplicationEventPublisher eventPublisher;
+    private final QuestionDuplicateIndex questionDuplicateIndex;
+    private final CatalogRevisionRepository catalogRevisionRepository;
 
     /** 과목 전체 목록 조회 */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<SubjectDto> getAllSubjects() {
-        return subjectRepository.findAll().stream()
-                .map(this::toSubjectDto)
-                .toList();
+        return catalogSnapshotHolder.get().subjects();
     }
 
     /** 강의 전체 목록 조회 */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<LectureDto> getAllLectures() {
-        return lectureRepository.findAll().stream()
-                .map(this::toLectureDto)
-                .sorted((a, b) -> {
-                    String[] aParts = a.getName().split(" ")[0].split("-");
-                    String[] bParts = b.getName().split(" ")[0].split("-");
-
-                    int a1 = Integer.parseInt(aParts[0]);
-                    int a2 = Integer.parseInt(aParts[1]);
-                    int b1 = Integer.parseInt(bParts[0]);
-                    int b2 = Integer.parseInt(bParts[1]);
+        return catalogSnapshotHolder.get().lectures();
+    }
 
-                    if (a1 != b1) return a1 - b1;
-                    return a2 - b2;
-                })
-                .toList();
+    /** 과목별 강의 목록 조회 (단원-번호 순) */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<LectureDto> getLecturesBySubject(Long subjectId) {
+        List<LectureDto> lectures = catalogSnapshotHolder.get().lecturesOf(subjectId);
+        if (lectures == null) {
+            throw new IllegalArgumentException("과목 ID " + subjectId + "를 찾을 수 없습니다.");
+        }
+        return lectures;
     }
 
     /** 강의별 문제(보기/해설 포함) 조회 */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<QuestionDto> getByLectureId(Long lectureId) {
-        lectureRepository.findById(lectureId)
-                .orElseThrow(() -> new IllegalArgumentException("해당 ID의 강의를 찾을 수 없습니다: " + lectureId));
-
-        return questionRepository.findByLecture_Id(lectureId).stream()
-                .map(this::toQuestionDtoWithChildren)
-                .toList();
-    }
-
-    // ====== DTO 매핑 ======
-    private SubjectDto toSubjectDto(Subject sub) {
-        return new SubjectDto(sub.getId(), sub.getName());
-    }
-
-    private LectureDto toLectureDto(Lecture lec) {
-        Long subjectId = (lec.getSubject() != null) ? lec.getSubject().getId() : null;
-        return new LectureDto(lec.getId(), lec.getName(), subjectId);
-    }
-
-    private QuestionDto toQuestionDtoWithChildren(Question q) {
-        // Question -> Lecture -> LectureDto
-        LectureDto lectureDto = toLectureDto(q.getLecture());
-
-        List<AnswerDto> answers = answerRepository.findByQuestionId(q.getId())
-                .stream()
-                .map(this::toAnswerDto)
-                .toList();
-
-        // 정답 보기에서 전체 해설 추출
-        String explanation = answers.stream()
-                .filter(AnswerDto::isCorrect)
-                .findFirst()
-                .map(AnswerDto::getExplanation)
-                .orElse(null); // 정답이 없거나 해설이 없는 경우 null
-
-        return QuestionDto.builder()
-                .id(q.getId())
-                .content(q.getContent())
-                .questionType(q.getQuestionType())
-                .lecture(lectureDto)
-                .answers(answers)
-                .explanation(explanation)
-                .build();
-    }
-
-    private AnswerDto toAnswerDto(Answer a) {
-        return new AnswerDto(a.getId(), a.getContent(), a.isCorrect(), a.getExplanation());
+        List<QuestionDto> questions = catalogSnapshotHolder.get().questionsOf(lectureId);
+        if (questions == null) {
+            throw new IllegalArgumentException("해당 ID의 강의를 찾을 수 없습니다: " + lectureId);
+        }
+        return questions;
     }
 
     /**
      * JSON 데이터 업로드
-     * 여러 문제를 한 번에 추가할 수 있음
+     * 여러 문제를 한 번에 추가할 수 있음 (JDBC batch로 저장)
      */
     @Transactional
-    public void uploadQuestions(UploadQuestionDto dto) {
+    public UploadResultDto uploadQuestions(UploadQuestionDto dto, boolean allowDuplicates) {
         // 1. 강의 확인
         Lecture lecture = lectureRepository.findById(dto.getLectureId())
                 .orElseThrow(() -> new IllegalArgumentException("강의 ID " + dto.getLectureId() + "를 찾을 수 없습니다."));
 
-        // 2. 각 문제 저장
-        for (UploadQuestionDto.QuestionItem item : dto.getQuestions()) {
-            // Question 생성
-            Question question = new Question();
-            question.setContent(item.getContent());
-            question.setLecture(lecture);
-
-            // questionType 설정 (없으면 기본값 MULTIPLE_CHOICE)
-            if (item.getQuestionType() != null) {
-                try {
-                    question.setQuestionType(saffy.backend.entity.QuestionType.valueOf(item.getQuestionType()));
-                } catch (IllegalArgumentException e) {
-                    question.setQuestionType(saffy.backend.entity.QuestionType.MULTIPLE_CHOICE);
+        // 2. 중복 의심 문제 확인 (allowDuplicates 가 아니면 저장하지 않음)
+        QuestionDuplicateIndex.Batch duplicateCheck = questionDuplicateIndex.newBatch();
+        List<UploadResultDto.Duplicate> duplicates = new ArrayList<>();
+        List<Question> questions = new ArrayList<>(dto.getQuestions().size());
+        for (int i = 0; i < dto.getQuestions().size(); i++) {
+            UploadQuestionDto.QuestionItem item = dto.getQuestions().get(i);
+            int[] signature = duplicateCheck.signatureOf(item);
+            QuestionDuplicateIndex.Match match = duplicateCheck.find(signature);
+            if (match != null) {
+                duplicates.add(UploadResultDto.Duplicate.builder()
+                        .index(i)
+                        .content(item.getContent())
+                        .matchedQuestionId(match.questionId())
+                        .matchedIndex(match.itemIndex())
+                        .similarity(match.similarity())
+                        .build());
+                if (!allowDuplicates) {
+                    continue;
                 }
             }
+            duplicateCheck.add(i, signature);
+            questions.add(toQuestion(item, lecture));
+        }
 
-            questionRepository.save(question);
-
-            // Answer 생성 (보기들 - 각각 해설 포함)
-            if (item.getChoices() != null) {
-                for (UploadQuestionDto.ChoiceItem choice : item.getChoices()) {
-                    Answer answer = new Answer();
-                    answer.setContent(choice.getContent());
-                    answer.setCorrect(choice.isCorrect());
-                    answer.setExplanation(choice.getExplanation());
-                    answer.setQuestion(question);
-                    answerRepository.save(answer);
-                }
+        // 3. 문제/보기 한꺼번에 저장 (새 리비전으로 기록)
+        if (!questions.isEmpty()) {
+            long revision = catalogRevisionRepository.next();
+            questions.forEach(q -> q.setRevision(revision));
+            questionBatchWriter.insertAll(lecture.getId(), questions);
+            catalogRevisionRepository.touchLectures(List.of(lecture.getId()), revision);
+            eventPublisher.publishEvent(CatalogChangedEvent.ofLecture(lecture.getId()));
+        }
+
+        int skipped = dto.getQuestions().size() - questions.size();
+        return UploadResultDto.builder()
+                .message(skipped > 0
+                        ? "문제 " + questions.size() + "개를 추가했고, 중복 의심 문제 " + skipped + "개는 건너뛰었습니다."
+                        : "문제가 성공적으로 추가되었습니다.")
+                .inserted(questions.size())
+                .skipped(skipped)
+                .duplicates(duplicates)
+                .build();
+    }
+
+    static Question toQuestion(UploadQuestionDto.QuestionItem item, Lecture lecture) {
+        // Question 생성
+        Question question = new Question();
+        question.setContent(item.getContent());
+        question.setLecture(lecture);
+        question.setQuestionType(resolveQuestionType(item.getQuestionType()));
+
+        // Answer 생성 (보기들 - 각각 해설 포함)
+        if (item.getChoices() != null) {
+            for (UploadQuestionDto.ChoiceItem choice : item.getChoices()) {
+                Answer answer = new Answer();
+                answer.setContent(choice.getContent());
+                answer.setCorrect(choice.isCorrect());
+                answer.setExplanation(choice.getExplanation());
+                answer.setQuestion(question);
+                question.getAnswers().add(answer);
             }
         }
+        return question;
+    }
+
+    /**
+     * 문제 유형 문자열 변환 (없거나 잘못된 값이면 기본값 MULTIPLE_CHOICE)
+     */
+    static QuestionType resolveQuestionType(String questionType) {
+        if (questionType == null) {
+            return QuestionType.MULTIPLE_CHOICE;
+        }
+        try {
+            return QuestionType.valueOf(questionType);
+        } catch (IllegalArgumentException e) {
+            return QuestionType.MULTIPLE_CHOICE;
+        }
     }
 
     /**
      * 전체 문제 목록 조회 (관리자용)
      */
     public List<QuestionDto> getAllQuestions() {
-        return questionRepository.findAll().stream()
-                .map(this::toQuestionDtoWithChildren)
-                .toList();
+        return questionAssembler.toQuestionDtos(questionRepository.findAllWithLecture());
+    }
+
+    /**
+     * 문제 목록 페이지 조회 (관리자용)
+     * questions.id 기준 keyset 페이지라서 몇 번째 페이지든 비용이 같음
+     */
+    public QuestionPageDto getQuestionPage(Long afterId, Long subjectId, Long lectureId, QuestionType questionType, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        long cursor = (afterId != null) ? afterId : 0L;
+
+        // 다음 페이지 존재 여부 확인을 위해 하나 더 읽음
+        List<Question> rows = questionRepository.findPage(cursor, subjectId, lectureId, questionType, Limit.of(pageSize + 1));
+        boolean hasNext = rows.size() > pageSize;
+        List<QuestionDto> items = questionAssembler.toQuestionDtos(hasNext ? rows.subList(0, pageSize) : rows);
+
+        return QuestionPageDto.builder()
+                .items(items)
+                .nextCursor(items.isEmpty() ? null : items.get(items.size() - 1).getId())
+                .hasNext(hasNext)
+                .build();
     }
 
     /**
@@ -161,9 +209,114 @@ public class QuizService {
      */
     @Transactional
     public void deleteQuestion(Long questionId) {
-        Question question = questionRepository.findById(questionId)
-                .orElseThrow(() -> new IllegalArgumentException("문제 ID " + questionId + "를 찾을 수 없습니다."));
-        questionRepository.delete(question);
+        if (deleteQuestions(List.of(questionId)).getAffected() == 0) {
+            throw new IllegalArgumentException("문제 ID " + questionId + "를 찾을 수 없습니다.");
+        }
+    }
+
+    /**
+     * 문제 대량 삭제 (보기 DELETE → 문제 DELETE, 엔티티를 읽지 않음)
+     * 없는 ID는 무시함
+     */
+    @Transactional
+    public BulkResultDto deleteQuestions(List<Long> questionIds) {
+        List<Long> ids = checkBulkIds(questionIds);
+        Set<Long> lectureIds = new HashSet<>(questionRepository.findLectureIdsByIdIn(ids));
+        if (lectureIds.isEmpty()) {
+            return bulkResult("삭제할 문제가 없습니다.", 0, lectureIds);
+        }
+        long revision = catalogRevisionRepository.next();
+        catalogRevisionRepository.addTombstonesByQuestionIds(ids, revision);
+        catalogRevisionRepository.touchLectures(lectureIds, revision);
+        answerRepository.deleteByQuestionIds(ids);
+        int deleted = questionRepository.deleteByIds(ids);
+        eventPublisher.publishEvent(new CatalogChangedEvent(lectureIds));
+        return bulkResult("문제 " + deleted + "개를 삭제했습니다.", deleted, lectureIds);
+    }
+
+    /**
+     * 강의의 문제 전체 삭제 (강의는 남김)
+     */
+    @Transactional
+    public BulkResultDto purgeLecture(Long lectureId) {
+        if (!lectureRepository.existsById(lectureId)) {
+            throw new IllegalArgumentException("강의 ID " + lectureId + "를 찾을 수 없습니다.");
+        }
+        if (!questionRepository.existsByLectureId(lectureId)) {
+            return bulkResult("문제 0개를 삭제했습니다.", 0, Set.of(lectureId));
+        }
+        long revision = catalogRevisionRepository.next();
+        catalogRevisionRepository.addTombstonesByLectureId(lectureId, revision);
+        catalogRevisionRepository.touchLectures(List.of(lectureId), revision);
+        answerRepository.deleteByLectureId(lectureId);
+        int deleted = questionRepository.deleteByLectureId(lectureId);
+        if (deleted > 0) {
+            eventPublisher.publishEvent(CatalogChangedEvent.ofLecture(lectureId));
+        }
+        return bulkResult("문제 " + deleted + "개를 삭제했습니다.", deleted, Set.of(lectureId));
+    }
+
+    /**
+     * 문제 이동: questionIds 가 있으면 그 문제들을, 없으면 fromLectureId 강의의 문제 전체를 toLectureId 로 옮김
+     */
+    @Transactional
+    public BulkResultDto moveQuestions(BulkQuestionDto dto) {
+        Long toLectureId = dto.getToLectureId();
+        if (toLectureId == null || !lectureRepository.existsById(toLectureId)) {
+            throw new IllegalArgumentException("옮길 강의 ID " + toLectureId + "를 찾을 수 없습니다.");
+        }
+
+        Set<Long> lectureIds = new HashSet<>();
+        int moved;
+        if (dto.getQuestionIds() != null && !dto.getQuestionIds().isEmpty()) {
+            List<Long> ids = checkBulkIds(dto.getQuestionIds());
+            lectureIds.addAll(questionRepository.findLectureIdsByIdIn(ids));
+            if (lectureIds.isEmpty()) {
+                moved = 0;
+            } else {
+                long revision = catalogRevisionRepository.next();
+                catalogRevisionRepository.addTombstonesByQuestionIds(ids, revision);
+                moved = questionRepository.moveByIds(ids, toLectureId, revision);
+                lectureIds.add(toLectureId);
+                catalogRevisionRepository.touchLectures(lectureIds, revision);
+            }
+        } else if (dto.getFromLectureId() != null) {
+            if (!lectureRepository.existsById(dto.getFromLectureId())) {
+                throw new IllegalArgumentException("강의 ID " + dto.getFromLectureId() + "를 찾을 수 없습니다.");
+            }
+            lectureIds.add(dto.getFromLectureId());
+            if (dto.getFromLectureId().equals(toLectureId) || !questionRepository.existsByLectureId(dto.getFromLectureId())) {
+                moved = 0;
+            } else {
+                long revision = catalogRevisionRepository.next();
+                catalogRevisionRepository.addTombstonesByLectureId(dto.getFromLectureId(), revision);
+                moved = questionRepository.moveByLectureId(dto.getFromLectureId(), toLectureId, revision);
+                lectureIds.add(toLectureId);
+                catalogRevisionRepository.touchLectures(lectureIds, revision);
+            }
+        } else {
+            throw new IllegalArgumentException("옮길 문제 ID 목록(questionIds) 또는 강의(fromLectureId)를 입력해주세요.");
+        }
+
+        lectureIds.add(toLectureId);
+        if (moved > 0) {
+            eventPublisher.publishEvent(new CatalogChangedEvent(lectureIds));
+        }
+        return bulkResult("문제 " + moved + "개를 옮겼습니다.", moved, lectureIds);
+    }
+
+    private static List<Long> checkBulkIds(List<Long> questionIds) {
+        if (questionIds == null || questionIds.isEmpty()) {
+            throw new IllegalArgumentException("문제 ID 목록(questionIds)이 비어 있습니다.");
+        }
+        if (questionIds.size() > MAX_BULK_SIZE) {
+            throw new IllegalArgumentException("한 번에 최대 " + MAX_BULK_SIZE + "개까지 처리할 수 있습니다.");
+        }
+        return questionIds.stream().filter(Objects::nonNull).distinct().toList();
+    }
+
+    private static BulkResultDto bulkResult(String message, int affected, Set<Long> lectureIds) {
+        return BulkResultDto.builder().message(message).affected(affected).lectureIds(lectureIds).build();
     }
 
     /**
@@ -179,6 +332,14 @@ public class QuizService {
 
         Lecture newLecture = new Lecture();
         newLecture.setName(name);
+        Matcher key = LECTURE_NAME.matcher(name);
+        key.matches();
+        try {
+            newLecture.setUnit(Integer.parseInt(key.group(1)));
+            newLecture.setIdx(Integer.parseInt(key.group(2)));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("강의 번호가 너무 큽니다: " + name);
+        }
 
         // Subject 설정
         if (lectureDto.getSubjectId() != null) {
@@ -187,8 +348,10 @@ public class QuizService {
             newLecture.setSubject(subject);
         }
 
+        newLecture.setRevision(catalogRevisionRepository.next());
         Lecture savedLecture = lectureRepository.save(newLecture);
-        return toLectureDto(savedLecture);
+        eventPublisher.publishEvent(CatalogChangedEvent.ofStructure());
+        return questionAssembler.toLectureDto(savedLecture);
     }
 
     /**
@@ -199,7 +362,7 @@ public class QuizService {
             return false;
         }
         // 정규식: "숫자-숫자 " 로 시작하는지 확인
-        return name.matches("^\\d+-\\d+\\s+.+");
+        return LECTURE_NAME.matcher(name).matches();
     }
 
     /**
@@ -214,6 +377,9 @@ public class QuizService {
         Lecture lecture = lectureRepository.findById(lectureId)
                 .orElseThrow(() -> new IllegalArgumentException("강의 ID " + lectureId + "를 찾을 수 없습니다."));
         lectureRepository.delete(lecture);
+        catalogRevisionRepository.next();
+        catalogRevisionRepository.deleteTombstonesByLectureId(lectureId);
+        eventPublisher.publishEvent(CatalogChangedEvent.ofLecture(lectureId));
     }
 
     /**
@@ -224,7 +390,9 @@ public class QuizService {
         Subject newSubject = new Subject();
         newSubject.setName(subjectDto.getName());
         Subject savedSubject = subjectRepository.save(newSubject);
-        return toSubjectDto(savedSubject);
+        catalogRevisionRepository.next();
+        eventPublisher.publishEvent(CatalogChangedEvent.ofStructure());
+        return questionAssembler.toSubjectDto(savedSubject);
     }
 
     /**
@@ -233,14 +401,13 @@ public class QuizService {
     @Transactional
     public void deleteSubject(Long subjectId) {
         // 해당 과목에 속한 강의가 있는지 확인
-        long lectureCount = lectureRepository.findAll().stream()
-                .filter(l -> l.getSubject() != null && l.getSubject().getId().equals(subjectId))
-                .count();
-        if (lectureCount > 0) {
+        if (lectureRepository.existsBySubject_Id(subjectId)) {
             throw new IllegalStateException("해당 과목에 속한 강의가 있어 삭제할 수 없습니다.");
         }
         Subject subject = subjectRepository.findById(subjectId)
                 .orElseThrow(() -> new IllegalArgumentException("과목 ID " + subjectId + "를 찾을 수 없습니다."));
         subjectRepository.delete(subject);
+        catalogRevisionRepository.next();
+        eventPublisher.publishEvent(CatalogChangedEvent.ofStructure());
     }
 }
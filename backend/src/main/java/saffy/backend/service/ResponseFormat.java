@@ -0,0 +1,69 @@
+package saffy.backend.service;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.util.InvalidMimeTypeException;
+import org.springframework.util.MimeTypeUtils;
+
+/**
+ * 조회 응답 인코딩 (Accept 헤더로 선택)
+ * - JSON: 기본값
+ * - CBOR / Smile: 같은 DTO 를 필드 이름과 숫자를 짧게 담는 바이너리 형식 (모바일 등 느린 네트워크용)
+ */
+public enum ResponseFormat {
+    JSON(MediaType.APPLICATION_JSON),
+    CBOR(MediaType.APPLICATION_CBOR),
+    SMILE(new MediaType("application", "x-jackson-smile"));
+
+    private final MediaType mediaType;
+
+    ResponseFormat(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public MediaType mediaType() {
+        return mediaType;
+    }
+
+    /**
+     * Accept 헤더에서 가장 선호하는 형식 (품질값 순)
+     * - 헤더가 없거나 잘못됐거나 항목이 너무 많으면(50개 초과) JSON
+     * - 올바른 헤더인데 받을 수 있는 형식이 하나도 없으면(q=0 으로 모두 제외 포함) null → 406
+     */
+    public static ResponseFormat negotiate(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return JSON;
+        }
+        List<MediaType> accepted;
+        try {
+            accepted = MediaType.parseMediaTypes(accept);
+            MimeTypeUtils.sortBySpecificity(accepted);
+        } catch (InvalidMediaTypeException | InvalidMimeTypeException e) {
+            return JSON;
+        }
+        Set<ResponseFormat> excluded = EnumSet.noneOf(ResponseFormat.class);
+        for (MediaType type : accepted) {
+            if (type.getQualityValue() == 0) {
+                for (ResponseFormat format : values()) {
+                    if (type.includes(format.mediaType)) {
+                        excluded.add(format);
+                    }
+                }
+            }
+        }
+        for (MediaType type : accepted) {
+            if (type.getQualityValue() == 0) {
+                continue;
+            }
+            for (ResponseFormat format : values()) {
+                if (!excluded.contains(format) && type.includes(format.mediaType)) {
+                    return format; // 와일드카드면 values() 순서상 JSON 이 먼저
+                }
+            }
+        }
+        return null;
+    }
+}
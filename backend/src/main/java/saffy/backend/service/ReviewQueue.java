@@ -0,0 +1,313 @@
+package saffy.backend.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.PriorityQueue;
+import saffy.backend.repository.ReviewStateRepository.ReviewState;
+
+/**
+ * 학습자 한 명의 복습 상태 - 다음 복습 시각(dueAt) 순 최소 힙
+ * - 문제마다 객체를 만들지 않고 힙 순서의 primitive 배열 여러 개에 나눠 저장 (항목당 약 50 bytes)
+ * - questionId → 힙 위치는 open addressing 맵으로 찾음 (갱신 O(log n))
+ * - 저장하지 않은 항목은 dirty 로 표시해 두고 takeDirty 로 한꺼번에 꺼냄
+ * - 스레드 안전하지 않음 (ReviewScheduler 가 학습자 단위로 잠그고 사용)
+ */
+final class ReviewQueue {
+
+    private long[] questionIds;
+    private long[] dueAt;
+    private int[] repetitions;
+    private int[] intervalDays;
+    private int[] ease;          // easiness factor x1000 (2.5 → 2500)
+    private boolean[] dirty;
+    private int size;
+    private int dirtyCount;
+    private final PositionIndex index;
+
+    ReviewQueue(int expected) {
+        int capacity = Math.max(8, expected);
+        questionIds = new long[capacity];
+        dueAt = new long[capacity];
+        repetitions = new int[capacity];
+        intervalDays = new int[capacity];
+        ease = new int[capacity];
+        dirty = new boolean[capacity];
+        index = new PositionIndex(capacity);
+    }
+
+    int size() {
+        return size;
+    }
+
+    int dirtyCount() {
+        return dirtyCount;
+    }
+
+    /** 문제의 현재 상태 (없으면 null) */
+    ReviewState get(String learnerId, long questionId) {
+        int pos = index.get(questionId);
+        return (pos < 0) ? null : stateAt(learnerId, pos);
+    }
+
+    /** 상태 추가/갱신 (markDirty 면 다음 저장 때 DB 에 씀) */
+    void put(long questionId, int reps, int interval, int easeFactor, long due, boolean markDirty) {
+        int pos = index.get(questionId);
+        if (pos < 0) {
+            ensureCapacity(size + 1);
+            pos = size++;
+            questionIds[pos] = questionId;
+            index.put(questionId, pos);
+        }
+        repetitions[pos] = reps;
+        intervalDays[pos] = interval;
+        ease[pos] = easeFactor;
+        dueAt[pos] = due;
+        if (markDirty && !dirty[pos]) {
+            dirty[pos] = true;
+            dirtyCount++;
+        }
+        pos = siftUp(pos);
+        siftDown(pos);
+    }
+
+    void remove(long questionId) {
+        int pos = index.remove(questionId);
+        if (pos < 0) {
+            return;
+        }
+        if (dirty[pos]) {
+            dirtyCount--;
+        }
+        int last = --size;
+        if (pos != last) {
+            move(last, pos);
+            pos = siftUp(pos);
+            siftDown(pos);
+        }
+        dirty[last] = false;
+    }
+
+    /** 가장 이른 복습 시각 (비어 있으면 Long.MAX_VALUE) */
+    long peekDue() {
+        return (size == 0) ? Long.MAX_VALUE : dueAt[0];
+    }
+
+    /**
+     * now 까지 복습할 문제를 이른 순서로 최대 limit 개
+     * 힙 전체를 정렬하지 않고 루트부터 후보만 펼쳐 보므로 O(limit log limit)
+     */
+    long[] due(long now, int limit) {
+        long[] result = new long[Math.min(limit, size)];
+        int count = 0;
+        PriorityQueue<Integer> frontier = new PriorityQueue<>(this::compare);
+        if (size > 0) {
+            frontier.add(0);
+        }
+        while (count < result.length && !frontier.isEmpty()) {
+            int pos = frontier.poll();
+            if (dueAt[pos] > now) {
+                break;
+            }
+            result[count++] = questionIds[pos];
+            int child = 2 * pos + 1;
+            if (child < size) {
+                frontier.add(child);
+            }
+            if (child + 1 < size) {
+                frontier.add(child + 1);
+            }
+        }
+        return (count == result.length) ? result : Arrays.copyOf(result, count);
+    }
+
+    /** 저장할 항목을 꺼내고 dirty 표시를 지움 */
+    List<ReviewState> takeDirty(String learnerId) {
+        List<ReviewState> states = new ArrayList<>(dirtyCount);
+        for (int pos = 0; pos < size && dirtyCount > 0; pos++) {
+            if (dirty[pos]) {
+                states.add(stateAt(learnerId, pos));
+                dirty[pos] = false;
+                dirtyCount--;
+            }
+        }
+        return states;
+    }
+
+    /** 저장 실패 시 다시 dirty 로 표시 (그 사이 지워진 문제는 무시) */
+    void markDirty(long questionId) {
+        int pos = index.get(questionId);
+        if (pos >= 0 && !dirty[pos]) {
+            dirty[pos] = true;
+            dirtyCount++;
+        }
+    }
+
+    private ReviewState stateAt(String learnerId, int pos) {
+        return new ReviewState(learnerId, questionIds[pos], repetitions[pos], intervalDays[pos], ease[pos], dueAt[pos]);
+    }
+
+    private int compare(int a, int b) {
+        int c = Long.compare(dueAt[a], dueAt[b]);
+        return (c != 0) ? c : Long.compare(questionIds[a], questionIds[b]);
+    }
+
+    private int siftUp(int pos) {
+        while (pos > 0) {
+            int parent = (pos - 1) >>> 1;
+            if (compare(pos, parent) >= 0) {
+                break;
+            }
+            swap(pos, parent);
+            pos = parent;
+        }
+        return pos;
+    }
+
+    private void siftDown(int pos) {
+        while (true) {
+            int smallest = pos;
+            int left = 2 * pos + 1;
+            if (left < size && compare(left, smallest) < 0) {
+                smallest = left;
+            }
+            if (left + 1 < size && compare(left + 1, smallest) < 0) {
+                smallest = left + 1;
+            }
+            if (smallest == pos) {
+                return;
+            }
+            swap(pos, smallest);
+            pos = smallest;
+        }
+    }
+
+    private void swap(int a, int b) {
+        long q = questionIds[a];
+        long d = dueAt[a];
+        int r = repetitions[a];
+        int i = intervalDays[a];
+        int e = ease[a];
+        boolean dt = dirty[a];
+        move(b, a);
+        questionIds[b] = q;
+        dueAt[b] = d;
+        repetitions[b] = r;
+        intervalDays[b] = i;
+        ease[b] = e;
+        dirty[b] = dt;
+        index.put(q, b);
+    }
+
+    /** from 위치의 항목을 to 로 복사 */
+    private void move(int from, int to) {
+        questionIds[to] = questionIds[from];
+        dueAt[to] = dueAt[from];
+        repetitions[to] = repetitions[from];
+        intervalDays[to] = intervalDays[from];
+        ease[to] = ease[from];
+        dirty[to] = dirty[from];
+        index.put(questionIds[to], to);
+    }
+
+    private void ensureCapacity(int needed) {
+        if (needed <= questionIds.length) {
+            return;
+        }
+        int capacity = Math.max(needed, questionIds.length + (questionIds.length >> 1));
+        questionIds = Arrays.copyOf(questionIds, capacity);
+        dueAt = Arrays.copyOf(dueAt, capacity);
+        repetitions = Arrays.copyOf(repetitions, capacity);
+        intervalDays = Arrays.copyOf(intervalDays, capacity);
+        ease = Arrays.copyOf(ease, capacity);
+        dirty = Arrays.copyOf(dirty, capacity);
+    }
+
+    /**
+     * questionId(양수) → 힙 위치, 선형 탐사 open addressing (0 = 빈 칸)
+     * 삭제는 뒤따르는 항목을 당겨 와서 tombstone 없이 처리
+     */
+    private static final class PositionIndex {
+        private long[] keys;
+        private int[] values;
+        private int size;
+        private int mask;
+
+        private PositionIndex(int expected) {
+            int capacity = Integer.highestOneBit(Math.max(16, expected * 2 - 1)) << 1;
+            keys = new long[capacity];
+            values = new int[capacity];
+            mask = capacity - 1;
+        }
+
+        private int get(long key) {
+            for (int slot = slot(key); ; slot = (slot + 1) & mask) {
+                if (keys[slot] == key) {
+                    return values[slot];
+                }
+                if (keys[slot] == 0) {
+                    return -1;
+                }
+            }
+        }
+
+        private void put(long key, int value) {
+            int slot = slot(key);
+            while (keys[slot] != 0 && keys[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            if (keys[slot] == 0) {
+                keys[slot] = key;
+                if (++size * 2 > keys.length) {
+                    values[slot] = value;
+                    grow();
+                    return;
+                }
+            }
+            values[slot] = value;
+        }
+
+        private int remove(long key) {
+            int slot = slot(key);
+            while (keys[slot] != key) {
+                if (keys[slot] == 0) {
+                    return -1;
+                }
+                slot = (slot + 1) & mask;
+            }
+            int removed = values[slot];
+            size--;
+            // 빈 칸이 생긴 뒤쪽 묶음에서 제자리로 갈 수 있는 항목을 당겨 옴
+            int gap = slot;
+            for (int next = (gap + 1) & mask; keys[next] != 0; next = (next + 1) & mask) {
+                int home = slot(keys[next]);
+                if (((next - home) & mask) >= ((next - gap) & mask)) {
+                    keys[gap] = keys[next];
+                    values[gap] = values[next];
+                    gap = next;
+                }
+            }
+            keys[gap] = 0;
+            return removed;
+        }
+
+        private void grow() {
+            long[] oldKeys = keys;
+            int[] oldValues = values;
+            keys = new long[oldKeys.length * 2];
+            values = new int[oldValues.length * 2];
+            mask = keys.length - 1;
+            size = 0;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != 0) {
+                    put(oldKeys[i], oldValues[i]);
+                }
+            }
+        }
+
+        private int slot(long key) {
+            long h = key * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32)) & mask;
+        }
+    }
+}
@@ -0,0 +1,290 @@
+package saffy.backend.service;
+
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import saffy.backend.dto.QuestionDto;
+import saffy.backend.dto.QuizQuestionDto;
+import saffy.backend.dto.ReviewDto;
+import saffy.backend.repository.ReviewStateRepository;
+import saffy.backend.repository.ReviewStateRepository.ReviewState;
+
+/**
+ * 간격 반복(SM-2) 복습 일정
+ * - 학습자(익명 learnerId)마다 다음 복습 시각 순 최소 힙(ReviewQueue)을 메모리에 둠
+ * - 채점 결과는 전용 스레드 큐에 넣기만 함 (요청 스레드에서 DB 를 쓰지 않음, 큐가 차면 버림)
+ * - 메모리에 없는 학습자는 처음 접근할 때 review_states 에서 그 학습자 행만 읽어 복원
+ * - 바뀐 항목은 flush 주기마다 batch upsert, 저장이 끝나고 오래 쓰지 않은 학습자는 메모리에서 내림
+ *   (학습자 수가 max-learners 를 넘으면 가장 오래 쓰지 않은 학습자부터 내림)
+ * 채점은 정답/오답뿐이므로 SM-2 품질 점수는 정답 5, 오답 2 로 봄
+ */
+@Slf4j
+@Service
+public class ReviewScheduler {
+
+    static final int DEFAULT_EASE = 2500;
+    static final int MIN_EASE = 1300;
+    static final int DEFAULT_LIMIT = 20;
+    static final int MAX_LIMIT = 100;
+    private static final long DAY_MILLIS = TimeUnit.DAYS.toMillis(1);
+
+    private final ReviewStateRepository reviewStateRepository;
+    private final CatalogSnapshotHolder catalogSnapshotHolder;
+    private final int maxLearners;
+    private final long idleMillis;
+    private final long relearnMillis;
+
+    private final Map<String, Learner> learners = new ConcurrentHashMap<>();
+    private final AtomicLong dropped = new AtomicLong();
+    private final ThreadPoolExecutor worker;
+
+    public ReviewScheduler(ReviewStateRepository reviewStateRepository,
+                           CatalogSnapshotHolder catalogSnapshotHolder,
+                           @Value("${quiz.review.max-learners:5000}") int maxLearners,
+                           @Value("${quiz.review.idle-minutes:30}") long idleMinutes,
+                           @Value("${quiz.review.relearn-minutes:10}") long relearnMinutes,
+                           @Value("${quiz.review.queue-capacity:10000}") int queueCapacity) {
+        this.reviewStateRepository = reviewStateRepository;
+        this.catalogSnapshotHolder = catalogSnapshotHolder;
+        this.maxLearners = maxLearners;
+        this.idleMillis = TimeUnit.MINUTES.toMillis(idleMinutes);
+        this.relearnMillis = TimeUnit.MINUTES.toMillis(relearnMinutes);
+        this.worker = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "review-scheduler");
+                    t.setDaemon(true);
+                    return t;
+                },
+                (r, executor) -> dropped.incrementAndGet());
+    }
+
+    /** 채점 결과 반영 요청 (learnerId 가 없으면 무시) */
+    public void record(String learnerId, long questionId, boolean correct, long answeredAt) {
+        if (learnerId == null || learnerId.isBlank()) {
+            return;
+        }
+        worker.execute(() -> {
+            try {
+                withLearner(learnerId, learner -> {
+                    ReviewState next = schedule(learner.queue.get(learnerId, questionId), learnerId, questionId,
+                            correct, answeredAt, relearnMillis);
+                    learner.queue.put(questionId, next.repetitions(), next.intervalDays(), next.ease(), next.dueAt(), true);
+                    return null;
+                });
+            } catch (RuntimeException e) {
+                // 복원하지 못한 학습자 상태를 새 상태로 덮어쓰지 않도록 이번 결과는 버림 (attempts 에는 남아 있음)
+                log.warn("복습 일정 갱신 실패 learner={}: {}", learnerId, e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 지금 복습할 문제 (다음 복습 시각이 이른 순서로 최대 limit 개)
+     * 삭제된 문제는 건너뛰고 일정에서도 지움
+     */
+    public ReviewDto next(String learnerId, Integer limit) {
+        if (learnerId == null || learnerId.isBlank()) {
+            throw new IllegalArgumentException("learnerId가 필요합니다.");
+        }
+        if (learnerId.length() > GradingService.MAX_LEARNER_ID_LENGTH) {
+            throw new IllegalArgumentException("learnerId가 너무 깁니다.");
+        }
+        int count = Math.max(1, Math.min(limit != null ? limit : DEFAULT_LIMIT, MAX_LIMIT));
+        CatalogSnapshot snapshot = catalogSnapshotHolder.get();
+        long now = System.currentTimeMillis();
+
+        return withLearner(learnerId, learner -> {
+            List<QuestionDto> questions = new ArrayList<>(count);
+            while (true) {
+                long[] due = learner.queue.due(now, count);
+                boolean removed = false;
+                for (long questionId : due) {
+                    QuestionDto question = snapshot.question(questionId);
+                    if (question == null) {
+                        learner.queue.remove(questionId);
+                        removed = true;
+                    } else if (!removed) {
+                        questions.add(question);
+                    }
+                }
+                if (!removed) {
+                    break;
+                }
+                questions.clear(); // 지운 뒤 다시 뽑음 (삭제된 문제가 있을 때만)
+            }
+
+            SplittableRandom random = new SplittableRandom();
+            List<QuizQuestionDto> quizQuestions = questions.stream()
+                    .map(q -> QuizAssemblyService.toQuizQuestion(q, random))
+                    .toList();
+            long nextDue = learner.queue.peekDue();
+            return ReviewDto.builder()
+                    .questions(quizQuestions)
+                    .scheduled(learner.queue.size())
+                    .nextDueAt(quizQuestions.isEmpty() && nextDue != Long.MAX_VALUE ? nextDue : null)
+                    .build();
+        });
+    }
+
+    /** 큐가 가득 차서 버린 채점 결과 수 */
+    public long dropped() {
+        return dropped.get();
+    }
+
+    int residentLearners() {
+        return learners.size();
+    }
+
+    /**
+     * SM-2 다음 상태
+     * - 정답: 연속 정답 1회 → 1일, 2회 → 6일, 이후 이전 간격 x easiness
+     * - 오답: 연속 정답을 0으로 되돌리고 relearn 뒤에 다시 복습
+     */
+    static ReviewState schedule(ReviewState current, String learnerId, long questionId, boolean correct,
+                                long answeredAt, long relearnMillis) {
+        int ease = (current != null) ? current.ease() : DEFAULT_EASE;
+        int repetitions = (current != null) ? current.repetitions() : 0;
+        int interval = (current != null) ? current.intervalDays() : 0;
+
+        int quality = correct ? 5 : 2;
+        // EF' = EF + (0.1 - (5 - q) * (0.08 + (5 - q) * 0.02)), x1000
+        ease = Math.max(MIN_EASE, ease + 100 - (5 - quality) * (80 + (5 - quality) * 20));
+
+        if (!correct) {
+            return new ReviewState(learnerId, questionId, 0, 0, ease, answeredAt + relearnMillis);
+        }
+        repetitions++;
+        if (repetitions == 1) {
+            interval = 1;
+        } else if (repetitions == 2) {
+            interval = 6;
+        } else {
+            interval = (int) Math.min(3650, Math.round(Math.max(interval, 1) * ease / 1000.0));
+        }
+        return new ReviewState(learnerId, questionId, repetitions, interval, ease, answeredAt + interval * DAY_MILLIS);
+    }
+
+    /** 학습자 상태를 잠그고 작업 (메모리에 없으면 DB 에서 복원, 내리는 중이었으면 다시 찾음) */
+    private <T> T withLearner(String learnerId, Function<Learner, T> action) {
+        while (true) {
+            Learner learner = learners.get(learnerId);
+            if (learner == null) {
+                Learner loaded = load(learnerId);
+                learner = learners.putIfAbsent(learnerId, loaded);
+                if (learner == null) {
+                    learner = loaded;
+                }
+            }
+            synchronized (learner) {
+                if (!learner.evicted) {
+                    learner.lastAccess = System.currentTimeMillis();
+                    return action.apply(learner);
+                }
+            }
+        }
+    }
+
+    private Learner load(String learnerId) {
+        List<ReviewState> states = reviewStateRepository.findByLearnerId(learnerId);
+        Learner learner = new Learner(learnerId, states.size());
+        for (ReviewState s : states) {
+            learner.queue.put(s.questionId(), s.repetitions(), s.intervalDays(), s.ease(), s.dueAt(), false);
+        }
+        return learner;
+    }
+
+    /**
+     * 바뀐 항목 저장 후 오래 쓰지 않은 학습자 내림
+     * 저장 실패한 항목은 다시 dirty 로 표시되어 그 학습자는 내려가지 않음
+     */
+    @Scheduled(fixedDelayString = "${quiz.review.flush-interval-ms:5000}")
+    public void flush() {
+        List<ReviewState> batch = new ArrayList<>();
+        for (Learner learner : learners.values()) {
+            synchronized (learner) {
+                if (learner.queue.dirtyCount() > 0) {
+                    batch.addAll(learner.queue.takeDirty(learner.id));
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            try {
+                reviewStateRepository.upsertAll(batch);
+            } catch (RuntimeException e) {
+                log.warn("복습 일정 저장 실패 ({}건), 다음 주기에 다시 시도합니다: {}", batch.size(), e.getMessage());
+                for (ReviewState s : batch) {
+                    Learner learner = learners.get(s.learnerId());
+                    if (learner != null) {
+                        synchronized (learner) {
+                            learner.queue.markDirty(s.questionId());
+                        }
+                    }
+                }
+            }
+        }
+        evict(System.currentTimeMillis());
+    }
+
+    private void evict(long now) {
+        learners.values().removeIf(learner -> now - learner.lastAccess > idleMillis && tryEvict(learner));
+
+        int excess = learners.size() - maxLearners;
+        if (excess > 0) {
+            List<Learner> oldest = learners.values().stream()
+                    .sorted(Comparator.comparingLong(l -> l.lastAccess))
+                    .toList();
+            for (Learner learner : oldest) {
+                if (excess == 0) {
+                    break;
+                }
+                if (tryEvict(learner) && learners.remove(learner.id, learner)) {
+                    excess--;
+                }
+            }
+        }
+    }
+
+    /** 저장할 항목이 없으면 내림 표시 (이후 접근은 DB 에서 다시 복원) */
+    private static boolean tryEvict(Learner learner) {
+        synchronized (learner) {
+            if (learner.queue.dirtyCount() > 0) {
+                return false;
+            }
+            learner.evicted = true;
+            return true;
+        }
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        worker.shutdown();
+        worker.awaitTermination(5, TimeUnit.SECONDS);
+        flush(); // 종료 전에 남은 항목 저장
+    }
+
+    /** 학습자 한 명 (이 객체로 잠그고 사용) */
+    private static final class Learner {
+        private final String id;
+        private final ReviewQueue queue;
+        private volatile long lastAccess = System.currentTimeMillis();
+        private boolean evicted;
+
+        private Learner(String id, int expected) {
+            this.id = id;
+            this.queue = new ReviewQueue(expected);
+        }
+    }
+}
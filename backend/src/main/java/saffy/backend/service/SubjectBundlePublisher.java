@@ -0,0 +1,339 @@
+package saffy.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import saffy.backend.dto.BundleInfoDto;
+import saffy.backend.dto.LectureDto;
+import saffy.backend.dto.SubjectBundleDto;
+import saffy.backend.dto.SubjectDto;
+
+/**
+ * 과목별 정적 번들 파일 생성기
+ * - 관리자 쓰기가 커밋되면 바뀐 과목을 스냅샷에서 JSON 으로 만들어 원본(.json)과 gzip(.json.gz, 최고 압축) 파일로 저장
+ * - 파일 이름에 내용 해시가 들어가므로(subject-{id}.{hash}.json) 한 번 만든 파일은 바뀌지 않음 → 영구 캐시 가능
+ * - 내용이 같으면 다시 쓰지 않고, 과목마다 현재 + 직전 버전만 남기고 지움 (목록을 늦게 받은 클라이언트용)
+ * - 지우는 건 이 인스턴스가 쓰거나 이어받은 파일만 (같은 디렉터리를 쓰는 다른 인스턴스의 파일은 건드리지 않음)
+ * - 디렉터리를 정했으면 시작할 때 이전 실행이 남긴 번들(이름 규칙에 맞고 시작 publish 이전에 쓴 파일)을 이어받아 정리
+ * - 디렉터리를 정하지 않으면 인스턴스마다 임시 디렉터리를 만들고 종료할 때 지움
+ * - 파일 쓰기는 별도 스레드 하나에서 처리해서 관리자 요청을 늦추지 않음
+ */
+@Slf4j
+@Component
+public class SubjectBundlePublisher {
+
+    private static final Pattern FILE_NAME = Pattern.compile("subject-(\\d+)\\.([0-9a-f]{32})\\.json(\\.gz)?");
+    private static final int KEEP_VERSIONS = 2;
+
+    private final CatalogSnapshotHolder catalogSnapshotHolder;
+    private final ObjectMapper objectMapper;
+    private final Path directory;
+    private final boolean temporaryDirectory;
+
+    private final Map<Long, Bundle> current = new ConcurrentHashMap<>();
+    private final Set<Path> owned = new HashSet<>(); // 이 인스턴스가 쓰거나 이어받은 gzip 파일 (publish 안에서만 사용)
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "bundle-publisher");
+        t.setDaemon(true);
+        return t;
+    });
+
+    public SubjectBundlePublisher(CatalogSnapshotHolder catalogSnapshotHolder,
+                                  ObjectMapper objectMapper,
+                                  @Value("${quiz.bundles.dir:}") String directory) {
+        this.catalogSnapshotHolder = catalogSnapshotHolder;
+        this.objectMapper = objectMapper;
+        this.temporaryDirectory = directory == null || directory.isBlank();
+        try {
+            this.directory = temporaryDirectory ? Files.createTempDirectory("quiz-bundles-") : Path.of(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void publishOnStartup() {
+        executor.execute(() -> {
+            try {
+                long startedAt = System.currentTimeMillis();
+                publish(null);
+                if (!temporaryDirectory) {
+                    removeStale(startedAt);
+                }
+            } catch (RuntimeException e) {
+                log.warn("과목 번들 생성 실패, 다음 변경 때 다시 시도합니다: {}", e.getMessage());
+            }
+        });
+    }
+
+    @Order(4) // 스냅샷 교체 이후에 실행
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        Set<Long> lectureIds = Set.copyOf(event.lectureIds());
+        executor.execute(() -> {
+            try {
+                publish(lectureIds);
+            } catch (RuntimeException e) {
+                log.warn("과목 번들 갱신 실패: {}", e.getMessage());
+            }
+        });
+    }
+
+    /** 현재 번들 목록 (과목 ID 순) */
+    public List<BundleInfoDto> manifest() {
+        return current.values().stream()
+                .sorted(Comparator.comparing(Bundle::subjectId))
+                .map(b -> BundleInfoDto.builder()
+                        .subjectId(b.subjectId())
+                        .revision(b.revision())
+                        .hash(b.hash())
+                        .url("/api/bundles/subjects/" + b.subjectId() + "/" + b.hash())
+                        .size(b.size())
+                        .gzipSize(b.gzipSize())
+                        .build())
+                .toList();
+    }
+
+    /** 과목의 현재 번들 (없으면 null) */
+    public Bundle current(long subjectId) {
+        return current.get(subjectId);
+    }
+
+    /**
+     * 과목 번들 파일 경로 (지워졌거나 잘못된 해시면 null)
+     * 현재 버전이 아니어도 디스크에 남아 있는 직전 버전은 돌려줌
+     */
+    public Path file(long subjectId, String hash, boolean gzip) {
+        String name = fileName(subjectId, hash, gzip);
+        if (!FILE_NAME.matcher(name).matches()) {
+            return null;
+        }
+        Path file = directory.resolve(name);
+        return Files.isRegularFile(file) ? file : null;
+    }
+
+    /**
+     * 바뀐 강의가 속한 과목의 번들을 다시 만듦
+     * changedLectureIds 가 null 이거나 비어 있으면(구조 변경) 또는 스냅샷에 없는 강의가 있으면 전체 과목
+     */
+    synchronized void publish(Set<Long> changedLectureIds) {
+        CatalogSnapshot snapshot = catalogSnapshotHolder.get();
+        Set<Long> subjectIds = new HashSet<>();
+        boolean all = changedLectureIds == null || changedLectureIds.isEmpty();
+        if (!all) {
+            Map<Long, Long> subjectOfLecture = new HashMap<>();
+            snapshot.lectures().forEach(l -> subjectOfLecture.put(l.getId(), l.getSubjectId()));
+            for (Long lectureId : changedLectureIds) {
+                Long subjectId = subjectOfLecture.get(lectureId);
+                if (subjectId == null) {
+                    all = true; // 삭제된 강의: 어느 과목이었는지 모르므로 전체 확인 (내용이 같으면 다시 쓰지 않음)
+                    break;
+                }
+                subjectIds.add(subjectId);
+            }
+        }
+
+        try {
+            Files.createDirectories(directory);
+            Set<Long> liveSubjects = new HashSet<>();
+            for (SubjectDto subject : snapshot.subjects()) {
+                liveSubjects.add(subject.getId());
+                if (all || subjectIds.contains(subject.getId()) || !current.containsKey(subject.getId())) {
+                    write(snapshot, subject);
+                }
+            }
+            current.keySet().retainAll(liveSubjects);
+            cleanUp();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void write(CatalogSnapshot snapshot, SubjectDto subject) throws IOException {
+        // 과목 리비전은 강의 리비전 중 가장 큰 값 (다른 과목의 변경으로 내용이 바뀌지 않도록)
+        List<SubjectBundleDto.LectureBundle> lectures = new ArrayList<>();
+        long revision = 0;
+        for (LectureDto lecture : snapshot.lecturesOf(subject.getId())) {
+            lectures.add(new SubjectBundleDto.LectureBundle(lecture, snapshot.questionsOf(lecture.getId())));
+            revision = Math.max(revision, snapshot.lectureRevision(lecture.getId()));
+        }
+        byte[] json = objectMapper.writeValueAsBytes(new SubjectBundleDto(subject, revision, lectures));
+        String hash = contentHash(json);
+
+        Bundle previous = current.get(subject.getId());
+        if (previous != null && previous.hash().equals(hash)) {
+            return;
+        }
+
+        Path identity = directory.resolve(fileName(subject.getId(), hash, false));
+        Path gzip = directory.resolve(fileName(subject.getId(), hash, true));
+        if (!Files.exists(gzip) || !Files.exists(identity)) {
+            writeAtomically(identity, json, false);
+            writeAtomically(gzip, json, true);
+        }
+        owned.add(gzip); // 이미 있던 같은 내용의 파일도 이제부터 이 인스턴스가 관리
+        current.put(subject.getId(), new Bundle(subject.getId(), revision, hash,
+                identity, gzip, Files.size(identity), Files.size(gzip)));
+    }
+
+    /** 임시 파일에 다 쓴 뒤 이름을 바꿔서, 읽는 쪽이 쓰다 만 파일을 보지 않게 함 */
+    private void writeAtomically(Path target, byte[] data, boolean gzip) throws IOException {
+        Path tmp = Files.createTempFile(directory, "bundle-", ".tmp");
+        try {
+            try (OutputStream out = gzip ? new BestGzipOutputStream(Files.newOutputStream(tmp)) : Files.newOutputStream(tmp)) {
+                out.write(data);
+            }
+            Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(tmp); // 옮기지 못했을 때만 남아 있음
+        }
+    }
+
+    /** 이 인스턴스의 파일 중 과목마다 현재 버전과 최근 버전(수정 시각 순) 하나만 남기고, 없어진 과목 파일은 삭제 */
+    private void cleanUp() throws IOException {
+        Map<Long, List<Path>> bySubject = new HashMap<>();
+        for (Path gzip : owned) {
+            Matcher m = FILE_NAME.matcher(gzip.getFileName().toString());
+            if (m.matches()) {
+                bySubject.computeIfAbsent(Long.parseLong(m.group(1)), id -> new ArrayList<>()).add(gzip);
+            }
+        }
+
+        for (Map.Entry<Long, List<Path>> entry : bySubject.entrySet()) {
+            Bundle live = current.get(entry.getKey());
+            List<Path> versions = new ArrayList<>(entry.getValue());
+            versions.sort(Comparator.comparing(SubjectBundlePublisher::lastModified).reversed());
+            int older = 0;
+            for (Path gzip : versions) {
+                if (live != null && (gzip.equals(live.gzip()) || ++older < KEEP_VERSIONS)) {
+                    continue;
+                }
+                delete(gzip);
+            }
+        }
+    }
+
+    /**
+     * 이전 실행이 남긴 번들을 이어받아 정리 (과목마다 현재 + 직전 버전만 남기고, 없어진 과목 파일은 삭제)
+     * - 이름 규칙(subject-{id}.{hash}.json(.gz))에 맞고 원본/gzip 모두 before 이전에 쓴 파일만 대상
+     *   (그 뒤에 같은 디렉터리를 쓰는 다른 인스턴스가 쓴 파일과 규칙에 맞지 않는 파일은 건드리지 않음)
+     */
+    synchronized void removeStale(long before) {
+        int adopted = 0;
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                String name = file.getFileName().toString();
+                Matcher m = FILE_NAME.matcher(name);
+                if (!m.matches()) {
+                    continue;
+                }
+                boolean isGzip = m.group(3) != null;
+                Path gzip = isGzip ? file : file.resolveSibling(name + ".gz");
+                Path identity = isGzip ? file.resolveSibling(name.substring(0, name.length() - ".gz".length())) : file;
+                if (lastModified(gzip) < before && lastModified(identity) < before && owned.add(gzip)) {
+                    adopted++;
+                }
+            }
+            cleanUp();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        log.info("이전 실행의 과목 번들 {}개를 이어받아 정리했습니다", adopted);
+    }
+
+    /** gzip 파일과 같은 이름의 원본 파일을 함께 삭제 */
+    private void delete(Path gzip) throws IOException {
+        Files.deleteIfExists(gzip);
+        String name = gzip.getFileName().toString();
+        Files.deleteIfExists(gzip.resolveSibling(name.substring(0, name.length() - ".gz".length())));
+        owned.remove(gzip);
+    }
+
+    /** 종료: 임시 디렉터리를 만들어 썼으면 통째로 지움 (정한 디렉터리의 파일은 다음 실행에서 이어받도록 남김) */
+    @PreDestroy
+    synchronized void stop() {
+        executor.shutdownNow();
+        if (!temporaryDirectory) {
+            return;
+        }
+        try {
+            for (Path gzip : List.copyOf(owned)) {
+                delete(gzip);
+            }
+            Files.deleteIfExists(directory);
+        } catch (IOException e) {
+            log.debug("번들 임시 디렉터리 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    Path directory() {
+        return directory;
+    }
+
+    private static long lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            return 0L;
+        }
+    }
+
+    private static String fileName(long subjectId, String hash, boolean gzip) {
+        return "subject-" + subjectId + "." + hash + (gzip ? ".json.gz" : ".json");
+    }
+
+    private static String contentHash(byte[] data) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(data);
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /** 한 번 만들어 여러 번 보내므로 압축률 최우선 */
+    private static final class BestGzipOutputStream extends GZIPOutputStream {
+        BestGzipOutputStream(OutputStream out) throws IOException {
+            super(out, 64 * 1024);
+            def.setLevel(Deflater.BEST_COMPRESSION);
+        }
+    }
+
+    /**
+     * 과목의 현재 번들
+     * size: 원본 JSON 크기, gzipSize: gzip 파일 크기
+     */
+    public record Bundle(Long subjectId, long revision, String hash, Path identity, Path gzip,
+                         long size, long gzipSize) {
+    }
+}
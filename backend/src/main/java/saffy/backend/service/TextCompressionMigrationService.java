@@ -0,0 +1,190 @@
+package saffy.backend.service;
+
+import jakarta.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import saffy.backend.dto.TextCompressionJobDto;
+import saffy.backend.entity.CompressedTextConverter;
+
+/**
+ * 기존 행을 지금 압축 설정에 맞게 다시 저장하는 백그라운드 작업
+ * - 압축을 켠 상태면 평문 행을 압축하고, 끈 상태면 압축된 행을 평문으로 되돌림
+ * - 컬럼별로 id keyset 순서로 batchSize 개씩 읽고, 배치마다 한 트랜잭션으로 저장 (사이에 pauseMs 쉼)
+ * - "WHERE id = ? AND 컬럼 = 읽은 값" 으로 저장하므로 변환 중 관리자가 수정한 행은 덮어쓰지 않음
+ * - 읽히는 내용은 같으므로 카탈로그 리비전/캐시는 건드리지 않음
+ */
+@Slf4j
+@Service
+public class TextCompressionMigrationService {
+
+    /** 변환 대상 (고정 목록이라 SQL 에 그대로 넣음) */
+    private static final List<String[]> COLUMNS = List.of(
+            new String[]{"questions", "content"},
+            new String[]{"answers", "content"},
+            new String[]{"answers", "explanation"});
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate batchTransaction;
+    private final CompressedTextConverter textConverter;
+    private final int batchSize;
+    private final long pauseMs;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "text-compression");
+        t.setDaemon(true);
+        return t;
+    });
+    private volatile MigrationJob lastJob;
+
+    public TextCompressionMigrationService(JdbcTemplate jdbcTemplate,
+                                           PlatformTransactionManager transactionManager,
+                                           CompressedTextConverter textConverter,
+                                           @Value("${quiz.text-compression.migration.batch-size:500}") int batchSize,
+                                           @Value("${quiz.text-compression.migration.pause-ms:50}") long pauseMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchTransaction = new TransactionTemplate(transactionManager);
+        this.textConverter = textConverter;
+        this.batchSize = batchSize;
+        this.pauseMs = pauseMs;
+    }
+
+    /** 변환 시작 (이미 실행 중이면 그 작업 상태를 돌려줌) */
+    public synchronized TextCompressionJobDto start() {
+        MigrationJob running = lastJob;
+        if (running != null && running.finishedAt == null) {
+            return running.toDto();
+        }
+        MigrationJob job = new MigrationJob(textConverter.isEnabled() ? "COMPRESS" : "DECOMPRESS");
+        lastJob = job;
+        executor.execute(() -> run(job));
+        return job.toDto();
+    }
+
+    /** 마지막 작업 상태 (없으면 null) */
+    public TextCompressionJobDto getLastJob() {
+        MigrationJob job = lastJob;
+        return job != null ? job.toDto() : null;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void run(MigrationJob job) {
+        try {
+            for (String[] column : COLUMNS) {
+                job.current = column[0] + "." + column[1];
+                migrateColumn(job, column[0], column[1]);
+            }
+            job.status = "COMPLETED";
+            log.info("텍스트 압축 변환 완료: {}개 중 {}개 변환, {} -> {} bytes",
+                    job.scanned.get(), job.converted.get(), job.bytesBefore.get(), job.bytesAfter.get());
+        } catch (RuntimeException e) {
+            log.warn("텍스트 압축 변환 실패 ({}): {}", job.current, e.getMessage());
+            job.error = e.getMessage();
+            job.status = "FAILED";
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            job.error = "중단됨";
+            job.status = "FAILED";
+        } finally {
+            job.current = null;
+            job.finishedAt = LocalDateTime.now();
+        }
+    }
+
+    private void migrateColumn(MigrationJob job, String table, String column) throws InterruptedException {
+        String select = "SELECT id, " + column + " FROM " + table
+                + " WHERE id > ? AND " + column + " IS NOT NULL ORDER BY id LIMIT ?";
+        String update = "UPDATE " + table + " SET " + column + " = ? WHERE id = ? AND " + column + " = ?";
+
+        long lastId = 0;
+        while (true) {
+            List<Row> rows = jdbcTemplate.query(select,
+                    (rs, i) -> new Row(rs.getLong(1), rs.getString(2)), lastId, batchSize);
+            if (rows.isEmpty()) {
+                return;
+            }
+            lastId = rows.get(rows.size() - 1).id();
+
+            List<Object[]> changes = new ArrayList<>();
+            for (Row row : rows) {
+                String target = textConverter.reencode(row.value());
+                job.scanned.incrementAndGet();
+                job.bytesBefore.addAndGet(utf8Length(row.value()));
+                job.bytesAfter.addAndGet(utf8Length(target));
+                if (!target.equals(row.value())) {
+                    changes.add(new Object[]{target, row.id(), row.value()});
+                }
+            }
+            if (!changes.isEmpty()) {
+                int[] counts = batchTransaction.execute(status -> jdbcTemplate.batchUpdate(update, changes));
+                for (int count : counts) {
+                    // 드라이버가 개수를 알려주지 않는 경우(SUCCESS_NO_INFO)는 변환된 것으로 봄
+                    if (count == 0) {
+                        job.conflicts.incrementAndGet();
+                    } else {
+                        job.converted.incrementAndGet();
+                    }
+                }
+            }
+            if (pauseMs > 0) {
+                Thread.sleep(pauseMs);
+            }
+        }
+    }
+
+    private static long utf8Length(String value) {
+        return value.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    private record Row(long id, String value) {
+    }
+
+    /** 진행 중 상태 (변환 스레드가 쓰고 조회 요청이 읽음) */
+    private static final class MigrationJob {
+        private final String mode;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final AtomicLong scanned = new AtomicLong();
+        private final AtomicLong converted = new AtomicLong();
+        private final AtomicLong conflicts = new AtomicLong();
+        private final AtomicLong bytesBefore = new AtomicLong();
+        private final AtomicLong bytesAfter = new AtomicLong();
+        private volatile String status = "RUNNING";
+        private volatile String current;
+        private volatile String error;
+        private volatile LocalDateTime finishedAt;
+
+        private MigrationJob(String mode) {
+            this.mode = mode;
+        }
+
+        private TextCompressionJobDto toDto() {
+            return TextCompressionJobDto.builder()
+                    .status(status)
+                    .mode(mode)
+                    .current(current)
+                    .scanned(scanned.get())
+                    .converted(converted.get())
+                    .conflicts(conflicts.get())
+                    .bytesBefore(bytesBefore.get())
+                    .bytesAfter(bytesAfter.get())
+                    .error(error)
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,19 @@
+-- 📦 DB 마이그레이션: 채점 기록(attempts) 테이블 추가
+-- POST /api/quiz/submit 으로 채점된 답안을 한 줄씩 저장 (서버에서 모아서 batch INSERT)
+
+-- 1️⃣ attempts 테이블 생성 (문제가 삭제되어도 기록은 남도록 외래키 없음)
+CREATE TABLE IF NOT EXISTS attempts (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    learner_id VARCHAR(64),
+    question_id BIGINT NOT NULL,
+    answer_id BIGINT,
+    response_text VARCHAR(255),
+    correct BOOLEAN NOT NULL,
+    submitted_at DATETIME NOT NULL
+);
+
+-- 2️⃣ 문제별 / 학습자별 조회용 인덱스
+CREATE INDEX idx_attempts_question ON attempts (question_id);
+CREATE INDEX idx_attempts_learner ON attempts (learner_id, submitted_at);
+
+-- ✅ 완료!
@@ -0,0 +1,28 @@
+-- 📦 DB 마이그레이션: 문항 분석(정답률 / 보기 선택 분포) 테이블 추가
+-- 서버가 채점할 때마다 메모리 카운터를 올리고, 주기적으로 증가분만 더해서 저장함
+-- (통계 조회 때 attempts 테이블을 GROUP BY 하지 않음)
+
+-- 1️⃣ 문제별 응시 수 / 정답 수
+CREATE TABLE IF NOT EXISTS question_stats (
+    question_id BIGINT PRIMARY KEY,
+    attempts BIGINT NOT NULL DEFAULT 0,
+    correct BIGINT NOT NULL DEFAULT 0
+);
+
+-- 2️⃣ 보기별 선택 수
+CREATE TABLE IF NOT EXISTS choice_stats (
+    answer_id BIGINT PRIMARY KEY,
+    question_id BIGINT NOT NULL,
+    selections BIGINT NOT NULL DEFAULT 0
+);
+
+CREATE INDEX idx_choice_stats_question ON choice_stats (question_id);
+
+-- 3️⃣ (선택) 이미 쌓인 attempts 기록으로 초기값 채우기 - 최초 1회만 실행
+INSERT INTO question_stats (question_id, attempts, correct)
+SELECT question_id, COUNT(*), SUM(correct) FROM attempts GROUP BY question_id;
+
+INSERT INTO choice_stats (answer_id, question_id, selections)
+SELECT answer_id, question_id, COUNT(*) FROM attempts WHERE answer_id IS NOT NULL GROUP BY answer_id, question_id;
+
+-- ✅ 완료!
@@ -0,0 +1,25 @@
+-- 📦 DB 마이그레이션: 과목/강의 순위표 테이블 추가
+-- 순위 계산은 서버 메모리에서 하고, 바뀐 점수만 주기적으로 이 테이블에 저장함
+-- 서버가 시작할 때 이 테이블 전체를 읽어 순위표를 다시 만듦 (ORDER BY score 조회 없음)
+
+-- 1️⃣ 보드별 학습자 점수
+CREATE TABLE IF NOT EXISTS leaderboard_scores (
+    board VARCHAR(40) NOT NULL,    -- subject:{id} / lecture:{id}
+    learner_id VARCHAR(64) NOT NULL,
+    nickname VARCHAR(20),
+    score BIGINT NOT NULL,         -- 맞힌 서로 다른 문제 수
+    reached_at DATETIME(3) NOT NULL, -- 이 점수에 도달한 시각 (동점이면 먼저 도달한 쪽이 앞, 밀리초까지)
+    PRIMARY KEY (board, learner_id)
+);
+
+-- 2️⃣ 점수에 반영한 문제 (같은 문제를 다시 맞혀도 점수는 한 번만)
+CREATE TABLE IF NOT EXISTS leaderboard_solved (
+    learner_id VARCHAR(64) NOT NULL,
+    question_id BIGINT NOT NULL,
+    PRIMARY KEY (learner_id, question_id)
+);
+
+-- 3️⃣ 이미 만든 테이블이면 도달 시각을 밀리초까지 저장하도록 변경
+ALTER TABLE leaderboard_scores MODIFY reached_at DATETIME(3) NOT NULL;
+
+-- ✅ 완료!
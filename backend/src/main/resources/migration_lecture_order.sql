@@ -0,0 +1,22 @@
+-- 📦 DB 마이그레이션: 강의 정렬 키(unit, idx) 컬럼 추가
+-- 강의 이름 앞의 "단원-번호"를 조회할 때마다 파싱하지 않고 생성 시 한 번만 저장해 두고 인덱스로 정렬함
+
+-- 1️⃣ 컬럼 추가
+ALTER TABLE lectures
+    ADD COLUMN unit INT NOT NULL DEFAULT 0,
+    ADD COLUMN idx INT NOT NULL DEFAULT 0;
+
+-- 2️⃣ 기존 강의 채우기 ("2-10 트리" → unit 2, idx 10)
+--    형식에 맞지 않는 이름은 0, 0 으로 남아 목록 맨 앞에 옵니다.
+UPDATE lectures
+SET unit = CAST(SUBSTRING_INDEX(name, '-', 1) AS UNSIGNED),
+    idx  = CAST(SUBSTRING_INDEX(SUBSTRING_INDEX(name, ' ', 1), '-', -1) AS UNSIGNED)
+WHERE name REGEXP '^[0-9]+-[0-9]+[[:space:]]';
+
+-- 3️⃣ 과목별 강의 목록 인덱스 (subject_id = ? ORDER BY unit, idx)
+CREATE INDEX idx_lectures_subject_unit_idx ON lectures (subject_id, unit, idx);
+
+-- 4️⃣ 확인
+SELECT id, name, subject_id, unit, idx FROM lectures ORDER BY subject_id, unit, idx;
+
+-- ✅ 완료!
@@ -0,0 +1,13 @@
+-- 📦 DB 마이그레이션: 관리자 문제 목록 페이지(keyset) 인덱스 추가
+-- GET /api/admin/questions/page 의 강의/유형 필터 + id 순서 조회가 인덱스 범위 스캔으로 끝나도록 함
+
+-- 1️⃣ 강의별 문제 (lecture_id = ? AND id > ? ORDER BY id)
+CREATE INDEX idx_questions_lecture_id_id ON questions (lecture_id, id);
+
+-- 2️⃣ 강의 + 문제 유형별 문제
+CREATE INDEX idx_questions_lecture_type_id ON questions (lecture_id, question_type, id);
+
+-- 3️⃣ 문제 유형별 문제 (전체 강의)
+CREATE INDEX idx_questions_type_id ON questions (question_type, id);
+
+-- ✅ 완료! 과목 필터는 lectures(subject_id) 외래키 인덱스로 강의를 찾은 뒤 위 인덱스를 사용합니다.
@@ -0,0 +1,16 @@
+-- 📦 DB 마이그레이션: 복습 일정(간격 반복) 테이블 추가
+-- 채점할 때마다 서버 메모리의 학습자별 복습 큐를 갱신하고, 바뀐 항목만 주기적으로 모아서 저장함
+-- 학습자가 다시 접속하면 이 테이블에서 그 학습자의 행만 읽어 큐를 복원함
+
+-- 1️⃣ 학습자별 문제 복습 상태 (SM-2)
+CREATE TABLE IF NOT EXISTS review_states (
+    learner_id VARCHAR(64) NOT NULL,
+    question_id BIGINT NOT NULL,
+    repetitions INT NOT NULL,      -- 연속으로 맞힌 횟수 (틀리면 0)
+    interval_days INT NOT NULL,    -- 마지막으로 정한 복습 간격 (일)
+    ease INT NOT NULL,             -- easiness factor x1000 (기본 2500)
+    due_at DATETIME NOT NULL,      -- 다음 복습 시각
+    PRIMARY KEY (learner_id, question_id)
+);
+
+-- ✅ 완료!
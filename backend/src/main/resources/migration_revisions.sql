@@ -0,0 +1,33 @@
+-- 📦 DB 마이그레이션: 변경분 동기화(delta sync)용 리비전 컬럼/테이블 추가
+-- 관리자 쓰기마다 카탈로그 리비전을 1씩 올리고, 바뀐 강의/문제에 그 값을 기록합니다.
+-- 학생은 마지막으로 받은 리비전 이후의 추가/변경/삭제 문제만 받아갑니다.
+
+-- 1️⃣ 리비전 컬럼 추가 (기존 데이터는 0 → 리비전 0 으로 동기화한 적 없는 클라이언트는 전체를 받음)
+ALTER TABLE lectures ADD COLUMN revision BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE questions ADD COLUMN revision BIGINT NOT NULL DEFAULT 0;
+
+-- 2️⃣ 강의별 변경 문제 조회 인덱스
+CREATE INDEX idx_questions_lecture_revision ON questions (lecture_id, revision);
+
+-- 3️⃣ 카탈로그 리비전 (행 하나)
+CREATE TABLE catalog_revision (
+    id TINYINT PRIMARY KEY,
+    revision BIGINT NOT NULL
+);
+
+INSERT INTO catalog_revision (id, revision) VALUES (1, 0);
+
+-- 4️⃣ 강의에서 빠진 문제 기록
+CREATE TABLE question_tombstones (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    lecture_id BIGINT NOT NULL,
+    question_id BIGINT NOT NULL,
+    revision BIGINT NOT NULL
+);
+
+CREATE INDEX idx_question_tombstones_lecture_revision ON question_tombstones (lecture_id, revision);
+
+-- 5️⃣ 확인
+SELECT * FROM catalog_revision;
+
+-- ✅ 완료!
@@ -20,18 +20,33 @@ CREATE TABLE lectures (
     id BIGINT AUTO_INCREMENT PRIMARY KEY,
     name VARCHAR(30) NOT NULL,
     subject_id BIGINT NOT NULL,
+    unit INT NOT NULL DEFAULT 0,   -- 이름 앞 "단원-번호"의 단원
+    idx INT NOT NULL DEFAULT 0,    -- 이름 앞 "단원-번호"의 번호
+    revision BIGINT NOT NULL DEFAULT 0, -- 강의 또는 강의의 문제가 마지막으로 바뀐 카탈로그 리비전
     FOREIGN KEY (subject_id) REFERENCES subjects(id) ON DELETE CASCADE
 );
 
+-- 과목별 강의 목록을 단원-번호 순으로 인덱스 범위 스캔 한 번에 읽기 위한 인덱스
+CREATE INDEX idx_lectures_subject_unit_idx ON lectures (subject_id, unit, idx);
+
 -- Create questions table
 CREATE TABLE questions (
     id BIGINT AUTO_INCREMENT PRIMARY KEY,
     lecture_id BIGINT NOT NULL,
     content TEXT NOT NULL,
     question_type ENUM('MULTIPLE_CHOICE', 'SHORT_ANSWER', 'TRUE_FALSE') NOT NULL DEFAULT 'MULTIPLE_CHOICE',
+    revision BIGINT NOT NULL DEFAULT 0, -- 문제가 지금 강의에 추가된 카탈로그 리비전
     FOREIGN KEY (lecture_id) REFERENCES lectures(id) ON DELETE CASCADE
 );
 
+-- 관리자 문제 목록 keyset 페이지용 인덱스 (필터 + id 순서)
+CREATE INDEX idx_questions_lecture_id_id ON questions (lecture_id, id);
+CREATE INDEX idx_questions_lecture_type_id ON questions (lecture_id, question_type, id);
+CREATE INDEX idx_questions_type_id ON questions (question_type, id);
+
+-- 변경분 동기화: 강의별 (revision > ?) 문제
+CREATE INDEX idx_questions_lecture_revision ON questions (lecture_id, revision);
+
 -- Create answers table
 CREATE TABLE answers (
     id BIGINT AUTO_INCREMENT PRIMARY KEY,
@@ -41,3 +56,78 @@ CREATE TABLE answers (
     correct BOOLEAN NOT NULL DEFAULT FALSE,
     FOREIGN KEY (question_id) REFERENCES questions(id) ON DELETE CASCADE
 );
+
+-- Create attempts table (채점 기록 - 문제 삭제 후에도 남도록 외래키 없음)
+CREATE TABLE attempts (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    learner_id VARCHAR(64),
+    question_id BIGINT NOT NULL,
+    answer_id BIGINT,
+    response_text VARCHAR(255),
+    correct BOOLEAN NOT NULL,
+    submitted_at DATETIME NOT NULL
+);
+
+CREATE INDEX idx_attempts_question ON attempts (question_id);
+CREATE INDEX idx_attempts_learner ON attempts (learner_id, submitted_at);
+
+-- Create question_stats / choice_stats tables (문항 분석 누적값 - 서버 메모리 카운터를 주기적으로 반영)
+CREATE TABLE question_stats (
+    question_id BIGINT PRIMARY KEY,
+    attempts BIGINT NOT NULL DEFAULT 0,
+    correct BIGINT NOT NULL DEFAULT 0
+);
+
+CREATE TABLE choice_stats (
+    answer_id BIGINT PRIMARY KEY,
+    question_id BIGINT NOT NULL,
+    selections BIGINT NOT NULL DEFAULT 0
+);
+
+CREATE INDEX idx_choice_stats_question ON choice_stats (question_id);
+
+-- Create catalog_revision table (카탈로그 전체 리비전 - 관리자 쓰기마다 1씩 증가하는 행 하나)
+CREATE TABLE catalog_revision (
+    id TINYINT PRIMARY KEY,
+    revision BIGINT NOT NULL
+);
+
+INSERT INTO catalog_revision (id, revision) VALUES (1, 0);
+
+-- Create question_tombstones table (강의에서 삭제/이동으로 빠진 문제 - 변경분 동기화용)
+CREATE TABLE question_tombstones (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    lecture_id BIGINT NOT NULL,
+    question_id BIGINT NOT NULL,
+    revision BIGINT NOT NULL
+);
+
+CREATE INDEX idx_question_tombstones_lecture_revision ON question_tombstones (lecture_id, revision);
+
+-- Create review_states table (학습자별 문제 복습 일정 - SM-2, 문제 삭제 후 남은 행은 읽을 때 건너뜀)
+CREATE TABLE review_states (
+    learner_id VARCHAR(64) NOT NULL,
+    question_id BIGINT NOT NULL,
+    repetitions INT NOT NULL,      -- 연속으로 맞힌 횟수 (틀리면 0)
+    interval_days INT NOT NULL,    -- 마지막으로 정한 복습 간격 (일)
+    ease INT NOT NULL,             -- easiness factor x1000 (기본 2500)
+    due_at DATETIME NOT NULL,      -- 다음 복습 시각
+    PRIMARY KEY (learner_id, question_id)
+);
+
+-- Create leaderboard_scores table (과목/강의 순위표 점수 - 정렬은 서버 메모리에서 하고 여기는 복원용)
+CREATE TABLE leaderboard_scores (
+    board VARCHAR(40) NOT NULL,    -- subject:{id} / lecture:{id}
+    learner_id VARCHAR(64) NOT NULL,
+    nickname VARCHAR(20),
+    score BIGINT NOT NULL,         -- 맞힌 서로 다른 문제 수
+    reached_at DATETIME(3) NOT NULL, -- 이 점수에 도달한 시각 (동점이면 먼저 도달한 쪽이 앞, 밀리초까지)
+    PRIMARY KEY (board, learner_id)
+);
+
+-- Create leaderboard_solved table (학습자가 맞혀 점수에 반영한 문제 - 같은 문제를 다시 맞혀도 점수는 한 번만)
+CREATE TABLE leaderboard_solved (
+    learner_id VARCHAR(64) NOT NULL,
+    question_id BIGINT NOT NULL,
+    PRIMARY KEY (learner_id, question_id)
+);
@@ -0,0 +1,111 @@
+package saffy.backend.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import saffy.backend.service.QuizService;
+
+/**
+ * H2 인메모리 DB 두 개(primary, replica)와 접속할 수 없는 복제본 하나로 라우팅 확인
+ */
+@SpringBootTest(properties = {
+        "quiz.datasource.replicas[0].url=jdbc:h2:mem:replica-${random.uuid};MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+        "quiz.datasource.replicas[1].url=jdbc:h2:tcp://127.0.0.1:1/unreachable",
+        "quiz.datasource.replicas[1].connection-timeout-ms=500"
+})
+@ActiveProfiles("test")
+class ReplicaRoutingDataSourceTest {
+
+    @Autowired
+    private ReplicaRoutingDataSource replicaRoutingDataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private QuizService quizService;
+
+    @BeforeEach
+    void checkReplicas() {
+        replicaRoutingDataSource.checkReplicas();
+    }
+
+    @Test
+    void readOnlyTransactionsGoToHealthyReplica() {
+        assertThat(replicaRoutingDataSource.healthyReplicaCount()).isEqualTo(1);
+
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        for (int i = 0; i < 4; i++) {
+            String database = readOnly.execute(status -> currentDatabase());
+            assertThat(database).startsWith("replica-");
+        }
+    }
+
+    @Test
+    void concurrentReadsSkipReplicaMarkedDownByHealthCheckThread() throws Exception {
+        // 상태 확인은 다른 스레드에서 하고, 요청 스레드들이 그 결과를 보고 죽은 복제본을 건너뛰는지 확인
+        ExecutorService checker = Executors.newSingleThreadExecutor();
+        checker.submit(replicaRoutingDataSource::checkReplicas).get();
+        checker.shutdown();
+
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<List<String>>> results = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                results.add(pool.submit(() -> {
+                    List<String> databases = new ArrayList<>();
+                    for (int i = 0; i < 20; i++) {
+                        databases.add(readOnly.execute(status -> currentDatabase()));
+                    }
+                    return databases;
+                }));
+            }
+            for (Future<List<String>> result : results) {
+                assertThat(result.get()).allSatisfy(database -> assertThat(database).startsWith("replica-"));
+            }
+        } finally {
+            pool.shutdown();
+        }
+        assertThat(replicaRoutingDataSource.healthyReplicaCount()).isEqualTo(1);
+    }
+
+    @Test
+    void writesAndNonTransactionalQueriesStayOnPrimary() {
+        TransactionTemplate write = new TransactionTemplate(transactionManager);
+        String database = write.execute(status -> currentDatabase());
+        assertThat(database).startsWith("quiz-");
+        assertThat(currentDatabase()).startsWith("quiz-");
+    }
+
+    @Test
+    void snapshotIsBuiltFromPrimary() {
+        // 스키마는 primary 에만 있으므로 복제본에서 읽었다면 실패함
+        assertThat(quizService.getAllSubjects()).isEmpty();
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        String database = ReplicaRoutingDataSource.usePrimary(() -> readOnly.execute(status -> currentDatabase()));
+        assertThat(database).startsWith("quiz-");
+    }
+
+    private String currentDatabase() {
+        return jdbcTemplate.queryForObject("SELECT DATABASE()", String.class);
+    }
+}
@@ -0,0 +1,162 @@
+package saffy.backend.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import saffy.backend.service.CatalogChangedEvent;
+import saffy.backend.support.CatalogFixture;
+
+/**
+ * 조회 API 의 응답 형식 협상과 조건부 요청 헤더 처리
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class QuizControllerTest {
+
+    private static final String QUESTIONS = "/api/lectures/1/questions";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    private CatalogFixture catalog;
+
+    @BeforeEach
+    void setUp() {
+        catalog = new CatalogFixture(jdbcTemplate, eventPublisher)
+                .subject(1, "OS")
+                .lecture(1, 1, "1-1 프로세스")
+                .question(1, 1, "프로세스와 스레드의 차이는?")
+                .answer(10L, 1, "주소 공간 공유", true);
+        catalog.publish();
+    }
+
+    @AfterEach
+    void tearDown() {
+        catalog.cleanUp();
+    }
+
+    @Test
+    void Accept_에_따라_JSON_CBOR_Smile_로_응답() throws Exception {
+        byte[] json = mockMvc.perform(get(QUESTIONS))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/json"))
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem("Accept, Accept-Encoding")))
+                .andReturn().getResponse().getContentAsByteArray();
+        assertThat(new ObjectMapper().readTree(json).get(0).get("content").asText()).isEqualTo("프로세스와 스레드의 차이는?");
+
+        byte[] cbor = mockMvc.perform(get(QUESTIONS).header(HttpHeaders.ACCEPT, "application/cbor"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/cbor"))
+                .andReturn().getResponse().getContentAsByteArray();
+        JsonNode decoded = Jackson2ObjectMapperBuilder.cbor().build().readTree(cbor);
+        assertThat(decoded.get(0).get("content").asText()).isEqualTo("프로세스와 스레드의 차이는?");
+
+        byte[] smile = mockMvc.perform(get(QUESTIONS)
+                        .header(HttpHeaders.ACCEPT, "application/cbor;q=0.5, application/x-jackson-smile"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-jackson-smile"))
+                .andReturn().getResponse().getContentAsByteArray();
+        decoded = Jackson2ObjectMapperBuilder.smile().build().readTree(smile);
+        assertThat(decoded.get(0).get("answers").get(0).get("content").asText()).isEqualTo("주소 공간 공유");
+    }
+
+    @Test
+    void 받을_수_있는_형식이_없으면_406_잘못된_Accept_는_JSON() throws Exception {
+        mockMvc.perform(get(QUESTIONS).header(HttpHeaders.ACCEPT, "text/html"))
+                .andExpect(status().isNotAcceptable());
+        mockMvc.perform(get(QUESTIONS).header(HttpHeaders.ACCEPT, "application/json;q=0"))
+                .andExpect(status().isNotAcceptable());
+
+        String tooMany = "text/plain, ".repeat(60) + "application/cbor";
+        mockMvc.perform(get(QUESTIONS).header(HttpHeaders.ACCEPT, tooMany))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/json"));
+    }
+
+    @Test
+    void 강의_문제는_ETag_가_같으면_304_바뀌면_새_내용() throws Exception {
+        String etag = mockMvc.perform(get(QUESTIONS).header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).endsWith("-gz\"");
+
+        mockMvc.perform(get(QUESTIONS).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        // gzip 을 q=0 으로 거절하면 원본으로 응답
+        mockMvc.perform(get(QUESTIONS).header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(header().string(HttpHeaders.ETAG, etag.replace("-gz", "")));
+
+        jdbcTemplate.update("UPDATE questions SET content = '멀티스레딩의 장점은?' WHERE id = 1");
+        eventPublisher.publishEvent(new CatalogChangedEvent(Set.of(1L)));
+        byte[] body = mockMvc.perform(get(QUESTIONS).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+        assertThat(new ObjectMapper().readTree(body).get(0).get("content").asText()).isEqualTo("멀티스레딩의 장점은?");
+    }
+
+    @Test
+    void 과목_번들은_gzip_거절과_ETag_를_항목_단위로_비교() throws Exception {
+        String url = bundleUrl();
+        String hash = url.substring(url.lastIndexOf('/') + 1);
+
+        mockMvc.perform(get(url).header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + hash + "-gz\""));
+        mockMvc.perform(get(url).header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0, br"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + hash + "\""));
+
+        // 해시를 포함하기만 한 다른 ETag 는 일치하지 않음
+        mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, "\"old-" + hash + "\""))
+                .andExpect(status().isOk());
+        mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, "\"other\", \"" + hash + "-gz\""))
+                .andExpect(status().isNotModified());
+    }
+
+    /** 번들은 별도 스레드에서 만들어지므로 목록에 나타날 때까지 기다림 */
+    private String bundleUrl() throws Exception {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (true) {
+            byte[] body = mockMvc.perform(get("/api/bundles")).andReturn().getResponse().getContentAsByteArray();
+            JsonNode manifest = new ObjectMapper().readTree(body);
+            for (JsonNode bundle : manifest) {
+                if (bundle.get("subjectId").asLong() == 1 && bundle.get("revision").asLong() >= 0) {
+                    return bundle.get("url").asText();
+                }
+            }
+            assertThat(System.currentTimeMillis()).isLessThan(deadline);
+            Thread.sleep(20);
+        }
+    }
+}
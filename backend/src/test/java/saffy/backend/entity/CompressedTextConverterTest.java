@@ -0,0 +1,50 @@
+package saffy.backend.entity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class CompressedTextConverterTest {
+
+    private static final String LONG_TEXT =
+            "트랜잭션 격리 수준이 REPEATABLE READ 일 때 같은 트랜잭션 안에서 같은 행을 다시 읽으면 같은 값이 보인다. ".repeat(10);
+
+    @Test
+    void 압축_후_원문으로_복원() {
+        CompressedTextConverter converter = new CompressedTextConverter(true, 200);
+
+        String stored = converter.convertToDatabaseColumn(LONG_TEXT);
+        assertThat(CompressedTextConverter.isCompressed(stored)).isTrue();
+        assertThat(stored.length()).isLessThan(LONG_TEXT.length());
+        assertThat(converter.convertToEntityAttribute(stored)).isEqualTo(LONG_TEXT);
+    }
+
+    @Test
+    void 짧은_값과_null_은_그대로_저장() {
+        CompressedTextConverter converter = new CompressedTextConverter(true, 200);
+
+        assertThat(converter.convertToDatabaseColumn("보기 1")).isEqualTo("보기 1");
+        assertThat(converter.convertToDatabaseColumn(null)).isNull();
+        assertThat(converter.convertToEntityAttribute(null)).isNull();
+    }
+
+    @Test
+    void 꺼져_있어도_압축된_값은_읽고_기존_평문도_그대로_읽음() {
+        String compressed = new CompressedTextConverter(true, 0).convertToDatabaseColumn(LONG_TEXT);
+        CompressedTextConverter disabled = new CompressedTextConverter(false, 200);
+
+        assertThat(disabled.convertToDatabaseColumn(LONG_TEXT)).isEqualTo(LONG_TEXT);
+        assertThat(disabled.convertToEntityAttribute(compressed)).isEqualTo(LONG_TEXT);
+        assertThat(disabled.convertToEntityAttribute(LONG_TEXT)).isEqualTo(LONG_TEXT);
+        // 압축을 끄면 변환 작업은 평문으로 되돌림
+        assertThat(disabled.reencode(compressed)).isEqualTo(LONG_TEXT);
+    }
+
+    @Test
+    void 깨진_압축_데이터는_원문_그대로() {
+        CompressedTextConverter converter = new CompressedTextConverter(true, 200);
+        String broken = CompressedTextConverter.MARKER + "not-base64!";
+
+        assertThat(converter.convertToEntityAttribute(broken)).isEqualTo(broken);
+    }
+}
@@ -0,0 +1,406 @@
+package saffy.backend.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import saffy.backend.service.CatalogChangedEvent;
+
+/**
+ * 시험 시작 직후처럼 학생 요청이 몰리는 상황의 부하 테스트 (./gradlew loadTest)
+ * - 전체 애플리케이션을 임의 포트로 띄우고 H2(MySQL 모드)에 합성 문제은행을 넣은 뒤 HTTP로 요청
+ * - 동시 사용자 수만큼 스레드가 쉬지 않고 요청을 보내며(closed loop), 요청 종류는 비율(mix)대로 섞음
+ * - 처리량과 엔드포인트별 p50/p95/p99 지연 시간을 JSON 파일로 남김
+ *
+ * 설정 (-Ploadtest.xxx=값 으로 변경):
+ *   subjects, lectures(과목당), questions(강의당), answers(문제당) - 문제은행 크기
+ *   concurrency(동시 사용자), warmup-seconds, duration-seconds
+ *   mix - 요청 종류별 비율 (예: questions=40,assemble=20,submit=20,lectures=10,subject-lectures=5,search=3,page=2)
+ *   output - 결과 파일 경로, max-error-rate / max-p99-ms - 넘으면 테스트 실패 (CI 기준선)
+ */
+@Tag("loadtest")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("loadtest") // Hibernate 통계/속도 제한을 끈 전용 프로필 (application-loadtest.yml)
+class QuizLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(QuizLoadTest.class);
+
+    private static final String ADMIN_SECRET = System.getenv().getOrDefault("ADMIN_SECRET", "admin1234");
+    private static final String DEFAULT_MIX =
+            "questions=40,assemble=20,submit=20,lectures=10,subject-lectures=5,search=3,page=2";
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final int subjects = intSetting("subjects", 3);
+    private final int lecturesPerSubject = intSetting("lectures", 10);
+    private final int questionsPerLecture = intSetting("questions", 50);
+    private final int answersPerQuestion = intSetting("answers", 4);
+    private final int concurrency = intSetting("concurrency", 200);
+    private final int warmupSeconds = intSetting("warmup-seconds", 5);
+    private final int durationSeconds = intSetting("duration-seconds", 30);
+
+    private long lectureCount;
+    private long questionCount;
+
+    /** 요청 종류 */
+    enum Operation {
+        LECTURES("lectures"),
+        SUBJECT_LECTURES("subject-lectures"),
+        QUESTIONS("questions"),
+        ASSEMBLE("assemble"),
+        SUBMIT("submit"),
+        SEARCH("search"),
+        PAGE("page"),
+        STATS("stats");
+
+        private final String key;
+
+        Operation(String key) {
+            this.key = key;
+        }
+    }
+
+    @BeforeEach
+    void seed() {
+        lectureCount = (long) subjects * lecturesPerSubject;
+        questionCount = lectureCount * questionsPerLecture;
+        SplittableRandom random = new SplittableRandom(2024);
+
+        List<Object[]> subjectRows = new ArrayList<>();
+        List<Object[]> lectureRows = new ArrayList<>();
+        for (int s = 1; s <= subjects; s++) {
+            subjectRows.add(new Object[]{s, "과목" + s});
+            for (int l = 1; l <= lecturesPerSubject; l++) {
+                long lectureId = (long) (s - 1) * lecturesPerSubject + l;
+                int unit = (l - 1) / 5 + 1;
+                int idx = (l - 1) % 5 + 1;
+                lectureRows.add(new Object[]{lectureId, unit + "-" + idx + " 강의" + l, s, unit, idx});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO subjects (id, name) VALUES (?, ?)", subjectRows);
+        jdbcTemplate.batchUpdate("INSERT INTO lectures (id, name, subject_id, unit, idx) VALUES (?, ?, ?, ?, ?)", lectureRows);
+
+        List<Object[]> questionRows = new ArrayList<>();
+        List<Object[]> answerRows = new ArrayList<>();
+        for (long q = 1; q <= questionCount; q++) {
+            long lectureId = (q - 1) / questionsPerLecture + 1;
+            questionRows.add(new Object[]{q, lectureId, koreanText(random, 80)});
+            for (int a = 0; a < answersPerQuestion; a++) {
+                long answerId = (q - 1) * answersPerQuestion + a + 1;
+                answerRows.add(new Object[]{answerId, q, koreanText(random, 20), koreanText(random, 300), a == 0});
+            }
+            if (questionRows.size() == 1000 || q == questionCount) {
+                jdbcTemplate.batchUpdate("INSERT INTO questions (id, lecture_id, content) VALUES (?, ?, ?)", questionRows);
+                jdbcTemplate.batchUpdate(
+                        "INSERT INTO answers (id, question_id, content, explanation, correct) VALUES (?, ?, ?, ?, ?)",
+                        answerRows);
+                questionRows.clear();
+                answerRows.clear();
+            }
+        }
+
+        // 직접 넣은 데이터를 스냅샷/색인에 반영
+        eventPublisher.publishEvent(new CatalogChangedEvent(
+                LongStream.rangeClosed(1, lectureCount).boxed().collect(java.util.stream.Collectors.toSet())));
+    }
+
+    @Test
+    void examBurst() throws Exception {
+        Map<Operation, Integer> mix = parseMix(System.getProperty("loadtest.mix", DEFAULT_MIX));
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        run(client, mix, warmupSeconds, null);
+
+        Recorder[] recorders = new Recorder[concurrency];
+        long start = System.nanoTime();
+        run(client, mix, durationSeconds, recorders);
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+
+        Map<String, Object> report = report(mix, recorders, elapsedSeconds);
+        Path output = Path.of(System.getProperty("loadtest.output", "build/reports/loadtest/loadtest-result.json"));
+        Files.createDirectories(output.toAbsolutePath().getParent());
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(output.toFile(), report);
+        log.info("load test result -> {}", output.toAbsolutePath());
+        log.info("overall: {}", objectMapper.writeValueAsString(report.get("overall")));
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object> overall = (Map<String, Object>) report.get("overall");
+        double errorRate = (double) overall.get("errorRate");
+        assertThat(errorRate).isLessThanOrEqualTo(Double.parseDouble(System.getProperty("loadtest.max-error-rate", "0.01")));
+        String maxP99 = System.getProperty("loadtest.max-p99-ms");
+        if (maxP99 != null) {
+            assertThat((double) overall.get("p99Ms")).isLessThanOrEqualTo(Double.parseDouble(maxP99));
+        }
+    }
+
+    /** 동시 사용자 수만큼 스레드를 띄워 seconds 동안 요청 (recorders 가 null 이면 워밍업) */
+    private void run(HttpClient client, Map<Operation, Integer> mix, int seconds, Recorder[] recorders)
+            throws InterruptedException {
+        Operation[] wheel = wheel(mix);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        CountDownLatch done = new CountDownLatch(concurrency);
+        for (int w = 0; w < concurrency; w++) {
+            Recorder recorder = new Recorder();
+            if (recorders != null) {
+                recorders[w] = recorder;
+            }
+            long seed = w;
+            workers.execute(() -> {
+                SplittableRandom random = new SplittableRandom(seed);
+                try {
+                    while (System.nanoTime() < deadline) {
+                        Operation op = wheel[random.nextInt(wheel.length)];
+                        HttpRequest request = request(op, random);
+                        long t0 = System.nanoTime();
+                        boolean ok;
+                        try {
+                            HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+                            ok = response.statusCode() < 400;
+                        } catch (IOException e) {
+                            ok = false;
+                        }
+                        recorder.record(op, System.nanoTime() - t0, ok);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+        workers.shutdown();
+    }
+
+    private HttpRequest request(Operation op, SplittableRandom random) {
+        long lectureId = 1 + random.nextLong(lectureCount);
+        long subjectId = 1 + random.nextInt(subjects);
+        return switch (op) {
+            case LECTURES -> get("/api/lectures").build();
+            case SUBJECT_LECTURES -> get("/api/subjects/" + subjectId + "/lectures").build();
+            case QUESTIONS -> get("/api/lectures/" + lectureId + "/questions").header("Accept-Encoding", "gzip").build();
+            case ASSEMBLE -> post("/api/quiz/assemble", "{\"subjectId\":" + subjectId + ",\"count\":10}");
+            case SUBMIT -> post("/api/quiz/submit", submission(random));
+            case SEARCH -> get("/api/admin/questions/search?limit=20&q=" + searchTerm(random))
+                    .header("X-Admin-Secret", ADMIN_SECRET).build();
+            case PAGE -> get("/api/admin/questions/page?size=50&lectureId=" + lectureId)
+                    .header("X-Admin-Secret", ADMIN_SECRET).build();
+            case STATS -> get("/api/admin/stats/questions?lectureId=" + lectureId)
+                    .header("X-Admin-Secret", ADMIN_SECRET).build();
+        };
+    }
+
+    /** 임의 문제 10개에 대한 답안 (정답 보기 또는 오답 보기) */
+    private String submission(SplittableRandom random) {
+        StringBuilder sb = new StringBuilder("{\"learnerId\":\"student-").append(random.nextInt(500)).append("\",\"answers\":[");
+        for (int i = 0; i < 10; i++) {
+            long questionId = 1 + random.nextLong(questionCount);
+            long answerId = (questionId - 1) * answersPerQuestion + 1 + random.nextInt(answersPerQuestion);
+            sb.append(i > 0 ? "," : "").append("{\"questionId\":").append(questionId)
+                    .append(",\"answerId\":").append(answerId).append('}');
+        }
+        return sb.append("]}").toString();
+    }
+
+    private static String searchTerm(SplittableRandom random) {
+        String term = koreanText(random, 2).trim();
+        return java.net.URLEncoder.encode(term, StandardCharsets.UTF_8);
+    }
+
+    private HttpRequest.Builder get(String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .timeout(Duration.ofSeconds(30))
+                .GET();
+    }
+
+    private HttpRequest post(String path, String json) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json, StandardCharsets.UTF_8))
+                .build();
+    }
+
+    private Map<String, Object> report(Map<Operation, Integer> mix, Recorder[] recorders, double elapsedSeconds) {
+        Map<String, Object> config = new LinkedHashMap<>();
+        config.put("subjects", subjects);
+        config.put("lecturesPerSubject", lecturesPerSubject);
+        config.put("questionsPerLecture", questionsPerLecture);
+        config.put("answersPerQuestion", answersPerQuestion);
+        config.put("concurrency", concurrency);
+        config.put("warmupSeconds", warmupSeconds);
+        config.put("durationSeconds", durationSeconds);
+        Map<String, Integer> mixByKey = new LinkedHashMap<>();
+        mix.forEach((op, weight) -> mixByKey.put(op.key, weight));
+        config.put("mix", mixByKey);
+
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        List<long[]> all = new ArrayList<>();
+        long errors = 0;
+        for (Operation op : Operation.values()) {
+            long[] latencies = Arrays.stream(recorders)
+                    .flatMapToLong(r -> Arrays.stream(r.latencies(op)))
+                    .toArray();
+            long opErrors = Arrays.stream(recorders).mapToLong(r -> r.errors.getOrDefault(op, 0L)).sum();
+            if (latencies.length == 0) {
+                continue;
+            }
+            all.add(latencies);
+            errors += opErrors;
+            endpoints.put(op.key, summary(latencies, opErrors, elapsedSeconds));
+        }
+        long[] merged = all.stream().flatMapToLong(Arrays::stream).toArray();
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("finishedAt", LocalDateTime.now().toString());
+        report.put("config", config);
+        report.put("overall", summary(merged, errors, elapsedSeconds));
+        report.put("endpoints", endpoints);
+        return report;
+    }
+
+    private static Map<String, Object> summary(long[] latenciesNanos, long errors, double elapsedSeconds) {
+        long[] sorted = latenciesNanos.clone();
+        Arrays.sort(sorted);
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("requests", sorted.length);
+        summary.put("errors", errors);
+        summary.put("errorRate", sorted.length == 0 ? 0.0 : (double) errors / sorted.length);
+        summary.put("throughputPerSec", round(sorted.length / elapsedSeconds));
+        summary.put("meanMs", round(Arrays.stream(sorted).average().orElse(0) / 1e6));
+        summary.put("p50Ms", percentileMs(sorted, 0.50));
+        summary.put("p95Ms", percentileMs(sorted, 0.95));
+        summary.put("p99Ms", percentileMs(sorted, 0.99));
+        summary.put("maxMs", sorted.length == 0 ? 0.0 : round(sorted[sorted.length - 1] / 1e6));
+        return summary;
+    }
+
+    /** nearest-rank 백분위 */
+    private static double percentileMs(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0.0;
+        }
+        int rank = (int) Math.ceil(p * sorted.length);
+        return round(sorted[Math.max(0, rank - 1)] / 1e6);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+
+    /** 비율대로 요청 종류를 채운 배열 (무작위 인덱스로 뽑음) */
+    private static Operation[] wheel(Map<Operation, Integer> mix) {
+        List<Operation> wheel = new ArrayList<>();
+        mix.forEach((op, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                wheel.add(op);
+            }
+        });
+        if (wheel.isEmpty()) {
+            throw new IllegalArgumentException("loadtest.mix 에 요청 종류가 없습니다.");
+        }
+        return wheel.toArray(new Operation[0]);
+    }
+
+    static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String part : mix.split(",")) {
+            String[] kv = part.trim().split("=");
+            Operation op = Arrays.stream(Operation.values())
+                    .filter(o -> o.key.equals(kv[0].trim()))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("알 수 없는 요청 종류: " + kv[0]));
+            weights.put(op, Integer.parseInt(kv[1].trim()));
+        }
+        return weights;
+    }
+
+    private static int intSetting(String name, int defaultValue) {
+        return Integer.parseInt(System.getProperty("loadtest." + name, String.valueOf(defaultValue)));
+    }
+
+    private static String koreanText(SplittableRandom random, int length) {
+        StringBuilder sb = new StringBuilder(length + 8);
+        while (sb.length() < length) {
+            int word = 2 + random.nextInt(3);
+            for (int i = 0; i < word; i++) {
+                // 자주 쓰는 음절 범위만 사용해서 검색어가 실제로 걸리도록 함
+                sb.append((char) ('가' + random.nextInt(400)));
+            }
+            sb.append(' ');
+        }
+        return sb.toString();
+    }
+
+    /** 작업 스레드 하나의 기록 (스레드끼리 공유하지 않음) */
+    private static final class Recorder {
+        private final Map<Operation, long[]> latencies = new EnumMap<>(Operation.class);
+        private final Map<Operation, Integer> counts = new EnumMap<>(Operation.class);
+        private final Map<Operation, Long> errors = new EnumMap<>(Operation.class);
+
+        void record(Operation op, long nanos, boolean ok) {
+            long[] buf = latencies.computeIfAbsent(op, o -> new long[256]);
+            int n = counts.getOrDefault(op, 0);
+            if (n == buf.length) {
+                buf = Arrays.copyOf(buf, n * 2);
+                latencies.put(op, buf);
+            }
+            buf[n] = nanos;
+            counts.put(op, n + 1);
+            if (!ok) {
+                errors.merge(op, 1L, Long::sum);
+            }
+        }
+
+        long[] latencies(Operation op) {
+            long[] buf = latencies.get(op);
+            return buf == null ? new long[0] : Arrays.copyOf(buf, counts.get(op));
+        }
+    }
+}
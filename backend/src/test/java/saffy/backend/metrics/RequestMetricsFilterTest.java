@@ -0,0 +1,134 @@
+package saffy.backend.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import saffy.backend.support.CatalogFixture;
+
+/**
+ * 요청별 SQL 통계: 일반 요청과 비동기 스트리밍 요청(내보내기) 모두 엔드포인트별로 기록
+ * (JPA 뿐 아니라 JdbcTemplate 으로 실행한 SQL 도 DataSource 에서 셈)
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class RequestMetricsFilterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    private CatalogFixture catalog;
+
+    @BeforeEach
+    void setUp() {
+        catalog = new CatalogFixture(jdbcTemplate, eventPublisher)
+                .subject(1, "SE")
+                .lecture(1, 1, "1-1 테스트")
+                .question(1, 1, "단위 테스트란?")
+                .answer(10L, 1, "작은 단위 검증", true);
+        catalog.publish();
+    }
+
+    @AfterEach
+    void tearDown() {
+        catalog.cleanUp();
+    }
+
+    @Test
+    void 일반_요청의_SQL_수와_시간을_엔드포인트별로_기록() throws Exception {
+        String uri = "/api/questions/upload";
+        long before = count(uri, "POST");
+        double sqlBefore = total(uri, "POST");
+
+        mockMvc.perform(post(uri).contentType(MediaType.APPLICATION_JSON).content("""
+                        {"lectureId": 1, "questions": [
+                          {"content": "통합 테스트란?", "choices": [{"content": "여러 모듈 검증", "correct": true}]}
+                        ]}"""))
+                .andExpect(status().isOk());
+
+        assertThat(count(uri, "POST")).isEqualTo(before + 1);
+        assertThat(total(uri, "POST")).isGreaterThan(sqlBefore);
+        assertThat(sqlTime(uri, "POST").count()).isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    void 비동기_스트리밍_요청은_작업_스레드의_SQL_까지_한_번만_기록() throws Exception {
+        String uri = "/api/admin/questions/export";
+        long before = count(uri, "GET");
+        double sqlBefore = total(uri, "GET");
+
+        MvcResult started = mockMvc.perform(get(uri).header("X-Admin-Secret", "admin1234"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        assertThat(count(uri, "GET")).isEqualTo(before); // 아직 응답이 끝나지 않음
+
+        mockMvc.perform(asyncDispatch(started)).andExpect(status().isOk());
+
+        assertThat(count(uri, "GET")).isEqualTo(before + 1);
+        assertThat(total(uri, "GET")).isGreaterThan(sqlBefore); // 내보내기 조회 SQL 포함
+    }
+
+    @Test
+    void JdbcTemplate_으로_직접_실행한_SQL도_단건_배치_모두_셈() {
+        RequestSqlStats stats = RequestSqlStats.begin();
+        try {
+            jdbcTemplate.queryForObject("SELECT COUNT(*) FROM questions", Long.class);
+            jdbcTemplate.update("UPDATE questions SET content = content WHERE id = 1");
+            jdbcTemplate.batchUpdate("UPDATE questions SET content = content WHERE id = ?",
+                    List.of(new Object[]{1L}, new Object[]{2L}));
+        } finally {
+            RequestSqlStats.end();
+        }
+
+        assertThat(stats.statements()).isEqualTo(3);
+        assertThat(stats.nanos()).isPositive();
+    }
+
+    /** 아직 기록이 없으면 0 (테스트에서 미터를 먼저 만들지 않도록 find 로 조회) */
+    private long count(String uri, String method) {
+        DistributionSummary summary = find(uri, method);
+        return summary != null ? summary.count() : 0;
+    }
+
+    private double total(String uri, String method) {
+        DistributionSummary summary = find(uri, method);
+        return summary != null ? summary.totalAmount() : 0;
+    }
+
+    private DistributionSummary find(String uri, String method) {
+        return meterRegistry.find("quiz.request.sql.statements").tags("uri", uri, "method", method).summary();
+    }
+
+    private Timer sqlTime(String uri, String method) {
+        return meterRegistry.find("quiz.request.sql.time").tags("uri", uri, "method", method).timer();
+    }
+}
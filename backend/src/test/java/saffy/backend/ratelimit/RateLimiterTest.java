@@ -0,0 +1,191 @@
+package saffy.backend.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class RateLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void burst_후에는_채워지는_속도만큼만_허용() {
+        RateLimiter limiter = new RateLimiter(2, 3, 100); // 초당 2개, 최대 3개
+        long now = 1_000 * SECOND;
+
+        assertThat(limiter.tryAcquire("a", now).granted()).isTrue();
+        assertThat(limiter.tryAcquire("a", now).granted()).isTrue();
+        assertThat(limiter.tryAcquire("a", now).granted()).isTrue();
+        RateLimiter.Permit rejected = limiter.tryAcquire("a", now);
+        assertThat(rejected.granted()).isFalse();
+        assertThat(rejected.waitNanos()).isEqualTo(SECOND / 2);
+
+        // 다른 키는 영향 없음
+        assertThat(limiter.tryAcquire("b", now).granted()).isTrue();
+
+        // 0.5초 뒤 하나 채워짐
+        assertThat(limiter.tryAcquire("a", now + SECOND / 2).granted()).isTrue();
+        assertThat(limiter.tryAcquire("a", now + SECOND / 2).waitNanos()).isPositive();
+    }
+
+    @Test
+    void 키_수가_상한에_닿으면_사용_중인_키는_두고_새_키는_공용_버킷을_나눠_씀() {
+        RateLimiter limiter = new RateLimiter(1, 5, 10);
+        long now = 1_000 * SECOND;
+        limiter.tryAcquire("admin", now);
+        for (int i = 0; i < 100; i++) {
+            limiter.tryAcquire("ip-" + i, now);
+        }
+        assertThat(limiter.size()).isLessThanOrEqualTo(10);
+
+        // 먼저 쓰던 키는 지워지지 않아 한도가 초기화되지 않음 (4개 남음)
+        for (int i = 0; i < 4; i++) {
+            assertThat(limiter.tryAcquire("admin", now).granted()).isTrue();
+        }
+        assertThat(limiter.tryAcquire("admin", now).granted()).isFalse();
+
+        // 넘친 새 키들은 공용 버킷 하나(burst 5)를 이미 다 씀
+        assertThat(limiter.tryAcquire("new", now).granted()).isFalse();
+
+        // 다 채워진 버킷은 정리되고 새 키는 다시 자기 버킷을 받음
+        limiter.sweep(now + 10 * SECOND);
+        assertThat(limiter.size()).isZero();
+        assertThat(limiter.tryAcquire("new", now + 10 * SECOND).granted()).isTrue();
+        assertThat(limiter.size()).isEqualTo(1);
+    }
+
+    @Test
+    void 돌려준_토큰은_가져간_버킷에만_더해짐() {
+        RateLimiter limiter = new RateLimiter(1, 2, 10);
+        long now = 1_000 * SECOND;
+        RateLimiter.Permit old = limiter.tryAcquire("a", now);
+        assertThat(old.granted()).isTrue();
+
+        // 토큰을 돌려주기 전에 버킷이 정리되고 다시 생김
+        limiter.sweep(now + 10 * SECOND);
+        long later = now + 10 * SECOND;
+        assertThat(limiter.tryAcquire("a", later).granted()).isTrue();
+        assertThat(limiter.tryAcquire("a", later).granted()).isTrue();
+        old.refund();
+
+        // 새 버킷은 burst(2) 를 넘지 않음
+        assertThat(limiter.tryAcquire("a", later).granted()).isFalse();
+        // 거절된 결과를 돌려줘도 아무 일 없음
+        limiter.tryAcquire("a", later).refund();
+        assertThat(limiter.tryAcquire("a", later).granted()).isFalse();
+    }
+
+    @Test
+    void 클라이언트_키는_신뢰할_프록시가_보낸_헤더만_사용() {
+        TrustedProxies proxies = new TrustedProxies("172.16.0.0/12, ::1");
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr("172.18.0.5");
+        assertThat(RateLimitFilter.clientKey(request, proxies)).isEqualTo("172.18.0.5");
+
+        request.addHeader("X-Forwarded-For", "1.1.1.1, 2.2.2.2");
+        assertThat(RateLimitFilter.clientKey(request, proxies)).isEqualTo("2.2.2.2");
+
+        request.addHeader("X-Real-IP", "3.3.3.3");
+        assertThat(RateLimitFilter.clientKey(request, proxies)).isEqualTo("3.3.3.3");
+
+        // 프록시를 거치지 않고 직접 접속하면 헤더를 위조해도 접속 주소로 구분
+        request.setRemoteAddr("203.0.113.7");
+        assertThat(RateLimitFilter.clientKey(request, proxies)).isEqualTo("203.0.113.7");
+        assertThat(RateLimitFilter.clientKey(request, new TrustedProxies(""))).isEqualTo("203.0.113.7");
+    }
+
+    @Test
+    void 신뢰할_프록시_대역_판별() {
+        TrustedProxies proxies = new TrustedProxies("10.0.0.0/8,192.168.1.10,fd00::/8");
+        assertThat(proxies.contains("10.255.0.1")).isTrue();
+        assertThat(proxies.contains("11.0.0.1")).isFalse();
+        assertThat(proxies.contains("192.168.1.10")).isTrue();
+        assertThat(proxies.contains("192.168.1.11")).isFalse();
+        assertThat(proxies.contains("fd12::1")).isTrue();
+        assertThat(proxies.contains("fe80::1")).isFalse();
+        assertThat(proxies.contains("example.com")).isFalse();
+        assertThat(new TrustedProxies(null).isEmpty()).isTrue();
+    }
+
+    @Test
+    void 동시에_보낸_관리자_비밀번호_추측도_실패_예산을_넘지_못함() throws Exception {
+        RateLimitFilter filter = filter(3); // 인증 실패 3번까지
+        int attempts = 20;
+        AtomicInteger entered = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        FilterChain wrongSecret = (req, res) -> {
+            entered.incrementAndGet();
+            try {
+                release.await(5, TimeUnit.SECONDS); // 결과가 나오기 전에 나머지 요청이 모두 도착하게 함
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            ((MockHttpServletResponse) res).setStatus(401);
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(attempts);
+        AtomicInteger rejected = new AtomicInteger();
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < attempts; i++) {
+                futures.add(executor.submit(() -> {
+                    MockHttpServletResponse response = new MockHttpServletResponse();
+                    filter.doFilter(adminRequest(), response, wrongSecret);
+                    if (response.getStatus() == 429) {
+                        rejected.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            long deadline = System.nanoTime() + 5 * SECOND;
+            while (entered.get() + rejected.get() < attempts && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            release.countDown();
+            for (Future<?> future : futures) {
+                future.get(5, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(entered.get()).isEqualTo(3);
+        assertThat(rejected.get()).isEqualTo(attempts - 3);
+    }
+
+    @Test
+    void 인증에_성공한_관리자_요청은_예산을_돌려받음() throws Exception {
+        RateLimitFilter filter = filter(3);
+        FilterChain ok = (req, res) -> ((MockHttpServletResponse) res).setStatus(200);
+        for (int i = 0; i < 50; i++) {
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            filter.doFilter(adminRequest(), response, ok);
+            assertThat(response.getStatus()).isEqualTo(200);
+        }
+    }
+
+    private static RateLimitFilter filter(int adminFailureBurst) {
+        return new RateLimitFilter(new DriverManagerDataSource(), new SimpleMeterRegistry(), true, 100,
+                30, 100, 0.2, 5, 0.0001, adminFailureBurst, 20, "");
+    }
+
+    private static MockHttpServletRequest adminRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest("DELETE", "/api/admin/questions/1");
+        request.setRemoteAddr("198.51.100.9");
+        request.addHeader("X-Admin-Secret", "guess");
+        return request;
+    }
+}
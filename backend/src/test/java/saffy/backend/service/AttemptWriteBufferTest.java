@@ -0,0 +1,91 @@
+package saffy.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import saffy.backend.repository.AttemptBatchWriter;
+import saffy.backend.repository.AttemptBatchWriter.AttemptRecord;
+
+/**
+ * 채점 기록 버퍼: batchSize 개씩 저장, 실패하면 큐에 되돌려 다음에 다시 저장, 용량을 넘으면 버림
+ * (flusher 스레드는 띄우지 않고 drain()을 직접 호출)
+ */
+class AttemptWriteBufferTest {
+
+    /** insertAll 호출을 기록하고, failures 번만큼 먼저 실패하는 writer */
+    private static class RecordingWriter extends AttemptBatchWriter {
+        final List<List<Long>> batches = new ArrayList<>();
+        int failures;
+
+        RecordingWriter(int failures) {
+            super(null);
+            this.failures = failures;
+        }
+
+        @Override
+        public void insertAll(List<AttemptRecord> attempts) {
+            if (failures > 0) {
+                failures--;
+                throw new IllegalStateException("DB 연결 실패");
+            }
+            batches.add(attempts.stream().map(AttemptRecord::questionId).toList());
+        }
+    }
+
+    @Test
+    void batchSize_개씩_나눠_순서대로_저장() {
+        RecordingWriter writer = new RecordingWriter(0);
+        AttemptWriteBuffer buffer = new AttemptWriteBuffer(writer, 100, 2, 1000);
+        for (long q = 1; q <= 5; q++) {
+            assertThat(buffer.offer(attempt(q))).isTrue();
+        }
+        assertThat(buffer.pending()).isEqualTo(5);
+
+        buffer.drain();
+
+        assertThat(writer.batches).containsExactly(List.of(1L, 2L), List.of(3L, 4L), List.of(5L));
+        assertThat(buffer.pending()).isZero();
+        assertThat(buffer.written()).isEqualTo(5);
+    }
+
+    @Test
+    void 저장에_실패하면_기록을_잃지_않고_다음_drain_에서_다시_저장() {
+        RecordingWriter writer = new RecordingWriter(1);
+        AttemptWriteBuffer buffer = new AttemptWriteBuffer(writer, 100, 10, 1000);
+        buffer.offer(attempt(1));
+        buffer.offer(attempt(2));
+
+        assertThatThrownBy(buffer::drain).isInstanceOf(IllegalStateException.class);
+        assertThat(buffer.pending()).isEqualTo(2);
+        assertThat(buffer.written()).isZero();
+
+        buffer.drain();
+        assertThat(writer.batches).containsExactly(List.of(1L, 2L));
+        assertThat(buffer.pending()).isZero();
+        assertThat(buffer.written()).isEqualTo(2);
+    }
+
+    @Test
+    void 용량을_넘으면_새_기록은_버리고_dropped_로_집계() {
+        RecordingWriter writer = new RecordingWriter(0);
+        AttemptWriteBuffer buffer = new AttemptWriteBuffer(writer, 3, 10, 1000);
+        assertThat(buffer.offer(attempt(1))).isTrue();
+        assertThat(buffer.offer(attempt(2))).isTrue();
+        assertThat(buffer.offer(attempt(3))).isTrue();
+        assertThat(buffer.offer(attempt(4))).isFalse();
+        assertThat(buffer.pending()).isEqualTo(3);
+        assertThat(buffer.dropped()).isEqualTo(1);
+
+        // 비우고 나면 다시 받음
+        buffer.drain();
+        assertThat(buffer.offer(attempt(5))).isTrue();
+        assertThat(writer.batches).containsExactly(List.of(1L, 2L, 3L));
+    }
+
+    private static AttemptRecord attempt(long questionId) {
+        return new AttemptRecord("learner", questionId, null, null, true, 0L);
+    }
+}
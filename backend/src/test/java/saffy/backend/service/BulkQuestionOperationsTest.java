@@ -0,0 +1,137 @@
+package saffy.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import saffy.backend.dto.BulkQuestionDto;
+import saffy.backend.dto.BulkResultDto;
+import saffy.backend.dto.SearchResultDto;
+import saffy.backend.support.CatalogFixture;
+
+/**
+ * 문제 대량 삭제/강의 비우기/이동: 삭제 기록(tombstone)과 검색 색인까지 한 번에 반영
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class BulkQuestionOperationsTest {
+
+    @Autowired
+    private QuizService quizService;
+
+    @Autowired
+    private QuestionSearchIndex questionSearchIndex;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    private CatalogFixture catalog;
+
+    @BeforeEach
+    void setUp() {
+        catalog = new CatalogFixture(jdbcTemplate, eventPublisher)
+                .subject(1, "OS")
+                .lecture(1, 1, "1-1 메모리").lecture(2, 1, "1-2 파일").lecture(3, 1, "1-3 입출력");
+        for (long id = 1; id <= 30; id++) {
+            long lectureId = (id <= 20) ? 1 : 2;
+            catalog.question(id, lectureId, "페이지 교체 알고리즘 " + id)
+                    .answer(null, id, "정답 " + id, true)
+                    .answer(null, id, "오답 " + id, false);
+        }
+        catalog.publish();
+        questionSearchIndex.search("교체", null, 1); // 색인을 만든 뒤 변경분만 반영되는지 확인
+    }
+
+    @AfterEach
+    void tearDown() {
+        catalog.cleanUp();
+    }
+
+    @Test
+    void 대량_삭제는_문제와_보기를_지우고_없는_ID는_무시() {
+        BulkResultDto result = quizService.deleteQuestions(List.of(1L, 2L, 2L, 25L, 999L));
+
+        assertThat(result.getAffected()).isEqualTo(3);
+        assertThat(result.getLectureIds()).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(count("SELECT COUNT(*) FROM questions")).isEqualTo(27);
+        assertThat(count("SELECT COUNT(*) FROM answers WHERE question_id IN (1, 2, 25)")).isZero();
+        assertThat(count("SELECT COUNT(*) FROM question_tombstones WHERE question_id IN (1, 2, 25)")).isEqualTo(3);
+        assertThat(searchIds("교체", null)).hasSize(27).doesNotContain(1L, 2L, 25L);
+
+        assertThat(quizService.deleteQuestions(List.of(999L)).getAffected()).isZero();
+        assertThatThrownBy(() -> quizService.deleteQuestion(999L)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void 한_번에_MAX_BULK_SIZE_개까지만() {
+        List<Long> tooMany = LongStream.rangeClosed(1, QuizService.MAX_BULK_SIZE + 1).boxed().toList();
+        assertThatThrownBy(() -> quizService.deleteQuestions(tooMany)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> quizService.moveQuestions(new BulkQuestionDto(tooMany, null, 3L)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> quizService.deleteQuestions(List.of())).isInstanceOf(IllegalArgumentException.class);
+        assertThat(count("SELECT COUNT(*) FROM questions")).isEqualTo(30);
+
+        List<Long> limit = LongStream.rangeClosed(1, QuizService.MAX_BULK_SIZE).boxed().toList();
+        assertThat(quizService.deleteQuestions(limit).getAffected()).isEqualTo(30);
+    }
+
+    @Test
+    void 강의_비우기는_강의를_남기고_문제만_삭제() {
+        BulkResultDto result = quizService.purgeLecture(1L);
+
+        assertThat(result.getAffected()).isEqualTo(20);
+        assertThat(count("SELECT COUNT(*) FROM lectures WHERE id = 1")).isEqualTo(1);
+        assertThat(count("SELECT COUNT(*) FROM questions WHERE lecture_id = 1")).isZero();
+        assertThat(count("SELECT COUNT(*) FROM answers")).isEqualTo(20);
+        assertThat(count("SELECT COUNT(*) FROM question_tombstones WHERE lecture_id = 1")).isEqualTo(20);
+        assertThat(searchIds("교체", 1L)).isEmpty();
+        assertThat(searchIds("교체", 2L)).hasSize(10);
+
+        assertThat(quizService.purgeLecture(1L).getAffected()).isZero();
+        assertThatThrownBy(() -> quizService.purgeLecture(99L)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void 문제_이동은_ID_목록이나_강의_전체를_한_번에_옮김() {
+        BulkResultDto byIds = quizService.moveQuestions(new BulkQuestionDto(List.of(1L, 21L, 999L), null, 3L));
+        assertThat(byIds.getAffected()).isEqualTo(2);
+        assertThat(byIds.getLectureIds()).containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(searchIds("교체", 3L)).containsExactlyInAnyOrder(1L, 21L);
+        assertThat(count("SELECT COUNT(*) FROM question_tombstones WHERE question_id IN (1, 21)")).isEqualTo(2);
+
+        BulkResultDto byLecture = quizService.moveQuestions(new BulkQuestionDto(null, 2L, 3L));
+        assertThat(byLecture.getAffected()).isEqualTo(9);
+        assertThat(count("SELECT COUNT(*) FROM questions WHERE lecture_id = 3")).isEqualTo(11);
+        assertThat(searchIds("교체", 2L)).isEmpty();
+        assertThat(searchIds("교체", 3L)).hasSize(11);
+
+        assertThat(quizService.moveQuestions(new BulkQuestionDto(null, 3L, 3L)).getAffected()).isZero();
+        assertThatThrownBy(() -> quizService.moveQuestions(new BulkQuestionDto(List.of(1L), null, 99L)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> quizService.moveQuestions(new BulkQuestionDto(null, 99L, 3L)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> quizService.moveQuestions(new BulkQuestionDto(null, null, 3L)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private int count(String sql) {
+        return jdbcTemplate.queryForObject(sql, Integer.class);
+    }
+
+    private List<Long> searchIds(String query, Long lectureId) {
+        SearchResultDto result = questionSearchIndex.search(query, lectureId, QuestionSearchIndex.MAX_LIMIT);
+        return result.getHits().stream().map(h -> h.getQuestion().getId()).toList();
+    }
+}
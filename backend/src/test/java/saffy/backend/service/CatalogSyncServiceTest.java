@@ -0,0 +1,154 @@
+package saffy.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import saffy.backend.dto.CatalogSyncDto;
+import saffy.backend.dto.LectureSyncDto;
+import saffy.backend.dto.QuestionDto;
+import saffy.backend.dto.UploadQuestionDto;
+import saffy.backend.entity.Lecture;
+import saffy.backend.entity.Question;
+import saffy.backend.repository.CatalogRevisionRepository;
+import saffy.backend.repository.LectureRepository;
+import saffy.backend.repository.QuestionBatchWriter;
+import saffy.backend.support.CatalogFixture;
+
+/**
+ * 변경분 동기화: 이벤트 없이 커밋된 변경(가져오기 중간 청크)과 다른 강의 수정이 섞인 경우
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class CatalogSyncServiceTest {
+
+    private static final long IMPORT_LECTURE = 1L;
+    private static final long EDIT_LECTURE = 2L;
+
+    @Autowired
+    private CatalogSyncService catalogSyncService;
+
+    @Autowired
+    private CatalogSnapshotHolder catalogSnapshotHolder;
+
+    @Autowired
+    private CatalogRevisionRepository catalogRevisionRepository;
+
+    @Autowired
+    private QuestionBatchWriter questionBatchWriter;
+
+    @Autowired
+    private LectureRepository lectureRepository;
+
+    @Autowired
+    private QuizService quizService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    private CatalogFixture catalog;
+
+    @BeforeEach
+    void setUp() {
+        catalog = new CatalogFixture(jdbcTemplate, eventPublisher)
+                .subject(1, "DB")
+                .lecture(IMPORT_LECTURE, 1, "1-1 인덱스")
+                .lecture(EDIT_LECTURE, 1, "1-2 트랜잭션")
+                .question(100, EDIT_LECTURE, "수정될 문제")
+                .answer(null, 100, "정답", true)
+                .insert();
+        // 클라이언트가 한 번 받아 간 상태(리비전 > 0)에서 시작
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> catalogRevisionRepository
+                .touchLectures(List.of(IMPORT_LECTURE, EDIT_LECTURE), catalogRevisionRepository.next()));
+        catalog.publish();
+    }
+
+    @AfterEach
+    void tearDown() {
+        catalog.cleanUp();
+    }
+
+    @Test
+    void 이벤트_없이_커밋된_가져오기_청크도_다른_강의_수정_후_동기화에_포함() {
+        long since = catalogSyncService.syncLecture(IMPORT_LECTURE, 0).getRevision();
+
+        // 가져오기 작업의 청크 커밋: 리비전은 올라가지만 이벤트는 작업이 끝날 때 발행됨
+        commitImportChunk("가져온 문제 1", "가져온 문제 2");
+        // 그 사이 다른 강의 수정 → 스냅샷 갱신
+        quizService.deleteQuestion(100L);
+
+        LectureSyncDto sync = catalogSyncService.syncLecture(IMPORT_LECTURE, since);
+        assertThat(sync.isChanged()).isTrue();
+        assertThat(sync.getRevision()).isGreaterThan(since);
+        assertThat(sync.getQuestions()).extracting(QuestionDto::getContent)
+                .containsExactlyInAnyOrder("가져온 문제 1", "가져온 문제 2");
+
+        // 받은 리비전으로 다시 요청하면 변경 없음
+        assertThat(catalogSyncService.syncLecture(IMPORT_LECTURE, sync.getRevision()).isChanged()).isFalse();
+        // 수정한 강의는 삭제로 내려감
+        LectureSyncDto edited = catalogSyncService.syncLecture(EDIT_LECTURE, since);
+        assertThat(edited.getDeletedQuestionIds()).containsExactly(100L);
+    }
+
+    @Test
+    void 스냅샷의_강의_리비전과_문제_목록이_항상_같은_시점() {
+        commitImportChunk("청크 1");
+        quizService.uploadQuestions(new UploadQuestionDto(EDIT_LECTURE, List.of(new UploadQuestionDto.QuestionItem(
+                "업로드한 문제", null, List.of(new UploadQuestionDto.ChoiceItem("정답", true, null))))), true);
+        commitImportChunk("청크 2");
+        quizService.deleteQuestion(100L);
+
+        CatalogSnapshot snapshot = catalogSnapshotHolder.get();
+        long revision = snapshot.lectureRevision(IMPORT_LECTURE);
+        assertThat(revision).isEqualTo(jdbcTemplate.queryForObject(
+                "SELECT revision FROM lectures WHERE id = ?", Long.class, IMPORT_LECTURE));
+        assertThat(snapshot.questionsOf(IMPORT_LECTURE)).extracting(QuestionDto::getContent)
+                .containsExactlyInAnyOrder("청크 1", "청크 2");
+    }
+
+    @Test
+    void 클라이언트_리비전이_서버보다_크면_전체를_다시_보냄() {
+        CatalogSnapshot snapshot = catalogSnapshotHolder.get();
+        long ahead = snapshot.revision() + 100; // DB 를 이전 백업으로 복원한 경우
+
+        CatalogSyncDto catalog = catalogSyncService.syncCatalog(ahead);
+        assertThat(catalog.isChanged()).isTrue();
+        assertThat(catalog.getRevision()).isEqualTo(snapshot.revision());
+        assertThat(catalog.getLectures()).hasSize(2);
+
+        LectureSyncDto lecture = catalogSyncService.syncLecture(EDIT_LECTURE, ahead);
+        assertThat(lecture.isFull()).isTrue();
+        assertThat(lecture.getQuestions()).extracting(QuestionDto::getId).containsExactly(100L);
+    }
+
+    /** QuestionImportService.commit 과 같은 방식으로 청크 하나를 커밋 (이벤트 없음) */
+    private void commitImportChunk(String... contents) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Lecture lecture = lectureRepository.findById(IMPORT_LECTURE).orElseThrow();
+            long revision = catalogRevisionRepository.next();
+            List<Question> chunk = Arrays.stream(contents)
+                    .map(c -> QuizService.toQuestion(new UploadQuestionDto.QuestionItem(c, null,
+                            List.of(new UploadQuestionDto.ChoiceItem("정답", true, null))), lecture))
+                    .toList();
+            chunk.forEach(q -> q.setRevision(revision));
+            questionBatchWriter.insertAll(IMPORT_LECTURE, chunk);
+            catalogRevisionRepository.touchLectures(List.of(IMPORT_LECTURE), revision);
+        });
+    }
+}
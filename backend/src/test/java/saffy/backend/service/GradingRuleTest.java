@@ -0,0 +1,56 @@
+package saffy.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import saffy.backend.dto.AnswerDto;
+import saffy.backend.dto.QuestionDto;
+import saffy.backend.dto.SubmissionDto;
+import saffy.backend.entity.QuestionType;
+
+/**
+ * 문제 하나의 정답 판정 (스냅샷/기록 없이 규칙만)
+ */
+class GradingRuleTest {
+
+    private static final QuestionDto CHOICE = question(91L, QuestionType.MULTIPLE_CHOICE,
+            choice(910L, "병합 정렬", true), choice(911L, "힙 정렬", false));
+
+    private static final QuestionDto SHORT = question(92L, QuestionType.SHORT_ANSWER,
+            choice(920L, "O(n log n)", true), choice(921L, "O(n^2)", false));
+
+    @Test
+    void 객관식은_이_문제의_정답_보기를_골라야_정답() {
+        assertThat(GradingService.isCorrect(CHOICE, answer(91L, 910L, null))).isTrue();
+        assertThat(GradingService.isCorrect(CHOICE, answer(91L, 911L, null))).isFalse();
+    }
+
+    @Test
+    void 다른_문제의_보기나_빈_답은_오답() {
+        assertThat(GradingService.isCorrect(CHOICE, answer(91L, 930L, null))).isFalse(); // 다른 문제의 정답 보기
+        assertThat(GradingService.isCorrect(CHOICE, answer(91L, null, "병합 정렬"))).isFalse();
+        assertThat(GradingService.isCorrect(SHORT, answer(92L, null, null))).isFalse();
+        assertThat(GradingService.isCorrect(SHORT, answer(92L, 920L, null))).isFalse();
+    }
+
+    @Test
+    void 주관식은_공백과_대소문자를_무시하고_정답_보기와_비교() {
+        assertThat(GradingService.isCorrect(SHORT, answer(92L, null, "  o(N   log n) "))).isTrue();
+        assertThat(GradingService.isCorrect(SHORT, answer(92L, null, "O(nlogn)"))).isFalse();
+        // 오답 보기와 같아도 오답
+        assertThat(GradingService.isCorrect(SHORT, answer(92L, null, "O(n^2)"))).isFalse();
+    }
+
+    private static QuestionDto question(long id, QuestionType type, AnswerDto... answers) {
+        return QuestionDto.builder().id(id).questionType(type).answers(List.of(answers)).build();
+    }
+
+    private static AnswerDto choice(long id, String content, boolean correct) {
+        return AnswerDto.builder().id(id).content(content).correct(correct).build();
+    }
+
+    private static SubmissionDto.SubmittedAnswer answer(Long questionId, Long answerId, String text) {
+        return new SubmissionDto.SubmittedAnswer(questionId, answerId, text);
+    }
+}
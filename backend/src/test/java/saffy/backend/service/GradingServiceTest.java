@@ -0,0 +1,172 @@
+package saffy.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import saffy.backend.dto.AnswerDto;
+import saffy.backend.dto.GradingResultDto;
+import saffy.backend.dto.SubmissionDto;
+import saffy.backend.entity.QuestionType;
+import saffy.backend.support.CatalogFixture;
+
+/**
+ * 채점: 스냅샷의 정답으로 채점하고 정답/해설을 공개, 기록은 버퍼를 거쳐 attempts 에 저장
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class GradingServiceTest {
+
+    @Autowired
+    private GradingService gradingService;
+
+    @Autowired
+    private AttemptWriteBuffer attemptWriteBuffer;
+
+    @Autowired
+    private LeaderboardService leaderboardService;
+
+    @Autowired
+    private ItemStatsService itemStatsService;
+
+    @Autowired
+    private ReviewScheduler reviewScheduler;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    private CatalogFixture catalog;
+
+    @BeforeEach
+    void setUp() {
+        catalog = new CatalogFixture(jdbcTemplate, eventPublisher)
+                .subject(9, "AL")
+                .lecture(9, 9, "1-1 정렬")
+                .question(91, 9, "안정 정렬은?")
+                .question(92, 9, "퀵 정렬의 평균 시간 복잡도는?", QuestionType.SHORT_ANSWER)
+                .question(93, 9, "힙 정렬은 제자리 정렬이다", QuestionType.TRUE_FALSE)
+                .answer(910L, 91, "병합 정렬", "같은 값의 순서를 유지", true)
+                .answer(911L, 91, "힙 정렬", false)
+                .answer(920L, 92, "O(n log n)", "분할이 고르게 될 때", true)
+                .answer(930L, 93, "O", true)
+                .answer(931L, 93, "X", false);
+        catalog.publish();
+    }
+
+    @AfterEach
+    void tearDown() {
+        attemptWriteBuffer.drain();
+        leaderboardService.flush();
+        jdbcTemplate.update("DELETE FROM attempts");
+        jdbcTemplate.update("DELETE FROM leaderboard_scores");
+        jdbcTemplate.update("DELETE FROM leaderboard_solved");
+        catalog.cleanUp();
+    }
+
+    @Test
+    void 객관식_주관식_OX_를_채점하고_정답과_해설을_공개() {
+        GradingResultDto result = gradingService.grade(submission("grader",
+                answer(91L, 910L, null),
+                answer(92L, null, "  o(N   LOG n) "),  // 공백/대소문자 무시
+                answer(93L, 931L, null)));
+
+        assertThat(result.getTotal()).isEqualTo(3);
+        assertThat(result.getCorrect()).isEqualTo(2);
+        assertThat(result.getResults()).extracting(GradingResultDto.GradedQuestion::getQuestionId).containsExactly(91L, 92L, 93L);
+        assertThat(result.getResults()).extracting(GradingResultDto.GradedQuestion::isCorrect).containsExactly(true, true, false);
+
+        GradingResultDto.GradedQuestion first = result.getResults().get(0);
+        assertThat(first.getAnswers()).extracting(AnswerDto::getId, AnswerDto::isCorrect)
+                .containsExactly(tuple(910L, true), tuple(911L, false));
+        assertThat(first.getAnswers().get(0).getExplanation()).isEqualTo("같은 값의 순서를 유지");
+    }
+
+    @Test
+    void 채점_기록은_버퍼를_거쳐_attempts_에_저장() {
+        String longText = "가".repeat(GradingService.MAX_TEXT_LENGTH + 10);
+        gradingService.grade(submission("writer", answer(91L, 911L, null), answer(92L, null, longText)));
+
+        attemptWriteBuffer.drain();
+        // flusher 스레드가 먼저 꺼내 간 경우도 있으므로 저장될 때까지 기다림
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM attempts WHERE learner_id = 'writer'", Integer.class))
+                        .isEqualTo(2));
+
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                "SELECT question_id, answer_id, response_text, correct FROM attempts WHERE learner_id = 'writer' ORDER BY question_id");
+        assertThat(rows.get(0)).containsEntry("answer_id", 911L).containsEntry("correct", false);
+        assertThat((String) rows.get(1).get("response_text")).hasSize(GradingService.MAX_TEXT_LENGTH);
+        assertThat(rows.get(1).get("answer_id")).isNull();
+    }
+
+    @Test
+    void 뒤쪽_답이_거절되면_앞쪽_답도_기록하지_않음() {
+        long statsBefore = itemStatsService.getQuestionStats(91).getAttempts();
+
+        assertThatThrownBy(() -> gradingService.grade(submission("rejected", answer(91L, 910L, null), answer(99L, 1L, null))))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> gradingService.grade(submission("rejected", answer(91L, 910L, null), answer(91L, 911L, null))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("두 번");
+
+        // 복습 일정은 한 스레드가 순서대로 반영하므로, 뒤에 넣은 제출이 반영되면 앞의 것도 처리된 상태
+        gradingService.grade(submission("accepted", answer(92L, null, "O(n log n)")));
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                assertThat(reviewScheduler.next("accepted", 10).getScheduled()).isEqualTo(1));
+        assertThat(reviewScheduler.next("rejected", 10).getScheduled()).isZero();
+
+        assertThat(itemStatsService.getQuestionStats(91).getAttempts()).isEqualTo(statsBefore);
+        attemptWriteBuffer.drain();
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM attempts WHERE learner_id = 'accepted'", Integer.class))
+                        .isEqualTo(1));
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM attempts WHERE learner_id = 'rejected'", Integer.class))
+                .isZero();
+    }
+
+    @Test
+    void 잘못된_제출은_IllegalArgumentException() {
+        assertThatThrownBy(() -> gradingService.grade(submission("grader")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> gradingService.grade(submission("grader", answer(99L, 910L, null))))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> gradingService.grade(submission("x".repeat(GradingService.MAX_LEARNER_ID_LENGTH + 1),
+                answer(91L, 910L, null))))
+                .isInstanceOf(IllegalArgumentException.class);
+        // 닉네임 규칙은 LeaderboardTest 에서, 여기서는 채점 전에 거절하는지만
+        assertThatThrownBy(() -> gradingService.grade(new SubmissionDto("grader", "가".repeat(21),
+                List.of(answer(91L, 910L, null)))))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        List<SubmissionDto.SubmittedAnswer> tooMany = new ArrayList<>();
+        for (int i = 0; i <= GradingService.MAX_ANSWERS; i++) {
+            tooMany.add(answer(91L, 910L, null));
+        }
+        assertThatThrownBy(() -> gradingService.grade(new SubmissionDto("grader", null, tooMany)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static SubmissionDto submission(String learnerId, SubmissionDto.SubmittedAnswer... answers) {
+        return new SubmissionDto(learnerId, null, List.of(answers));
+    }
+
+    private static SubmissionDto.SubmittedAnswer answer(Long questionId, Long answerId, String text) {
+        return new SubmissionDto.SubmittedAnswer(questionId, answerId, text);
+    }
+}
@@ -0,0 +1,32 @@
+package saffy.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class HttpConditionalsTest {
+
+    @Test
+    void gzip_은_항목과_품질값으로_판단() {
+        assertThat(HttpConditionals.acceptsGzip("gzip, deflate, br")).isTrue();
+        assertThat(HttpConditionals.acceptsGzip("br;q=1.0, GZIP;q=0.5")).isTrue();
+        assertThat(HttpConditionals.acceptsGzip("*")).isTrue();
+        assertThat(HttpConditionals.acceptsGzip("gzip;q=0")).isFalse();
+        assertThat(HttpConditionals.acceptsGzip("gzip;q=0.000, *")).isFalse();
+        assertThat(HttpConditionals.acceptsGzip("*;q=0")).isFalse();
+        assertThat(HttpConditionals.acceptsGzip("x-gzipped, br")).isFalse();
+        assertThat(HttpConditionals.acceptsGzip("gzip;q=abc")).isFalse();
+        assertThat(HttpConditionals.acceptsGzip(null)).isFalse();
+    }
+
+    @Test
+    void ETag_는_항목이_정확히_같을_때만_일치() {
+        String etag = "\"abc123\"";
+        assertThat(HttpConditionals.etagMatches("\"abc123\"", etag)).isTrue();
+        assertThat(HttpConditionals.etagMatches("\"x\", W/\"abc123\"", etag)).isTrue();
+        assertThat(HttpConditionals.etagMatches("*", etag)).isTrue();
+        assertThat(HttpConditionals.etagMatches("\"abc1234\"", etag)).isFalse();
+        assertThat(HttpConditionals.etagMatches("\"zzabc123\"", etag)).isFalse();
+        assertThat(HttpConditionals.etagMatches(null, etag)).isFalse();
+    }
+}
@@ -0,0 +1,195 @@
+package saffy.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import saffy.backend.dto.QuestionStatsDto;
+import saffy.backend.repository.ItemStatsRepository;
+import saffy.backend.support.CatalogFixture;
+
+/**
+ * 문항 통계: 메모리 카운터에 쌓고 증가분만 테이블에 더함, 저장 실패분은 다음 flush 에 다시 반영, 재시작 시 복원
+ * (공유 빈의 카운터와 섞이지 않도록 테스트마다 새 인스턴스 사용)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ItemStatsServiceTest {
+
+    @Autowired
+    private ItemStatsRepository itemStatsRepository;
+
+    @Autowired
+    private CatalogSnapshotHolder catalogSnapshotHolder;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    private ItemStatsService itemStatsService;
+
+    private CatalogFixture catalog;
+
+    @BeforeEach
+    void setUp() {
+        catalog = new CatalogFixture(jdbcTemplate, eventPublisher)
+                .subject(8, "DS")
+                .lecture(8, 8, "1-1 트리")
+                .question(81, 8, "AVL 트리의 회전 종류는?")
+                .question(82, 8, "B 트리의 특징은?")
+                .answer(810L, 81, "LL/RR/LR/RL", true).answer(811L, 81, "좌/우", false)
+                .answer(820L, 82, "균형 다진 트리", true).answer(821L, 82, "이진 트리", false);
+        catalog.publish();
+        itemStatsService = new ItemStatsService(itemStatsRepository, catalogSnapshotHolder);
+        itemStatsService.load();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM question_stats WHERE question_id IN (81, 82)");
+        jdbcTemplate.update("DELETE FROM choice_stats WHERE question_id IN (81, 82)");
+        catalog.cleanUp();
+    }
+
+    @Test
+    void 정답률과_보기_분포를_계산하고_오답_보기가_더_많으면_표시() {
+        itemStatsService.record(81, 810L, true);
+        itemStatsService.record(81, 811L, false);
+        itemStatsService.record(81, 811L, false);
+        itemStatsService.record(81, null, false); // 보기 밖 / 주관식
+
+        QuestionStatsDto stats = itemStatsService.getQuestionStats(81);
+        assertThat(stats.getAttempts()).isEqualTo(4);
+        assertThat(stats.getCorrect()).isEqualTo(1);
+        assertThat(stats.getCorrectRate()).isEqualTo(0.25);
+        assertThat(stats.isDistractorWins()).isTrue();
+        assertThat(stats.getChoices()).extracting(QuestionStatsDto.ChoiceStats::getSelections).containsExactly(1L, 2L);
+        assertThat(stats.getChoices().get(1).getSelectionRate()).isEqualTo(0.5);
+
+        // 응시가 없는 문제는 0
+        QuestionStatsDto empty = itemStatsService.getLectureStats(8).get(1);
+        assertThat(empty.getQuestionId()).isEqualTo(82L);
+        assertThat(empty.getAttempts()).isZero();
+        assertThat(empty.getCorrectRate()).isZero();
+        assertThat(empty.isDistractorWins()).isFalse();
+
+        assertThatThrownBy(() -> itemStatsService.getQuestionStats(99)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> itemStatsService.getLectureStats(99)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void flush_는_증가분만_더하고_재시작하면_누적값을_복원() {
+        itemStatsService.record(81, 810L, true);
+        itemStatsService.record(81, 811L, false);
+        itemStatsService.flush();
+        assertThat(questionStats(81)).containsExactly(2L, 1L);
+
+        itemStatsService.flush(); // 증가분이 없으면 그대로
+        itemStatsService.record(81, 810L, true);
+        itemStatsService.flush();
+        assertThat(questionStats(81)).containsExactly(3L, 2L);
+        assertThat(selections(810)).isEqualTo(2);
+        assertThat(selections(811)).isEqualTo(1);
+
+        ItemStatsService restarted = new ItemStatsService(itemStatsRepository, catalogSnapshotHolder);
+        restarted.record(81, 811L, false); // 복원 전에 들어온 채점도 유지
+        restarted.load();
+        QuestionStatsDto stats = restarted.getQuestionStats(81);
+        assertThat(stats.getAttempts()).isEqualTo(4);
+        assertThat(stats.getCorrect()).isEqualTo(2);
+        assertThat(stats.getChoices()).extracting(QuestionStatsDto.ChoiceStats::getSelections).containsExactly(2L, 2L);
+
+        restarted.flush();
+        assertThat(questionStats(81)).containsExactly(4L, 2L);
+    }
+
+    @Test
+    void 보기_통계_저장에_실패하면_그_증가분만_다음_flush_에_다시_더함() {
+        FailingOnceRepository failing = new FailingOnceRepository(jdbcTemplate);
+        ItemStatsService service = new ItemStatsService(failing, catalogSnapshotHolder);
+        service.load();
+        service.record(82, 820L, true);
+        service.record(82, 821L, false);
+
+        service.flush();
+        assertThat(questionStats(82)).containsExactly(2L, 1L);
+        assertThat(selections(820)).isZero();
+
+        service.flush();
+        assertThat(questionStats(82)).containsExactly(2L, 1L); // 문제 통계는 중복 반영되지 않음
+        assertThat(selections(820)).isEqualTo(1);
+        assertThat(selections(821)).isEqualTo(1);
+    }
+
+    @Test
+    void batch_중간에_실패하면_앞쪽_행도_되돌려_다음_flush_에_중복되지_않음() {
+        jdbcTemplate.update("INSERT INTO question_stats (question_id, attempts, correct) VALUES (82, ?, 0)", Long.MAX_VALUE);
+
+        // 81 은 더해지고 82 는 overflow 로 실패하는 batch
+        assertThatThrownBy(() -> itemStatsRepository.addQuestionDeltas(List.of(
+                new ItemStatsRepository.QuestionDelta(81, 1, 1),
+                new ItemStatsRepository.QuestionDelta(82, 1, 0))))
+                .isInstanceOf(RuntimeException.class);
+
+        assertThat(questionStats(81)).containsExactly(0L, 0L);
+    }
+
+    @Test
+    void 삭제된_문제의_카운터와_통계_행은_카탈로그가_바뀌면_지움() {
+        itemStatsService.record(81, 810L, true);
+        itemStatsService.record(82, 821L, false);
+        itemStatsService.flush();
+        itemStatsService.record(82, 820L, true); // 저장하지 않은 증가분
+
+        jdbcTemplate.update("DELETE FROM answers WHERE question_id = 82");
+        jdbcTemplate.update("DELETE FROM questions WHERE id = 82");
+        CatalogChangedEvent event = CatalogChangedEvent.ofLecture(8L);
+        eventPublisher.publishEvent(event);
+        itemStatsService.onCatalogChanged(event);
+
+        assertThat(questionStats(82)).containsExactly(0L, 0L);
+        assertThat(selections(821)).isZero();
+        itemStatsService.flush(); // 지운 문제의 증가분은 다시 쓰지 않음
+        assertThat(questionStats(82)).containsExactly(0L, 0L);
+        assertThat(selections(820)).isZero();
+        assertThat(questionStats(81)).containsExactly(1L, 1L);
+    }
+
+    private List<Long> questionStats(long questionId) {
+        return jdbcTemplate.query("SELECT attempts, correct FROM question_stats WHERE question_id = ?",
+                (rs, i) -> List.of(rs.getLong(1), rs.getLong(2)), questionId).stream().findFirst().orElse(List.of(0L, 0L));
+    }
+
+    private long selections(long answerId) {
+        return jdbcTemplate.queryForList("SELECT selections FROM choice_stats WHERE answer_id = ?", Long.class, answerId)
+                .stream().findFirst().orElse(0L);
+    }
+
+    /** 보기 통계 저장이 처음 한 번 실패하는 저장소 */
+    private static class FailingOnceRepository extends ItemStatsRepository {
+        private boolean failed;
+
+        FailingOnceRepository(JdbcTemplate jdbcTemplate) {
+            super(jdbcTemplate);
+        }
+
+        @Override
+        public void addChoiceDeltas(List<ChoiceDelta> deltas) {
+            if (!failed) {
+                failed = true;
+                throw new IllegalStateException("DB 연결 실패");
+            }
+            super.addChoiceDeltas(deltas);
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package saffy.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import saffy.backend.dto.LeaderboardDto;
+import saffy.backend.dto.QuestionDto;
+import saffy.backend.dto.SubmissionDto;
+import saffy.backend.repository.LeaderboardRepository;
+import saffy.backend.support.CatalogFixture;
+
+/**
+ * 채점 → 과목/강의 순위표 → 저장 → 새 인스턴스에서 복원
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class LeaderboardServiceTest {
+
+    @Autowired
+    private LeaderboardService leaderboardService;
+
+    @Autowired
+    private LeaderboardRepository leaderboardRepository;
+
+    @Autowired
+    private CatalogSnapshotHolder catalogSnapshotHolder;
+
+    @Autowired
+    private GradingService gradingService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    private CatalogFixture catalog;
+
+    @BeforeEach
+    void setUp() {
+        catalog = new CatalogFixture(jdbcTemplate, eventPublisher)
+                .subject(1, "NW")
+                .lecture(1, 1, "1-1 TCP")
+                .lecture(2, 1, "1-2 UDP");
+        for (long q = 1; q <= 4; q++) {
+            catalog.question(q, q <= 2 ? 1 : 2, "문제 " + q)
+                    .answer(q * 10, q, "정답", true)
+                    .answer(q * 10 + 1, q, "오답", false);
+        }
+        catalog.publish();
+    }
+
+    @AfterEach
+    void tearDown() {
+        leaderboardService.flush();
+        jdbcTemplate.update("DELETE FROM leaderboard_scores");
+        jdbcTemplate.update("DELETE FROM leaderboard_solved");
+        catalog.cleanUp();
+    }
+
+    @Test
+    void 정답_수로_과목과_강의_순위가_매겨지고_재시작_후_복원() {
+        submit("alice", "앨리스", 10L, 20L, 30L);   // 3문제 정답 (강의1: 2, 강의2: 1)
+        submit("bob", null, 10L, 21L, 31L, 40L);   // 2문제 정답 (강의1: 1, 강의2: 1)
+        submit("carol", "캐럴", 11L, 21L, 30L, 40L); // 2문제 정답, bob 보다 늦게 도달
+
+        LeaderboardDto subject = leaderboardService.getSubjectBoard(1, 10, "bob");
+        assertThat(subject.getParticipants()).isEqualTo(3);
+        assertThat(subject.getTop()).extracting(LeaderboardDto.Entry::getNickname).containsExactly("앨리스", "익명", "캐럴");
+        assertThat(subject.getTop()).extracting(LeaderboardDto.Entry::getScore).containsExactly(3L, 2L, 2L);
+        assertThat(subject.getMe().getRank()).isEqualTo(2);
+
+        LeaderboardDto lecture = leaderboardService.getLectureBoard(1, 1, "carol");
+        assertThat(lecture.getTop()).extracting(LeaderboardDto.Entry::getNickname).containsExactly("앨리스");
+        assertThat(lecture.getMe()).isNull(); // 강의1 에서는 맞힌 문제 없음
+
+        leaderboardService.flush();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM leaderboard_scores", Long.class)).isEqualTo(8); // 과목 3 + 강의1 2 + 강의2 3
+
+        // 재시작: 새 인스턴스가 테이블에서 다시 만듦
+        LeaderboardService restarted = new LeaderboardService(leaderboardRepository, catalogSnapshotHolder, 30);
+        restarted.load();
+        LeaderboardDto restored = restarted.getSubjectBoard(1, 10, "carol");
+        assertThat(restored.getTop()).extracting(LeaderboardDto.Entry::getNickname).containsExactly("앨리스", "익명", "캐럴");
+        assertThat(restored.getMe().getRank()).isEqualTo(3);
+    }
+
+    @Test
+    void 같은_문제를_다시_맞혀도_점수는_한_번만() {
+        long at = 1_700_000_000_123L;
+        record("dave", at, 1L);
+        record("dave", at + 1, 1L);      // 다시 제출
+        record("dave", at + 2, 1L, 2L);  // 이미 맞힌 1번 + 새로 맞힌 2번
+        assertThat(score(leaderboardService, 1, "dave")).isEqualTo(2);
+        assertThat(leaderboardService.getLectureBoard(1, 10, "dave").getMe().getScore()).isEqualTo(2);
+
+        leaderboardService.flush();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM leaderboard_solved WHERE learner_id = 'dave'", Long.class)).isEqualTo(2);
+        // 도달 시각은 밀리초까지 저장 (같은 초 안의 동점 순서 유지)
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT reached_at FROM leaderboard_scores WHERE board = 'subject:1' AND learner_id = 'dave'",
+                Timestamp.class).getTime()).isEqualTo(at + 2);
+
+        // 재시작 후에도 이미 맞힌 문제는 점수가 되지 않음 (저장할 때 leaderboard_solved 와 맞춰 되돌림)
+        LeaderboardService restarted = new LeaderboardService(leaderboardRepository, catalogSnapshotHolder, 30);
+        restarted.record("dave", null, List.of(question(1L)), at + 3); // 복원 전 다시 맞힘
+        restarted.load();
+        restarted.flush();
+        assertThat(score(restarted, 1, "dave")).isEqualTo(2);
+        assertThat(reachedAt("subject:1", "dave")).isEqualTo(at + 2); // 되돌린 점수의 도달 시각도 원래대로
+        restarted.record("dave", null, List.of(question(2L), question(3L)), at + 4);
+        assertThat(score(restarted, 1, "dave")).isEqualTo(3);
+    }
+
+    @Test
+    void 메모리에서_내린_학습자가_다시_맞힌_문제는_저장할_때_점수와_도달_시각을_되돌림() {
+        LeaderboardService service = new LeaderboardService(leaderboardRepository, catalogSnapshotHolder, 0); // flush 마다 내림
+        service.load();
+        long at = 1_700_000_000_000L;
+        service.record("erin", null, List.of(question(1L)), at);
+        service.record("frank", null, List.of(question(2L)), at + 1);
+        service.flush();
+
+        service.record("erin", null, List.of(question(1L)), at + 5); // 메모리에 없어 일단 더해짐
+        assertThat(score(service, 1, "erin")).isEqualTo(2);
+        assertThat(service.getSubjectBoard(1, 10, "erin").getMe().getRank()).isEqualTo(1);
+
+        service.flush();
+        assertThat(score(service, 1, "erin")).isEqualTo(1);
+        // 먼저 도달한 erin 이 다시 앞 (되돌린 시각이 at + 5 로 남으면 frank 뒤로 밀림)
+        assertThat(service.getSubjectBoard(1, 10, "erin").getMe().getRank()).isEqualTo(1);
+        assertThat(reachedAt("subject:1", "erin")).isEqualTo(at);
+        assertThat(reachedAt("lecture:1", "erin")).isEqualTo(at);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM leaderboard_solved WHERE learner_id = 'erin'", Long.class)).isEqualTo(1);
+    }
+
+    @Test
+    void 없는_보드는_거절() {
+        assertThatThrownBy(() -> leaderboardService.getSubjectBoard(99, null, null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void record(String learnerId, long at, Long... questionIds) {
+        leaderboardService.record(learnerId, null, Arrays.stream(questionIds).map(this::question).toList(), at);
+    }
+
+    private QuestionDto question(long questionId) {
+        return catalogSnapshotHolder.get().question(questionId);
+    }
+
+    private long reachedAt(String board, String learnerId) {
+        return jdbcTemplate.queryForObject("SELECT reached_at FROM leaderboard_scores WHERE board = ? AND learner_id = ?",
+                Timestamp.class, board, learnerId).getTime();
+    }
+
+    private static long score(LeaderboardService service, long subjectId, String learnerId) {
+        return service.getSubjectBoard(subjectId, 10, learnerId).getMe().getScore();
+    }
+
+    private void submit(String learnerId, String nickname, Long... answerIds) {
+        List<SubmissionDto.SubmittedAnswer> answers = Arrays.stream(answerIds)
+                .map(a -> new SubmissionDto.SubmittedAnswer(a / 10, a, null))
+                .toList();
+        gradingService.grade(new SubmissionDto(learnerId, nickname, answers));
+    }
+}
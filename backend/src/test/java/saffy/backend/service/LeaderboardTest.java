@@ -0,0 +1,118 @@
+package saffy.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import saffy.backend.repository.LeaderboardRepository.ScoreRow;
+
+class LeaderboardTest {
+
+    @Test
+    void 무작위_갱신_후_순위와_상위K가_전체_정렬과_같음() {
+        Leaderboard board = new Leaderboard("subject:1");
+        Map<String, long[]> expected = new HashMap<>(); // learnerId -> {score, reachedAt}
+        Random random = new Random(3);
+
+        for (int t = 1; t <= 20_000; t++) {
+            String learner = "l" + random.nextInt(1000);
+            int points = 1 + random.nextInt(3);
+            board.add(learner, null, points, t);
+            expected.computeIfAbsent(learner, k -> new long[2])[0] += points;
+            expected.get(learner)[1] = t;
+
+            if (t % 2000 == 0) {
+                List<String> sorted = sorted(expected);
+                assertThat(board.top(20)).extracting(Leaderboard.Standing::score)
+                        .containsExactlyElementsOf(sorted.stream().limit(20).map(l -> expected.get(l)[0]).toList());
+                for (int i = 0; i < sorted.size(); i += 97) {
+                    assertThat(board.standing(sorted.get(i)).rank()).isEqualTo(i + 1);
+                }
+            }
+        }
+        assertThat(board.size()).isEqualTo(expected.size());
+        assertThat(board.standing("nobody")).isNull();
+    }
+
+    @Test
+    void 동점이면_먼저_도달한_쪽이_앞() {
+        Leaderboard board = new Leaderboard("lecture:1");
+        board.add("a", "가", 3, 100);
+        board.add("b", "나", 3, 50);
+        board.add("c", null, 1, 10);
+
+        assertThat(board.top(10)).extracting(Leaderboard.Standing::nickname).containsExactly("나", "가", null);
+        assertThat(board.standing("a").rank()).isEqualTo(2);
+    }
+
+    @Test
+    void 복원_전에_쌓인_점수는_저장된_점수에_더함() {
+        Leaderboard board = new Leaderboard("subject:1");
+        board.add("a", null, 2, 500);
+        board.takeDirty();
+        board.add("a", null, 1, 600);
+
+        board.restore(new ScoreRow("subject:1", "a", "가", 10, 100));
+        board.restore(new ScoreRow("subject:1", "b", "나", 12, 200));
+
+        assertThat(board.top(10)).extracting(Leaderboard.Standing::score).containsExactly(13L, 12L);
+        assertThat(board.standing("a").nickname()).isEqualTo("가");
+        assertThat(board.takeDirty()).extracting(ScoreRow::learnerId).containsExactly("a");
+    }
+
+    @Test
+    void 되돌리면_점수와_도달_시각이_더하기_전으로() {
+        Leaderboard board = new Leaderboard("subject:1");
+        board.add("a", "가", 1, 10);
+        board.add("b", "나", 1, 20);
+        Leaderboard.Before before = board.add("a", null, 1, 30);
+        Leaderboard.Before first = board.add("c", "다", 1, 40);
+        board.takeDirty();
+
+        board.revoke("a", 1, 30, before);
+        board.revoke("c", 1, 40, first);
+
+        // a 는 다시 10 에 도달한 1점이라 b 보다 앞, 처음 들어온 c 는 보드에서 빠짐
+        assertThat(board.top(10)).extracting(Leaderboard.Standing::nickname).containsExactly("가", "나");
+        assertThat(board.takeDirty()).extracting(ScoreRow::learnerId, ScoreRow::score, ScoreRow::reachedAt)
+                .containsExactly(tuple("a", 1L, 10L));
+    }
+
+    @Test
+    void 되돌린_뒤에도_더_얻은_점수가_있으면_도달_시각은_그대로() {
+        Leaderboard board = new Leaderboard("subject:1");
+        board.add("a", null, 1, 10);
+        Leaderboard.Before before = board.add("a", null, 2, 30); // 한 번에 두 문제, 그중 하나만 되돌림
+
+        board.revoke("a", 1, 30, before);
+
+        assertThat(board.takeDirty()).extracting(ScoreRow::score, ScoreRow::reachedAt)
+                .containsExactly(tuple(2L, 30L));
+    }
+
+    @Test
+    void 닉네임은_앞뒤_공백을_자르고_비면_null_너무_길면_거절() {
+        assertThat(LeaderboardService.normalizeNickname("  가나  ")).isEqualTo("가나");
+        assertThat(LeaderboardService.normalizeNickname(" ")).isNull();
+        assertThat(LeaderboardService.normalizeNickname(null)).isNull();
+        assertThat(LeaderboardService.normalizeNickname("가".repeat(LeaderboardService.MAX_NICKNAME_LENGTH)))
+                .hasSize(LeaderboardService.MAX_NICKNAME_LENGTH);
+        assertThatThrownBy(() -> LeaderboardService.normalizeNickname("가".repeat(LeaderboardService.MAX_NICKNAME_LENGTH + 1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static List<String> sorted(Map<String, long[]> scores) {
+        List<String> learners = new ArrayList<>(scores.keySet());
+        learners.sort(Comparator.<String>comparingLong(l -> -scores.get(l)[0])
+                .thenComparingLong(l -> scores.get(l)[1])
+                .thenComparing(Comparator.naturalOrder()));
+        return learners;
+    }
+}
@@ -0,0 +1,93 @@
+package saffy.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import saffy.backend.dto.LectureDto;
+import saffy.backend.support.CatalogFixture;
+
+/**
+ * 강의 이름의 "단원-번호"를 생성 시 unit/idx 로 저장하고, 목록은 그 숫자 순서로 정렬
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class LectureOrderTest {
+
+    @Autowired
+    private QuizService quizService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    private CatalogFixture catalog;
+
+    @BeforeEach
+    void setUp() {
+        catalog = new CatalogFixture(jdbcTemplate, eventPublisher)
+                .subject(1, "DS").subject(2, "AL");
+        catalog.publish();
+    }
+
+    @AfterEach
+    void tearDown() {
+        catalog.cleanUp();
+    }
+
+    @Test
+    void 단원과_번호를_정수로_저장() {
+        LectureDto created = create("12-305 레드블랙 트리", 1L);
+
+        Map<String, Object> row = jdbcTemplate.queryForMap("SELECT unit, idx FROM lectures WHERE id = ?", created.getId());
+        assertThat(((Number) row.get("unit")).intValue()).isEqualTo(12);
+        assertThat(((Number) row.get("idx")).intValue()).isEqualTo(305);
+        assertThat(created.getName()).isEqualTo("12-305 레드블랙 트리");
+        assertThat(created.getSubjectId()).isEqualTo(1L);
+    }
+
+    @Test
+    void 과목별_목록과_전체_목록은_문자열이_아니라_숫자_순서() {
+        create("2-10 트리", 1L);
+        create("10-1 그래프", 1L);
+        create("2-2 스택", 1L);
+        create("1-1 정렬", 2L);
+        create("1-1 배열", 1L);
+
+        assertThat(quizService.getLecturesBySubject(1L)).extracting(LectureDto::getName)
+                .containsExactly("1-1 배열", "2-2 스택", "2-10 트리", "10-1 그래프");
+        assertThat(quizService.getLecturesBySubject(2L)).extracting(LectureDto::getName).containsExactly("1-1 정렬");
+        // 전체 목록: 단원-번호가 같으면 먼저 만든 강의부터
+        assertThat(quizService.getAllLectures()).extracting(LectureDto::getName)
+                .containsExactly("1-1 정렬", "1-1 배열", "2-2 스택", "2-10 트리", "10-1 그래프");
+
+        assertThatThrownBy(() -> quizService.getLecturesBySubject(99L)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void 형식이_다르거나_번호가_int_범위를_넘으면_IllegalArgumentException() {
+        for (String name : List.of("트리", "1- 트리", "1-1", "a-1 트리", "1-1트리", " ")) {
+            assertThatThrownBy(() -> create(name, 1L)).as(name).isInstanceOf(IllegalArgumentException.class);
+        }
+        assertThatThrownBy(() -> create("99999999999-1 트리", 1L))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("너무 큽니다");
+        assertThatThrownBy(() -> create("1-1 트리", 99L)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM lectures", Integer.class)).isZero();
+    }
+
+    private LectureDto create(String name, Long subjectId) {
+        return quizService.createLecture(LectureDto.builder().name(name).subjectId(subjectId).build());
+    }
+}
@@ -0,0 +1,102 @@
+package saffy.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import saffy.backend.support.CatalogFixture;
+
+/**
+ * 미리 직렬화한 강의 응답: 재사용, 카탈로그 변경 시 무효화, ETag 비교
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class LectureResponseCacheTest {
+
+    @Autowired
+    private LectureResponseCache lectureResponseCache;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    private CatalogFixture catalog;
+
+    @BeforeEach
+    void setUp() {
+        catalog = new CatalogFixture(jdbcTemplate, eventPublisher)
+                .subject(1, "CA")
+                .lecture(1, 1, "1-1 캐시")
+                .lecture(2, 1, "1-2 파이프라인")
+                .question(1, 1, "캐시 지역성의 종류는?")
+                .question(2, 2, "해저드의 종류는?");
+        catalog.publish();
+    }
+
+    @AfterEach
+    void tearDown() {
+        catalog.cleanUp();
+    }
+
+    @Test
+    void 같은_스냅샷이면_직렬화한_바이트를_재사용하고_gzip_은_원본과_같은_내용() throws IOException {
+        LectureResponseCache.CachedResponse first = lectureResponseCache.get(1);
+        assertThat(lectureResponseCache.get(1)).isSameAs(first);
+
+        assertThat(objectMapper.readTree(first.identity()).get(0).get("content").asText()).isEqualTo("캐시 지역성의 종류는?");
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(first.gzip()))) {
+            assertThat(in.readAllBytes()).isEqualTo(first.identity());
+        }
+        assertThat(lectureResponseCache.get(99)).isNull();
+    }
+
+    @Test
+    void 카탈로그_변경_이벤트가_오면_해당_강의만_다시_만듦() {
+        LectureResponseCache.CachedResponse lecture1 = lectureResponseCache.get(1);
+        LectureResponseCache.CachedResponse lecture2 = lectureResponseCache.get(2);
+
+        jdbcTemplate.update("UPDATE questions SET content = '캐시 지역성 두 가지' WHERE id = 1");
+        eventPublisher.publishEvent(new CatalogChangedEvent(Set.of(1L)));
+
+        LectureResponseCache.CachedResponse refreshed = lectureResponseCache.get(1);
+        assertThat(refreshed).isNotSameAs(lecture1);
+        assertThat(refreshed.hash()).isNotEqualTo(lecture1.hash());
+        assertThat(new String(refreshed.identity(), StandardCharsets.UTF_8)).contains("캐시 지역성 두 가지");
+        assertThat(lectureResponseCache.get(2)).isSameAs(lecture2);
+
+        // 강의가 삭제되면 응답도 사라짐
+        jdbcTemplate.update("DELETE FROM questions WHERE lecture_id = 2");
+        jdbcTemplate.update("DELETE FROM lectures WHERE id = 2");
+        eventPublisher.publishEvent(CatalogChangedEvent.ofStructure());
+        assertThat(lectureResponseCache.get(2)).isNull();
+    }
+
+    @Test
+    void ETag_는_원본과_gzip_이_다르고_어느_쪽이든_일치로_봄() {
+        LectureResponseCache.CachedResponse cached = lectureResponseCache.get(1);
+        assertThat(cached.etag(false)).isEqualTo("\"" + cached.hash() + "\"");
+        assertThat(cached.etag(true)).isEqualTo("\"" + cached.hash() + "-gz\"");
+
+        assertThat(cached.matches(cached.etag(false))).isTrue();
+        assertThat(cached.matches("\"other\", W/" + cached.etag(true))).isTrue();
+        assertThat(cached.matches("\"" + cached.hash().substring(1) + "\"")).isFalse();
+        assertThat(cached.matches(null)).isFalse();
+    }
+}
@@ -0,0 +1,121 @@
+package saffy.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import saffy.backend.dto.UploadQuestionDto;
+import saffy.backend.dto.UploadResultDto;
+import saffy.backend.support.CatalogFixture;
+
+/**
+ * 업로드 중복 검사: MinHash 유사도가 threshold 이상인 기존 문제/앞선 업로드 항목만 중복으로 보고 건너뜀
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class QuestionDuplicateIndexTest {
+
+    private static final String EXISTING = "트랜잭션 격리 수준 중 반복 가능한 읽기에서 발생할 수 있는 현상은?";
+    private static final String NEAR = "트랜잭션 격리수준 중 반복가능한 읽기에서 발생할 수 있는 현상은?"; // 띄어쓰기만 다름
+    private static final String OTHER = "정규화의 목적과 제2정규형의 조건을 설명하시오";
+
+    @Autowired
+    private QuizService quizService;
+
+    @Autowired
+    private CatalogSnapshotHolder catalogSnapshotHolder;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    private CatalogFixture catalog;
+
+    @BeforeEach
+    void setUp() {
+        catalog = new CatalogFixture(jdbcTemplate, eventPublisher)
+                .subject(1, "DB")
+                .lecture(1, 1, "1-1 트랜잭션")
+                .question(1, 1, EXISTING)
+                .answer(null, 1, "팬텀 리드", true).answer(null, 1, "더티 리드", false);
+        catalog.publish();
+    }
+
+    @AfterEach
+    void tearDown() {
+        catalog.cleanUp();
+    }
+
+    @Test
+    void 서명_일치_비율은_글자_bigram_의_Jaccard_유사도를_따름() {
+        int[] existing = QuestionDuplicateIndex.signature(EXISTING);
+        assertThat(QuestionDuplicateIndex.signature(EXISTING)).isEqualTo(existing); // 고정 seed
+        assertThat(QuestionDuplicateIndex.similarity(existing, existing)).isEqualTo(1.0);
+        assertThat(QuestionDuplicateIndex.similarity(existing, QuestionDuplicateIndex.signature(NEAR))).isGreaterThanOrEqualTo(0.8);
+        assertThat(QuestionDuplicateIndex.similarity(existing, QuestionDuplicateIndex.signature(OTHER))).isLessThan(0.3);
+        assertThat(QuestionDuplicateIndex.signature(" ?! ")).isNull(); // 글자가 없으면 검사하지 않음
+    }
+
+    @Test
+    void threshold_이상만_중복으로_판단() {
+        UploadQuestionDto.QuestionItem near = item(NEAR, "팬텀 리드", "더티 리드");
+        UploadQuestionDto.QuestionItem other = item(OTHER);
+
+        QuestionDuplicateIndex.Batch loose = new QuestionDuplicateIndex(catalogSnapshotHolder, 0.8).newBatch();
+        QuestionDuplicateIndex.Match match = loose.find(loose.signatureOf(near));
+        assertThat(match).isNotNull();
+        assertThat(match.questionId()).isEqualTo(1L);
+        assertThat(match.itemIndex()).isNull();
+        assertThat(loose.find(loose.signatureOf(other))).isNull();
+
+        QuestionDuplicateIndex.Batch exact = new QuestionDuplicateIndex(catalogSnapshotHolder, 1.0).newBatch();
+        assertThat(exact.find(exact.signatureOf(near))).isNull();
+        assertThat(exact.find(exact.signatureOf(item(EXISTING, "팬텀 리드", "더티 리드")))).isNotNull();
+    }
+
+    @Test
+    void 업로드에서_기존_문제와_앞선_항목의_중복은_건너뛰고_목록으로_알려줌() {
+        UploadResultDto result = quizService.uploadQuestions(
+                new UploadQuestionDto(1L, List.of(item(NEAR, "팬텀 리드", "더티 리드"), item(OTHER), item(OTHER + "."))), false);
+
+        assertThat(result.getInserted()).isEqualTo(1);
+        assertThat(result.getSkipped()).isEqualTo(2);
+        assertThat(result.getDuplicates()).extracting(UploadResultDto.Duplicate::getIndex).containsExactly(0, 2);
+        assertThat(result.getDuplicates().get(0).getMatchedQuestionId()).isEqualTo(1L);
+        assertThat(result.getDuplicates().get(1).getMatchedIndex()).isEqualTo(1);
+        assertThat(result.getDuplicates().get(1).getSimilarity()).isEqualTo(1.0);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM questions", Integer.class)).isEqualTo(2);
+
+        // 방금 저장한 문제도 다음 업로드의 비교 대상
+        UploadResultDto again = quizService.uploadQuestions(new UploadQuestionDto(1L, List.of(item(OTHER))), false);
+        assertThat(again.getInserted()).isZero();
+        assertThat(again.getDuplicates().get(0).getMatchedQuestionId()).isNotNull().isNotEqualTo(1L);
+    }
+
+    @Test
+    void allowDuplicates_면_저장하고_목록만_보고() {
+        UploadResultDto result = quizService.uploadQuestions(new UploadQuestionDto(1L, List.of(item(NEAR, "팬텀 리드", "더티 리드"), item(NEAR, "팬텀 리드", "더티 리드"))), true);
+
+        assertThat(result.getInserted()).isEqualTo(2);
+        assertThat(result.getSkipped()).isZero();
+        assertThat(result.getDuplicates()).hasSize(2);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM questions", Integer.class)).isEqualTo(3);
+    }
+
+    private static UploadQuestionDto.QuestionItem item(String content, String... choices) {
+        List<UploadQuestionDto.ChoiceItem> items = IntStream.range(0, choices.length)
+                .mapToObj(i -> new UploadQuestionDto.ChoiceItem(choices[i], i == 0, null))
+                .toList();
+        return new UploadQuestionDto.QuestionItem(content, "MULTIPLE_CHOICE", items);
+    }
+}
@@ -0,0 +1,116 @@
+package saffy.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import saffy.backend.support.CatalogFixture;
+
+/**
+ * 전체 문제 내보내기: id keyset 으로 청크를 이어 읽어 빠짐/중복 없이 id 순서대로 씀
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class QuestionExportServiceTest {
+
+    private static final int QUESTIONS = QuestionExportService.CHUNK_SIZE * 2 + 1; // 청크 3개 (마지막은 1개)
+
+    @Autowired
+    private QuestionExportService questionExportService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final List<Long> ids = new ArrayList<>();
+
+    private CatalogFixture catalog;
+
+    @BeforeEach
+    void setUp() {
+        catalog = new CatalogFixture(jdbcTemplate, eventPublisher)
+                .subject(1, "PL")
+                .lecture(1, 1, "1-1 타입").lecture(2, 1, "1-2 클로저");
+        for (int i = 0; i < QUESTIONS; i++) {
+            long id = 1_000 + i * 3L; // 중간이 비어 있는 id (삭제된 문제)
+            ids.add(id);
+            catalog.question(id, i % 2 + 1, "문제 " + id)
+                    .answer(null, id, "정답 " + id, true)
+                    .answer(null, id, "오답 " + id, false);
+        }
+        catalog.insert();
+    }
+
+    @AfterEach
+    void tearDown() {
+        catalog.cleanUp();
+    }
+
+    @Test
+    void JSON_배열로_모든_문제를_id_순서대로_한_번씩() throws IOException {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        questionExportService.export(out, false);
+
+        JsonNode array = objectMapper.readTree(out.toByteArray());
+        assertThat(array.isArray()).isTrue();
+        List<Long> exported = new ArrayList<>();
+        array.forEach(q -> exported.add(q.get("id").asLong()));
+        assertThat(exported).containsExactlyElementsOf(ids);
+
+        JsonNode last = array.get(QUESTIONS - 1);
+        assertThat(last.get("content").asText()).isEqualTo("문제 " + ids.get(QUESTIONS - 1));
+        assertThat(last.get("answers")).hasSize(2);
+        assertThat(last.get("lecture").get("id").asLong()).isEqualTo(1L);
+
+        // 문제 수가 아니라 청크 수에 비례하는 SQL (청크마다 문제 + 보기)
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(3 * 2);
+    }
+
+    @Test
+    void NDJSON_은_한_줄에_문제_하나() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        questionExportService.export(out, true);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(QUESTIONS);
+        assertThat(objectMapper.readTree(lines[0]).get("id").asLong()).isEqualTo(ids.get(0));
+        assertThat(objectMapper.readTree(lines[QUESTIONS - 1]).get("id").asLong()).isEqualTo(ids.get(QUESTIONS - 1));
+    }
+
+    @Test
+    void 문제가_없으면_빈_배열() throws IOException {
+        jdbcTemplate.update("DELETE FROM answers");
+        jdbcTemplate.update("DELETE FROM questions");
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        questionExportService.export(out, false);
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("[]");
+    }
+}
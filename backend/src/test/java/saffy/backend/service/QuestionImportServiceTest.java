@@ -0,0 +1,137 @@
+package saffy.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import saffy.backend.dto.ImportJobDto;
+import saffy.backend.support.CatalogFixture;
+
+/**
+ * NDJSON 가져오기: gzip 본문, 청크별 커밋, 줄 단위 오류/중복 건너뛰기, 작업 상태
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class QuestionImportServiceTest {
+
+    private static final int VALID = 1_200; // 청크 500 + 500 + 200
+
+    @Autowired
+    private QuestionImportService questionImportService;
+
+    @Autowired
+    private CatalogSnapshotHolder catalogSnapshotHolder;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    private CatalogFixture catalog;
+
+    @BeforeEach
+    void setUp() {
+        catalog = new CatalogFixture(jdbcTemplate, eventPublisher)
+                .subject(1, "AL")
+                .lecture(1, 1, "1-1 정렬");
+        catalog.publish();
+    }
+
+    @AfterEach
+    void tearDown() {
+        catalog.cleanUp();
+    }
+
+    @Test
+    void 청크마다_커밋하고_잘못된_줄과_중복은_건너뜀() throws Exception {
+        List<String> lines = new ArrayList<>();
+        String first = item("정렬 " + UUID.randomUUID() + " " + UUID.randomUUID(), true);
+        lines.add(first);
+        lines.add("{\"content\": \"닫히지 않은 JSON\"");       // 2번째 줄: 형식 오류
+        for (int i = 1; i < VALID; i++) {
+            lines.add(item("정렬 " + UUID.randomUUID() + " " + UUID.randomUUID(), true));
+            if (i == 600) {
+                lines.add("");                                     // 빈 줄은 세지 않음
+                lines.add(item("정답 없는 문제 " + UUID.randomUUID(), false)); // 604번째 줄
+            }
+        }
+        lines.add(first);                                          // 마지막 줄: 이미 커밋된 1번째 줄 문제와 중복
+
+        ImportJobDto started = questionImportService.start(1L, false, gzip(String.join("\n", lines)));
+        assertThat(started.getStatus()).isIn("QUEUED", "RUNNING");
+
+        ImportJobDto job = awaitFinished(started.getJobId());
+        assertThat(job.getStatus()).isEqualTo("COMPLETED");
+        assertThat(job.getLinesRead()).isEqualTo(lines.size());
+        assertThat(job.getImported()).isEqualTo(VALID);
+        assertThat(job.getFailed()).isEqualTo(2);
+        assertThat(job.getSkipped()).isEqualTo(1);
+        assertThat(job.getErrors()).anyMatch(e -> e.startsWith("2번째 줄: JSON 형식 오류"));
+        assertThat(job.getErrors()).anyMatch(e -> e.startsWith("604번째 줄: 정답 보기가 없습니다"));
+        assertThat(job.getErrors()).anyMatch(e -> e.matches(lines.size() + "번째 줄: 기존 문제 \\d+와\\(과\\) 중복 의심.*"));
+
+        // 청크마다 별도 트랜잭션 + 리비전
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM questions WHERE lecture_id = 1", Long.class))
+                .isEqualTo(VALID);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM answers", Long.class)).isEqualTo(VALID * 2L);
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT revision FROM questions GROUP BY revision ORDER BY revision", Long.class)).hasSize(3);
+        assertThat(jdbcTemplate.queryForObject("SELECT revision FROM lectures WHERE id = 1", Long.class))
+                .isEqualTo(jdbcTemplate.queryForObject("SELECT MAX(revision) FROM questions", Long.class));
+
+        // 작업이 끝나면 이벤트로 스냅샷에도 반영
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (catalogSnapshotHolder.get().questionsOf(1L).size() < VALID && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(catalogSnapshotHolder.get().questionsOf(1L)).hasSize(VALID);
+    }
+
+    @Test
+    void 없는_강의나_작업은_거절() {
+        assertThatThrownBy(() -> questionImportService.start(99L, false, new ByteArrayInputStream(new byte[0])))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(questionImportService.getJob("no-such-job")).isNull();
+    }
+
+    private ImportJobDto awaitFinished(String jobId) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 30_000;
+        ImportJobDto job = questionImportService.getJob(jobId);
+        while (job.getFinishedAt() == null && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            job = questionImportService.getJob(jobId);
+        }
+        assertThat(job.getFinishedAt()).isNotNull();
+        return job;
+    }
+
+    private static String item(String content, boolean withCorrect) {
+        return "{\"content\": \"" + content + "\", \"choices\": ["
+                + "{\"content\": \"보기 A " + content.hashCode() + "\", \"correct\": " + withCorrect + "},"
+                + "{\"content\": \"보기 B\", \"correct\": false}]}";
+    }
+
+    private static ByteArrayInputStream gzip(String text) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gz = new GZIPOutputStream(out)) {
+            gz.write(text.getBytes(StandardCharsets.UTF_8));
+        }
+        return new ByteArrayInputStream(out.toByteArray());
+    }
+}
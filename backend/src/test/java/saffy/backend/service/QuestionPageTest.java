@@ -0,0 +1,121 @@
+package saffy.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import saffy.backend.dto.QuestionDto;
+import saffy.backend.dto.QuestionPageDto;
+import saffy.backend.entity.QuestionType;
+import saffy.backend.support.CatalogFixture;
+
+/**
+ * 관리자 문제 목록 keyset 페이지: 커서를 따라가면 필터에 맞는 문제를 빠짐/중복 없이 id 순서대로 받음
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class QuestionPageTest {
+
+    @Autowired
+    private QuizService quizService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    /** id, subjectId, lectureId, questionType */
+    private record Row(long id, long subjectId, long lectureId, QuestionType type) {
+    }
+
+    private final List<Row> rows = new ArrayList<>();
+
+    private CatalogFixture catalog;
+
+    @BeforeEach
+    void setUp() {
+        catalog = new CatalogFixture(jdbcTemplate, eventPublisher)
+                .subject(1, "DB").subject(2, "NW")
+                .lecture(1, 1, "1-1 조인").lecture(2, 1, "1-2 인덱스").lecture(3, 2, "1-1 라우팅");
+        QuestionType[] types = QuestionType.values();
+        for (int i = 0; i < 90; i++) {
+            long id = 100 + i * 2L;
+            long lectureId = i % 3 + 1;
+            QuestionType type = types[i % types.length];
+            rows.add(new Row(id, lectureId == 3 ? 2 : 1, lectureId, type));
+            catalog.question(id, lectureId, "문제 " + id, type);
+        }
+        catalog.insert();
+    }
+
+    @AfterEach
+    void tearDown() {
+        catalog.cleanUp();
+    }
+
+    @Test
+    void 필터마다_커서를_따라가면_모든_문제를_한_번씩() {
+        assertThat(walk(null, null, null, 7)).containsExactlyElementsOf(expected(r -> true));
+        assertThat(walk(1L, null, null, 10)).containsExactlyElementsOf(expected(r -> r.subjectId() == 1));
+        assertThat(walk(null, 3L, null, 4)).containsExactlyElementsOf(expected(r -> r.lectureId() == 3));
+        assertThat(walk(null, null, QuestionType.TRUE_FALSE, 5))
+                .containsExactlyElementsOf(expected(r -> r.type() == QuestionType.TRUE_FALSE));
+        assertThat(walk(1L, 2L, QuestionType.SHORT_ANSWER, 3))
+                .containsExactlyElementsOf(expected(r -> r.lectureId() == 2 && r.type() == QuestionType.SHORT_ANSWER));
+        // 과목과 강의가 맞지 않으면 빈 페이지
+        QuestionPageDto empty = quizService.getQuestionPage(null, 2L, 1L, null, 10);
+        assertThat(empty.getItems()).isEmpty();
+        assertThat(empty.getNextCursor()).isNull();
+        assertThat(empty.isHasNext()).isFalse();
+    }
+
+    @Test
+    void 마지막_페이지는_hasNext_가_false_이고_크기는_1_에서_200_사이로_제한() {
+        QuestionPageDto all = quizService.getQuestionPage(null, null, null, null, 90);
+        assertThat(all.getItems()).hasSize(90);
+        assertThat(all.isHasNext()).isFalse();
+        assertThat(all.getNextCursor()).isEqualTo(rows.get(89).id());
+
+        assertThat(quizService.getQuestionPage(null, null, null, null, 0).getItems()).hasSize(1);
+        assertThat(quizService.getQuestionPage(null, null, null, null, 10_000).getItems()).hasSize(90);
+    }
+
+    @Test
+    void 페이지_사이에_앞쪽_문제가_지워져도_다음_페이지는_밀리지_않음() {
+        QuestionPageDto first = quizService.getQuestionPage(null, null, null, null, 10);
+        // 이미 본 페이지의 문제 삭제 (offset 페이지라면 다음 페이지가 한 칸 밀려 하나를 건너뜀)
+        jdbcTemplate.update("DELETE FROM questions WHERE id = ?", first.getItems().get(0).getId());
+
+        QuestionPageDto second = quizService.getQuestionPage(first.getNextCursor(), null, null, null, 10);
+        assertThat(second.getItems().get(0).getId()).isEqualTo(rows.get(10).id());
+    }
+
+    private List<Long> walk(Long subjectId, Long lectureId, QuestionType type, int size) {
+        List<Long> ids = new ArrayList<>();
+        Long cursor = null;
+        while (true) {
+            QuestionPageDto page = quizService.getQuestionPage(cursor, subjectId, lectureId, type, size);
+            assertThat(page.getItems().size()).isLessThanOrEqualTo(size);
+            page.getItems().stream().map(QuestionDto::getId).forEach(ids::add);
+            if (!page.isHasNext()) {
+                return ids;
+            }
+            assertThat(page.getItems()).hasSize(size);
+            cursor = page.getNextCursor();
+        }
+    }
+
+    private List<Long> expected(Predicate<Row> filter) {
+        return rows.stream().filter(filter).map(Row::id).toList();
+    }
+}
@@ -0,0 +1,119 @@
+package saffy.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import saffy.backend.dto.SearchResultDto;
+import saffy.backend.support.CatalogFixture;
+
+/**
+ * 문제 검색: 글자 bigram + BM25 로 찾고, 카탈로그 변경 이벤트마다 바뀐 강의만 색인에 반영
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class QuestionSearchIndexTest {
+
+    @Autowired
+    private QuestionSearchIndex questionSearchIndex;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    private CatalogFixture catalog;
+
+    @BeforeEach
+    void setUp() {
+        catalog = new CatalogFixture(jdbcTemplate, eventPublisher)
+                .subject(1, "DS")
+                .lecture(1, 1, "1-1 스택").lecture(2, 1, "1-2 큐")
+                .question(1, 1, "스택의 후입선출 구조를 설명하시오")
+                .question(2, 1, "스택으로 괄호 검사를 하는 방법은?")
+                .question(3, 2, "원형 큐에서 포화 상태를 판단하는 방법은?")
+                .answer(null, 3, "(rear + 1) % n == front", true);
+        catalog.publish();
+    }
+
+    @AfterEach
+    void tearDown() {
+        catalog.cleanUp();
+    }
+
+    @Test
+    void 띄어쓰기와_조사에_상관없이_bigram_으로_찾고_점수_순으로_정렬() {
+        assertThat(QuestionSearchIndex.tokenize("스택을 A"))
+                .containsExactly(('스' << 16) | '택', ('택' << 16) | '을', 'a' << 16);
+
+        SearchResultDto result = questionSearchIndex.search("스택 구조", null, 10);
+        assertThat(result.getTotal()).isEqualTo(2);
+        assertThat(ids(result)).containsExactly(1L, 2L); // '구조'까지 겹치는 1번이 먼저
+        assertThat(result.getHits().get(0).getScore()).isGreaterThan(result.getHits().get(1).getScore());
+
+        assertThat(ids(questionSearchIndex.search("방법", null, 10))).containsExactlyInAnyOrder(2L, 3L);
+        assertThat(ids(questionSearchIndex.search("방법", 2L, 10))).containsExactly(3L);
+        assertThat(ids(questionSearchIndex.search("front", null, 10))).containsExactly(3L); // 보기 내용도 색인
+        assertThat(questionSearchIndex.search("방법", null, 1).getHits()).hasSize(1);
+        assertThat(questionSearchIndex.search("그래프", null, 10).getTotal()).isZero();
+    }
+
+    @Test
+    void 한_글자_검색어는_단어_안의_글자도_찾음() {
+        assertThat(QuestionSearchIndex.indexTokens("큐에 A"))
+                .containsExactlyInAnyOrder(('큐' << 16) | '에', 'a' << 16, '큐' << 16, '에' << 16);
+
+        assertThat(ids(questionSearchIndex.search("큐", null, 10))).containsExactly(3L); // "원형 큐에서" 의 큐
+        assertThat(ids(questionSearchIndex.search("택", null, 10))).containsExactlyInAnyOrder(1L, 2L);
+        // 두 글자 이상 검색어는 bigram 으로만 찾음 (글자만 겹치는 문서는 나오지 않음)
+        assertThat(ids(questionSearchIndex.search("택스", null, 10))).isEmpty();
+    }
+
+    @Test
+    void 카탈로그_변경_이벤트로_추가_수정_이동_삭제를_반영() {
+        questionSearchIndex.search("스택", null, 10); // 색인을 만든 뒤 변경분만 반영되는지 확인
+
+        jdbcTemplate.update("INSERT INTO questions (id, lecture_id, content) VALUES (4, 2, '덱은 스택과 큐를 합친 구조')");
+        jdbcTemplate.update("UPDATE questions SET content = '연결 리스트로 구현한 스택' WHERE id = 2");
+        jdbcTemplate.update("UPDATE questions SET lecture_id = 2 WHERE id = 1");
+        eventPublisher.publishEvent(new CatalogChangedEvent(Set.of(1L, 2L)));
+
+        assertThat(ids(questionSearchIndex.search("스택", null, 10))).containsExactlyInAnyOrder(1L, 2L, 4L);
+        assertThat(ids(questionSearchIndex.search("괄호", null, 10))).isEmpty();
+        assertThat(ids(questionSearchIndex.search("연결 리스트", null, 10))).containsExactly(2L);
+        assertThat(ids(questionSearchIndex.search("후입선출", 2L, 10))).containsExactly(1L);
+        assertThat(ids(questionSearchIndex.search("후입선출", 1L, 10))).isEmpty();
+
+        assertThat(ids(questionSearchIndex.search("덱", null, 10))).containsExactly(4L);
+        jdbcTemplate.update("DELETE FROM questions WHERE id = 4");
+        eventPublisher.publishEvent(new CatalogChangedEvent(Set.of(2L)));
+        assertThat(ids(questionSearchIndex.search("덱", null, 10))).isEmpty();
+
+        // 강의 삭제는 강의 ID 없이 와도 색인에서 빠짐
+        jdbcTemplate.update("DELETE FROM lectures WHERE id = 2");
+        eventPublisher.publishEvent(CatalogChangedEvent.ofStructure());
+        assertThat(ids(questionSearchIndex.search("스택", null, 10))).containsExactly(2L);
+        assertThat(questionSearchIndex.search("원형 큐", null, 10).getTotal()).isZero();
+    }
+
+    @Test
+    void 빈_검색어나_너무_긴_검색어는_IllegalArgumentException() {
+        assertThatThrownBy(() -> questionSearchIndex.search(" ", null, 10)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> questionSearchIndex.search("가".repeat(QuestionSearchIndex.MAX_QUERY_LENGTH + 1), null, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static List<Long> ids(SearchResultDto result) {
+        return result.getHits().stream().map(h -> h.getQuestion().getId()).toList();
+    }
+}
@@ -0,0 +1,153 @@
+package saffy.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import saffy.backend.dto.UploadQuestionDto;
+import saffy.backend.entity.Answer;
+import saffy.backend.entity.Lecture;
+import saffy.backend.entity.Question;
+import saffy.backend.repository.AnswerRepository;
+import saffy.backend.repository.LectureRepository;
+import saffy.backend.repository.QuestionRepository;
+import saffy.backend.support.CatalogFixture;
+
+/**
+ * 문제 업로드: 기존 행 단위 JPA save 방식 vs JDBC batch 방식 처리량(rows/s) 비교
+ * ./gradlew benchmark 로 실행 (H2 인메모리 기준이므로 네트워크 왕복이 있는 MySQL에서는 차이가 더 커짐)
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+class QuestionUploadBenchmarkTest {
+
+    private static final long LECTURE_ID = 1L;
+    private static final int QUESTIONS = 500;
+    private static final int CHOICES = 4;
+    private static final int ROUNDS = 5;
+
+    @Autowired
+    private QuizService quizService;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private AnswerRepository answerRepository;
+
+    @Autowired
+    private LectureRepository lectureRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private CatalogFixture catalog;
+
+    @BeforeEach
+    void setUp() {
+        catalog = new CatalogFixture(jdbcTemplate, eventPublisher)
+                .subject(1, "AI")
+                .lecture(LECTURE_ID, 1, "1-1 기초")
+                .insert();
+    }
+
+    @AfterEach
+    void tearDown() {
+        catalog.cleanUp();
+    }
+
+    @Test
+    void compareRowsPerSecond() {
+        UploadQuestionDto dto = uploadDto();
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+
+        double legacy = measure("JPA save (legacy)", () -> tx.executeWithoutResult(status -> legacyUpload(dto)));
+        double batched = measure("JDBC batch", () -> quizService.uploadQuestions(dto, true));
+
+        System.out.printf("batch / legacy = %.1fx%n", batched / legacy);
+        assertThat(countRows("answers")).isZero();
+    }
+
+    private double measure(String name, Runnable upload) {
+        // warm-up
+        upload.run();
+        clearQuestions();
+
+        long rows = 0;
+        long elapsed = 0;
+        for (int i = 0; i < ROUNDS; i++) {
+            long start = System.nanoTime();
+            upload.run();
+            elapsed += System.nanoTime() - start;
+
+            rows += countRows("questions") + countRows("answers");
+            clearQuestions();
+        }
+        double rowsPerSecond = rows / (elapsed / 1_000_000_000.0);
+        System.out.printf("%-16s %,d rows in %,d ms -> %,.0f rows/s%n", name, rows, elapsed / 1_000_000, rowsPerSecond);
+        return rowsPerSecond;
+    }
+
+    /** 변경 전 QuizService.uploadQuestions 와 같은 방식 (문제/보기마다 save) */
+    private void legacyUpload(UploadQuestionDto dto) {
+        Lecture lecture = lectureRepository.findById(dto.getLectureId()).orElseThrow();
+        for (UploadQuestionDto.QuestionItem item : dto.getQuestions()) {
+            Question question = new Question();
+            question.setContent(item.getContent());
+            question.setLecture(lecture);
+            question.setQuestionType(QuizService.resolveQuestionType(item.getQuestionType()));
+            questionRepository.save(question);
+
+            for (UploadQuestionDto.ChoiceItem choice : item.getChoices()) {
+                Answer answer = new Answer();
+                answer.setContent(choice.getContent());
+                answer.setCorrect(choice.isCorrect());
+                answer.setExplanation(choice.getExplanation());
+                answer.setQuestion(question);
+                answerRepository.save(answer);
+            }
+        }
+    }
+
+    private UploadQuestionDto uploadDto() {
+        List<UploadQuestionDto.QuestionItem> items = new ArrayList<>();
+        for (int q = 0; q < QUESTIONS; q++) {
+            List<UploadQuestionDto.ChoiceItem> choices = new ArrayList<>();
+            for (int c = 0; c < CHOICES; c++) {
+                choices.add(new UploadQuestionDto.ChoiceItem(
+                        "보기 " + c + " - 트랜잭션 격리 수준과 잠금 전략에 대한 설명",
+                        c == 0,
+                        (c == 0 ? "O — " : "X — ") + "해설 ".repeat(40)));
+            }
+            items.add(new UploadQuestionDto.QuestionItem("문제 " + q + " 데이터베이스 인덱스에 대한 설명으로 옳은 것은?", null, choices));
+        }
+        return new UploadQuestionDto(LECTURE_ID, items);
+    }
+
+    private long countRows(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+    }
+
+    private void clearQuestions() {
+        jdbcTemplate.update("DELETE FROM answers");
+        jdbcTemplate.update("DELETE FROM questions");
+    }
+}
@@ -0,0 +1,170 @@
+package saffy.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import saffy.backend.dto.QuizChoiceDto;
+import saffy.backend.dto.QuizDto;
+import saffy.backend.dto.QuizQuestionDto;
+import saffy.backend.dto.QuizRequestDto;
+import saffy.backend.entity.QuestionType;
+import saffy.backend.support.CatalogFixture;
+
+/**
+ * 문제 뽑기: 같은 요청 + seed면 같은 퀴즈, 중복 없이 요청한 개수/유형만큼 뽑고 정답 정보는 내려주지 않음
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class QuizAssemblyServiceTest {
+
+    @Autowired
+    private QuizAssemblyService quizAssemblyService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    private CatalogFixture catalog;
+
+    @BeforeEach
+    void setUp() {
+        catalog = new CatalogFixture(jdbcTemplate, eventPublisher)
+                .subject(1, "OS").subject(2, "SE")
+                .lecture(1, 1, "1-1 프로세스").lecture(2, 1, "1-2 스케줄링").lecture(3, 2, "1-1 요구사항");
+        for (int i = 0; i < 60; i++) {
+            long id = 100 + i;
+            long lectureId = i % 3 + 1;
+            QuestionType type = (i % 4 == 0) ? QuestionType.TRUE_FALSE : QuestionType.MULTIPLE_CHOICE;
+            catalog.question(id, lectureId, "문제 " + id, type);
+            if (type == QuestionType.TRUE_FALSE) {
+                catalog.answer(null, id, "O", "해설 " + id, true)
+                        .answer(null, id, "X", false);
+            } else {
+                for (int c = 0; c < 4; c++) {
+                    catalog.answer(null, id, "보기 " + id + "-" + c, "해설 " + id + "-" + c, c == 0);
+                }
+            }
+        }
+        catalog.publish();
+    }
+
+    @AfterEach
+    void tearDown() {
+        catalog.cleanUp();
+    }
+
+    @Test
+    void 같은_seed면_문제와_보기_순서까지_같고_다른_seed면_다름() {
+        QuizDto first = quizAssemblyService.assemble(request(1L, null, 10, null, 42L));
+        QuizDto again = quizAssemblyService.assemble(request(1L, null, 10, null, 42L));
+        QuizDto other = quizAssemblyService.assemble(request(1L, null, 10, null, 43L));
+
+        assertThat(first.getSeed()).isEqualTo(42L);
+        assertThat(signature(again)).isEqualTo(signature(first));
+        assertThat(ids(other)).isNotEqualTo(ids(first));
+
+        // seed를 안 주면 응답에 쓴 seed로 같은 퀴즈를 다시 만들 수 있음
+        QuizDto random = quizAssemblyService.assemble(request(1L, null, 10, null, null));
+        QuizDto replay = quizAssemblyService.assemble(request(1L, null, 10, null, random.getSeed()));
+        assertThat(signature(replay)).isEqualTo(signature(random));
+    }
+
+    @Test
+    void 개수만큼_중복_없이_범위_안에서_뽑고_문제가_모자라면_전부() {
+        QuizDto quiz = quizAssemblyService.assemble(request(1L, null, 15, null, 7L));
+        assertThat(ids(quiz)).hasSize(15).doesNotHaveDuplicates();
+        assertThat(quiz.getQuestions()).allSatisfy(q -> assertThat(q.getLecture().getSubjectId()).isEqualTo(1L));
+
+        // 강의 3은 20문제뿐
+        QuizDto all = quizAssemblyService.assemble(request(null, List.of(3L), 50, null, 7L));
+        assertThat(ids(all)).hasSize(20).doesNotHaveDuplicates();
+        assertThat(quizAssemblyService.assemble(request(null, List.of(3L), null, null, 7L)).getQuestions())
+                .hasSize(QuizAssemblyService.DEFAULT_COUNT);
+    }
+
+    @Test
+    void typeMix_를_주면_유형별_개수를_지킴() {
+        Map<QuestionType, Integer> mix = new EnumMap<>(QuestionType.class);
+        mix.put(QuestionType.MULTIPLE_CHOICE, 6);
+        mix.put(QuestionType.TRUE_FALSE, 3);
+
+        QuizDto quiz = quizAssemblyService.assemble(request(null, List.of(1L, 2L), 1, mix, 9L));
+
+        assertThat(quiz.getQuestions()).hasSize(9);
+        assertThat(quiz.getQuestions()).filteredOn(q -> q.getQuestionType() == QuestionType.MULTIPLE_CHOICE).hasSize(6);
+        assertThat(quiz.getQuestions()).filteredOn(q -> q.getQuestionType() == QuestionType.TRUE_FALSE).hasSize(3);
+        assertThat(quiz.getQuestions()).allSatisfy(q -> assertThat(q.getLecture().getId()).isIn(1L, 2L));
+    }
+
+    @Test
+    void 보기는_id와_내용만_내려주고_OX는_순서_유지() {
+        QuizDto quiz = quizAssemblyService.assemble(request(1L, null, 40, null, 3L));
+        for (QuizQuestionDto q : quiz.getQuestions()) {
+            if (q.getQuestionType() == QuestionType.TRUE_FALSE) {
+                assertThat(q.getChoices()).extracting(QuizChoiceDto::getContent).containsExactly("O", "X");
+            } else {
+                assertThat(q.getChoices()).hasSize(4);
+            }
+        }
+        // 4지선다 보기를 실제로 섞음 (정답이 늘 첫 번째가 아님)
+        assertThat(quiz.getQuestions())
+                .filteredOn(q -> q.getQuestionType() == QuestionType.MULTIPLE_CHOICE)
+                .anySatisfy(q -> assertThat(q.getChoices().get(0).getContent()).doesNotEndWith("-0"));
+    }
+
+    @Test
+    void 잘못된_요청은_IllegalArgumentException() {
+        assertThatThrownBy(() -> quizAssemblyService.assemble(request(null, null, 10, null, 1L)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> quizAssemblyService.assemble(request(99L, null, 10, null, 1L)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> quizAssemblyService.assemble(request(null, List.of(1L, 99L), 10, null, 1L)))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        Map<QuestionType, Integer> negative = new EnumMap<>(QuestionType.class);
+        negative.put(QuestionType.TRUE_FALSE, -1);
+        assertThatThrownBy(() -> quizAssemblyService.assemble(request(1L, null, null, negative, 1L)))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        Map<QuestionType, Integer> tooMany = new EnumMap<>(QuestionType.class);
+        tooMany.put(QuestionType.MULTIPLE_CHOICE, QuizAssemblyService.MAX_COUNT);
+        tooMany.put(QuestionType.TRUE_FALSE, 1);
+        assertThatThrownBy(() -> quizAssemblyService.assemble(request(1L, null, null, tooMany, 1L)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static QuizRequestDto request(Long subjectId, List<Long> lectureIds, Integer count,
+                                          Map<QuestionType, Integer> typeMix, Long seed) {
+        return new QuizRequestDto(subjectId, lectureIds, count, typeMix, seed);
+    }
+
+    private static List<Long> ids(QuizDto quiz) {
+        return quiz.getQuestions().stream().map(QuizQuestionDto::getId).toList();
+    }
+
+    /** 문제 순서 + 보기 순서 */
+    private static List<List<Long>> signature(QuizDto quiz) {
+        return quiz.getQuestions().stream()
+                .map(q -> {
+                    List<Long> row = new ArrayList<>();
+                    row.add(q.getId());
+                    q.getChoices().forEach(c -> row.add(c.getId()));
+                    return row;
+                })
+                .toList();
+    }
+}
@@ -0,0 +1,129 @@
+package saffy.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import saffy.backend.dto.QuestionDto;
+import saffy.backend.support.CatalogFixture;
+
+/**
+ * 강의/전체 문제 조회 및 스냅샷 갱신 시 문제 수와 관계없이 SQL 실행 횟수가 고정되는지 확인
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class QuizServiceQueryCountTest {
+
+    private static final long SMALL_LECTURE = 1L;
+    private static final long LARGE_LECTURE = 2L;
+
+    @Autowired
+    private QuizService quizService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    private Statistics statistics;
+
+    private CatalogFixture catalog;
+    private long lastQuestionId;
+
+    @BeforeEach
+    void setUp() {
+        catalog = new CatalogFixture(jdbcTemplate, eventPublisher)
+                .subject(1, "AI")
+                .lecture(SMALL_LECTURE, 1, "1-1 기초")
+                .lecture(LARGE_LECTURE, 1, "1-2 심화");
+        addQuestions(SMALL_LECTURE, 3);
+        addQuestions(LARGE_LECTURE, 60);
+        // 이전 테스트에서 만들어진 스냅샷이 있으면 새 데이터로 갱신
+        catalog.publish();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        catalog.cleanUp();
+    }
+
+    @Test
+    void getByLectureIdIsServedFromSnapshotWithoutStatements() {
+        // 스냅샷이 아직 없으면 첫 호출에서 만들어짐
+        quizService.getByLectureId(SMALL_LECTURE);
+
+        long small = countStatements(() -> quizService.getByLectureId(SMALL_LECTURE), 3);
+        long large = countStatements(() -> quizService.getByLectureId(LARGE_LECTURE), 60);
+
+        assertThat(small).isZero();
+        assertThat(large).isZero();
+    }
+
+    @Test
+    void snapshotRefreshRunsSameNumberOfStatementsRegardlessOfQuestionCount() {
+        quizService.getByLectureId(SMALL_LECTURE);
+
+        statistics.clear();
+        eventPublisher.publishEvent(CatalogChangedEvent.ofLecture(LARGE_LECTURE));
+        long before = statistics.getPrepareStatementCount();
+
+        addQuestions(LARGE_LECTURE, 200);
+        catalog.insert();
+        statistics.clear();
+        eventPublisher.publishEvent(CatalogChangedEvent.ofLecture(LARGE_LECTURE));
+        long after = statistics.getPrepareStatementCount();
+
+        assertThat(after).isEqualTo(before);
+        assertThat(quizService.getByLectureId(LARGE_LECTURE)).hasSize(260);
+    }
+
+    @Test
+    void getAllQuestionsRunsSameNumberOfStatementsRegardlessOfQuestionCount() {
+        long before = countStatements(() -> quizService.getAllQuestions(), 63);
+        addQuestions(LARGE_LECTURE, 200);
+        catalog.insert();
+        long after = countStatements(() -> quizService.getAllQuestions(), 263);
+
+        assertThat(after).isEqualTo(before);
+        assertThat(after).isLessThanOrEqualTo(2);
+    }
+
+    private long countStatements(java.util.function.Supplier<List<QuestionDto>> call, int expectedQuestions) {
+        statistics.clear();
+        List<QuestionDto> result = call.get();
+
+        assertThat(result).hasSize(expectedQuestions);
+        assertThat(result).allSatisfy(q -> {
+            assertThat(q.getLecture().getSubjectId()).isEqualTo(1L);
+            assertThat(q.getAnswers()).hasSize(4);
+            assertThat(q.getExplanation()).isEqualTo("정답 해설");
+        });
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void addQuestions(long lectureId, int count) {
+        for (int i = 0; i < count; i++) {
+            long questionId = ++lastQuestionId;
+            catalog.question(questionId, lectureId, "문제 " + i);
+            for (int c = 0; c < 4; c++) {
+                catalog.answer(null, questionId, "보기 " + c, c == 0 ? "정답 해설" : "오답 해설", c == 0);
+            }
+        }
+    }
+}
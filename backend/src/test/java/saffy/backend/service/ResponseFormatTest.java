@@ -0,0 +1,54 @@
+package saffy.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import org.junit.jupiter.api.Test;
+
+class ResponseFormatTest {
+
+    @Test
+    void 명시한_바이너리_형식을_고름() {
+        assertThat(ResponseFormat.negotiate("application/cbor")).isEqualTo(ResponseFormat.CBOR);
+        assertThat(ResponseFormat.negotiate("application/x-jackson-smile")).isEqualTo(ResponseFormat.SMILE);
+        assertThat(ResponseFormat.negotiate("application/json")).isEqualTo(ResponseFormat.JSON);
+    }
+
+    @Test
+    void 품질값이_높은_형식을_고름() {
+        assertThat(ResponseFormat.negotiate("application/cbor;q=0.5, application/x-jackson-smile"))
+                .isEqualTo(ResponseFormat.SMILE);
+        assertThat(ResponseFormat.negotiate("application/json;q=0.8, application/cbor")).isEqualTo(ResponseFormat.CBOR);
+        assertThat(ResponseFormat.negotiate("*/*;q=0.9, application/cbor;q=0.5")).isEqualTo(ResponseFormat.JSON);
+        assertThat(ResponseFormat.negotiate("application/cbor, */*;q=0.1")).isEqualTo(ResponseFormat.CBOR);
+    }
+
+    @Test
+    void 와일드카드와_헤더가_없으면_JSON() {
+        assertThat(ResponseFormat.negotiate(null)).isEqualTo(ResponseFormat.JSON);
+        assertThat(ResponseFormat.negotiate(" ")).isEqualTo(ResponseFormat.JSON);
+        assertThat(ResponseFormat.negotiate("*/*")).isEqualTo(ResponseFormat.JSON);
+        assertThat(ResponseFormat.negotiate("text/html, application/*;q=0.9")).isEqualTo(ResponseFormat.JSON);
+    }
+
+    @Test
+    void q0_으로_제외한_형식은_고르지_않음() {
+        assertThat(ResponseFormat.negotiate("application/json;q=0, */*")).isEqualTo(ResponseFormat.CBOR);
+        assertThat(ResponseFormat.negotiate("application/json;q=0, application/cbor;q=0, application/*"))
+                .isEqualTo(ResponseFormat.SMILE);
+    }
+
+    @Test
+    void 받을_수_있는_형식이_없으면_null() {
+        assertThat(ResponseFormat.negotiate("text/html")).isNull();
+        assertThat(ResponseFormat.negotiate("application/json;q=0")).isNull();
+        assertThat(ResponseFormat.negotiate("*/*;q=0")).isNull();
+    }
+
+    @Test
+    void 잘못된_헤더나_항목이_너무_많으면_JSON() {
+        assertThat(ResponseFormat.negotiate("not a media type")).isEqualTo(ResponseFormat.JSON);
+        String tooMany = String.join(", ", Collections.nCopies(60, "text/plain")) + ", application/cbor";
+        assertThat(ResponseFormat.negotiate(tooMany)).isEqualTo(ResponseFormat.JSON);
+    }
+}
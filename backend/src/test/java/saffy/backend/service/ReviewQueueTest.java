@@ -0,0 +1,66 @@
+package saffy.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import saffy.backend.repository.ReviewStateRepository.ReviewState;
+
+class ReviewQueueTest {
+
+    @Test
+    void 무작위_추가_갱신_삭제_후에도_이른_순서로_꺼냄() {
+        ReviewQueue queue = new ReviewQueue(4);
+        Map<Long, Long> expected = new HashMap<>();
+        Random random = new Random(7);
+
+        for (int i = 0; i < 20_000; i++) {
+            long questionId = 1 + random.nextInt(500);
+            if (random.nextInt(5) == 0) {
+                queue.remove(questionId);
+                expected.remove(questionId);
+            } else {
+                long due = random.nextInt(10_000);
+                queue.put(questionId, 1, 1, 2500, due, false);
+                expected.put(questionId, due);
+            }
+
+            if (i % 1000 == 0) {
+                long now = random.nextInt(10_000);
+                List<Long> want = expected.entrySet().stream()
+                        .filter(e -> e.getValue() <= now)
+                        .sorted(Map.Entry.<Long, Long>comparingByValue().thenComparing(Map.Entry.comparingByKey()))
+                        .limit(30)
+                        .map(Map.Entry::getKey)
+                        .toList();
+                assertThat(queue.due(now, 30)).containsExactly(want.stream().mapToLong(Long::longValue).toArray());
+            }
+        }
+        assertThat(queue.size()).isEqualTo(expected.size());
+        assertThat(queue.peekDue()).isEqualTo(expected.values().stream().min(Comparator.naturalOrder()).orElseThrow());
+        expected.forEach((questionId, due) -> assertThat(queue.get("l", questionId).dueAt()).isEqualTo(due));
+    }
+
+    @Test
+    void 바뀐_항목만_한_번씩_꺼냄() {
+        ReviewQueue queue = new ReviewQueue(4);
+        queue.put(1, 0, 0, 2500, 100, false); // DB 에서 복원한 항목
+        queue.put(2, 1, 1, 2500, 200, true);
+        queue.put(3, 1, 1, 2500, 50, true);
+        queue.put(3, 2, 6, 2500, 300, true);
+
+        List<ReviewState> dirty = queue.takeDirty("l");
+        assertThat(dirty).extracting(ReviewState::questionId).containsExactlyInAnyOrder(2L, 3L);
+        assertThat(dirty).filteredOn(s -> s.questionId() == 3).extracting(ReviewState::intervalDays).containsExactly(6);
+        assertThat(queue.dirtyCount()).isZero();
+
+        queue.markDirty(1);
+        queue.remove(2);
+        queue.markDirty(2); // 이미 지운 문제는 무시
+        assertThat(queue.takeDirty("l")).extracting(ReviewState::questionId).containsExactly(1L);
+    }
+}
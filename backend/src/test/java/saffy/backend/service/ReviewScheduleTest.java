@@ -0,0 +1,49 @@
+package saffy.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import saffy.backend.repository.ReviewStateRepository.ReviewState;
+
+/**
+ * SM-2 복습 간격/easiness 계산
+ */
+class ReviewScheduleTest {
+
+    @Test
+    void SM2_간격과_easiness() {
+        long day = TimeUnit.DAYS.toMillis(1);
+        ReviewState s = ReviewScheduler.schedule(null, "l", 1, true, 0, 0);
+        assertThat(s.intervalDays()).isEqualTo(1);
+        assertThat(s.dueAt()).isEqualTo(day);
+        assertThat(s.ease()).isEqualTo(2600);
+
+        s = ReviewScheduler.schedule(s, "l", 1, true, 0, 0);
+        assertThat(s.intervalDays()).isEqualTo(6);
+        s = ReviewScheduler.schedule(s, "l", 1, true, 0, 0);
+        assertThat(s.intervalDays()).isEqualTo(Math.round(6 * 2.8f));
+
+        // 틀리면 처음부터, easiness 는 0.32 감소 (최소 1.3)
+        s = ReviewScheduler.schedule(s, "l", 1, false, 0, 600_000);
+        assertThat(s.repetitions()).isZero();
+        assertThat(s.dueAt()).isEqualTo(600_000);
+        assertThat(s.ease()).isEqualTo(2480);
+        for (int i = 0; i < 10; i++) {
+            s = ReviewScheduler.schedule(s, "l", 1, false, 0, 0);
+        }
+        assertThat(s.ease()).isEqualTo(ReviewScheduler.MIN_EASE);
+    }
+
+    @Test
+    void 맞힌_시각부터_간격만큼_뒤가_다음_복습() {
+        long day = TimeUnit.DAYS.toMillis(1);
+        ReviewState first = ReviewScheduler.schedule(null, "l", 1, true, 5_000, 0);
+        ReviewState second = ReviewScheduler.schedule(first, "l", 1, true, 9 * day, 0);
+
+        assertThat(first.dueAt()).isEqualTo(5_000 + day);
+        assertThat(second.dueAt()).isEqualTo(9 * day + 6 * day);
+        assertThat(second.learnerId()).isEqualTo("l");
+        assertThat(second.questionId()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,111 @@
+package saffy.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import saffy.backend.dto.QuizQuestionDto;
+import saffy.backend.dto.ReviewDto;
+import saffy.backend.dto.SubmissionDto;
+import saffy.backend.support.CatalogFixture;
+
+/**
+ * 채점 → 복습 일정 → 저장/메모리에서 내림 → 다시 접근 시 복원
+ * (틀린 문제를 바로 다시 보도록 relearn-minutes=0, 저장 후 바로 내리도록 idle-minutes=0)
+ */
+@SpringBootTest(properties = {
+        "quiz.review.relearn-minutes=0",
+        "quiz.review.idle-minutes=0",
+        "quiz.review.flush-interval-ms=3600000"
+})
+@ActiveProfiles("test")
+class ReviewSchedulerTest {
+
+    private static final long LECTURE_ID = 1L;
+    private static final String LEARNER = "learner-1";
+
+    @Autowired
+    private ReviewScheduler reviewScheduler;
+
+    @Autowired
+    private GradingService gradingService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    private CatalogFixture catalog;
+
+    @BeforeEach
+    void setUp() {
+        catalog = new CatalogFixture(jdbcTemplate, eventPublisher)
+                .subject(1, "OS")
+                .lecture(LECTURE_ID, 1, "1-1 프로세스");
+        for (long q = 1; q <= 3; q++) {
+            catalog.question(q, LECTURE_ID, "문제 " + q)
+                    .answer(q * 10, q, "정답", true)
+                    .answer(q * 10 + 1, q, "오답", false);
+        }
+        catalog.publish();
+    }
+
+    @AfterEach
+    void tearDown() {
+        reviewScheduler.flush();
+        jdbcTemplate.update("DELETE FROM review_states");
+        catalog.cleanUp();
+    }
+
+    @Test
+    void 틀린_문제만_복습_대상이고_내린_뒤에도_DB_에서_복원() throws InterruptedException {
+        gradingService.grade(new SubmissionDto(LEARNER, null, List.of(
+                new SubmissionDto.SubmittedAnswer(1L, 10L, null),   // 정답 → 1일 뒤
+                new SubmissionDto.SubmittedAnswer(2L, 21L, null),   // 오답 → 바로
+                new SubmissionDto.SubmittedAnswer(3L, 31L, null)))); // 오답 → 바로
+        ReviewDto review = awaitScheduled(3);
+
+        assertThat(review.getQuestions()).extracting(QuizQuestionDto::getId).containsExactly(2L, 3L);
+        assertThat(review.getQuestions().get(0).getChoices()).hasSize(2);
+
+        reviewScheduler.flush();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM review_states WHERE learner_id = ?",
+                Long.class, LEARNER)).isEqualTo(3);
+        assertThat(reviewScheduler.residentLearners()).isZero();
+
+        // 다시 접근하면 DB 에서 복원
+        review = reviewScheduler.next(LEARNER, 10);
+        assertThat(review.getScheduled()).isEqualTo(3);
+        assertThat(review.getQuestions()).extracting(QuizQuestionDto::getId).containsExactly(2L, 3L);
+
+        // 복습해서 맞히면 목록에서 빠지고, 남은 게 없으면 다음 복습 시각을 알려줌
+        gradingService.grade(new SubmissionDto(LEARNER, null, List.of(
+                new SubmissionDto.SubmittedAnswer(2L, 20L, null),
+                new SubmissionDto.SubmittedAnswer(3L, 30L, null))));
+        for (int i = 0; i < 100 && !reviewScheduler.next(LEARNER, 10).getQuestions().isEmpty(); i++) {
+            Thread.sleep(20);
+        }
+        review = reviewScheduler.next(LEARNER, 10);
+        assertThat(review.getQuestions()).isEmpty();
+        assertThat(review.getNextDueAt()).isGreaterThan(System.currentTimeMillis());
+    }
+
+    private ReviewDto awaitScheduled(int count) throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            ReviewDto review = reviewScheduler.next(LEARNER, 10);
+            if (review.getScheduled() == count) {
+                return review;
+            }
+            Thread.sleep(20);
+        }
+        throw new AssertionError("복습 일정이 반영되지 않았습니다.");
+    }
+}
@@ -0,0 +1,140 @@
+package saffy.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Set;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import saffy.backend.support.CatalogFixture;
+
+/**
+ * 과목 번들 파일 정리: 같은 디렉터리를 쓰는 다른 인스턴스의 파일은 지우지 않음,
+ * 시작할 때 이전 실행이 남긴 파일은 이어받아 정리
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class SubjectBundlePublisherTest {
+
+    private static final String FOREIGN_HASH = "0123456789abcdef0123456789abcdef";
+
+    @Autowired
+    private CatalogSnapshotHolder catalogSnapshotHolder;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @TempDir
+    Path shared;
+
+    private CatalogFixture catalog;
+
+    @BeforeEach
+    void setUp() {
+        catalog = new CatalogFixture(jdbcTemplate, eventPublisher)
+                .subject(1, "DS")
+                .lecture(1, 1, "1-1 힙")
+                .question(1, 1, "버전 0");
+        catalog.publish();
+    }
+
+    @AfterEach
+    void tearDown() {
+        catalog.cleanUp();
+    }
+
+    @Test
+    void 다른_인스턴스가_쓴_파일은_남기고_내_오래된_버전만_정리() throws IOException {
+        // 같은 디렉터리를 쓰는 다른 인스턴스의 번들과 쓰는 중인 임시 파일
+        Path foreignGzip = Files.writeString(shared.resolve("subject-1." + FOREIGN_HASH + ".json.gz"), "x");
+        Path foreignJson = Files.writeString(shared.resolve("subject-1." + FOREIGN_HASH + ".json"), "x");
+        Path foreignTmp = Files.writeString(shared.resolve("bundle-123.tmp"), "x");
+
+        SubjectBundlePublisher publisher = new SubjectBundlePublisher(catalogSnapshotHolder, objectMapper, shared.toString());
+        publisher.publish(null);
+        for (int version = 1; version <= 3; version++) {
+            jdbcTemplate.update("UPDATE questions SET content = ? WHERE id = 1", "버전 " + version);
+            eventPublisher.publishEvent(new CatalogChangedEvent(Set.of(1L)));
+            publisher.publish(Set.of(1L));
+        }
+
+        assertThat(foreignGzip).exists();
+        assertThat(foreignJson).exists();
+        assertThat(foreignTmp).exists();
+        // 내 파일은 현재 + 직전 버전만 (원본/gzip 두 개씩)
+        assertThat(publisher.file(1, publisher.current(1).hash(), true)).isNotNull();
+        try (Stream<Path> files = Files.list(shared)) {
+            assertThat(files.filter(f -> !f.getFileName().toString().contains(FOREIGN_HASH)
+                    && !f.getFileName().toString().endsWith(".tmp"))).hasSize(4);
+        }
+    }
+
+    @Test
+    void 시작할_때_이전_실행의_오래된_파일과_없어진_과목_파일을_지움() throws IOException {
+        long startedAt = System.currentTimeMillis();
+        Path[] oldest = bundle(1, "a", startedAt - 7_200_000);
+        Path[] previous = bundle(1, "b", startedAt - 3_600_000);
+        Path[] deletedSubject = bundle(99, "c", startedAt - 3_600_000);
+        Path[] orphanJson = {Files.writeString(shared.resolve("subject-2." + "d".repeat(32) + ".json"), "x")};
+        Files.setLastModifiedTime(orphanJson[0], FileTime.fromMillis(startedAt - 3_600_000));
+        Path other = Files.writeString(shared.resolve("subject-1.backup.json"), "x"); // 이름 규칙이 다름
+        Files.setLastModifiedTime(other, FileTime.fromMillis(startedAt - 7_200_000));
+        Path[] later = bundle(1, "e", startedAt + 60_000); // 시작 후 다른 인스턴스가 씀
+
+        SubjectBundlePublisher publisher = new SubjectBundlePublisher(catalogSnapshotHolder, objectMapper, shared.toString());
+        publisher.publish(null);
+        publisher.removeStale(startedAt);
+
+        assertThat(oldest).allSatisfy(f -> assertThat(f).doesNotExist());
+        assertThat(deletedSubject).allSatisfy(f -> assertThat(f).doesNotExist());
+        assertThat(orphanJson).allSatisfy(f -> assertThat(f).doesNotExist());
+        assertThat(previous).allSatisfy(f -> assertThat(f).exists()); // 직전 버전은 남김
+        assertThat(later).allSatisfy(f -> assertThat(f).exists());
+        assertThat(other).exists();
+        assertThat(publisher.file(1, publisher.current(1).hash(), true)).isNotNull();
+    }
+
+    @Test
+    void 디렉터리를_정하지_않으면_인스턴스마다_임시_디렉터리를_쓰고_종료할_때_지움() {
+        SubjectBundlePublisher a = new SubjectBundlePublisher(catalogSnapshotHolder, objectMapper, "");
+        SubjectBundlePublisher b = new SubjectBundlePublisher(catalogSnapshotHolder, objectMapper, "");
+        assertThat(a.directory()).isNotEqualTo(b.directory());
+
+        a.publish(null);
+        b.publish(null);
+        assertThat(a.file(1, a.current(1).hash(), true)).exists();
+
+        a.stop();
+        assertThat(a.directory()).doesNotExist();
+        assertThat(b.file(1, b.current(1).hash(), true)).exists(); // 다른 인스턴스는 그대로
+        b.stop();
+    }
+
+    /** 이전 실행이 남긴 번들 (원본, gzip) */
+    private Path[] bundle(long subjectId, String hashChar, long modifiedAt) throws IOException {
+        String base = "subject-" + subjectId + "." + hashChar.repeat(32) + ".json";
+        Path json = Files.writeString(shared.resolve(base), "x");
+        Path gzip = Files.writeString(shared.resolve(base + ".gz"), "x");
+        Files.setLastModifiedTime(json, FileTime.fromMillis(modifiedAt));
+        Files.setLastModifiedTime(gzip, FileTime.fromMillis(modifiedAt));
+        return new Path[]{json, gzip};
+    }
+}
@@ -0,0 +1,171 @@
+package saffy.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import saffy.backend.dto.TextCompressionJobDto;
+import saffy.backend.entity.Answer;
+import saffy.backend.entity.Question;
+import saffy.backend.repository.QuestionRepository;
+import saffy.backend.support.CatalogFixture;
+
+/**
+ * 텍스트 압축 저장 전/후: 저장 크기(bytes)와 전체 문제 읽기 처리량(rows/s) 비교
+ * ./gradlew benchmark 로 실행 (H2 인메모리 기준 - 네트워크/버퍼 풀 효과가 없으므로 MySQL 에서는 읽기 이득이 더 큼)
+ * MySQL 에서 실제 테이블 크기는 변환 전후로
+ *   SELECT table_name, data_length FROM information_schema.tables WHERE table_schema = 'quiz_app_db'
+ * (OPTIMIZE TABLE 후) 로 확인
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "quiz.text-compression.enabled=true",
+        "quiz.text-compression.migration.pause-ms=0"
+})
+@ActiveProfiles("test")
+class TextCompressionBenchmarkTest {
+
+    private static final int QUESTIONS = 2000;
+    private static final int CHOICES = 4;
+    private static final int ROUNDS = 5;
+
+    /** 해설에 자주 나오는 문장들 (실제 문제은행처럼 표현이 반복됨) */
+    private static final String[] SENTENCES = {
+            "이 보기는 옳지 않다.",
+            "트랜잭션 격리 수준이 높아질수록 동시성은 낮아지고 일관성은 높아진다.",
+            "인덱스는 B+Tree 구조로 정렬된 키를 유지하므로 범위 검색에 유리하다.",
+            "커버링 인덱스를 사용하면 테이블에 접근하지 않고 인덱스만으로 결과를 만들 수 있다.",
+            "정규화는 중복을 줄이고 갱신 이상을 막기 위해 릴레이션을 분해하는 과정이다.",
+            "프로세스는 독립된 주소 공간을 가지며 스레드는 같은 프로세스의 메모리를 공유한다.",
+            "TCP 는 연결 지향 프로토콜로 순서 보장과 재전송을 제공한다.",
+            "해시 테이블의 평균 탐색 시간은 O(1) 이지만 충돌이 많으면 성능이 떨어진다.",
+            "따라서 정답은 다른 보기이다.",
+            "데드락은 상호 배제, 점유 대기, 비선점, 순환 대기 조건이 모두 성립할 때 발생한다.",
+            "가상 메모리는 페이지 단위로 물리 메모리에 적재되며 페이지 폴트가 발생하면 디스크에서 읽어 온다.",
+            "옵티마이저는 통계 정보를 바탕으로 실행 계획을 선택한다."
+    };
+
+    @Autowired
+    private TextCompressionMigrationService migrationService;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private CatalogFixture catalog;
+
+    @BeforeEach
+    void setUp() {
+        catalog = new CatalogFixture(jdbcTemplate, eventPublisher)
+                .subject(1, "CS")
+                .lecture(1, 1, "1-1 기초");
+
+        // 압축 기능 전 평문 행
+        Random random = new Random(42);
+        for (long q = 1; q <= QUESTIONS; q++) {
+            catalog.question(q, 1, "문제 " + q + ". " + text(random, 2) + " 옳은 것은?");
+            for (int c = 0; c < CHOICES; c++) {
+                catalog.answer(null, q, text(random, 1), (c == 0 ? "O — " : "X — ") + text(random, 6), c == 0);
+            }
+        }
+        catalog.insert();
+    }
+
+    @AfterEach
+    void tearDown() {
+        catalog.cleanUp();
+    }
+
+    @Test
+    void compareSizeAndReadThroughput() throws InterruptedException {
+        long bytesBefore = storedBytes();
+        double readBefore = measureReads("plain");
+
+        migrationService.start();
+        TextCompressionJobDto job = awaitFinished();
+        assertThat(job.getStatus()).isEqualTo("COMPLETED");
+
+        long bytesAfter = storedBytes();
+        double readAfter = measureReads("compressed");
+
+        System.out.printf("stored text   %,d -> %,d bytes (%.0f%%), converted %,d / %,d values%n",
+                bytesBefore, bytesAfter, 100.0 * bytesAfter / bytesBefore, job.getConverted(), job.getScanned());
+        System.out.printf("read rows/s   %,.0f -> %,.0f (%.2fx)%n", readBefore, readAfter, readAfter / readBefore);
+        assertThat(bytesAfter).isLessThan(bytesBefore);
+    }
+
+    /** 문제/보기 전체를 JPA 로 읽어 해설까지 꺼내는 처리량 */
+    private double measureReads(String name) {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setReadOnly(true);
+        Runnable read = () -> tx.executeWithoutResult(status -> {
+            long chars = 0;
+            for (Question q : questionRepository.findAllWithLecture()) {
+                chars += q.getContent().length();
+                for (Answer a : q.getAnswers()) {
+                    chars += a.getContent().length() + a.getExplanation().length();
+                }
+            }
+            assertThat(chars).isPositive();
+        });
+
+        read.run(); // warm-up
+        long start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            read.run();
+        }
+        long elapsed = System.nanoTime() - start;
+        double rowsPerSecond = (double) ROUNDS * QUESTIONS * (1 + CHOICES) / (elapsed / 1_000_000_000.0);
+        System.out.printf("%-11s %,d ms for %d full reads -> %,.0f rows/s%n", name, elapsed / 1_000_000, ROUNDS, rowsPerSecond);
+        return rowsPerSecond;
+    }
+
+    private long storedBytes() {
+        long bytes = 0;
+        for (String sql : List.of("SELECT content FROM questions", "SELECT content FROM answers", "SELECT explanation FROM answers")) {
+            for (String value : jdbcTemplate.queryForList(sql, String.class)) {
+                bytes += value.getBytes(StandardCharsets.UTF_8).length;
+            }
+        }
+        return bytes;
+    }
+
+    private static String text(Random random, int sentences) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < sentences; i++) {
+            sb.append(SENTENCES[random.nextInt(SENTENCES.length)]).append(' ');
+        }
+        return sb.toString().trim();
+    }
+
+    private TextCompressionJobDto awaitFinished() throws InterruptedException {
+        for (int i = 0; i < 600; i++) {
+            TextCompressionJobDto job = migrationService.getLastJob();
+            if (job.getFinishedAt() != null) {
+                return job;
+            }
+            Thread.sleep(100);
+        }
+        throw new AssertionError("변환 작업이 끝나지 않았습니다.");
+    }
+}
@@ -0,0 +1,130 @@
+package saffy.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import saffy.backend.dto.TextCompressionJobDto;
+import saffy.backend.dto.UploadQuestionDto;
+import saffy.backend.entity.Answer;
+import saffy.backend.entity.CompressedTextConverter;
+import saffy.backend.entity.Question;
+import saffy.backend.repository.QuestionRepository;
+import saffy.backend.support.CatalogFixture;
+
+/**
+ * 압축 저장을 켠 상태에서 기존 평문 행 읽기, 변환 작업, 새로 저장하는 행 확인
+ */
+@SpringBootTest(properties = {
+        "quiz.text-compression.enabled=true",
+        "quiz.text-compression.migration.batch-size=2",
+        "quiz.text-compression.migration.pause-ms=0"
+})
+@ActiveProfiles("test")
+class TextCompressionMigrationServiceTest {
+
+    private static final String LONG_EXPLANATION = "인덱스는 B+Tree 로 정렬된 키를 유지하므로 범위 검색에 유리하다. ".repeat(8);
+
+    @Autowired
+    private TextCompressionMigrationService migrationService;
+
+    @Autowired
+    private QuizService quizService;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private CatalogFixture catalog;
+
+    @BeforeEach
+    void setUp() {
+        catalog = new CatalogFixture(jdbcTemplate, eventPublisher)
+                .subject(1, "DB")
+                .lecture(1, 1, "1-1 인덱스");
+        // 압축 기능 전에 저장된 평문 행
+        for (long q = 1; q <= 3; q++) {
+            catalog.question(q, 1, "문제 " + q)
+                    .answer(null, q, "보기", LONG_EXPLANATION, true)
+                    .answer(null, q, "보기2", false);
+        }
+        catalog.insert();
+    }
+
+    @AfterEach
+    void tearDown() {
+        catalog.cleanUp();
+    }
+
+    @Test
+    void 기존_행을_압축하고_같은_내용으로_읽힘() throws InterruptedException {
+        assertThat(explanations()).containsOnly(LONG_EXPLANATION);
+
+        TextCompressionJobDto job = migrationService.start();
+        assertThat(job.getMode()).isEqualTo("COMPRESS");
+        job = awaitFinished();
+
+        assertThat(job.getStatus()).isEqualTo("COMPLETED");
+        assertThat(job.getConverted()).isEqualTo(3); // 긴 해설만, 짧은 내용은 평문 그대로
+        assertThat(job.getBytesAfter()).isLessThan(job.getBytesBefore());
+        List<String> stored = jdbcTemplate.queryForList(
+                "SELECT explanation FROM answers WHERE explanation IS NOT NULL", String.class);
+        assertThat(stored).allMatch(CompressedTextConverter::isCompressed);
+        assertThat(explanations()).containsOnly(LONG_EXPLANATION);
+
+        // 다시 돌려도 바뀌는 행 없음
+        migrationService.start();
+        assertThat(awaitFinished().getConverted()).isZero();
+    }
+
+    @Test
+    void 새로_업로드한_문제도_압축되어_저장() {
+        UploadQuestionDto dto = new UploadQuestionDto(1L, List.of(new UploadQuestionDto.QuestionItem(
+                "새 문제", null, List.of(new UploadQuestionDto.ChoiceItem("정답", true, LONG_EXPLANATION)))));
+        quizService.uploadQuestions(dto, true);
+
+        String stored = jdbcTemplate.queryForObject(
+                "SELECT a.explanation FROM answers a JOIN questions q ON q.id = a.question_id WHERE q.content = '새 문제'",
+                String.class);
+        assertThat(CompressedTextConverter.isCompressed(stored)).isTrue();
+    }
+
+    private List<String> explanations() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        List<String> result = tx.execute(status -> questionRepository.findAllWithLecture().stream()
+                .map(Question::getAnswers)
+                .flatMap(List::stream)
+                .map(Answer::getExplanation)
+                .filter(e -> e != null)
+                .toList());
+        return result;
+    }
+
+    private TextCompressionJobDto awaitFinished() throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            TextCompressionJobDto job = migrationService.getLastJob();
+            if (job.getFinishedAt() != null) {
+                return job;
+            }
+            Thread.sleep(50);
+        }
+        throw new AssertionError("변환 작업이 끝나지 않았습니다.");
+    }
+}
@@ -0,0 +1,104 @@
+package saffy.backend.support;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import saffy.backend.entity.QuestionType;
+import saffy.backend.service.CatalogChangedEvent;
+
+/**
+ * 통합 테스트용 과목/강의/문제/보기 데이터
+ * - 행을 쌓아 뒀다가 publish() 에서 테이블마다 batch 로 넣고 CatalogChangedEvent 로 스냅샷/색인에 반영
+ * - cleanUp() 은 카탈로그 테이블(과 삭제 기록)을 비우고 구조 변경 이벤트로 메모리 상태도 비움
+ * (스프링 컨텍스트를 테스트 클래스끼리 공유하므로, 메모리에 남는 서비스 상태가 섞이지 않게 클래스마다 다른 ID 를 쓰는 게 좋음)
+ */
+public class CatalogFixture {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final List<Object[]> subjects = new ArrayList<>();
+    private final List<Object[]> lectures = new ArrayList<>();
+    private final List<Object[]> questions = new ArrayList<>();
+    private final List<Object[]> answersWithId = new ArrayList<>();
+    private final List<Object[]> answers = new ArrayList<>();
+    private final Set<Long> lectureIds = new LinkedHashSet<>();
+
+    public CatalogFixture(JdbcTemplate jdbcTemplate, ApplicationEventPublisher eventPublisher) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+    }
+
+    public CatalogFixture subject(long id, String name) {
+        subjects.add(new Object[]{id, name});
+        return this;
+    }
+
+    public CatalogFixture lecture(long id, long subjectId, String name) {
+        lectures.add(new Object[]{id, name, subjectId});
+        lectureIds.add(id);
+        return this;
+    }
+
+    public CatalogFixture question(long id, long lectureId, String content) {
+        return question(id, lectureId, content, QuestionType.MULTIPLE_CHOICE);
+    }
+
+    public CatalogFixture question(long id, long lectureId, String content, QuestionType type) {
+        questions.add(new Object[]{id, lectureId, content, type.name()});
+        lectureIds.add(lectureId);
+        return this;
+    }
+
+    /** 보기 (id 가 null 이면 자동 증가) */
+    public CatalogFixture answer(Long id, long questionId, String content, boolean correct) {
+        return answer(id, questionId, content, null, correct);
+    }
+
+    public CatalogFixture answer(Long id, long questionId, String content, String explanation, boolean correct) {
+        if (id != null) {
+            answersWithId.add(new Object[]{id, questionId, content, explanation, correct});
+        } else {
+            answers.add(new Object[]{questionId, content, explanation, correct});
+        }
+        return this;
+    }
+
+    /** 쌓아 둔 행을 넣기만 함 (이벤트 없이 DB 만 채우는 테스트용) */
+    public CatalogFixture insert() {
+        batch("INSERT INTO subjects (id, name) VALUES (?, ?)", subjects);
+        batch("INSERT INTO lectures (id, name, subject_id) VALUES (?, ?, ?)", lectures);
+        batch("INSERT INTO questions (id, lecture_id, content, question_type) VALUES (?, ?, ?, ?)", questions);
+        batch("INSERT INTO answers (id, question_id, content, explanation, correct) VALUES (?, ?, ?, ?, ?)", answersWithId);
+        batch("INSERT INTO answers (question_id, content, explanation, correct) VALUES (?, ?, ?, ?)", answers);
+        return this;
+    }
+
+    /** 쌓아 둔 행을 넣고 넣은 강의를 스냅샷/색인에 반영 */
+    public void publish() {
+        Set<Long> changed = Set.copyOf(lectureIds);
+        insert();
+        lectureIds.clear();
+        eventPublisher.publishEvent(changed.isEmpty() ? CatalogChangedEvent.ofStructure() : new CatalogChangedEvent(changed));
+    }
+
+    /** 카탈로그 테이블을 비우고 메모리 상태(스냅샷/색인/캐시)에도 반영 */
+    public void cleanUp() {
+        jdbcTemplate.update("DELETE FROM question_tombstones");
+        jdbcTemplate.update("DELETE FROM answers");
+        jdbcTemplate.update("DELETE FROM questions");
+        jdbcTemplate.update("DELETE FROM lectures");
+        jdbcTemplate.update("DELETE FROM subjects");
+        eventPublisher.publishEvent(CatalogChangedEvent.ofStructure());
+    }
+
+    private void batch(String sql, List<Object[]> rows) {
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, rows);
+            rows.clear();
+        }
+    }
+}
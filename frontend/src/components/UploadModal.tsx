@@ -1,6 +1,7 @@
 import { useState } from 'react';
 import styled from 'styled-components';
-import { uploadQuestions, type UploadQuestionData } from '../services/questionService';
+import { uploadQuestions, type UploadQuestionData, type UploadResult } from '../services/questionService';
+import { UploadResultSummary } from './UploadResultSummary';
 import type { Lecture } from '../types';
 
 interface UploadModalProps {
@@ -16,6 +17,7 @@ export function UploadModal({ lectures, onClose, onSuccess }: UploadModalProps)
   const [jsonText, setJsonText] = useState('');
   const [uploading, setUploading] = useState(false);
   const [message, setMessage] = useState<{ type: 'success' | 'error'; text: string } | null>(null);
+  const [result, setResult] = useState<UploadResult | null>(null);
 
   const exampleJson = {
     "questions": [
@@ -57,6 +59,7 @@ export function UploadModal({ lectures, onClose, onSuccess }: UploadModalProps)
     try {
       setUploading(true);
       setMessage(null);
+      setResult(null);
 
       const parsed = JSON.parse(jsonText);
       const uploadData: UploadQuestionData = {
@@ -64,7 +67,13 @@ export function UploadModal({ lectures, onClose, onSuccess }: UploadModalProps)
         questions: parsed.questions,
       };
 
-      await uploadQuestions(uploadData);
+      const uploaded = await uploadQuestions(uploadData);
+      if (uploaded.duplicates.length > 0) {
+        // 건너뛴 문제가 있으면 목록을 확인할 수 있도록 창을 닫지 않음
+        setResult(uploaded);
+        if (uploaded.inserted > 0) onSuccess();
+        return;
+      }
       setMessage({ type: 'success', text: '문제가 성공적으로 업로드되었습니다!' });
       setTimeout(() => {
         onSuccess();
@@ -126,9 +135,12 @@ export function UploadModal({ lectures, onClose, onSuccess }: UploadModalProps)
               <li>여러 문제를 한 번에 업로드할 수 있습니다</li>
               <li>각 보기(choice)마다 개별 해설(explanation)을 작성할 수 있습니다</li>
               <li>isCorrect를 true로 설정하여 정답을 지정합니다</li>
+              <li>이미 있는 문제와 거의 같은 문제는 건너뛰고 목록으로 알려줍니다</li>
             </ul>
           </ExampleBox>
 
+          {result && <UploadResultSummary result={result} />}
+
           {message && (
             <Message $type={message.type}>
               {message.text}
@@ -0,0 +1,67 @@
+import styled from 'styled-components';
+import type { UploadResult } from '../services/questionService';
+
+interface UploadResultSummaryProps {
+  result: UploadResult;
+}
+
+// 업로드 결과: 추가/건너뛴 개수 + 중복 의심 문제 목록
+export function UploadResultSummary({ result }: UploadResultSummaryProps) {
+  const hasDuplicates = result.duplicates.length > 0;
+
+  return (
+    <Box $warn={result.skipped > 0}>
+      <strong>{result.message}</strong>
+      <Counts>
+        추가 {result.inserted}개 · 건너뜀 {result.skipped}개
+        {hasDuplicates && result.skipped === 0 && ` · 중복 의심 ${result.duplicates.length}개 (저장됨)`}
+      </Counts>
+      {hasDuplicates && (
+        <ul>
+          {result.duplicates.map((d) => (
+            <li key={d.index}>
+              <span>{d.index + 1}번 문제</span> “{d.content}” →{' '}
+              {d.matchedQuestionId != null
+                ? `기존 문제 #${d.matchedQuestionId}`
+                : `이번 업로드의 ${(d.matchedIndex ?? 0) + 1}번 문제`}
+              와 {Math.round(d.similarity * 100)}% 유사
+            </li>
+          ))}
+        </ul>
+      )}
+    </Box>
+  );
+}
+
+const Box = styled.div<{ $warn: boolean }>`
+  padding: 12px 16px;
+  border-radius: 8px;
+  margin-bottom: 20px;
+  font-size: 14px;
+  background: ${({ $warn }) => ($warn ? '#2d230b' : '#0b2d19')};
+  border: 1px solid ${({ $warn }) => ($warn ? '#854d0e' : '#14532d')};
+  color: ${({ $warn }) => ($warn ? '#fde68a' : '#b6ffd2')};
+
+  ul {
+    margin: 8px 0 0 20px;
+    padding: 0;
+    max-height: 200px;
+    overflow-y: auto;
+    font-size: 13px;
+
+    li {
+      margin-bottom: 4px;
+      word-break: break-all;
+    }
+
+    span {
+      font-weight: 600;
+    }
+  }
+`;
+
+const Counts = styled.div`
+  margin-top: 4px;
+  font-size: 13px;
+  opacity: 0.85;
+`;
@@ -60,7 +60,7 @@ export function AdminPage() {
         <Route path="subjects" element={<SubjectManager secret={secret} />} />
         <Route path="lectures" element={<LectureManager secret={secret} />} />
         <Route path="questions" element={<QuestionManager secret={secret} />} />
-        <Route path="upload" element={<QuestionUploader />} />
+        <Route path="upload" element={<QuestionUploader secret={secret} />} />
       </Route>
     </Routes>
   );
@@ -1,13 +1,18 @@
 import { useState, useEffect, useMemo } from 'react';
 import styled from 'styled-components';
-import { uploadQuestions, type UploadQuestionData } from '../../services/questionService';
+import { uploadQuestions, type UploadQuestionData, type UploadResult } from '../../services/questionService';
+import { UploadResultSummary } from '../../components/UploadResultSummary';
 import { getSubjects } from '../../services/subjectService';
 import { getLectures } from '../../services/lectureService';
 import type { Lecture, Subject } from '../../types';
 
 type QuestionType = 'MULTIPLE_CHOICE' | 'SHORT_ANSWER' | 'TRUE_FALSE';
 
-export function QuestionUploader() {
+interface Props {
+  secret: string;
+}
+
+export function QuestionUploader({ secret }: Props) {
   const [subjects, setSubjects] = useState<Subject[]>([]);
   const [selectedSubjectId, setSelectedSubjectId] = useState<number | null>(null);
   const [lectures, setLectures] = useState<Lecture[]>([]);
@@ -15,7 +20,9 @@ export function QuestionUploader() {
   const [questionType, setQuestionType] = useState<QuestionType>('MULTIPLE_CHOICE');
   const [jsonText, setJsonText] = useState('');
   const [uploading, setUploading] = useState(false);
+  const [allowDuplicates, setAllowDuplicates] = useState(false);
   const [message, setMessage] = useState<{ type: 'success' | 'error'; text: string } | null>(null);
+  const [result, setResult] = useState<UploadResult | null>(null);
 
   useEffect(() => {
     const fetchData = async () => {
@@ -120,6 +127,7 @@ export function QuestionUploader() {
     try {
       setUploading(true);
       setMessage(null);
+      setResult(null);
 
       const parsed = JSON.parse(jsonText);
       const uploadData: UploadQuestionData = {
@@ -127,9 +135,11 @@ export function QuestionUploader() {
         questions: parsed.questions,
       };
 
-      await uploadQuestions(uploadData);
-      setMessage({ type: 'success', text: '문제가 성공적으로 업로드되었습니다!' });
-      setJsonText(''); // 성공 시 텍스트 초기화
+      const uploaded = await uploadQuestions(uploadData, { allowDuplicates, secret });
+      setResult(uploaded);
+      if (uploaded.skipped === 0) {
+        setJsonText(''); // 모두 저장된 경우에만 텍스트 초기화 (건너뛴 문제는 수정해서 다시 올릴 수 있도록)
+      }
     } catch (error: any) {
       if (error instanceof SyntaxError) {
         setMessage({ type: 'error', text: 'JSON 형식이 올바르지 않습니다.' });
@@ -197,6 +207,17 @@ export function QuestionUploader() {
             <FileInput type="file" accept=".json" onChange={handleFileUpload} />
           </Section>
 
+          <Section>
+            <CheckboxLabel>
+              <input
+                type="checkbox"
+                checked={allowDuplicates}
+                onChange={(e) => setAllowDuplicates(e.target.checked)}
+              />
+              중복 의심 문제도 저장 (기존 문제와 거의 같아도 건너뛰지 않음)
+            </CheckboxLabel>
+          </Section>
+
           <Section>
             <Label>5. JSON 데이터 직접 입력</Label>
             <TextArea
@@ -219,11 +240,14 @@ export function QuestionUploader() {
               <li>주관식: 1개의 정답 보기만 추가</li>
               <li>OX: O와 X 두 개의 보기, 정답에 `isCorrect: true`</li>
               <li>정답 보기의 `explanation`에만 해설 작성 (다른 보기는 null)</li>
+              <li>기존 문제와 거의 같은 문제는 기본적으로 건너뛰고 목록으로 알려줍니다.</li>
             </ul>
           </ExampleBox>
         </ExampleSection>
       </UploaderGrid>
 
+      {result && <UploadResultSummary result={result} />}
+
       {message && (
         <Message $type={message.type}>
           {message.text}
@@ -265,6 +289,15 @@ const Label = styled.label`
   color: #cbd5e1;
 `;
 
+const CheckboxLabel = styled.label`
+  display: flex;
+  align-items: center;
+  gap: 8px;
+  font-size: 14px;
+  color: #cbd5e1;
+  cursor: pointer;
+`;
+
 const Select = styled.select`
   width: 100%;
   padding: 10px 12px;
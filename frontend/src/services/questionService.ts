@@ -18,7 +18,27 @@ export interface UploadQuestionData {
   }[];
 }
 
-export async function uploadQuestions(data: UploadQuestionData): Promise<string> {
-  const res = await instance.post<string>('/questions/upload', data);
+export interface UploadResult {
+  message: string;
+  inserted: number;
+  skipped: number;
+  duplicates: {
+    index: number;
+    content: string;
+    matchedQuestionId: number | null;
+    matchedIndex: number | null;
+    similarity: number;
+  }[];
+}
+
+// allowDuplicates: 중복 의심 문제도 저장 (관리자 비밀번호 필요)
+export async function uploadQuestions(
+  data: UploadQuestionData,
+  options: { allowDuplicates?: boolean; secret?: string } = {}
+): Promise<UploadResult> {
+  const res = await instance.post<UploadResult>('/questions/upload', data, {
+    params: options.allowDuplicates ? { allowDuplicates: true } : undefined,
+    headers: options.secret ? { 'X-Admin-Secret': options.secret } : undefined,
+  });
   return res.data;
 }